@@ -11,6 +11,7 @@ module org.hiero.block.base {
     exports org.hiero.block.server.persistence.storage.write;
     exports org.hiero.block.server.persistence.storage.read;
     exports org.hiero.block.server.persistence.storage.remove;
+    exports org.hiero.block.server.persistence.storage.segment;
     exports org.hiero.block.server.config;
     exports org.hiero.block.server.config.logging;
     exports org.hiero.block.server.mediator;
@@ -6,7 +6,9 @@ import static java.lang.System.Logger.Level.ERROR;
 import com.hedera.hapi.block.PublishStreamResponseCode;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -19,6 +21,7 @@ import org.hiero.block.server.persistence.StreamPersistenceHandlerImpl;
 import org.hiero.block.server.persistence.storage.remove.BlockRemover;
 import org.hiero.block.server.persistence.storage.write.BlockPersistenceResult;
 import org.hiero.block.server.persistence.storage.write.BlockPersistenceResult.BlockPersistenceStatus;
+import org.hiero.block.server.persistence.storage.write.GroupCommitter;
 import org.hiero.block.server.service.ServiceStatus;
 
 /**
@@ -28,16 +31,25 @@ import org.hiero.block.server.service.ServiceStatus;
  *  Acks blocks only in strictly increasing order
  *    the ACK is delayed until it is that block's turn.
  *    consecutive ACKs for all blocks that are both persisted and verified.
+ *  If a group committer is given, a block is only ACKed once it is synced
+ *    to the disk after its move to the live storage. If a block fails to
+ *    sync, the blocks moved after it are not ACKed, they are removed from
+ *    the live storage, and moving starts again from the block after the
+ *    last ACKed one.
  */
 public class AckHandlerImpl implements AckHandler {
     private final System.Logger LOGGER = System.getLogger(getClass().getName());
     private final Map<Long, BlockInfo> blockInfo = new ConcurrentHashMap<>();
     private volatile long lastAcknowledgedBlockNumber = -1;
+    private volatile long lastMovedBlockNumber = -1;
+    // Incremented each time a block fails to sync, only written holding the lock on this
+    private volatile long commitGeneration;
     private final Notifier notifier;
     private final boolean skipAcknowledgement;
     private final ServiceStatus serviceStatus;
     private final BlockRemover blockRemover;
     private final MetricsService metricsService;
+    private final GroupCommitter groupCommitter;
     private StreamPersistenceHandlerImpl streamPersistenceHandler;
 
     /**
@@ -51,11 +63,26 @@ public class AckHandlerImpl implements AckHandler {
             @NonNull final ServiceStatus serviceStatus,
             @NonNull final BlockRemover blockRemover,
             @NonNull final MetricsService metricsService) {
+        this(notifier, skipAcknowledgement, serviceStatus, blockRemover, metricsService, null);
+    }
+
+    /**
+     * Constructor. If a group committer is given, blocks are only ACKed once
+     * they are synced to the disk.
+     */
+    public AckHandlerImpl(
+            @NonNull final Notifier notifier,
+            final boolean skipAcknowledgement,
+            @NonNull final ServiceStatus serviceStatus,
+            @NonNull final BlockRemover blockRemover,
+            @NonNull final MetricsService metricsService,
+            @Nullable final GroupCommitter groupCommitter) {
         this.notifier = Objects.requireNonNull(notifier);
         this.skipAcknowledgement = skipAcknowledgement;
         this.serviceStatus = Objects.requireNonNull(serviceStatus);
         this.blockRemover = Objects.requireNonNull(blockRemover);
         this.metricsService = metricsService;
+        this.groupCommitter = groupCommitter;
     }
 
     @Override
@@ -74,6 +101,7 @@ public class AckHandlerImpl implements AckHandler {
             // @todo(147) we need to handle new instances that need to start from a different block than 0.
             lastAcknowledgedBlockNumber = -1;
         }
+        lastMovedBlockNumber = lastAcknowledgedBlockNumber;
 
         LOGGER.log(
                 System.Logger.Level.INFO,
@@ -141,11 +169,15 @@ public class AckHandlerImpl implements AckHandler {
      * Attempt to ACK all blocks that are ready to be ACKed.
      * This method is called whenever a block is persisted or verified.
      * It ACKs all blocks in sequence that are both persisted and verified.
+     * With a group committer, the blocks are moved in sequence, and ACKed
+     * once their group commit completes. Moving holds the lock on this, so
+     * no block is moved while the blocks moved after a failed sync are
+     * being removed.
      */
-    private void attemptAcks() {
+    private synchronized void attemptAcks() {
         // Keep ACK-ing starting from the next block in sequence
         while (true) {
-            long nextBlock = lastAcknowledgedBlockNumber + 1;
+            long nextBlock = lastMovedBlockNumber + 1;
             BlockInfo info = blockInfo.get(nextBlock);
 
             if (info == null) {
@@ -162,12 +194,14 @@ public class AckHandlerImpl implements AckHandler {
 
             // Attempt to mark ACK sent (CAS-protected to avoid duplicates)
             if (info.getBlockStatus().markAckSentIfNotAlready()) {
+                final long generation = commitGeneration;
+                final Path livePath;
                 try {
                     // @todo(582) if we are unable to move the block to the verified state,
                     //   should we throw or for now simply take the same action as if the block
                     //   failed persistence (for now since we lack infrastructure we simply
                     //   call the verification failed method)
-                    streamPersistenceHandler.moveVerified(nextBlock);
+                    livePath = streamPersistenceHandler.moveVerified(nextBlock);
                 } catch (final IOException e) {
                     // @todo(582) if we do this, we must be aware that we will not increment
                     //   lastAcknowledgedBlockNumber and the verification failed method will
@@ -181,21 +215,18 @@ public class AckHandlerImpl implements AckHandler {
                     blockVerificationFailed(nextBlock);
                     return;
                 }
-                // We "won" the race; we do the actual ACK
-                notifier.sendAck(nextBlock, info.getBlockHash(), false);
-
-                // Update the service status
-                serviceStatus.setLatestAckedBlock(info);
-
-                // Remove from map if desired (so we don't waste memory)
-                blockInfo.remove(nextBlock);
-
-                // Update metrics and logging
-                metricsService.get(BlockNodeMetricTypes.Counter.AckedBlocked).increment();
-                LOGGER.log(System.Logger.Level.DEBUG, "ACKed block " + nextBlock);
-
-                // Update last acknowledged
-                lastAcknowledgedBlockNumber = nextBlock;
+                lastMovedBlockNumber = nextBlock;
+                if (groupCommitter == null) {
+                    // We "won" the race; we do the actual ACK
+                    ack(nextBlock, info);
+                } else {
+                    // ACK once the block is synced to the disk, the group
+                    // commits complete in order, so the ACKs stay in order
+                    final long committedBlock = nextBlock;
+                    groupCommitter
+                            .commit(livePath)
+                            .whenComplete((ignored, error) -> committed(committedBlock, info, generation, error));
+                }
             } else {
                 // Someone else already ACKed this block.
                 // Stop, as we can't ACK the next block until this one is ACKed.
@@ -207,4 +238,64 @@ public class AckHandlerImpl implements AckHandler {
             // persisted & verified in order.
         }
     }
+
+    /**
+     * Called once the group commit of a moved block completes. The ACKs must
+     * stay in order, so once a block fails to sync, the blocks moved after it
+     * are not ACKed even if they are synced. The failed block, and the
+     * blocks moved after it, are removed from the live storage, so they are
+     * not served and can be persisted again. Moving starts again from the
+     * block after the last ACKed one, and the publisher is asked to send the
+     * blocks again from there.
+     */
+    private void committed(
+            final long blockNumber,
+            @NonNull final BlockInfo info,
+            final long generation,
+            @Nullable final Throwable error) {
+        if (error == null && generation == commitGeneration) {
+            ack(blockNumber, info);
+            return;
+        }
+        final long lastAcked;
+        synchronized (this) {
+            if (generation != commitGeneration) {
+                // An earlier block failed to sync, this one is sent again with it
+                blockInfo.remove(blockNumber, info);
+                return;
+            }
+            commitGeneration++;
+            lastAcked = lastAcknowledgedBlockNumber;
+            blockInfo.keySet().removeIf(number -> number > lastAcked);
+            lastMovedBlockNumber = lastAcked;
+            // @todo(774) we should use a response code for failed persistence here
+            final String message = "Failed to sync Block with number [%d] to the disk".formatted(blockNumber);
+            LOGGER.log(ERROR, message, error);
+            try {
+                streamPersistenceHandler.removeVerifiedAfter(lastAcked);
+            } catch (final IOException e) {
+                final String removeMessage = "Failed to remove the Blocks after Block [%d] from live storage"
+                        .formatted(lastAcked);
+                LOGGER.log(ERROR, removeMessage, e);
+            }
+        }
+        notifier.sendEndOfStream(lastAcked, PublishStreamResponseCode.STREAM_ITEMS_BAD_STATE_PROOF);
+    }
+
+    private void ack(final long blockNumber, @NonNull final BlockInfo info) {
+        notifier.sendAck(blockNumber, info.getBlockHash(), false);
+
+        // Update the service status
+        serviceStatus.setLatestAckedBlock(info);
+
+        // Remove from map if desired (so we don't waste memory)
+        blockInfo.remove(blockNumber);
+
+        // Update metrics and logging
+        metricsService.get(BlockNodeMetricTypes.Counter.AckedBlocked).increment();
+        LOGGER.log(System.Logger.Level.DEBUG, "ACKed block " + blockNumber);
+
+        // Update last acknowledged
+        lastAcknowledgedBlockNumber = blockNumber;
+    }
 }
@@ -9,6 +9,7 @@ import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.notifier.Notifier;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
 import org.hiero.block.server.persistence.storage.remove.BlockRemover;
+import org.hiero.block.server.persistence.storage.write.GroupCommitter;
 import org.hiero.block.server.service.ServiceStatus;
 import org.hiero.block.server.verification.VerificationConfig;
 
@@ -39,7 +40,22 @@ public interface AckHandlerInjectionModule {
         boolean skipPersistence = persistenceStorageConfig.type().equals(PersistenceStorageConfig.StorageType.NO_OP);
         boolean skipVerification = verificationConfig.type().equals(VerificationConfig.VerificationServiceType.NO_OP);
 
+        // sync the blocks to the disk before they are acked, if asked to
+        final boolean groupCommit = !skipPersistence
+                && persistenceStorageConfig.durabilityMode() == PersistenceStorageConfig.DurabilityMode.GROUP_COMMIT;
+        final GroupCommitter groupCommitter = groupCommit
+                ? new GroupCommitter(
+                        metricsService,
+                        persistenceStorageConfig.liveRootPath(),
+                        persistenceStorageConfig.groupCommitWindowMillis())
+                : null;
+
         return new AckHandlerImpl(
-                notifier, skipPersistence | skipVerification, serviceStatus, blockRemover, metricsService);
+                notifier,
+                skipPersistence | skipVerification,
+                serviceStatus,
+                blockRemover,
+                metricsService,
+                groupCommitter);
     }
 }
@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * BlockItemFilter selects the kinds of block items sent to a consumer. The kind of an unparsed block item is the case
+ * of its oneof, so items are filtered without parsing their payloads.
+ */
+public final class BlockItemFilter {
+
+    /** The filter that sends every block item. */
+    public static final BlockItemFilter ALL = new BlockItemFilter(EnumSet.allOf(ItemOneOfType.class));
+
+    private final Set<ItemOneOfType> kinds;
+
+    private BlockItemFilter(@NonNull final Set<ItemOneOfType> kinds) {
+        this.kinds = kinds;
+    }
+
+    /**
+     * Create a filter from the item kinds requested by a consumer. A kind is the field number of the item in the
+     * {@code BlockItemUnparsed} oneof. Kinds unknown to this block node are ignored, as there are no such items to
+     * send, so an include list of only unknown kinds is the same as an empty one and sends every kind.
+     *
+     * @param includeItemKinds the only kinds to send, or empty to send every kind that is not excluded
+     * @param excludeItemKinds the kinds not to send
+     * @return the filter for the requested item kinds
+     */
+    @NonNull
+    public static BlockItemFilter of(
+            @NonNull final List<Integer> includeItemKinds, @NonNull final List<Integer> excludeItemKinds) {
+        if (includeItemKinds.isEmpty() && excludeItemKinds.isEmpty()) {
+            return ALL;
+        }
+
+        Set<ItemOneOfType> kinds = toKinds(includeItemKinds);
+        if (kinds.isEmpty()) {
+            kinds = EnumSet.allOf(ItemOneOfType.class);
+        }
+        kinds.removeAll(toKinds(excludeItemKinds));
+        return new BlockItemFilter(kinds);
+    }
+
+    /**
+     * @return true if this filter sends every block item
+     */
+    public boolean isAll() {
+        return kinds.size() == ItemOneOfType.values().length;
+    }
+
+    /**
+     * Use this method to filter a batch of block items.
+     *
+     * @param blockItems the batch of block items to filter
+     * @return the given batch if every item passes the filter, otherwise a new list of the items that pass
+     */
+    @NonNull
+    public List<BlockItemUnparsed> filter(@NonNull final List<BlockItemUnparsed> blockItems) {
+        Objects.requireNonNull(blockItems);
+        if (isAll()) {
+            return blockItems;
+        }
+
+        // Only copy once the first item is filtered out
+        List<BlockItemUnparsed> filtered = null;
+        for (int i = 0; i < blockItems.size(); i++) {
+            final BlockItemUnparsed blockItem = blockItems.get(i);
+            final boolean included = kinds.contains(blockItem.item().kind());
+            if (filtered == null && !included) {
+                filtered = new ArrayList<>(blockItems.subList(0, i));
+            } else if (filtered != null && included) {
+                filtered.add(blockItem);
+            }
+        }
+        return (filtered != null) ? filtered : blockItems;
+    }
+
+    @NonNull
+    private static Set<ItemOneOfType> toKinds(@NonNull final List<Integer> itemKinds) {
+        final Set<ItemOneOfType> kinds = EnumSet.noneOf(ItemOneOfType.class);
+        for (final ItemOneOfType kind : ItemOneOfType.values()) {
+            if (kind != ItemOneOfType.UNSET && itemKinds.contains(kind.protoOrdinal())) {
+                kinds.add(kind);
+            }
+        }
+        return kinds;
+    }
+}
@@ -0,0 +1,129 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import com.hedera.hapi.block.BlockUnparsed;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import org.hiero.block.server.persistence.storage.read.BlockReader;
+
+/**
+ * BlockReadAhead reads a window of consecutive blocks in parallel on an executor, and hands them out strictly in
+ * order. The window is bounded in blocks by the caller, and in bytes by the blocks already read and not yet taken.
+ *
+ * <p>It is only used by the thread streaming the blocks, so it needs no locks.
+ */
+class BlockReadAhead {
+
+    private final BlockReader<BlockUnparsed> blockReader;
+    private final Executor executor;
+    private final long maxBytes;
+
+    private final ArrayDeque<CompletableFuture<ReadBlock>> window = new ArrayDeque<>();
+    private long nextBlockNumber;
+
+    /**
+     * Constructs a BlockReadAhead.
+     *
+     * @param blockReader the block reader to read the blocks with
+     * @param executor the executor to read the blocks on
+     * @param maxBytes once the blocks read and not yet taken reach this size in bytes, no more blocks are read
+     */
+    BlockReadAhead(
+            @NonNull final BlockReader<BlockUnparsed> blockReader,
+            @NonNull final Executor executor,
+            final long maxBytes) {
+        this.blockReader = Objects.requireNonNull(blockReader);
+        this.executor = Objects.requireNonNull(executor);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Starts reading blocks until the window holds the given number of blocks or its maximum bytes. The next block
+     * to take is always read, whatever the bytes.
+     *
+     * @param blockNumber the next block to take, only used when the window is empty
+     * @param lastBlockNumber the last block to read
+     * @param depth the number of blocks to read ahead
+     */
+    void fill(final long blockNumber, final long lastBlockNumber, final int depth) {
+        if (window.isEmpty()) {
+            nextBlockNumber = blockNumber;
+        }
+        while (nextBlockNumber <= lastBlockNumber
+                && (window.isEmpty() || (window.size() < depth && bytes() < maxBytes))) {
+            final long readBlockNumber = nextBlockNumber++;
+            window.addLast(CompletableFuture.supplyAsync(() -> read(readBlockNumber), executor));
+        }
+    }
+
+    /**
+     * @return true if the next block to take is read
+     */
+    boolean isNextRead() {
+        return !window.isEmpty() && window.getFirst().isDone();
+    }
+
+    /**
+     * @return true if more than one block is read ahead, and every one of them is read
+     */
+    boolean isAllRead() {
+        return window.size() > 1 && window.getLast().isDone();
+    }
+
+    /**
+     * Takes the next block, waiting for it to be read. If the read failed, the window is reset.
+     *
+     * @return the block, or an empty optional if it was not found
+     * @throws Exception the exception thrown reading the block
+     */
+    @NonNull
+    Optional<BlockUnparsed> take() throws Exception {
+        try {
+            return window.removeFirst().get().block();
+        } catch (final ExecutionException e) {
+            reset();
+            throw (e.getCause() instanceof Exception cause) ? cause : e;
+        }
+    }
+
+    /**
+     * Drops the blocks read ahead. Reads that have not started yet are skipped, reads in progress finish on their
+     * own and their blocks are not used.
+     */
+    void reset() {
+        window.forEach(read -> read.cancel(false));
+        window.clear();
+    }
+
+    private long bytes() {
+        long bytes = 0;
+        for (final CompletableFuture<ReadBlock> read : window) {
+            if (read.isDone() && !read.isCompletedExceptionally()) {
+                bytes += read.join().bytes();
+            }
+        }
+        return bytes;
+    }
+
+    @NonNull
+    private ReadBlock read(final long blockNumber) {
+        try {
+            final Optional<BlockUnparsed> blockOpt = blockReader.read(blockNumber);
+            final long bytes = blockOpt.map(BlockUnparsed.PROTOBUF::measureRecord).orElse(0);
+            return new ReadBlock(blockOpt, bytes);
+        } catch (final Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * A block read ahead, with its size in bytes.
+     */
+    private record ReadBlock(@NonNull Optional<BlockUnparsed> block, long bytes) {}
+}
@@ -5,6 +5,8 @@ import com.hedera.hapi.block.BlockUnparsed;
 import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
 import com.hedera.pbj.runtime.grpc.Pipeline;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
 
@@ -34,7 +36,50 @@ public final class ClosedRangeHistoricStreamEventHandlerBuilder {
             @NonNull final MetricsService metricsService,
             @NonNull final ConsumerConfig consumerConfig) {
 
+        return build(
+                startBlockNumber,
+                endBlockNumber,
+                blockReader,
+                helidonConsumerObserver,
+                metricsService,
+                consumerConfig,
+                BlockItemFilter.ALL,
+                null);
+    }
+
+    /**
+     * Create a new instance of a closed range historic stream event handler that only sends some kinds of block items,
+     * and reads the blocks ahead on the given executor.
+     *
+     * @param startBlockNumber - the start of the requested range of blocks
+     * @param endBlockNumber - the end of the requested range of blocks
+     * @param blockReader - the block reader to query for blocks
+     * @param helidonConsumerObserver - the consumer observer used to send data to the consumer
+     * @param metricsService - the service responsible for handling metrics
+     * @param consumerConfig - the configuration settings for the consumer
+     * @param blockItemFilter - the kinds of block items to send to the consumer
+     * @param readAheadExecutor - the executor shared by the historic streams to read blocks ahead
+     * @return a new instance of a closed range historic stream event handler
+     */
+    @NonNull
+    public static Runnable build(
+            long startBlockNumber,
+            long endBlockNumber,
+            @NonNull final BlockReader<BlockUnparsed> blockReader,
+            @NonNull final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver,
+            @NonNull final MetricsService metricsService,
+            @NonNull final ConsumerConfig consumerConfig,
+            @NonNull final BlockItemFilter blockItemFilter,
+            @NonNull final Executor readAheadExecutor) {
+
         return new HistoricBlockStreamSupplier(
-                startBlockNumber, endBlockNumber, blockReader, helidonConsumerObserver, metricsService, consumerConfig);
+                startBlockNumber,
+                endBlockNumber,
+                blockReader,
+                helidonConsumerObserver,
+                metricsService,
+                consumerConfig,
+                blockItemFilter,
+                Objects.requireNonNull(readAheadExecutor));
     }
 }
@@ -11,16 +11,58 @@ import org.hiero.block.server.config.logging.Loggable;
  *
  * @param timeoutThresholdMillis after this time of inactivity, the consumer will be considered
  *     timed out and will be disconnected
+ * @param maxLiveStreamBatchEvents the maximum number of live stream batches merged into a single
+ *     response for a consumer that is catching up
+ * @param maxLiveStreamBatchBytes once the merged live stream batches reach this size in bytes, no
+ *     more batches are merged into the response
+ * @param outboundBufferBytes the size in bytes of the responses queued for each consumer while they
+ *     are sent, or 0 to send each response directly from the streaming thread
+ * @param outboundBufferFullPolicy what to do when a consumer's outbound buffer is full
+ * @param historicReadAheadBlocks the maximum number of blocks read ahead for a historic stream,
+ *     or 0 to read each block when it is needed
+ * @param historicReadAheadBytes once the blocks read ahead for a historic stream reach this size
+ *     in bytes, no more blocks are read ahead
+ * @param historicSharedWindowBlocks the number of recently read historic blocks shared between the
+ *     historic streams reading the same range, or 0 for every stream to read its own blocks
+ * @param historicSharedWindowBytes once the shared historic blocks reach this size in bytes, the
+ *     oldest are no longer shared
+ * @param maxClosedRangeStreams the maximum number of closed-range historic streams served at once,
+ *     more requests are answered with READ_STREAM_NOT_AVAILABLE so the client can retry later
+ * @param historicReadPermits the maximum number of blocks read at once for all the historic
+ *     streams together, so historic streaming cannot take all the disk IO from the live stream
+ * @param historicStreamReadPermits the maximum number of blocks read at once for a single historic
+ *     stream reading ahead, so it takes no more turns at the read permits than the other streams
  */
 @ConfigData("consumer")
 public record ConsumerConfig(
         @Loggable @ConfigProperty(defaultValue = "1500") int timeoutThresholdMillis,
         @Loggable @ConfigProperty(defaultValue = "3") int cueHistoricStreamingPaddingBlocks,
-        @Loggable @ConfigProperty(defaultValue = "1000") int maxBlockItemBatchSize) {
+        @Loggable @ConfigProperty(defaultValue = "1000") int maxBlockItemBatchSize,
+        @Loggable @ConfigProperty(defaultValue = "32") int maxLiveStreamBatchEvents,
+        @Loggable @ConfigProperty(defaultValue = "524288") int maxLiveStreamBatchBytes,
+        @Loggable @ConfigProperty(defaultValue = "0") int outboundBufferBytes,
+        @Loggable @ConfigProperty(defaultValue = "PAUSE") OutboundBufferFullPolicy outboundBufferFullPolicy,
+        @Loggable @ConfigProperty(defaultValue = "8") int historicReadAheadBlocks,
+        @Loggable @ConfigProperty(defaultValue = "16777216") int historicReadAheadBytes,
+        @Loggable @ConfigProperty(defaultValue = "64") int historicSharedWindowBlocks,
+        @Loggable @ConfigProperty(defaultValue = "67108864") int historicSharedWindowBytes,
+        @Loggable @ConfigProperty(defaultValue = "64") int maxClosedRangeStreams,
+        @Loggable @ConfigProperty(defaultValue = "16") int historicReadPermits,
+        @Loggable @ConfigProperty(defaultValue = "2") int historicStreamReadPermits) {
 
     static final int minTimeoutThresholdMillis = 1;
     static final int minMaxBlockItemBatchSize = 1;
     static final int minCueHistoricStreamingPaddingBlocks = 1;
+    static final int minMaxLiveStreamBatchEvents = 1;
+    static final int minMaxLiveStreamBatchBytes = 1;
+    static final int minOutboundBufferBytes = 0;
+    static final int minHistoricReadAheadBlocks = 0;
+    static final int minHistoricReadAheadBytes = 1;
+    static final int minHistoricSharedWindowBlocks = 0;
+    static final int minHistoricSharedWindowBytes = 1;
+    static final int minMaxClosedRangeStreams = 1;
+    static final int minHistoricReadPermits = 1;
+    static final int minHistoricStreamReadPermits = 1;
 
     /**
      * Validate the configuration.
@@ -31,5 +73,28 @@ public record ConsumerConfig(
         Preconditions.requireGreaterOrEqual(timeoutThresholdMillis, minTimeoutThresholdMillis);
         Preconditions.requireGreaterOrEqual(maxBlockItemBatchSize, minMaxBlockItemBatchSize);
         Preconditions.requireGreaterOrEqual(cueHistoricStreamingPaddingBlocks, minCueHistoricStreamingPaddingBlocks);
+        Preconditions.requireGreaterOrEqual(maxLiveStreamBatchEvents, minMaxLiveStreamBatchEvents);
+        Preconditions.requireGreaterOrEqual(maxLiveStreamBatchBytes, minMaxLiveStreamBatchBytes);
+        Preconditions.requireGreaterOrEqual(outboundBufferBytes, minOutboundBufferBytes);
+        Preconditions.requireGreaterOrEqual(historicReadAheadBlocks, minHistoricReadAheadBlocks);
+        Preconditions.requireGreaterOrEqual(historicReadAheadBytes, minHistoricReadAheadBytes);
+        Preconditions.requireGreaterOrEqual(historicSharedWindowBlocks, minHistoricSharedWindowBlocks);
+        Preconditions.requireGreaterOrEqual(historicSharedWindowBytes, minHistoricSharedWindowBytes);
+        Preconditions.requireGreaterOrEqual(maxClosedRangeStreams, minMaxClosedRangeStreams);
+        Preconditions.requireGreaterOrEqual(historicReadPermits, minHistoricReadPermits);
+        Preconditions.requireGreaterOrEqual(historicStreamReadPermits, minHistoricStreamReadPermits);
+    }
+
+    /**
+     * What to do when a consumer's outbound buffer is full, because the consumer is not reading the
+     * responses as fast as they are sent.
+     */
+    public enum OutboundBufferFullPolicy {
+        /** Wait until there is space in the buffer, holding back the stream for the consumer. */
+        PAUSE,
+        /** Move a live consumer to historic streaming, waiting for space in the meantime. */
+        DOWNGRADE,
+        /** End the stream with a READ_STREAM_NOT_AVAILABLE response. */
+        DISCONNECT,
     }
 }
@@ -0,0 +1,19 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+/**
+ * Thrown when a consumer that fell too far behind is disconnected, with the
+ * {@link ConsumerConfig.OutboundBufferFullPolicy#DISCONNECT} full buffer policy. It is an expected way for a stream to
+ * end, not an error streaming to the consumer.
+ */
+class ConsumerDisconnectedException extends RuntimeException {
+
+    /**
+     * Constructs a new exception with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    ConsumerDisconnectedException(final String message) {
+        super(message);
+    }
+}
@@ -7,8 +7,11 @@ import com.hedera.hapi.block.SubscribeStreamRequest;
 import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
 import com.hedera.pbj.runtime.grpc.Pipeline;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.InstantSource;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 import org.hiero.block.server.mediator.SubscriptionHandler;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
@@ -31,6 +34,9 @@ public final class ConsumerStreamBuilder {
      * @param serviceStatus the status of the service
      * @param metricsService the service responsible for handling metrics
      * @param consumerConfig the consumer configuration
+     * @param subscribeResponseCache the cache of live responses shared by the subscribers
+     * @param blockItemFilter the kinds of block items to send to the client
+     * @param historicReadAheadExecutor the executor shared by the historic streams to read blocks ahead
      * @return the runnable that will handle the streaming of block items
      */
     @NonNull
@@ -42,7 +48,10 @@ public final class ConsumerStreamBuilder {
             @NonNull final BlockReader<BlockUnparsed> blockReader,
             @NonNull final ServiceStatus serviceStatus,
             @NonNull final MetricsService metricsService,
-            @NonNull final ConsumerConfig consumerConfig) {
+            @NonNull final ConsumerConfig consumerConfig,
+            @NonNull final SubscribeResponseCache subscribeResponseCache,
+            @NonNull final BlockItemFilter blockItemFilter,
+            @NonNull final Executor historicReadAheadExecutor) {
 
         return new ConsumerStreamRunnable(buildStreamManager(
                 producerLivenessClock,
@@ -52,7 +61,10 @@ public final class ConsumerStreamBuilder {
                 blockReader,
                 serviceStatus,
                 metricsService,
-                consumerConfig));
+                consumerConfig,
+                Objects.requireNonNull(subscribeResponseCache),
+                blockItemFilter,
+                Objects.requireNonNull(historicReadAheadExecutor)));
     }
 
     public static OpenRangeStreamManager buildStreamManager(
@@ -65,11 +77,43 @@ public final class ConsumerStreamBuilder {
             @NonNull final MetricsService metricsService,
             @NonNull final ConsumerConfig consumerConfig) {
 
+        return buildStreamManager(
+                producerLivenessClock,
+                subscribeStreamRequest,
+                subscriptionHandler,
+                helidonConsumerObserver,
+                blockReader,
+                serviceStatus,
+                metricsService,
+                consumerConfig,
+                null,
+                BlockItemFilter.ALL,
+                null);
+    }
+
+    private static OpenRangeStreamManager buildStreamManager(
+            @NonNull final InstantSource producerLivenessClock,
+            @NonNull final SubscribeStreamRequest subscribeStreamRequest,
+            @NonNull final SubscriptionHandler<List<BlockItemUnparsed>> subscriptionHandler,
+            @NonNull final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver,
+            @NonNull final BlockReader<BlockUnparsed> blockReader,
+            @NonNull final ServiceStatus serviceStatus,
+            @NonNull final MetricsService metricsService,
+            @NonNull final ConsumerConfig consumerConfig,
+            @Nullable final SubscribeResponseCache subscribeResponseCache,
+            @NonNull final BlockItemFilter blockItemFilter,
+            @Nullable final Executor historicReadAheadExecutor) {
+
         final HistoricDataPoller<List<BlockItemUnparsed>> historicDataPoller =
-                new HistoricDataPollerImpl(blockReader, metricsService, consumerConfig);
+                new HistoricDataPollerImpl(blockReader, metricsService, consumerConfig, historicReadAheadExecutor);
 
-        final ConsumerStreamResponseObserver consumerStreamResponseObserver =
-                new ConsumerStreamResponseObserver(helidonConsumerObserver, metricsService);
+        final ConsumerStreamResponseObserver consumerStreamResponseObserver = new ConsumerStreamResponseObserver(
+                helidonConsumerObserver,
+                metricsService,
+                subscribeResponseCache,
+                consumerConfig.outboundBufferBytes(),
+                consumerConfig.outboundBufferFullPolicy(),
+                blockItemFilter);
 
         return new OpenRangeStreamManager(
                 producerLivenessClock,
@@ -2,6 +2,7 @@
 package org.hiero.block.server.consumer;
 
 import static java.lang.System.Logger.Level.TRACE;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ConsumerOutboundBufferFull;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.LiveBlockItemsConsumed;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.CurrentBlockNumberOutbound;
 
@@ -13,9 +14,11 @@ import com.hedera.hapi.block.stream.output.BlockHeader;
 import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.grpc.Pipeline;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.hiero.block.server.consumer.ConsumerConfig.OutboundBufferFullPolicy;
 import org.hiero.block.server.metrics.MetricsService;
 
 /**
@@ -27,8 +30,13 @@ public class ConsumerStreamResponseObserver {
 
     private final MetricsService metricsService;
     private final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver;
+    private final SubscribeResponseCache subscribeResponseCache;
+    private final OutboundResponseBuffer outboundResponseBuffer;
+    private final OutboundBufferFullPolicy outboundBufferFullPolicy;
+    private final BlockItemFilter blockItemFilter;
 
     private final AtomicBoolean streamStarted = new AtomicBoolean(false);
+    private volatile boolean discardOnComplete;
 
     /**
      * Constructs a ConsumerStreamResponseObserver.
@@ -39,9 +47,60 @@ public class ConsumerStreamResponseObserver {
     public ConsumerStreamResponseObserver(
             @NonNull final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver,
             @NonNull final MetricsService metricsService) {
+        this(helidonConsumerObserver, metricsService, null);
+    }
+
+    /**
+     * Constructs a ConsumerStreamResponseObserver that shares the responses for live block items with the other live
+     * subscribers.
+     *
+     * @param helidonConsumerObserver the observer to use to send responses to the consumer
+     * @param metricsService - the service responsible for handling metrics
+     * @param subscribeResponseCache the cache of live responses shared by the subscribers, or null to build every
+     *     response
+     */
+    public ConsumerStreamResponseObserver(
+            @NonNull final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver,
+            @NonNull final MetricsService metricsService,
+            @Nullable final SubscribeResponseCache subscribeResponseCache) {
+        this(
+                helidonConsumerObserver,
+                metricsService,
+                subscribeResponseCache,
+                0,
+                OutboundBufferFullPolicy.PAUSE,
+                BlockItemFilter.ALL);
+    }
+
+    /**
+     * Constructs a ConsumerStreamResponseObserver that queues the responses in a bounded outbound buffer, so a slow
+     * client only holds up the buffer's writer thread until the buffer is full.
+     *
+     * @param helidonConsumerObserver the observer to use to send responses to the consumer
+     * @param metricsService - the service responsible for handling metrics
+     * @param subscribeResponseCache the cache of live responses shared by the subscribers, or null to build every
+     *     response
+     * @param outboundBufferBytes the number of serialized response bytes buffered for the consumer, or 0 to send the
+     *     responses directly
+     * @param outboundBufferFullPolicy what to do when the outbound buffer is full
+     * @param blockItemFilter the kinds of block items to send to the consumer
+     */
+    public ConsumerStreamResponseObserver(
+            @NonNull final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver,
+            @NonNull final MetricsService metricsService,
+            @Nullable final SubscribeResponseCache subscribeResponseCache,
+            final int outboundBufferBytes,
+            @NonNull final OutboundBufferFullPolicy outboundBufferFullPolicy,
+            @NonNull final BlockItemFilter blockItemFilter) {
 
         this.metricsService = Objects.requireNonNull(metricsService);
         this.helidonConsumerObserver = helidonConsumerObserver;
+        this.subscribeResponseCache = subscribeResponseCache;
+        this.outboundBufferFullPolicy = Objects.requireNonNull(outboundBufferFullPolicy);
+        this.blockItemFilter = Objects.requireNonNull(blockItemFilter);
+        this.outboundResponseBuffer = (outboundBufferBytes > 0)
+                ? new OutboundResponseBuffer(helidonConsumerObserver, metricsService, outboundBufferBytes)
+                : null;
     }
 
     /**
@@ -54,10 +113,29 @@ public class ConsumerStreamResponseObserver {
                 .status(responseCode)
                 .build();
 
+        if (outboundResponseBuffer != null) {
+            // Send the response after the queued ones, unless the
+            // client is being disconnected for falling behind
+            outboundResponseBuffer.complete(subscribeStreamResponse, discardOnComplete);
+            return;
+        }
+
         helidonConsumerObserver.onNext(subscribeStreamResponse);
         helidonConsumerObserver.onComplete();
     }
 
+    /**
+     * Use this method to check whether the client is falling behind and should be downgraded from the live stream.
+     *
+     * @return true if the outbound buffer is full and the full buffer policy is
+     *     {@link OutboundBufferFullPolicy#DOWNGRADE}, false otherwise
+     */
+    public boolean shouldDowngrade() {
+        return outboundResponseBuffer != null
+                && outboundBufferFullPolicy == OutboundBufferFullPolicy.DOWNGRADE
+                && outboundResponseBuffer.isFull();
+    }
+
     /**
      * Use this method to send a list of BlockItems to the downstream client.
      *
@@ -65,6 +143,22 @@ public class ConsumerStreamResponseObserver {
      * @throws ParseException if there is an error parsing the BlockItems
      */
     public void send(@NonNull final List<BlockItemUnparsed> blockItems) throws ParseException {
+        send(blockItems, false);
+    }
+
+    /**
+     * Use this method to send a list of BlockItems polled from the live stream to the downstream client. The
+     * response is shared with the other live subscribers sending the same list, so it is only built and serialized
+     * once.
+     *
+     * @param blockItems the list of BlockItems polled from the live stream
+     * @throws ParseException if there is an error parsing the BlockItems
+     */
+    public void sendLive(@NonNull final List<BlockItemUnparsed> blockItems) throws ParseException {
+        send(blockItems, true);
+    }
+
+    private void send(@NonNull final List<BlockItemUnparsed> blockItems, final boolean live) throws ParseException {
 
         // Only start sending BlockItems after we've reached
         // the beginning of a block.
@@ -78,17 +172,56 @@ public class ConsumerStreamResponseObserver {
                 reportFirstBlock(firstBlockItem);
             }
 
-            metricsService.get(LiveBlockItemsConsumed).add(blockItems.size());
+            // Only send the kinds of items the client asked for
+            final List<BlockItemUnparsed> filteredBlockItems = blockItemFilter.filter(blockItems);
+            if (filteredBlockItems.isEmpty()) {
+                return;
+            }
+
+            metricsService.get(LiveBlockItemsConsumed).add(filteredBlockItems.size());
+
+            // Build the response, or share the one built by another live subscriber.
+            // A filtered batch is this client's own, so there is nothing to share.
+            final SubscribeStreamResponseUnparsed subscribeStreamResponse;
+            if (live && subscribeResponseCache != null && filteredBlockItems == blockItems) {
+                subscribeStreamResponse = subscribeResponseCache.response(blockItems);
+            } else {
+                subscribeStreamResponse = SubscribeStreamResponseUnparsed.newBuilder()
+                        .blockItems(BlockItemSetUnparsed.newBuilder()
+                                .blockItems(filteredBlockItems)
+                                .build())
+                        .build();
+            }
+
+            if (outboundResponseBuffer != null) {
+                enqueue(subscribeStreamResponse);
+            } else {
+                // Send the response to the client via Helidon
+                helidonConsumerObserver.onNext(subscribeStreamResponse);
+            }
+        }
+    }
 
-            // Build the response
-            final SubscribeStreamResponseUnparsed subscribeStreamResponse = SubscribeStreamResponseUnparsed.newBuilder()
-                    .blockItems(BlockItemSetUnparsed.newBuilder()
-                            .blockItems(blockItems)
-                            .build())
-                    .build();
+    private void enqueue(@NonNull final SubscribeStreamResponseUnparsed subscribeStreamResponse) {
+        if (outboundBufferFullPolicy == OutboundBufferFullPolicy.DISCONNECT) {
+            if (!outboundResponseBuffer.offer(subscribeStreamResponse)) {
+                metricsService.get(ConsumerOutboundBufferFull).increment();
+                discardOnComplete = true;
+                throw new ConsumerDisconnectedException("Outbound buffer is full, disconnecting the consumer");
+            }
+            return;
+        }
 
-            // Send the response to the client via Helidon
-            helidonConsumerObserver.onNext(subscribeStreamResponse);
+        if (outboundResponseBuffer.isFull()) {
+            metricsService.get(ConsumerOutboundBufferFull).increment();
+        }
+        try {
+            // Wait for the writer thread to make room, which
+            // pauses this consumer until the client catches up
+            outboundResponseBuffer.put(subscribeStreamResponse);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the outbound buffer", e);
         }
     }
 
@@ -12,15 +12,22 @@ import com.hedera.hapi.block.BlockUnparsed;
 import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
 import com.hedera.pbj.runtime.grpc.Pipeline;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import org.hiero.block.common.utils.ChunkUtils;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
 
 /**
  * Use this supplier to send historic blocks to the consumer.
+ *
+ * <p>With a read-ahead executor, the following blocks of the range are read and parsed in parallel on the executor
+ * while the current block is sent, and are still sent strictly in order. The blocks read ahead are bounded in number
+ * and in bytes, and the reads not yet started are skipped once the stream ends, including when the client
+ * disconnects.
  */
 class HistoricBlockStreamSupplier implements Runnable {
 
@@ -32,6 +39,9 @@ class HistoricBlockStreamSupplier implements Runnable {
     private final int maxBlockItemBatchSize;
     private final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver;
     private final MetricsService metricsService;
+    private final BlockItemFilter blockItemFilter;
+    private final BlockReadAhead readAhead;
+    private final int readAheadBlocks;
 
     /**
      * Create a new instance of HistoricBlockStreamSupplier.
@@ -50,6 +60,39 @@ class HistoricBlockStreamSupplier implements Runnable {
             @NonNull final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver,
             @NonNull final MetricsService metricsService,
             @NonNull final ConsumerConfig consumerConfig) {
+        this(
+                startBlockNumber,
+                endBlockNumber,
+                blockReader,
+                helidonConsumerObserver,
+                metricsService,
+                consumerConfig,
+                BlockItemFilter.ALL,
+                null);
+    }
+
+    /**
+     * Create a new instance of HistoricBlockStreamSupplier that only sends some kinds of block items, and reads the
+     * blocks ahead on the given executor.
+     *
+     * @param startBlockNumber - the start of the requested range of blocks
+     * @param endBlockNumber - the end of the requested range of blocks
+     * @param blockReader - the block reader to query for blocks
+     * @param helidonConsumerObserver - the consumer stream response observer to send the blocks
+     * @param metricsService - the service responsible for handling metrics
+     * @param consumerConfig - the configuration settings for the consumer
+     * @param blockItemFilter - the kinds of block items to send to the consumer
+     * @param readAheadExecutor - the executor to read blocks ahead on, or null to read each block when it is sent
+     */
+    public HistoricBlockStreamSupplier(
+            long startBlockNumber,
+            long endBlockNumber,
+            @NonNull final BlockReader<BlockUnparsed> blockReader,
+            @NonNull final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver,
+            @NonNull final MetricsService metricsService,
+            @NonNull final ConsumerConfig consumerConfig,
+            @NonNull final BlockItemFilter blockItemFilter,
+            @Nullable final Executor readAheadExecutor) {
         this.startBlockNumber = startBlockNumber;
         this.endBlockNumber = endBlockNumber;
         this.blockReader = Objects.requireNonNull(blockReader);
@@ -57,6 +100,14 @@ class HistoricBlockStreamSupplier implements Runnable {
         this.metricsService = Objects.requireNonNull(metricsService);
         this.maxBlockItemBatchSize = consumerConfig.maxBlockItemBatchSize();
         this.helidonConsumerObserver = Objects.requireNonNull(helidonConsumerObserver);
+        this.blockItemFilter = Objects.requireNonNull(blockItemFilter);
+        this.readAheadBlocks = consumerConfig.historicReadAheadBlocks();
+        this.readAhead = (readAheadExecutor != null && readAheadBlocks > 0)
+                ? new BlockReadAhead(
+                        HistoricStreamingScheduler.limitStream(blockReader, consumerConfig.historicStreamReadPermits()),
+                        readAheadExecutor,
+                        consumerConfig.historicReadAheadBytes())
+                : null;
     }
 
     /**
@@ -64,17 +115,24 @@ class HistoricBlockStreamSupplier implements Runnable {
      */
     @Override
     public void run() {
-        for (long i = startBlockNumber; i <= endBlockNumber; i++) {
-            try {
-                if (!send(i)) {
-                    LOGGER.log(ERROR, "Block was not found: " + i);
+        try {
+            for (long i = startBlockNumber; i <= endBlockNumber; i++) {
+                try {
+                    if (!send(i)) {
+                        LOGGER.log(ERROR, "Block was not found: " + i);
+                        sendReadStreamNotAvailable();
+                        return;
+                    }
+                } catch (Exception e) {
+                    LOGGER.log(ERROR, "Exception thrown attempting to send blocks: " + e.getMessage(), e);
                     sendReadStreamNotAvailable();
                     return;
                 }
-            } catch (Exception e) {
-                LOGGER.log(ERROR, "Exception thrown attempting to send blocks: " + e.getMessage(), e);
-                sendReadStreamNotAvailable();
-                return;
+            }
+        } finally {
+            // Skip the reads not needed anymore
+            if (readAhead != null) {
+                readAhead.reset();
             }
         }
 
@@ -85,11 +143,12 @@ class HistoricBlockStreamSupplier implements Runnable {
 
     private boolean send(final long currentIndex) throws Exception {
 
-        final Optional<BlockUnparsed> blockOpt = blockReader.read(currentIndex);
+        final Optional<BlockUnparsed> blockOpt = read(currentIndex);
         if (blockOpt.isPresent()) {
             metricsService.get(ClosedRangeHistoricBlocksRetrieved).increment();
+            // Filter before batching, so every batch is full size
             List<List<BlockItemUnparsed>> blockItems =
-                    ChunkUtils.chunkify(blockOpt.get().blockItems(), maxBlockItemBatchSize);
+                    ChunkUtils.chunkify(blockItemFilter.filter(blockOpt.get().blockItems()), maxBlockItemBatchSize);
             sendInBatches(blockItems);
         } else {
             return false;
@@ -98,6 +157,19 @@ class HistoricBlockStreamSupplier implements Runnable {
         return true;
     }
 
+    @NonNull
+    private Optional<BlockUnparsed> read(final long currentIndex) throws Exception {
+        if (readAhead == null) {
+            return blockReader.read(currentIndex);
+        }
+
+        // Read the following blocks in parallel while this one is sent
+        readAhead.fill(currentIndex, endBlockNumber, readAheadBlocks);
+        final Optional<BlockUnparsed> blockOpt = readAhead.take();
+        readAhead.fill(currentIndex + 1, endBlockNumber, readAheadBlocks);
+        return blockOpt;
+    }
+
     void sendInBatches(final List<List<BlockItemUnparsed>> blockItems) {
         for (List<BlockItemUnparsed> blockItemsBatch : blockItems) {
             // Prepare the response
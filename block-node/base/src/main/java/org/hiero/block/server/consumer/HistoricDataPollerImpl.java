@@ -7,11 +7,13 @@ import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.Closed
 import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.hapi.block.BlockUnparsed;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import org.hiero.block.common.utils.ChunkUtils;
 import org.hiero.block.server.metrics.MetricsService;
@@ -19,6 +21,11 @@ import org.hiero.block.server.persistence.storage.read.BlockReader;
 
 /**
  * HistoricDataPollerImpl is responsible for polling historic data from the block reader.
+ *
+ * <p>With a read-ahead executor, the following blocks are read ahead on the executor while the current block is
+ * streamed, so the streaming thread does not wait for every disk read. The read-ahead window is bounded both in blocks
+ * and in bytes, and adapts to the client: it grows while the client has to wait for blocks to be read, and shrinks
+ * while the blocks read ahead are waiting for the client.
  */
 public class HistoricDataPollerImpl implements HistoricDataPoller<List<BlockItemUnparsed>> {
     private final System.Logger LOGGER = System.getLogger(getClass().getName());
@@ -31,14 +38,41 @@ public class HistoricDataPollerImpl implements HistoricDataPoller<List<BlockItem
 
     private final Queue<List<BlockItemUnparsed>> blockItemBatches = new LinkedList<>();
 
+    private final BlockReadAhead readAhead;
+    private final int maxReadAheadBlocks;
+    private int readAheadDepth = 1;
+
     public HistoricDataPollerImpl(
             @NonNull final BlockReader<BlockUnparsed> blockReader,
             @NonNull final MetricsService metricsService,
             @NonNull final ConsumerConfig consumerConfig) {
+        this(blockReader, metricsService, consumerConfig, null);
+    }
+
+    /**
+     * Constructs a HistoricDataPollerImpl that reads blocks ahead on the given executor.
+     *
+     * @param blockReader the block reader to read the blocks with
+     * @param metricsService the service responsible for handling metrics
+     * @param consumerConfig the consumer configuration
+     * @param readAheadExecutor the executor to read blocks ahead on, or null to read each block when it is needed
+     */
+    public HistoricDataPollerImpl(
+            @NonNull final BlockReader<BlockUnparsed> blockReader,
+            @NonNull final MetricsService metricsService,
+            @NonNull final ConsumerConfig consumerConfig,
+            @Nullable final Executor readAheadExecutor) {
 
         this.blockReader = Objects.requireNonNull(blockReader);
         this.metricsService = Objects.requireNonNull(metricsService);
         this.maxBlockItemBatchSize = consumerConfig.maxBlockItemBatchSize();
+        this.maxReadAheadBlocks = consumerConfig.historicReadAheadBlocks();
+        this.readAhead = (readAheadExecutor != null && maxReadAheadBlocks > 0)
+                ? new BlockReadAhead(
+                        HistoricStreamingScheduler.limitStream(blockReader, consumerConfig.historicStreamReadPermits()),
+                        readAheadExecutor,
+                        consumerConfig.historicReadAheadBytes())
+                : null;
     }
 
     /**
@@ -50,6 +84,7 @@ public class HistoricDataPollerImpl implements HistoricDataPoller<List<BlockItem
     public void init(long blockNumber) {
         currentIndex.set(blockNumber);
         blockItemBatches.clear();
+        resetReadAhead();
     }
 
     /**
@@ -77,7 +112,8 @@ public class HistoricDataPollerImpl implements HistoricDataPoller<List<BlockItem
 
     private void fetchData() throws Exception {
         LOGGER.log(TRACE, "Fetching historic data for block number: {0}", currentIndex.get());
-        final Optional<BlockUnparsed> blockOpt = blockReader.read(currentIndex.get());
+        final Optional<BlockUnparsed> blockOpt =
+                (readAhead != null) ? readAheadBlock() : blockReader.read(currentIndex.get());
         if (blockOpt.isPresent()) {
             metricsService.get(ClosedRangeHistoricBlocksRetrieved).increment();
             List<List<BlockItemUnparsed>> blockItems =
@@ -92,4 +128,43 @@ public class HistoricDataPollerImpl implements HistoricDataPoller<List<BlockItem
 
         LOGGER.log(TRACE, "No historic data found for block number: {0}", currentIndex.get());
     }
+
+    /**
+     * Takes the current block from the read-ahead window, and tops the window up with the following blocks.
+     */
+    @NonNull
+    private Optional<BlockUnparsed> readAheadBlock() throws Exception {
+        readAhead.fill(currentIndex.get(), Long.MAX_VALUE, readAheadDepth);
+        if (!readAhead.isNextRead()) {
+            // The client is waiting on the disk, read further ahead
+            readAheadDepth = Math.min(readAheadDepth * 2, maxReadAheadBlocks);
+        } else if (readAhead.isAllRead()) {
+            // The whole window is read, the client is the bottleneck
+            readAheadDepth = Math.max(readAheadDepth - 1, 1);
+        }
+
+        final Optional<BlockUnparsed> blockOpt;
+        try {
+            blockOpt = readAhead.take();
+        } catch (final Exception e) {
+            readAheadDepth = 1;
+            throw e;
+        }
+
+        if (blockOpt.isEmpty()) {
+            // The block is not available yet, so neither are the following
+            // blocks. Drop them and read them again on the next poll.
+            resetReadAhead();
+        } else {
+            readAhead.fill(currentIndex.get() + 1, Long.MAX_VALUE, readAheadDepth);
+        }
+        return blockOpt;
+    }
+
+    private void resetReadAhead() {
+        if (readAhead != null) {
+            readAhead.reset();
+        }
+        readAheadDepth = 1;
+    }
 }
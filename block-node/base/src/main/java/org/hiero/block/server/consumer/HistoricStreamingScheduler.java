@@ -0,0 +1,141 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ClosedRangeHistoricStreamsRejected;
+
+import com.hedera.hapi.block.BlockUnparsed;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.read.BlockReader;
+
+/**
+ * HistoricStreamingScheduler shares the block node's resources between the historic streams, so a burst of historic
+ * requests cannot starve the live stream.
+ *
+ * <p>It admits a limited number of closed-range streams at once, the client of a request over the limit is told the
+ * stream is not available and can retry later. And it limits the number of blocks read at once for all the historic
+ * streams together. The block read permits are granted in the order they are asked for, so the streams waiting to
+ * read take turns block by block, and a large backfill cannot hold the disk while the other streams wait. A stream
+ * reading ahead also waits for one of its own stream read permits before each read, so it queues for no more of the
+ * shared read permits at once than a stream that does not read ahead.
+ */
+public class HistoricStreamingScheduler {
+
+    private final MetricsService metricsService;
+    private final int maxClosedRangeStreams;
+    private final AtomicInteger closedRangeStreams = new AtomicInteger();
+    private final Semaphore readPermits;
+
+    /**
+     * Constructs a HistoricStreamingScheduler.
+     *
+     * @param metricsService the service responsible for handling metrics
+     * @param consumerConfig the consumer configuration with the historic streaming limits
+     */
+    public HistoricStreamingScheduler(
+            @NonNull final MetricsService metricsService, @NonNull final ConsumerConfig consumerConfig) {
+        this.metricsService = Objects.requireNonNull(metricsService);
+        this.maxClosedRangeStreams = consumerConfig.maxClosedRangeStreams();
+        this.readPermits = new Semaphore(consumerConfig.historicReadPermits(), true);
+    }
+
+    /**
+     * Use this method to admit a closed-range stream. Every admitted stream must be released with
+     * {@link #releaseClosedRangeStream()} once it ends.
+     *
+     * @return true if the stream is admitted, false if the maximum number of closed-range streams are being served
+     */
+    public boolean tryAdmitClosedRangeStream() {
+        while (true) {
+            final int streams = closedRangeStreams.get();
+            if (streams >= maxClosedRangeStreams) {
+                metricsService.get(ClosedRangeHistoricStreamsRejected).increment();
+                return false;
+            }
+            if (closedRangeStreams.compareAndSet(streams, streams + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Use this method to release an admitted closed-range stream once it ends.
+     */
+    public void releaseClosedRangeStream() {
+        closedRangeStreams.decrementAndGet();
+    }
+
+    /**
+     * Use this method to wrap a closed-range stream, so it is released once it ends.
+     *
+     * @param stream the admitted closed-range stream
+     * @return the stream, releasing its admission when it ends
+     */
+    @NonNull
+    public Runnable releasing(@NonNull final Runnable stream) {
+        Objects.requireNonNull(stream);
+        return () -> {
+            try {
+                stream.run();
+            } finally {
+                releaseClosedRangeStream();
+            }
+        };
+    }
+
+    /**
+     * Use this method to wrap the block reader used for historic streaming, so every block read waits for a read
+     * permit.
+     *
+     * @param blockReader the block reader to limit
+     * @return the block reader with its reads limited by the read permits
+     */
+    @NonNull
+    public BlockReader<BlockUnparsed> limit(@NonNull final BlockReader<BlockUnparsed> blockReader) {
+        return limit(blockReader, readPermits);
+    }
+
+    /**
+     * Use this method to wrap the block reader of a single historic stream reading ahead, so each of its block reads
+     * first waits for one of the stream's own read permits.
+     *
+     * @param blockReader the block reader of the stream
+     * @param streamReadPermits the maximum number of blocks the stream reads at once
+     * @return the block reader with its reads limited by the stream's read permits
+     */
+    @NonNull
+    public static BlockReader<BlockUnparsed> limitStream(
+            @NonNull final BlockReader<BlockUnparsed> blockReader, final int streamReadPermits) {
+        return limit(blockReader, new Semaphore(streamReadPermits, true));
+    }
+
+    @NonNull
+    private static BlockReader<BlockUnparsed> limit(
+            @NonNull final BlockReader<BlockUnparsed> blockReader, @NonNull final Semaphore readPermits) {
+        Objects.requireNonNull(blockReader);
+        return blockNumber -> {
+            try {
+                readPermits.acquire();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted waiting to read block " + blockNumber, e);
+            }
+            try {
+                return blockReader.read(blockNumber);
+            } finally {
+                readPermits.release();
+            }
+        };
+    }
+
+    /**
+     * @return the number of closed-range streams being served
+     */
+    int closedRangeStreams() {
+        return closedRangeStreams.get();
+    }
+}
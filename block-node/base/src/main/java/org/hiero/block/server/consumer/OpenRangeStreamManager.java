@@ -4,7 +4,9 @@ package org.hiero.block.server.consumer;
 import static java.lang.System.Logger.Level.DEBUG;
 import static java.lang.System.Logger.Level.ERROR;
 import static java.lang.System.Logger.Level.TRACE;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ConsumersDisconnected;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.HistoricToLiveStreamTransitions;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.LiveToHistoricStreamTransitions;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.OutboundStreamingError;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
@@ -15,6 +17,7 @@ import com.hedera.pbj.runtime.ParseException;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.UncheckedIOException;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -22,6 +25,7 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
 import org.hiero.block.server.events.LivenessCalculator;
 import org.hiero.block.server.events.ObjectEvent;
 import org.hiero.block.server.mediator.Poller;
@@ -32,11 +36,20 @@ import org.hiero.block.server.service.ServiceStatus;
 /**
  * The OpenRangeStreamManager class is responsible for managing the state transitions between
  * live-streaming and historic-streaming for open-range requests. The class is designed
- * to be used in a busy-wait loop to continuously produce block item batches for a downstream
- * client.
+ * to be called in a loop to continuously produce block item batches for a downstream
+ * client. When there is no data to send, each call waits for new data before returning.
  */
 public class OpenRangeStreamManager implements StreamManager {
 
+    /**
+     * The maximum time to wait for new live data, so the producer liveness is still checked
+     * regularly while the live stream is idle.
+     */
+    static final long MAX_LIVE_DATA_WAIT_NANOS = 100_000_000L;
+
+    /** The time to back off when no historic data is available, as there is no signal for it. */
+    static final long HISTORIC_DATA_BACKOFF_NANOS = 500_000L;
+
     private final System.Logger LOGGER = System.getLogger(getClass().getName());
 
     private final State initialState;
@@ -48,8 +61,25 @@ public class OpenRangeStreamManager implements StreamManager {
 
     private final AtomicBoolean isLiveStreamInitialized = new AtomicBoolean(false);
 
-    // @todo(#750) - Commented out first pass. Need to revisit.
-    //    private final int cueHistoricStreamingPaddingBlocks;
+    // Set by the states when a poll returned no data, only used by the thread calling execute()
+    private boolean liveStreamIdle;
+    private boolean historicStreamIdle;
+
+    private final int cueHistoricStreamingPaddingBlocks;
+    private final int maxLiveStreamBatchEvents;
+    private final int maxLiveStreamBatchBytes;
+
+    // The live batches polled for the next response, only used by the thread calling execute()
+    private final List<List<BlockItemUnparsed>> liveBatches = new ArrayList<>();
+    private final Predicate<ObjectEvent<List<BlockItemUnparsed>>> liveBatchCollector = this::addLiveBatch;
+    private long liveBatchesBytes;
+    // The last live response that ended with a block proof, only used by the thread calling execute()
+    private List<BlockItemUnparsed> lastLiveBlockProofItems;
+
+    // Set once a slow consumer has been moved off the live stream. From then on, the live stream
+    // is always cued up to a block boundary before it is joined again.
+    private boolean downgradedToHistoric;
+    private long lastCuedAckedBlockNumber = -1;
 
     private final LivenessCalculator livenessCalculator;
     private final HistoricDataPoller<List<BlockItemUnparsed>> historicDataPoller;
@@ -60,9 +90,6 @@ public class OpenRangeStreamManager implements StreamManager {
     private final ServiceStatus serviceStatus;
     private final MetricsService metricsService;
 
-    // @todo(#750) - Commented out first pass. Need to revisit.
-    //    private final Configuration configuration;
-
     public OpenRangeStreamManager(
             @NonNull final InstantSource producerLivenessClock,
             @NonNull final SubscribeStreamRequest subscribeStreamRequest,
@@ -88,10 +115,9 @@ public class OpenRangeStreamManager implements StreamManager {
         // Assign a unique instance id to the manager for troubleshooting
         this.managerId = UUID.randomUUID().toString();
 
-        // @todo(#750) - Commented out first pass. Need to revisit.
-        //        this.configuration = Objects.requireNonNull(configuration);
-        //        this.cueHistoricStreamingPaddingBlocks =
-        //                configuration.getConfigData(ConsumerConfig.class).cueHistoricStreamingPaddingBlocks();
+        this.cueHistoricStreamingPaddingBlocks = consumerConfig.cueHistoricStreamingPaddingBlocks();
+        this.maxLiveStreamBatchEvents = consumerConfig.maxLiveStreamBatchEvents();
+        this.maxLiveStreamBatchBytes = consumerConfig.maxLiveStreamBatchBytes();
 
         // Pick the state machine entrypoint based on the start block number
         currentState = (subscribeStreamRequest.startBlockNumber() == 0) ? State.INIT_LIVE : State.INIT_HISTORIC;
@@ -99,8 +125,9 @@ public class OpenRangeStreamManager implements StreamManager {
     }
 
     /**
-     * The execute method is the main entrypoint for the state machine. It is designed to be used in a
-     * busy-wait loop to continuously produce block item batches for a downstream client.
+     * The execute method is the main entrypoint for the state machine. It is designed to be called in a
+     * loop to continuously produce block item batches for a downstream client. If there was no data to
+     * send, it waits for the live stream to publish new data, or briefly backs off for historic data.
      *
      * @return true if the stream should continue producing block item batches, false otherwise
      */
@@ -120,18 +147,34 @@ public class OpenRangeStreamManager implements StreamManager {
                 LOGGER.log(DEBUG, "Producer liveness timeout. Unsubscribed from the live stream.");
                 return false;
             } else {
+                liveStreamIdle = false;
+                historicStreamIdle = false;
                 this.currentState = currentState.execute(this);
             }
 
-            // Inside the busy-wait loop, we
-            // need to wait to avoid consuming
-            // the whole CPU
-            LockSupport.parkNanos(500_000L);
+            // Only wait when there was no data, so a
+            // stream with data to send loops straight
+            // back round without any added latency
+            if (liveStreamIdle && liveStreamingDataPoller != null) {
+                liveStreamingDataPoller.awaitData(MAX_LIVE_DATA_WAIT_NANOS);
+            } else if (historicStreamIdle) {
+                LockSupport.parkNanos(HISTORIC_DATA_BACKOFF_NANOS);
+            }
 
             // For open-range, always return true
             // to keep the stream producing block item
             // batches indefinitely.
             return true;
+        } catch (ConsumerDisconnectedException e) {
+            cleanUpLiveStream();
+
+            // The client fell too far behind and is disconnected
+            // by the full buffer policy, which is not an error
+            metricsService.get(ConsumersDisconnected).increment();
+            LOGGER.log(DEBUG, "{0} - Disconnecting a consumer that fell too far behind", managerId);
+            consumerStreamResponseObserver.send(SubscribeStreamResponseCode.READ_STREAM_NOT_AVAILABLE);
+
+            return false;
         } catch (Exception e) {
             cleanUpLiveStream();
 
@@ -169,6 +212,7 @@ public class OpenRangeStreamManager implements StreamManager {
         }
 
         liveStreamingDataPoller = null;
+        lastLiveBlockProofItems = null;
     }
 
     // The state machine for managing the transitions for closed-range and open-range historic
@@ -180,7 +224,8 @@ public class OpenRangeStreamManager implements StreamManager {
         /**
          * INIT_HISTORIC is the starting state for closed-range historic requests and
          * open-range historic streaming requests. It's responsible for initializing the historic
-         * data poller. It will transition to the HISTORIC_STREAMING state.
+         * data poller. It will transition to the HISTORIC_STREAMING state, or to the
+         * CUE_HISTORIC_STREAMING state after downgrading from live-streaming.
          */
         INIT_HISTORIC {
             @NonNull
@@ -191,26 +236,23 @@ public class OpenRangeStreamManager implements StreamManager {
                 long historicStreamBlockNumber = m.currentHistoricBlockNumber.get();
                 m.historicDataPoller.init(historicStreamBlockNumber);
 
-                // @todo(#750) - Commented out first pass. Need to revisit.
-                //   Validation in the proxy prevents a client requesting an historic start block number
-                //   greater than the current acked block number. However, we can arrive at this state
-                //   when downgrading from live-streaming to historic streaming. During the downgrade process,
-                //   the historic stream block number will be greater than the current acked block number.
-                //   Here, we're padding the number so that, when we transition, the current acked block number
-                //   is at least the padding number ahead. The hope is to reduce "flapping" where we're constantly
-                //   downgrading to historic then upgrading to live then downgrading to historic, etc.
-                //                long paddedHistoricStreamBlockNumber = historicStreamBlockNumber +
-                //   m.cueHistoricStreamingPaddingBlocks;
-                //                if (paddedHistoricStreamBlockNumber > currentAckedBlockNumber) {
-                //                    LOGGER.log(
-                //                            TRACE,
-                //                            "Padded Historic stream block number: {0} > Current acked block number:
-                //   {1}",
-                //                            paddedHistoricStreamBlockNumber,
-                //                            currentAckedBlockNumber);
-                //                    logTransition(State.CUE_HISTORIC_STREAMING);
-                //                    return State.CUE_HISTORIC_STREAMING;
-                //                }
+                // Validation in the proxy prevents a client requesting an historic start block number
+                // greater than the current acked block number. However, we arrive at this state when
+                // downgrading from live-streaming to historic streaming, with the historic stream block
+                // number ahead of the current acked block number. Wait until the current acked block
+                // number is at least the padding ahead before streaming, to reduce "flapping" where we're
+                // constantly downgrading to historic then upgrading to live then downgrading again.
+                if (m.downgradedToHistoric
+                        && historicStreamBlockNumber + m.cueHistoricStreamingPaddingBlocks > currentAckedBlockNumber) {
+                    LOGGER.log(
+                            TRACE,
+                            "{0} - Padded historic stream block number: {1} > Current acked block number: {2}",
+                            m.managerId,
+                            historicStreamBlockNumber + m.cueHistoricStreamingPaddingBlocks,
+                            currentAckedBlockNumber);
+                    logTransition(State.CUE_HISTORIC_STREAMING, m);
+                    return State.CUE_HISTORIC_STREAMING;
+                }
 
                 LOGGER.log(
                         DEBUG,
@@ -222,43 +264,50 @@ public class OpenRangeStreamManager implements StreamManager {
             }
         },
 
-        // @todo(#750) - Commented out first pass. Need to revisit.
-        //        CUE_HISTORIC_STREAMING {
-        //            @NonNull
-        //            @Override
-        //            public State execute(@NonNull final OpenRangeStreamManager m) {
-        //                long currentAckedBlockNumber = getLatestAckedBlock(m);
-        //                long historicStreamBlockNumber = m.currentHistoricBlockNumber.get();
-        //                // If we just transitioned back to HISTORY_STREAMING from DRAIN_LIVE_STREAMING,
-        //                // the current acked block number will still be behind the historic stream block number
-        //                // we proactively set in DRAIN_LIVE_STREAMING before transitioning.
-        //                //
-        //                // Loop until the current acked block number exceeds the historic stream block number.
-        //                // It's ok to loop here. We transitioned back to HISTORIC_STREAMING because the client
-        //                // was not keeping up with the live stream. So the client will continue to
-        //                // receive data buffered in Helidon.
-        //                long paddedHistoricStreamBlockNumber = historicStreamBlockNumber +
-        //   m.cueHistoricStreamingPaddingBlocks;
-        //                if (paddedHistoricStreamBlockNumber > currentAckedBlockNumber) {
-        //                    LOGGER.log(
-        //                            TRACE,
-        //                            "Padded Historic stream block number: {0} > Current acked block number: {1}",
-        //                            paddedHistoricStreamBlockNumber,
-        //                            currentAckedBlockNumber);
-        //                    logTransition(State.CUE_HISTORIC_STREAMING);
-        //                    return State.CUE_HISTORIC_STREAMING;
-        //                }
-        //    LOGGER.log(
-        //                        TRACE,
-        //                        "Historic stream block number: {0} > Current acked block number: {1}",
-        //                        historicStreamBlockNumber,
-        //                        currentAckedBlockNumber);
-        //                logTransition(State.HISTORIC_STREAMING);
-        //                // Increment the dashboard metric
-        //                m.metricsService.get(LiveToHistoricStreamTransitions).increment();
-        //                return State.HISTORIC_STREAMING;
-        //            }
-        //        },
+        /**
+         * CUE_HISTORIC_STREAMING is the state for waiting, after downgrading from live-streaming, until
+         * the current acked block number is at least the padding blocks ahead of the historic stream
+         * block number. The client still receives the data buffered in Helidon while it waits. It will
+         * transition to the HISTORIC_STREAMING state.
+         */
+        CUE_HISTORIC_STREAMING {
+            @NonNull
+            @Override
+            public State execute(@NonNull final OpenRangeStreamManager m) {
+                final long currentAckedBlockNumber = getLatestAckedBlock(m);
+                if (currentAckedBlockNumber != m.lastCuedAckedBlockNumber) {
+                    // Blocks are still being acked, so the producer is alive
+                    // even though nothing is sent to the client while cueing
+                    m.lastCuedAckedBlockNumber = currentAckedBlockNumber;
+                    m.livenessCalculator.refresh();
+                }
+
+                final long paddedHistoricStreamBlockNumber =
+                        m.currentHistoricBlockNumber.get() + m.cueHistoricStreamingPaddingBlocks;
+                if (paddedHistoricStreamBlockNumber > currentAckedBlockNumber) {
+                    LOGGER.log(
+                            TRACE,
+                            "{0} - Padded historic stream block number: {1} > Current acked block number: {2}",
+                            m.managerId,
+                            paddedHistoricStreamBlockNumber,
+                            currentAckedBlockNumber);
+
+                    // Nothing to send yet, back off before checking again
+                    m.historicStreamIdle = true;
+                    logTransition(State.CUE_HISTORIC_STREAMING, m);
+                    return State.CUE_HISTORIC_STREAMING;
+                }
+
+                LOGGER.log(
+                        DEBUG,
+                        "{0} - Current acked block number: {1} caught up to padded historic stream block number: {2}",
+                        m.managerId,
+                        currentAckedBlockNumber,
+                        paddedHistoricStreamBlockNumber);
+                logTransition(State.HISTORIC_STREAMING, m);
+                return State.HISTORIC_STREAMING;
+            }
+        },
 
         /**
          * HISTORIC_STREAMING is the state for streaming historic data to the client. It's responsible
@@ -338,6 +387,7 @@ public class OpenRangeStreamManager implements StreamManager {
 
                 } else {
                     LOGGER.log(TRACE, "{0} - No data returned from historic poll. Loop to check again.", m.managerId);
+                    m.historicStreamIdle = true;
                 }
 
                 logTransition(State.HISTORIC_STREAMING, m);
@@ -363,8 +413,9 @@ public class OpenRangeStreamManager implements StreamManager {
                 // For historic-streaming requests (request [start_block_number > 0, end_block_number = 0]) we
                 // need to cue up the live stream to the start of the next block so we can transition at a block
                 // boundary.
-                final State next =
-                        (m.initialState == State.INIT_LIVE) ? State.LIVE_STREAMING : State.CUE_LIVE_STREAMING;
+                // A client that has been downgraded to historic streaming always needs to be cued up, as
+                // its historic stream has to catch up to the live stream before it can join it.
+                final State next = m.isLiveOnly() ? State.LIVE_STREAMING : State.CUE_LIVE_STREAMING;
                 logTransition(next, m);
 
                 return next;
@@ -372,7 +423,8 @@ public class OpenRangeStreamManager implements StreamManager {
         },
         /**
          * CUE_LIVE_STREAMING is the state for cueing up the live stream to the next block to transition
-         * on block boundary. It will transition to the LIVE_STREAMING state.
+         * on block boundary. It will transition to the LIVE_STREAMING state, or back to INIT_LIVE if the
+         * live stream overflowed while cueing.
          */
         CUE_LIVE_STREAMING {
             @NonNull
@@ -412,16 +464,22 @@ public class OpenRangeStreamManager implements StreamManager {
                                 "{0} - Initialized live stream to block number: {1}",
                                 m.managerId,
                                 m.currentLiveBlockNumber.get());
-                        State next =
-                                (m.initialState == State.INIT_LIVE) ? State.LIVE_STREAMING : State.HISTORIC_STREAMING;
+                        State next = m.isLiveOnly() ? State.LIVE_STREAMING : State.HISTORIC_STREAMING;
                         logTransition(next, m);
 
                         return next;
                     } else {
                         LOGGER.log(TRACE, "{0} - Block Proof not found. Loop to check again.", m.managerId);
                     }
+                } else if (m.liveStreamingDataPoller.exceedsThreshold()) {
+                    // The poller fell too far behind to receive events before it was cued up, subscribe again
+                    LOGGER.log(DEBUG, "{0} - Live stream overflowed while cueing. Subscribing again.", m.managerId);
+                    m.cleanUpLiveStream();
+                    logTransition(State.INIT_LIVE, m);
+                    return State.INIT_LIVE;
                 } else {
                     LOGGER.log(TRACE, "{0} - No data returned from live poll. Loop to check again.", m.managerId);
+                    m.liveStreamIdle = true;
                 }
 
                 // Try again to initialize the live stream to the next block
@@ -432,68 +490,109 @@ public class OpenRangeStreamManager implements StreamManager {
         /**
          * LIVE_STREAMING is the state for streaming live data from the live stream poller to the client.
          * It will continue to query the live stream poller regardless of whether it received data or not.
+         * It will transition to the DRAIN_LIVE_STREAMING state if the client falls too far behind the
+         * live stream, or fills its outbound buffer with the DOWNGRADE full buffer policy.
          */
         LIVE_STREAMING {
             @NonNull
             @Override
             public State execute(@NonNull final OpenRangeStreamManager m) throws Exception {
-                // @todo(#750) - Commented out first pass. Need to revisit.
-                //                if (m.liveStreamingDataPoller.exceedsThreshold()) {
-                //                    LOGGER.log(
-                //                            DEBUG,
-                //                            "Client is not keeping up with the live stream. Transitioning to historic
-                // streaming.");
-                //                    logTransition(State.DRAIN_LIVE_STREAMING);
-                //                    return State.DRAIN_LIVE_STREAMING;
-                //                }
-
-                // Get the next batch of live data
-                final Optional<ObjectEvent<List<BlockItemUnparsed>>> liveDataOpt = m.liveStreamingDataPoller.poll();
-                if (liveDataOpt.isPresent()) {
-                    // send data to the client
-                    sendData(m, liveDataOpt.get().get());
+                if (m.liveStreamingDataPoller.exceedsThreshold()
+                        || m.consumerStreamResponseObserver.shouldDowngrade()) {
+                    // Move the client off the live stream, so its gating sequence stops
+                    // holding back the ring buffer and ingest for every other consumer.
+                    LOGGER.log(
+                            DEBUG,
+                            "{0} - Client is not keeping up with the live stream. Transitioning to historic streaming.",
+                            m.managerId);
+                    logTransition(State.DRAIN_LIVE_STREAMING, m);
+                    return State.DRAIN_LIVE_STREAMING;
+                }
+
+                // Get the available batches of live data and send them to the client
+                if (pollAndSendLiveData(m) != null) {
                     LOGGER.log(TRACE, "{0} - Fetched a live batch with data. Loop to get the next batch.", m.managerId);
                 } else {
                     LOGGER.log(TRACE, "{0} - No data returned from live poll. Loop to check again.", m.managerId);
+                    m.liveStreamIdle = true;
                 }
 
                 logTransition(State.LIVE_STREAMING, m);
                 return State.LIVE_STREAMING;
             }
+        },
+        /**
+         * DRAIN_LIVE_STREAMING is the state for a client that is not keeping up with the live stream.
+         * It sends the rest of the current live block to the client, so the transition is at a block
+         * boundary, then unsubscribes from the live stream. It will transition to INIT_HISTORIC to
+         * serve the following blocks from persistence until the client catches up. If the live stream
+         * overflowed before the block proof, it restarts the historic stream at the block in progress.
+         */
+        DRAIN_LIVE_STREAMING {
+            @NonNull
+            @Override
+            public State execute(@NonNull final OpenRangeStreamManager m) throws Exception {
+                // Get the available batches of live data and send them to the client
+                final List<BlockItemUnparsed> blockItems = pollAndSendLiveData(m);
+                if (blockItems != null) {
+                    // The poller found block item data. If the block items
+                    // contain a block proof, then we can transition to historic streaming.
+                    // Otherwise, fall through and loop again.
+                    if (blockItems.getLast().hasBlockProof()) {
+                        final long liveBlockNumber = getBlockNumber(blockItems);
+                        LOGGER.log(
+                                DEBUG,
+                                "{0} - Drained the live stream to the block proof of block number: {1}",
+                                m.managerId,
+                                liveBlockNumber);
+
+                        // Prep the historic stream to start from the next block
+                        m.currentHistoricBlockNumber.set(liveBlockNumber + 1);
+                        m.downgradedToHistoric = true;
+
+                        // Unsubscribe from the live stream to free up the sequence in the ring buffer
+                        m.cleanUpLiveStream();
+
+                        // Increment the dashboard metric
+                        m.metricsService.get(LiveToHistoricStreamTransitions).increment();
+
+                        logTransition(State.INIT_HISTORIC, m);
+                        return State.INIT_HISTORIC;
+                    }
+                } else if (m.liveStreamingDataPoller.exceedsThreshold()) {
+                    // Nothing left to poll while still too far behind means the poller fell so far behind
+                    // that it stopped receiving events, so the block proof will never arrive. Restart the
+                    // historic stream at the block in progress, which the client then gets from its header.
+                    final long historicBlockNumber;
+                    if (m.lastLiveBlockProofItems != null) {
+                        historicBlockNumber = getBlockNumber(m.lastLiveBlockProofItems) + 1;
+                    } else if (m.isLiveStreamInitialized.get()) {
+                        historicBlockNumber = m.currentLiveBlockNumber.get();
+                    } else {
+                        historicBlockNumber = getLatestAckedBlock(m) + 1;
+                    }
+                    LOGGER.log(
+                            DEBUG,
+                            "{0} - Live stream overflowed before a block proof, restarting at block number: {1}",
+                            m.managerId,
+                            historicBlockNumber);
+
+                    m.currentHistoricBlockNumber.set(historicBlockNumber);
+                    m.downgradedToHistoric = true;
+                    m.cleanUpLiveStream();
+                    m.metricsService.get(LiveToHistoricStreamTransitions).increment();
+
+                    logTransition(State.INIT_HISTORIC, m);
+                    return State.INIT_HISTORIC;
+                } else {
+                    LOGGER.log(TRACE, "{0} - No data returned from live poll. Loop to check again.", m.managerId);
+                    m.liveStreamIdle = true;
+                }
+
+                logTransition(State.DRAIN_LIVE_STREAMING, m);
+                return State.DRAIN_LIVE_STREAMING;
+            }
         };
-        // @todo(#750) - Commented out first pass. Need to revisit.
-        //        DRAIN_LIVE_STREAMING {
-        //            @NonNull
-        //            @Override
-        //            public State execute(@NonNull final OpenRangeStreamManager m) throws Exception {
-        //                // Drain the live stream
-        //                final Optional<ObjectEvent<List<BlockItemUnparsed>>> liveDataOpt =
-        // m.liveStreamingDataPoller.poll();
-        //                if (liveDataOpt.isPresent()) {
-        //                    final List<BlockItemUnparsed> blockItems = liveDataOpt.get().get();
-        //                    // send data to the client
-        //                    m.consumerStreamResponseObserver.send(blockItems);
-        //                    // The poller found block item data. If the block items
-        //                    // contain a block proof, then we can transition to historic streaming.
-        //                    // Otherwise, fall through and loop again.
-        //                    if (blockItems.getLast().hasBlockProof()) {
-        //                        long liveBlockNumber = getBlockNumber(blockItems);
-        //                        LOGGER.log(TRACE, "Found the block proof for live block number: {0}",
-        // liveBlockNumber);
-        //                        // Prep the historic stream to start from the next block
-        //                        m.currentHistoricBlockNumber.set(liveBlockNumber + 1);
-        //                        logTransition(State.INIT_HISTORIC);
-        //                        // Unsubscribe from the live stream to free up the sequence in the ring buffer
-        //                        m.cleanUpLiveStream();
-        //                        return State.INIT_HISTORIC;
-        //                    }
-        //                } else {
-        //                    LOGGER.log(TRACE, "No data returned from live poll. Loop to check again.");
-        //                }
-        //                logTransition(State.DRAIN_LIVE_STREAMING);
-        //                return State.DRAIN_LIVE_STREAMING;
-        //            }
-        //        };
 
         private static final System.Logger LOGGER = System.getLogger(State.class.getName());
 
@@ -509,6 +608,59 @@ public class OpenRangeStreamManager implements StreamManager {
             m.consumerStreamResponseObserver.send(blockItems);
         }
 
+        private static void sendLiveData(
+                @NonNull final OpenRangeStreamManager m, final List<BlockItemUnparsed> blockItems)
+                throws ParseException {
+
+            // Refresh the liveness when sending data to
+            // the client
+            m.livenessCalculator.refresh();
+            m.consumerStreamResponseObserver.sendLive(blockItems);
+        }
+
+        /**
+         * Polls the live batches available now and sends them to the client in a single response, so a
+         * client catching up gets fewer, larger responses. A single batch is sent as it is, so its
+         * response is shared with the other live subscribers.
+         *
+         * @param m the stream manager
+         * @return the block items sent to the client, or null if there was no live data
+         */
+        private static List<BlockItemUnparsed> pollAndSendLiveData(@NonNull final OpenRangeStreamManager m)
+                throws Exception {
+            try {
+                m.liveStreamingDataPoller.poll(m.maxLiveStreamBatchEvents, m.liveBatchCollector);
+                if (m.liveBatches.isEmpty()) {
+                    return null;
+                }
+
+                final List<BlockItemUnparsed> blockItems;
+                if (m.liveBatches.size() == 1) {
+                    blockItems = m.liveBatches.getFirst();
+                    sendLiveData(m, blockItems);
+                } else {
+                    int itemCount = 0;
+                    for (final List<BlockItemUnparsed> batch : m.liveBatches) {
+                        itemCount += batch.size();
+                    }
+                    blockItems = new ArrayList<>(itemCount);
+                    for (final List<BlockItemUnparsed> batch : m.liveBatches) {
+                        blockItems.addAll(batch);
+                    }
+                    sendData(m, blockItems);
+                }
+
+                // Only parsed if the live stream overflows, so sending stays free of parsing
+                if (blockItems.getLast().hasBlockProof()) {
+                    m.lastLiveBlockProofItems = blockItems;
+                }
+                return blockItems;
+            } finally {
+                m.liveBatches.clear();
+                m.liveBatchesBytes = 0;
+            }
+        }
+
         private static long getLatestAckedBlock(OpenRangeStreamManager m) {
             return (m.serviceStatus.getLatestAckedBlock() != null)
                     ? m.serviceStatus.getLatestAckedBlock().getBlockNumber()
@@ -524,6 +676,32 @@ public class OpenRangeStreamManager implements StreamManager {
         }
     }
 
+    /**
+     * Checks if the stream only needs the live stream, because it was requested as a live stream and
+     * has never been downgraded to historic streaming.
+     *
+     * @return true if the stream can go straight to live-streaming, false otherwise
+     */
+    private boolean isLiveOnly() {
+        return initialState == State.INIT_LIVE && !downgradedToHistoric;
+    }
+
+    /**
+     * Collects a live batch for the next response. The batches for a response never span two blocks,
+     * so that responses stay within block boundaries.
+     *
+     * @param event the live stream event holding the batch
+     * @return true to collect the next batch, false if the response is complete
+     */
+    private boolean addLiveBatch(@NonNull final ObjectEvent<List<BlockItemUnparsed>> event) {
+        final List<BlockItemUnparsed> blockItems = event.get();
+        liveBatches.add(blockItems);
+        for (final BlockItemUnparsed blockItem : blockItems) {
+            liveBatchesBytes += BlockItemUnparsed.PROTOBUF.measureRecord(blockItem);
+        }
+        return !blockItems.getLast().hasBlockProof() && liveBatchesBytes < maxLiveStreamBatchBytes;
+    }
+
     State getState() {
         return currentState;
     }
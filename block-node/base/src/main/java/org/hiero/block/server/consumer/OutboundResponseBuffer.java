@@ -0,0 +1,256 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ConsumerOutboundBytesDequeued;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ConsumerOutboundBytesQueued;
+
+import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
+import com.hedera.pbj.runtime.grpc.Pipeline;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.hiero.block.server.metrics.MetricsService;
+
+/**
+ * OutboundResponseBuffer queues the responses for a consumer, up to a number of serialized bytes, and sends them to
+ * the client from its own writer thread. The writer thread is the only one blocked by a client that reads slowly,
+ * while the stream manager keeps polling and queueing responses until the buffer is full. What happens then is up to
+ * the caller, it can wait for room with {@link #put} or give up with {@link #offer}.
+ *
+ * <p>A response larger than the whole buffer is still queued once the buffer is empty, so every response can be sent.
+ */
+class OutboundResponseBuffer {
+
+    private final System.Logger LOGGER = System.getLogger(getClass().getName());
+
+    private final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver;
+    private final MetricsService metricsService;
+    private final long maxBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<Queued> queue = new ArrayDeque<>();
+    private long queuedBytes;
+    private boolean completed;
+    private SubscribeStreamResponseUnparsed finalResponse;
+    private Throwable failure;
+
+    /**
+     * Constructs an OutboundResponseBuffer and starts its writer thread.
+     *
+     * @param helidonConsumerObserver the observer to use to send responses to the consumer
+     * @param metricsService the service responsible for handling metrics
+     * @param maxBytes the number of serialized response bytes the buffer holds, must be positive
+     */
+    OutboundResponseBuffer(
+            @NonNull final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver,
+            @NonNull final MetricsService metricsService,
+            final long maxBytes) {
+        this.helidonConsumerObserver = Objects.requireNonNull(helidonConsumerObserver);
+        this.metricsService = Objects.requireNonNull(metricsService);
+        this.maxBytes = maxBytes;
+        Thread.ofVirtual().name("outbound-response-writer").start(this::write);
+    }
+
+    /**
+     * Queues a response if it fits in the buffer, without waiting.
+     *
+     * @param response the response to send
+     * @return true if the response was queued, false if the buffer is full
+     * @throws IllegalStateException if the buffer is completed or the client can no longer be written to
+     */
+    boolean offer(@NonNull final SubscribeStreamResponseUnparsed response) {
+        final long size = SubscribeStreamResponseUnparsed.PROTOBUF.measureRecord(response);
+        lock.lock();
+        try {
+            checkOpen();
+            if (isFull(size)) {
+                return false;
+            }
+            enqueue(response, size);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queues a response, waiting for room in the buffer while it is full.
+     *
+     * @param response the response to send
+     * @throws InterruptedException if interrupted while waiting for room
+     * @throws IllegalStateException if the buffer is completed or the client can no longer be written to
+     */
+    void put(@NonNull final SubscribeStreamResponseUnparsed response) throws InterruptedException {
+        final long size = SubscribeStreamResponseUnparsed.PROTOBUF.measureRecord(response);
+        lock.lockInterruptibly();
+        try {
+            checkOpen();
+            while (isFull(size)) {
+                notFull.await();
+                checkOpen();
+            }
+            enqueue(response, size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return true if the buffer is filled up to its limit
+     */
+    boolean isFull() {
+        lock.lock();
+        try {
+            return queuedBytes >= maxBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of serialized response bytes queued and not yet sent
+     */
+    long queuedBytes() {
+        lock.lock();
+        try {
+            return queuedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Completes the buffer. The writer thread sends the final response, if any, after the queued responses and then
+     * completes the client stream. Later calls have no effect.
+     *
+     * @param response the final response to send, or null to only complete the stream
+     * @param discardQueued true to drop the queued responses instead of sending them
+     */
+    void complete(@Nullable final SubscribeStreamResponseUnparsed response, final boolean discardQueued) {
+        lock.lock();
+        try {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            finalResponse = response;
+            if (discardQueued) {
+                discard();
+            }
+            notEmpty.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFull(final long size) {
+        // An empty buffer always takes the response, however large
+        return queuedBytes > 0 && queuedBytes + size > maxBytes;
+    }
+
+    private void enqueue(@NonNull final SubscribeStreamResponseUnparsed response, final long size) {
+        queue.addLast(new Queued(response, size));
+        queuedBytes += size;
+        metricsService.get(ConsumerOutboundBytesQueued).add(size);
+        notEmpty.signal();
+    }
+
+    private void checkOpen() {
+        if (failure != null) {
+            throw new IllegalStateException("Failed to send responses to the consumer", failure);
+        }
+        if (completed) {
+            throw new IllegalStateException("Outbound response buffer is completed");
+        }
+    }
+
+    private void write() {
+        try {
+            Queued next;
+            while ((next = take()) != null) {
+                // Send outside the lock, this is where a slow client blocks
+                helidonConsumerObserver.onNext(next.response());
+                sent(next.size());
+            }
+
+            final SubscribeStreamResponseUnparsed response = finalResponse();
+            if (response != null) {
+                helidonConsumerObserver.onNext(response);
+            }
+            helidonConsumerObserver.onComplete();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        } catch (final RuntimeException e) {
+            LOGGER.log(DEBUG, "Failed to send responses to the consumer: " + e);
+            fail(e);
+        }
+    }
+
+    @Nullable
+    private Queued take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (queue.isEmpty() && !completed) {
+                notEmpty.await();
+            }
+            return queue.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sent(final long size) {
+        lock.lock();
+        try {
+            // The queue may have been discarded while sending
+            if (!queue.isEmpty()) {
+                queue.removeFirst();
+                queuedBytes -= size;
+                metricsService.get(ConsumerOutboundBytesDequeued).add(size);
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Nullable
+    private SubscribeStreamResponseUnparsed finalResponse() {
+        lock.lock();
+        try {
+            return finalResponse;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fail(@NonNull final Throwable cause) {
+        lock.lock();
+        try {
+            failure = cause;
+            discard();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void discard() {
+        metricsService.get(ConsumerOutboundBytesDequeued).add(queuedBytes);
+        queue.clear();
+        queuedBytes = 0;
+    }
+
+    /**
+     * A queued response with its serialized size.
+     */
+    private record Queued(@NonNull SubscribeStreamResponseUnparsed response, long size) {}
+}
@@ -0,0 +1,216 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.HistoricSharedBlocksRetrieved;
+
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.read.BlockReader;
+
+/**
+ * SharedHistoricBlockReader lets the historic streams reading the same range share their block reads. It keeps a
+ * window of the most recently read block numbers, and every stream reading a block in the window shares the one read
+ * of it, including a read still in progress, so each block is only read and parsed once however many streams replay
+ * it.
+ *
+ * <p>A stream that falls behind the window reads its blocks with the underlying reader, without sharing them, until it
+ * catches up with the window again. Blocks that are not found are never shared, so a stream at the tip of the
+ * history finds them as soon as they are persisted.
+ *
+ * <p>The window is also bounded in bytes, the oldest blocks are dropped first to keep the shared blocks within it. A
+ * block no stream has read for a while has been consumed by the streams replaying it and is dropped as well, so the
+ * window does not keep blocks no stream will read again.
+ */
+public class SharedHistoricBlockReader implements BlockReader<BlockUnparsed> {
+
+    /** How long a shared block is kept without being read, before it is dropped from the window. */
+    static final long SHARED_BLOCK_IDLE_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final BlockReader<BlockUnparsed> blockReader;
+    private final MetricsService metricsService;
+    private final int windowBlocks;
+    private final long windowBytes;
+    private final long idleNanos;
+
+    // Ordered by block number, so the oldest blocks are dropped first
+    private final ConcurrentNavigableMap<Long, Shared> window = new ConcurrentSkipListMap<>();
+    private final AtomicLong highestBlockNumber = new AtomicLong(-1);
+    private final AtomicLong sharedBytes = new AtomicLong();
+
+    /**
+     * Constructs a SharedHistoricBlockReader.
+     *
+     * @param blockReader the reader to read the blocks with
+     * @param metricsService the service responsible for handling metrics
+     * @param windowBlocks the number of the most recently read block numbers to share, must be positive
+     * @param windowBytes once the shared blocks reach this size in bytes, the oldest are no longer shared, must be
+     *     positive
+     */
+    public SharedHistoricBlockReader(
+            @NonNull final BlockReader<BlockUnparsed> blockReader,
+            @NonNull final MetricsService metricsService,
+            final int windowBlocks,
+            final long windowBytes) {
+        this(blockReader, metricsService, windowBlocks, windowBytes, SHARED_BLOCK_IDLE_NANOS);
+    }
+
+    /**
+     * Constructs a SharedHistoricBlockReader that drops the shared blocks not read for the given time.
+     *
+     * @param blockReader the reader to read the blocks with
+     * @param metricsService the service responsible for handling metrics
+     * @param windowBlocks the number of the most recently read block numbers to share, must be positive
+     * @param windowBytes once the shared blocks reach this size in bytes, the oldest are no longer shared, must be
+     *     positive
+     * @param idleNanos how long a shared block is kept without being read
+     */
+    SharedHistoricBlockReader(
+            @NonNull final BlockReader<BlockUnparsed> blockReader,
+            @NonNull final MetricsService metricsService,
+            final int windowBlocks,
+            final long windowBytes,
+            final long idleNanos) {
+        if (windowBlocks <= 0) {
+            throw new IllegalArgumentException("Window blocks must be positive: " + windowBlocks);
+        }
+        if (windowBytes <= 0) {
+            throw new IllegalArgumentException("Window bytes must be positive: " + windowBytes);
+        }
+        this.blockReader = Objects.requireNonNull(blockReader);
+        this.metricsService = Objects.requireNonNull(metricsService);
+        this.windowBlocks = windowBlocks;
+        this.windowBytes = windowBytes;
+        this.idleNanos = idleNanos;
+    }
+
+    @NonNull
+    @Override
+    public Optional<BlockUnparsed> read(final long blockNumber) throws IOException, ParseException {
+        final Shared shared = window.get(blockNumber);
+        if (shared != null) {
+            return readShared(shared);
+        }
+
+        // Behind the window, read the block without sharing it
+        if (blockNumber <= highestBlockNumber.get() - windowBlocks) {
+            return blockReader.read(blockNumber);
+        }
+
+        final Shared read = new Shared();
+        final Shared existing = window.putIfAbsent(blockNumber, read);
+        if (existing != null) {
+            return readShared(existing);
+        }
+
+        try {
+            final Optional<BlockUnparsed> blockOpt = blockReader.read(blockNumber);
+            if (blockOpt.isPresent()) {
+                // Counted before the read completes, so a completed read is always counted when it is dropped
+                read.bytes = BlockUnparsed.PROTOBUF.measureRecord(blockOpt.get());
+                sharedBytes.addAndGet(read.bytes);
+                read.future.complete(blockOpt);
+                advance(blockNumber);
+            } else {
+                // Not persisted yet, read it again next time
+                read.future.complete(blockOpt);
+                window.remove(blockNumber, read);
+            }
+            return blockOpt;
+        } catch (final Throwable e) {
+            // Any failure, errors included, must release the streams waiting on the read and let the next one retry
+            if (read.future.completeExceptionally(e) && window.remove(blockNumber, read)) {
+                sharedBytes.addAndGet(-read.bytes);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of blocks currently shared
+     */
+    int sharedBlocks() {
+        return window.size();
+    }
+
+    /**
+     * @return the size in bytes of the blocks currently shared
+     */
+    long sharedBytes() {
+        return sharedBytes.get();
+    }
+
+    @NonNull
+    private Optional<BlockUnparsed> readShared(@NonNull final Shared shared) throws IOException, ParseException {
+        metricsService.get(HistoricSharedBlocksRetrieved).increment();
+        shared.lastReadNanos = System.nanoTime();
+        return await(shared.future);
+    }
+
+    private void advance(final long blockNumber) {
+        final long highest = highestBlockNumber.accumulateAndGet(blockNumber, Math::max);
+        if (highest != blockNumber) {
+            return;
+        }
+
+        // Drop the blocks that fell out of the window, do not fit in its bytes, or are no longer read.
+        // Oldest first, and reads still in progress are kept for the streams waiting on them.
+        final long oldest = highest - windowBlocks;
+        final long now = System.nanoTime();
+        for (final Map.Entry<Long, Shared> entry : window.entrySet()) {
+            final Shared shared = entry.getValue();
+            if (shared.future.isDone()
+                    && (entry.getKey() <= oldest
+                            || sharedBytes.get() > windowBytes
+                            || now - shared.lastReadNanos > idleNanos)
+                    && window.remove(entry.getKey(), shared)) {
+                sharedBytes.addAndGet(-shared.bytes);
+            }
+        }
+    }
+
+    @NonNull
+    private static Optional<BlockUnparsed> await(@NonNull final CompletableFuture<Optional<BlockUnparsed>> read)
+            throws IOException, ParseException {
+        try {
+            return read.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for a shared block read", e);
+        } catch (final ExecutionException e) {
+            // Rethrow the failure of the stream that read the block
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof ParseException parseException) {
+                throw parseException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * A block read shared between the streams, with the bookkeeping to drop it from the window.
+     */
+    private static final class Shared {
+        private final CompletableFuture<Optional<BlockUnparsed>> future = new CompletableFuture<>();
+        // Written before the future completes, so it is visible once the future is done
+        private long bytes;
+        private volatile long lastReadNanos = System.nanoTime();
+    }
+}
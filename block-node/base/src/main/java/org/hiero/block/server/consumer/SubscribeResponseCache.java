@@ -0,0 +1,130 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import com.hedera.hapi.block.BlockItemSetUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * SubscribeResponseCache shares the subscribe stream responses built for live block item batches between all the
+ * live subscribers, so each batch published to the live stream is only built and serialized once, no matter how many
+ * subscribers send it.
+ *
+ * <p>Every live subscriber polls the same batch instance from the ring buffer, so responses are looked up by the
+ * identity of the batch. The first subscriber to send a batch builds the response, and the first to serialize it
+ * encodes the bytes the others reuse. The cache has a fixed number of slots, and a slot is simply replaced when a
+ * different batch is cached in it, in the same way ring buffer slots are reused. So there is nothing to release, and a
+ * subscriber that misses the cache builds and serializes the response itself, as it would without the cache.
+ */
+public class SubscribeResponseCache {
+
+    /** The default number of slots, enough for the batches recently published to the live stream. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final int mask;
+    private final AtomicReferenceArray<Frame> framesByBatch;
+    private final AtomicReferenceArray<Frame> framesByResponse;
+
+    /**
+     * Constructs a SubscribeResponseCache with the default capacity.
+     */
+    public SubscribeResponseCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a SubscribeResponseCache.
+     *
+     * @param capacity the number of slots in the cache, must be a power of 2
+     */
+    public SubscribeResponseCache(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of 2: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.framesByBatch = new AtomicReferenceArray<>(capacity);
+        this.framesByResponse = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Use this method to get the response for a batch of block items published to the live stream. Every call with
+     * the same batch instance returns the same response while the batch is cached.
+     *
+     * @param blockItems the batch of block items polled from the live stream
+     * @return the response to send the batch to the client
+     */
+    @NonNull
+    public SubscribeStreamResponseUnparsed response(@NonNull final List<BlockItemUnparsed> blockItems) {
+        Objects.requireNonNull(blockItems);
+        final int slot = System.identityHashCode(blockItems) & mask;
+        final Frame cached = framesByBatch.get(slot);
+        if (cached != null && cached.blockItems == blockItems) {
+            return cached.response;
+        }
+
+        final Frame frame = new Frame(blockItems);
+        if (framesByBatch.compareAndSet(slot, cached, frame)) {
+            framesByResponse.set(System.identityHashCode(frame.response) & mask, frame);
+            return frame.response;
+        }
+
+        // Another subscriber cached a batch in the slot first, share
+        // its response if it is for the same batch
+        final Frame winner = framesByBatch.get(slot);
+        return (winner != null && winner.blockItems == blockItems) ? winner.response : frame.response;
+    }
+
+    /**
+     * Use this method to serialize a subscribe stream response. Responses from {@link #response(List)} are serialized
+     * once and the bytes are shared, any other response is serialized on every call.
+     *
+     * @param response the response to serialize
+     * @return the serialized response
+     */
+    @NonNull
+    public Bytes encode(@NonNull final SubscribeStreamResponseUnparsed response) {
+        final Frame frame = framesByResponse.get(System.identityHashCode(response) & mask);
+        if (frame != null && frame.response == response) {
+            return frame.bytes();
+        }
+        return SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(response);
+    }
+
+    /**
+     * A batch of block items with its response, and the serialized response once the first subscriber has sent it.
+     */
+    private static final class Frame {
+        private final List<BlockItemUnparsed> blockItems;
+        private final SubscribeStreamResponseUnparsed response;
+        private volatile Bytes bytes;
+
+        private Frame(@NonNull final List<BlockItemUnparsed> blockItems) {
+            this.blockItems = blockItems;
+            this.response = SubscribeStreamResponseUnparsed.newBuilder()
+                    .blockItems(BlockItemSetUnparsed.newBuilder()
+                            .blockItems(blockItems)
+                            .build())
+                    .build();
+        }
+
+        @NonNull
+        private Bytes bytes() {
+            Bytes encoded = bytes;
+            if (encoded == null) {
+                synchronized (this) {
+                    encoded = bytes;
+                    if (encoded == null) {
+                        encoded = SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(response);
+                        bytes = encoded;
+                    }
+                }
+            }
+            return encoded;
+        }
+    }
+}
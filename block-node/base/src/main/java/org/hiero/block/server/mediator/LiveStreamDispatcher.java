@@ -0,0 +1,72 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import com.lmax.disruptor.EventHandler;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hiero.block.server.events.ObjectEvent;
+
+/**
+ * LiveStreamDispatcher fans the live stream out to many live subscribers. It reads each ring buffer event once and
+ * queues it for every subscriber, so the ring buffer is only gated by the dispatcher and not by every subscriber.
+ * A subscriber that falls behind only fills its own queue, and never holds up the dispatcher or the other
+ * subscribers.
+ *
+ * @param <V> the type of the live stream events
+ */
+class LiveStreamDispatcher<V> implements EventHandler<ObjectEvent<V>> {
+
+    private final List<LiveStreamQueuePoller<ObjectEvent<V>>> subscribers = new CopyOnWriteArrayList<>();
+    private final LiveStreamSignal dispatchSignal = new LiveStreamSignal();
+
+    @Override
+    public void onEvent(@NonNull final ObjectEvent<V> event, final long sequence, final boolean endOfBatch) {
+        // The ring buffer reuses its events, so copy the event once
+        // and share the copy between the subscribers
+        final ObjectEvent<V> dispatched = new ObjectEvent<>();
+        dispatched.set(event.get());
+        for (final LiveStreamQueuePoller<ObjectEvent<V>> subscriber : subscribers) {
+            subscriber.offer(dispatched);
+        }
+
+        // Wake up the idle subscribers once per batch of events
+        if (endOfBatch) {
+            dispatchSignal.signalAll();
+        }
+    }
+
+    /**
+     * Subscribes a new live subscriber, which receives the events dispatched from now on.
+     *
+     * @param queueSize the number of events queued for the subscriber, must be a power of 2
+     * @param historicTransitionThresholdPercentage the percentage of the queue the subscriber can fall behind before
+     *     it exceeds the threshold
+     * @return the poller for the subscriber's queue
+     */
+    @NonNull
+    LiveStreamQueuePoller<ObjectEvent<V>> subscribe(
+            final int queueSize, final int historicTransitionThresholdPercentage) {
+        final LiveStreamQueuePoller<ObjectEvent<V>> poller =
+                new LiveStreamQueuePoller<>(queueSize, dispatchSignal, historicTransitionThresholdPercentage);
+        subscribers.add(poller);
+        return poller;
+    }
+
+    /**
+     * Unsubscribes a live subscriber.
+     *
+     * @param poller the poller for the subscriber's queue
+     * @return true if the subscriber was subscribed to this dispatcher, false otherwise
+     */
+    boolean unsubscribe(@NonNull final LiveStreamQueuePoller<ObjectEvent<V>> poller) {
+        return subscribers.remove(poller);
+    }
+
+    /**
+     * @return the number of live subscribers
+     */
+    int subscriberCount() {
+        return subscribers.size();
+    }
+}
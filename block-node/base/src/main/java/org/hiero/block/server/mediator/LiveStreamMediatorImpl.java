@@ -65,7 +65,8 @@ class LiveStreamMediatorImpl extends SubscriptionHandlerBase<List<BlockItemUnpar
                 pollSubscribers,
                 metricsService.get(Consumers),
                 mediatorConfig,
-                mediatorConfig.ringBufferSize());
+                mediatorConfig.ringBufferSize(),
+                mediatorConfig.liveStreamDispatcherCount());
 
         this.serviceStatus = serviceStatus;
         this.metricsService = metricsService;
@@ -86,6 +87,9 @@ class LiveStreamMediatorImpl extends SubscriptionHandlerBase<List<BlockItemUnpar
             LOGGER.log(DEBUG, "Publishing BlockItems: " + blockItems.size());
             ringBuffer.publishEvent((event, sequence) -> event.set(blockItems));
 
+            // Wake up any poll subscribers waiting for new data
+            publishSignal.signalAll();
+
             long remainingCapacity = ringBuffer.remainingCapacity();
             metricsService.get(MediatorRingBufferRemainingCapacity).set(remainingCapacity);
 
@@ -9,6 +9,8 @@ import com.lmax.disruptor.RingBuffer;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 
 public class LiveStreamPoller<V> implements Poller<V> {
 
@@ -17,16 +19,22 @@ public class LiveStreamPoller<V> implements Poller<V> {
     private final EventPoller<V> eventPoller;
     private final BatchedData<V> polledData;
     private final RingBuffer<V> ringBuffer;
+    private final LiveStreamSignal.Waiter publishWaiter;
+    private final BooleanSupplier dataPublished;
 
     private final int historicTransitionThresholdPercentage;
 
     public LiveStreamPoller(
             @NonNull final EventPoller<V> eventPoller,
             @NonNull final RingBuffer<V> ringBuffer,
+            @NonNull final LiveStreamSignal publishSignal,
             @NonNull final MediatorConfig mediatorConfig) {
 
         this.eventPoller = Objects.requireNonNull(eventPoller);
         this.ringBuffer = Objects.requireNonNull(ringBuffer);
+        this.publishWaiter = Objects.requireNonNull(publishSignal).newWaiter();
+        // Published events are visible once the cursor moves past the poller sequence
+        this.dataPublished = () -> ringBuffer.getCursor() > eventPoller.getSequence().get();
         this.historicTransitionThresholdPercentage = mediatorConfig.historicTransitionThresholdPercentage();
 
         this.polledData = new BatchedData<>(1);
@@ -38,8 +46,10 @@ public class LiveStreamPoller<V> implements Poller<V> {
         long cursorPosition = ringBuffer.getCursor();
         long sequencePosition = eventPoller.getSequence().get();
 
-        long difference = (cursorPosition % ringBufferSize) - (sequencePosition % ringBufferSize);
-        int percentage = (int) ((float) difference / ringBufferSize) * 100;
+        // Sequences only ever increase, so the difference is how many events
+        // the poller is behind, even when the cursor has wrapped around the ring
+        long difference = cursorPosition - sequencePosition;
+        int percentage = (int) (difference * 100 / ringBufferSize);
         if (percentage > historicTransitionThresholdPercentage) {
             LOGGER.log(
                     DEBUG,
@@ -50,11 +60,13 @@ public class LiveStreamPoller<V> implements Poller<V> {
             return true;
         }
 
-        LOGGER.log(
-                TRACE,
-                "Historic Transition Threshold Percentage not exceed: {0} <= {1}",
-                percentage,
-                historicTransitionThresholdPercentage);
+        if (LOGGER.isLoggable(TRACE)) {
+            LOGGER.log(
+                    TRACE,
+                    "Historic Transition Threshold Percentage not exceed: {0} <= {1}",
+                    percentage,
+                    historicTransitionThresholdPercentage);
+        }
 
         return false;
     }
@@ -85,6 +97,40 @@ public class LiveStreamPoller<V> implements Poller<V> {
         return Optional.empty();
     }
 
+    @Override
+    public int poll(final int maxEvents, @NonNull final Predicate<V> handler) throws Exception {
+        if (maxEvents <= 0) {
+            return 0;
+        }
+
+        int polled = 0;
+        if (polledData.getMsgCount() > 0) {
+            polled++;
+            if (!handler.test(polledData.pollMessage()) || polled >= maxEvents) {
+                return polled;
+            }
+        }
+
+        // Hand each event to the handler inside the poll, before the poller
+        // sequence moves past it and the ring buffer can reuse the event
+        final int alreadyPolled = polled;
+        final int[] drained = {0};
+        eventPoller.poll((event, sequence, endOfBatch) -> {
+            drained[0]++;
+            return handler.test(event) && alreadyPolled + drained[0] < maxEvents;
+        });
+        return alreadyPolled + drained[0];
+    }
+
+    @Override
+    public boolean awaitData(final long timeoutNanos) {
+        if (polledData.getMsgCount() > 0) {
+            return true;
+        }
+
+        return publishWaiter.await(dataPublished, timeoutNanos);
+    }
+
     private static class BatchedData<V> {
         private int msgHighBound;
         private final int capacity;
@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * LiveStreamQueuePoller polls a live subscriber's bounded queue of live events, which is filled by a
+ * {@link LiveStreamDispatcher}. The queue only has one producer, the dispatcher thread, and one consumer, the
+ * subscriber polling it, so it does not need any locks.
+ *
+ * <p>The dispatcher never waits for a subscriber. If the queue is full, the subscriber has fallen too far behind, no
+ * more events are queued. The poller keeps exceeding the threshold and once the subscriber has polled the events
+ * already queued, polls return nothing, so the subscriber is moved off the live stream rather than failing.
+ *
+ * @param <V> the type of the polled event
+ */
+class LiveStreamQueuePoller<V> implements Poller<V> {
+
+    private final System.Logger LOGGER = System.getLogger(getClass().getName());
+
+    private final Object[] events;
+    private final int mask;
+    private final LiveStreamSignal.Waiter dispatchWaiter;
+    private final BooleanSupplier dataQueued;
+    private final int historicTransitionThresholdPercentage;
+
+    // The sequence of the next event to poll, only written by the subscriber
+    private final AtomicLong head = new AtomicLong();
+    // The sequence of the next event to queue, only written by the dispatcher
+    private final AtomicLong tail = new AtomicLong();
+    private volatile boolean overflowed;
+
+    /**
+     * Constructs a LiveStreamQueuePoller.
+     *
+     * @param queueSize the number of events the queue holds, must be a power of 2
+     * @param dispatchSignal the signal the dispatcher uses after queueing events
+     * @param historicTransitionThresholdPercentage the percentage of the queue the subscriber can fall behind before
+     *     it exceeds the threshold
+     */
+    LiveStreamQueuePoller(
+            final int queueSize,
+            @NonNull final LiveStreamSignal dispatchSignal,
+            final int historicTransitionThresholdPercentage) {
+        this.events = new Object[queueSize];
+        this.mask = queueSize - 1;
+        this.dispatchWaiter = Objects.requireNonNull(dispatchSignal).newWaiter();
+        this.dataQueued = () -> overflowed || tail.get() > head.get();
+        this.historicTransitionThresholdPercentage = historicTransitionThresholdPercentage;
+    }
+
+    /**
+     * Queues an event for the subscriber. Only called by the dispatcher thread.
+     *
+     * @param event the event to queue
+     * @return true if the event was queued, false if the queue has overflowed
+     */
+    boolean offer(@NonNull final V event) {
+        if (overflowed) {
+            return false;
+        }
+
+        final long sequence = tail.get();
+        if (sequence - head.get() >= events.length) {
+            // Stop queueing, so the subscriber never skips an event
+            overflowed = true;
+            LOGGER.log(DEBUG, "Live stream queue overflowed");
+            return false;
+        }
+
+        events[(int) (sequence & mask)] = event;
+        tail.lazySet(sequence + 1);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<V> poll() {
+        final long sequence = head.get();
+        if (sequence >= tail.get()) {
+            // Once overflowed, exceedsThreshold() tells the subscriber to leave the live stream
+            return Optional.empty();
+        }
+
+        final int index = (int) (sequence & mask);
+        final V event = (V) events[index];
+        events[index] = null;
+        head.lazySet(sequence + 1);
+        return Optional.of(event);
+    }
+
+    @Override
+    public boolean awaitData(final long timeoutNanos) {
+        return dispatchWaiter.await(dataQueued, timeoutNanos);
+    }
+
+    @Override
+    public boolean exceedsThreshold() {
+        final long queued = tail.get() - head.get();
+        return overflowed || queued * 100 / events.length > historicTransitionThresholdPercentage;
+    }
+}
@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Use LiveStreamSignal to let idle live stream pollers wait for new data, rather than repeatedly polling the ring
+ * buffer. A waiting thread spins briefly, in case data is about to arrive, then parks until the publisher signals
+ * that new data has been published. So idle subscribers use no CPU and the CPU used by the live stream is
+ * proportional to the rate data is published, not to the number of subscribers.
+ *
+ * <p>Signalling is cheap for the publisher. When no waiter is parked, which is the common case while subscribers keep
+ * up, a signal is a single read. Otherwise the publisher only unparks a wake thread, which unparks the parked waiters,
+ * so the publisher never does work per subscriber. Each poller creates its own {@link Waiter} once, so waiting does not
+ * allocate.
+ */
+public class LiveStreamSignal {
+
+    /** The number of times to check for data before parking, so data arriving straight away is not delayed. */
+    static final int SPIN_TRIES = 100;
+
+    /** How often the wake thread checks for waiters that are no longer used, when it is not signalled. */
+    private static final long PRUNE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    // Weakly held, so the waiter of a poller that is no longer used is not kept alive by the signal
+    private final List<WeakReference<Waiter>> waiters = new CopyOnWriteArrayList<>();
+    // The number of waiters parked, or about to park
+    private final AtomicInteger parkedCount = new AtomicInteger();
+    // True once a signal has been given that the wake thread has not started handing out yet
+    private final AtomicBoolean wakePending = new AtomicBoolean();
+    // The thread that unparks the waiters, null while there are no waiters. Only written holding the lock on this
+    private volatile Thread wakeThread;
+
+    /**
+     * Creates a new waiter for this signal. A waiter must only be used by one thread at a time.
+     *
+     * @return the new waiter
+     */
+    @NonNull
+    public Waiter newWaiter() {
+        final Waiter waiter = new Waiter();
+        synchronized (this) {
+            waiters.add(new WeakReference<>(waiter));
+            if (wakeThread == null) {
+                wakeThread = Thread.ofVirtual().name("live-stream-signal-wake").start(this::wakeWaiters);
+            }
+        }
+        return waiter;
+    }
+
+    /**
+     * Signals all waiting threads that new data has been published. Call this after the data is visible to pollers.
+     */
+    public void signalAll() {
+        // A waiter registers as parked before its last check for data, so if it is not
+        // counted here it is guaranteed to see the data that has just been published
+        if (parkedCount.get() == 0) {
+            return;
+        }
+        if (wakePending.compareAndSet(false, true)) {
+            final Thread thread = wakeThread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    /**
+     * Body of the wake thread. Unparks every parked waiter each time the signal is given, until there are no waiters
+     * left.
+     */
+    private void wakeWaiters() {
+        while (true) {
+            if (wakePending.getAndSet(false)) {
+                for (final WeakReference<Waiter> reference : waiters) {
+                    final Waiter waiter = reference.get();
+                    final Thread parkedThread = waiter == null ? null : waiter.parkedThread;
+                    if (parkedThread != null) {
+                        LockSupport.unpark(parkedThread);
+                    }
+                }
+            } else {
+                waiters.removeIf(reference -> reference.get() == null);
+                synchronized (this) {
+                    if (waiters.isEmpty()) {
+                        wakeThread = null;
+                        return;
+                    }
+                }
+                LockSupport.parkNanos(this, PRUNE_INTERVAL_NANOS);
+            }
+        }
+    }
+
+    /**
+     * A poller's handle for waiting on the signal. Only one thread at a time may wait on a waiter.
+     */
+    public final class Waiter {
+        // The thread parked on this waiter, or null while no thread is waiting
+        private volatile Thread parkedThread;
+
+        private Waiter() {}
+
+        /**
+         * Waits until data is available, the timeout passes or the calling thread is interrupted. The interrupt
+         * status of the thread is preserved.
+         *
+         * @param dataAvailable checks if there is data available for the waiting thread
+         * @param timeoutNanos the maximum time to wait in nanoseconds
+         * @return true if data is available, false otherwise
+         */
+        public boolean await(@NonNull final BooleanSupplier dataAvailable, final long timeoutNanos) {
+            Objects.requireNonNull(dataAvailable);
+            for (int i = 0; i < SPIN_TRIES; i++) {
+                if (dataAvailable.getAsBoolean()) {
+                    return true;
+                }
+                Thread.onSpinWait();
+            }
+
+            final Thread thread = Thread.currentThread();
+            final long deadline = System.nanoTime() + timeoutNanos;
+            // Register before checking for data, so data published after the
+            // check unparks this thread rather than being missed.
+            parkedThread = thread;
+            parkedCount.incrementAndGet();
+            try {
+                while (!dataAvailable.getAsBoolean()) {
+                    final long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0 || thread.isInterrupted()) {
+                        return false;
+                    }
+                    LockSupport.parkNanos(this, remainingNanos);
+                }
+                return true;
+            } finally {
+                parkedCount.decrementAndGet();
+                parkedThread = null;
+            }
+        }
+    }
+}
@@ -15,12 +15,20 @@ import org.hiero.block.server.config.logging.Loggable;
  *                       events.
  * @param type use a predefined type string to replace the mediator component implementation.
  *  Non-PRODUCTION values should only be used for troubleshooting and development purposes.
+ * @param historicTransitionThresholdPercentage the percentage of the ring buffer, or of the live
+ *  stream queue, a live subscriber can fall behind before it is moved to historic streaming.
+ * @param liveStreamDispatcherCount the number of dispatcher threads fanning the live stream out to
+ *  the live subscribers. 0 gives each live subscriber its own poller on the ring buffer instead.
+ * @param liveStreamQueueSize the number of live events queued for each live subscriber when the
+ *  live stream is fanned out by dispatchers.
  */
 @ConfigData("mediator")
 public record MediatorConfig(
         @Loggable @ConfigProperty(defaultValue = "4096") int ringBufferSize,
         @Loggable @ConfigProperty(defaultValue = "PRODUCTION") MediatorType type,
-        @Loggable @ConfigProperty(defaultValue = "90") int historicTransitionThresholdPercentage) {
+        @Loggable @ConfigProperty(defaultValue = "90") int historicTransitionThresholdPercentage,
+        @Loggable @ConfigProperty(defaultValue = "0") int liveStreamDispatcherCount,
+        @Loggable @ConfigProperty(defaultValue = "1024") int liveStreamQueueSize) {
 
     /**
      * Validate the configuration.
@@ -36,6 +44,11 @@ public record MediatorConfig(
                 10,
                 90,
                 "Historic Transition Threshold Percentage must be between 10 and 90");
+
+        Preconditions.requireGreaterOrEqual(
+                liveStreamDispatcherCount, 0, "Live Stream Dispatcher Count must not be negative");
+        Preconditions.requirePositive(liveStreamQueueSize, "Live Stream Queue Size must be positive");
+        Preconditions.requirePowerOfTwo(liveStreamQueueSize, "Live Stream Queue Size must be a power of 2");
     }
 
     /**
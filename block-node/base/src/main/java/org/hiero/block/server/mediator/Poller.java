@@ -1,7 +1,9 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.mediator;
 
+import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * The Poller interface defines the contract for polling the next event from the stream of events.
@@ -18,5 +20,44 @@ public interface Poller<V> {
      */
     Optional<V> poll() throws Exception;
 
+    /**
+     * Polls the events available now, up to the given number of events, passing each one to the handler
+     * while the poller still holds it. Polling stops early once the handler returns false.
+     *
+     * @param maxEvents the maximum number of events to poll
+     * @param handler handles each event and returns true to poll the next event, false to stop
+     * @return the number of events polled
+     * @throws Exception if an error occurs while polling the events
+     */
+    default int poll(final int maxEvents, @NonNull final Predicate<V> handler) throws Exception {
+        int polled = 0;
+        while (polled < maxEvents) {
+            final Optional<V> event = poll();
+            if (event.isEmpty()) {
+                break;
+            }
+            polled++;
+            if (!handler.test(event.get())) {
+                break;
+            }
+        }
+        return polled;
+    }
+
+    /**
+     * Waits until there is an event to poll, or the timeout passes. Callers use this when a poll returned no event,
+     * rather than polling again straight away.
+     *
+     * @param timeoutNanos the maximum time to wait in nanoseconds
+     * @return true if there is an event to poll, false if the timeout passed or the thread was interrupted
+     */
+    boolean awaitData(long timeoutNanos);
+
+    /**
+     * Checks if the subscriber has fallen too far behind the stream of events. A poller that stopped receiving events
+     * because the subscriber fell too far behind keeps returning true, even once every event it holds is polled.
+     *
+     * @return true if the subscriber should be moved off the stream, false otherwise
+     */
     boolean exceedsThreshold();
 }
@@ -12,8 +12,11 @@ import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.util.DaemonThreadFactory;
 import com.swirlds.metrics.api.LongGauge;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import org.hiero.block.server.consumer.StreamManager;
@@ -34,10 +37,19 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
 
     private final Map<BlockNodeEventHandler<ObjectEvent<V>>, BatchEventProcessor<ObjectEvent<V>>> subscribers;
     private final Map<StreamManager, EventPoller<ObjectEvent<V>>> pollSubscribers;
+    private final Map<StreamManager, LiveStreamQueuePoller<ObjectEvent<V>>> dispatchedPollSubscribers =
+            new ConcurrentHashMap<>();
+
+    // When there are dispatchers, live poll subscribers are served by them
+    // rather than each subscriber polling the ring buffer
+    private final List<LiveStreamDispatcher<V>> dispatchers = new ArrayList<>();
 
     /** The ring buffer to publish events to the subscribers. */
     protected final RingBuffer<ObjectEvent<V>> ringBuffer;
 
+    /** Subclasses must signal after publishing events, to wake up idle poll subscribers. */
+    protected final LiveStreamSignal publishSignal = new LiveStreamSignal();
+
     private final MediatorConfig mediatorConfig;
 
     private final LongGauge subscriptionGauge;
@@ -62,6 +74,29 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
             @NonNull final LongGauge subscriptionGauge,
             @NonNull final MediatorConfig mediatorConfig,
             final int ringBufferSize) {
+        this(subscribers, pollSubscribers, subscriptionGauge, mediatorConfig, ringBufferSize, 0);
+    }
+
+    /**
+     * Constructs an abstract SubscriptionHandler instance which fans the events out to the poll
+     * subscribers with dispatchers, rather than each poll subscriber polling the ring buffer.
+     *
+     * @param subscribers the map of subscribers to batch event processors. It's recommended the map
+     *     implementation is thread-safe
+     * @param pollSubscribers the map of poll subscribers to event pollers. It's recommended the map
+     *     implementation is thread-safe
+     * @param subscriptionGauge the gauge to track the number of subscribers
+     * @param mediatorConfig the configuration
+     * @param ringBufferSize the size of the ring buffer
+     * @param dispatcherCount the number of dispatchers for the poll subscribers, 0 for none
+     */
+    protected SubscriptionHandlerBase(
+            @NonNull final Map<BlockNodeEventHandler<ObjectEvent<V>>, BatchEventProcessor<ObjectEvent<V>>> subscribers,
+            @NonNull final Map<StreamManager, EventPoller<ObjectEvent<V>>> pollSubscribers,
+            @NonNull final LongGauge subscriptionGauge,
+            @NonNull final MediatorConfig mediatorConfig,
+            final int ringBufferSize,
+            final int dispatcherCount) {
         this.subscribers = subscribers;
         this.pollSubscribers = pollSubscribers;
         this.mediatorConfig = mediatorConfig;
@@ -72,6 +107,16 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
                 new Disruptor<>(ObjectEvent::new, ringBufferSize, DaemonThreadFactory.INSTANCE);
         this.ringBuffer = disruptor.start();
         this.executor = Executors.newCachedThreadPool(DaemonThreadFactory.INSTANCE);
+
+        // Start the dispatchers, each one only adds a single gating sequence to the ring buffer
+        for (int i = 0; i < dispatcherCount; i++) {
+            final LiveStreamDispatcher<V> dispatcher = new LiveStreamDispatcher<>();
+            final BatchEventProcessor<ObjectEvent<V>> batchEventProcessor =
+                    new BatchEventProcessorBuilder().build(ringBuffer, ringBuffer.newBarrier(), dispatcher);
+            ringBuffer.addGatingSequences(batchEventProcessor.getSequence());
+            executor.execute(batchEventProcessor);
+            dispatchers.add(dispatcher);
+        }
     }
 
     /**
@@ -94,13 +139,17 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
             subscribers.put(handler, batchEventProcessor);
 
             // Update the subscriber metrics.
-            subscriptionGauge.set(subscribers.size() + pollSubscribers.size());
+            subscriptionGauge.set(subscriberCount());
         }
     }
 
     @Override
     public Poller<ObjectEvent<V>> subscribePoller(@NonNull final StreamManager streamManager) {
 
+        if (!dispatchers.isEmpty()) {
+            return subscribeDispatchedPoller(streamManager);
+        }
+
         if (!pollSubscribers.containsKey(streamManager)) {
 
             final EventPoller<ObjectEvent<V>> eventPoller = ringBuffer.newPoller();
@@ -108,10 +157,38 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
             pollSubscribers.put(streamManager, eventPoller);
 
             // Update the subscriber metrics.
-            subscriptionGauge.set(subscribers.size() + pollSubscribers.size());
+            subscriptionGauge.set(subscriberCount());
             LOGGER.log(DEBUG, "Subscribed poller");
 
-            return new LiveStreamPoller<>(eventPoller, ringBuffer, mediatorConfig);
+            return new LiveStreamPoller<>(eventPoller, ringBuffer, publishSignal, mediatorConfig);
+        } else {
+            LOGGER.log(WARNING, "Poller already subscribed");
+        }
+
+        return null;
+    }
+
+    private Poller<ObjectEvent<V>> subscribeDispatchedPoller(@NonNull final StreamManager streamManager) {
+
+        if (!dispatchedPollSubscribers.containsKey(streamManager)) {
+
+            // Balance the subscribers across the dispatchers
+            LiveStreamDispatcher<V> dispatcher = dispatchers.getFirst();
+            for (final LiveStreamDispatcher<V> candidate : dispatchers) {
+                if (candidate.subscriberCount() < dispatcher.subscriberCount()) {
+                    dispatcher = candidate;
+                }
+            }
+
+            final LiveStreamQueuePoller<ObjectEvent<V>> poller = dispatcher.subscribe(
+                    mediatorConfig.liveStreamQueueSize(), mediatorConfig.historicTransitionThresholdPercentage());
+            dispatchedPollSubscribers.put(streamManager, poller);
+
+            // Update the subscriber metrics.
+            subscriptionGauge.set(subscriberCount());
+            LOGGER.log(DEBUG, "Subscribed dispatched poller");
+
+            return poller;
         } else {
             LOGGER.log(WARNING, "Poller already subscribed");
         }
@@ -126,8 +203,17 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
             ringBuffer.removeGatingSequence(eventPoller.getSequence());
         }
 
+        final LiveStreamQueuePoller<ObjectEvent<V>> dispatchedPoller = dispatchedPollSubscribers.remove(streamManager);
+        if (dispatchedPoller != null) {
+            for (final LiveStreamDispatcher<V> dispatcher : dispatchers) {
+                if (dispatcher.unsubscribe(dispatchedPoller)) {
+                    break;
+                }
+            }
+        }
+
         // Update the subscriber metrics.
-        subscriptionGauge.set(subscribers.size() + pollSubscribers.size());
+        subscriptionGauge.set(subscriberCount());
         LOGGER.log(DEBUG, "Unsubscribed poller");
     }
 
@@ -139,7 +225,7 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
      */
     @Override
     public boolean isSubscribed(@NonNull final StreamManager streamManager) {
-        return pollSubscribers.containsKey(streamManager);
+        return pollSubscribers.containsKey(streamManager) || dispatchedPollSubscribers.containsKey(streamManager);
     }
 
     /**
@@ -161,7 +247,7 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
         }
 
         // Update the subscriber metrics.
-        subscriptionGauge.set(subscribers.size() + pollSubscribers.size());
+        subscriptionGauge.set(subscriberCount());
     }
 
     /**
@@ -175,6 +261,10 @@ public abstract class SubscriptionHandlerBase<V> implements SubscriptionHandler<
         return subscribers.containsKey(handler);
     }
 
+    private int subscriberCount() {
+        return subscribers.size() + pollSubscribers.size() + dispatchedPollSubscribers.size();
+    }
+
     /** Unsubscribes all the expired handlers from the stream of events. */
     @Override
     public void unsubscribeAllExpired() {
@@ -48,6 +48,13 @@ public final class BlockNodeMetricTypes {
         ClosedRangeHistoricBlocksRetrieved(
                 "closed_range_historic_blocks_retrieved", "Closed Range Historic Blocks Retrieved"),
 
+        /** The number of historic blocks served from the blocks shared between historic streams. */
+        HistoricSharedBlocksRetrieved("historic_shared_blocks_retrieved", "Historic Shared Blocks Retrieved"),
+
+        /** The number of closed range historic requests rejected because too many were being served. */
+        ClosedRangeHistoricStreamsRejected(
+                "closed_range_historic_streams_rejected", "Closed Range Historic Streams Rejected"),
+
         // Verification counters
 
         /** The number of blocks received for verification. */
@@ -71,6 +78,29 @@ public final class BlockNodeMetricTypes {
         /** The number of live to historic stream transitions */
         LiveToHistoricStreamTransitions("live_to_historic_stream_transitions", "Live to Historic Stream Transitions"),
 
+        /** The number of response bytes queued in the consumers' outbound buffers */
+        ConsumerOutboundBytesQueued("consumer_outbound_bytes_queued", "Consumer Outbound Bytes Queued"),
+
+        /** The number of response bytes removed from the consumers' outbound buffers, sent or discarded */
+        ConsumerOutboundBytesDequeued("consumer_outbound_bytes_dequeued", "Consumer Outbound Bytes Dequeued"),
+
+        /** The number of times a response did not fit in a consumer's outbound buffer */
+        ConsumerOutboundBufferFull("consumer_outbound_buffer_full", "Consumer Outbound Buffer Full"),
+
+        /** The number of consumers disconnected because their outbound buffer was full */
+        ConsumersDisconnected("consumers_disconnected", "Consumers Disconnected"),
+
+        // Durability counters
+
+        /** The number of group commits syncing persisted blocks to the disk */
+        GroupCommits("group_commits", "Group Commits"),
+
+        /** The number of blocks synced to the disk by group commits */
+        GroupCommitBlocks("group_commit_blocks", "Group Commit Blocks"),
+
+        /** The time in nanoseconds taken by group commits */
+        GroupCommitTime("group_commit_time", "Group Commit Time"),
+
         // Error counters
 
         /** The number of errors encountered by the live block stream mediator. */
@@ -133,6 +163,9 @@ public final class BlockNodeMetricTypes {
         MediatorRingBufferRemainingCapacity(
                 "mediator_ring_buffer_remaining_capacity", "Mediator Ring Buffer Remaining Capacity"),
 
+        /** The number of blocks synced to the disk by the latest group commit. */
+        GroupCommitSize("group_commit_size", "Group Commit Size"),
+
         /** The amount of capacity remaining in the notifier ring buffer. */
         NotifierRingBufferRemainingCapacity(
                 "notifier_ring_buffer_remaining_capacity", "Notifier Ring Buffer Remaining Capacity");
@@ -3,6 +3,7 @@ package org.hiero.block.server.persistence;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.hapi.block.BlockUnparsed;
+import dagger.Lazy;
 import dagger.Module;
 import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -25,18 +26,22 @@ import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.Compr
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.StorageType;
 import org.hiero.block.server.persistence.storage.archive.BlockAsLocalFileArchiver;
 import org.hiero.block.server.persistence.storage.archive.LocalBlockArchiver;
+import org.hiero.block.server.persistence.storage.archive.NoOpBlockArchiver;
 import org.hiero.block.server.persistence.storage.compression.Compression;
 import org.hiero.block.server.persistence.storage.compression.NoOpCompression;
 import org.hiero.block.server.persistence.storage.compression.ZstdCompression;
 import org.hiero.block.server.persistence.storage.path.BlockAsLocalFilePathResolver;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
 import org.hiero.block.server.persistence.storage.path.NoOpBlockPathResolver;
+import org.hiero.block.server.persistence.storage.path.SegmentLogPathResolver;
 import org.hiero.block.server.persistence.storage.read.BlockAsLocalFileReader;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
 import org.hiero.block.server.persistence.storage.read.NoOpBlockReader;
+import org.hiero.block.server.persistence.storage.read.SegmentLogReader;
 import org.hiero.block.server.persistence.storage.remove.BlockAsLocalFileRemover;
 import org.hiero.block.server.persistence.storage.remove.BlockRemover;
 import org.hiero.block.server.persistence.storage.remove.NoOpBlockRemover;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockAsLocalFileWriterFactory;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriterFactory;
 import org.hiero.block.server.persistence.storage.write.AsyncNoOpWriterFactory;
@@ -68,7 +73,7 @@ public interface PersistenceInjectionModule {
             @NonNull final MetricsService metricsService) {
         final StorageType type = config.type();
         return switch (type) {
-            case BLOCK_AS_LOCAL_FILE -> new AsyncBlockAsLocalFileWriterFactory(
+            case BLOCK_AS_LOCAL_FILE, SEGMENT_LOG -> new AsyncBlockAsLocalFileWriterFactory(
                     blockPathResolver, blockRemover, compression, ackHandler, metricsService);
             case NO_OP -> new AsyncNoOpWriterFactory(ackHandler, metricsService);
         };
@@ -81,6 +86,8 @@ public interface PersistenceInjectionModule {
      * block reader
      * @param blockPathResolver the block path resolver needed to build
      * the block reader
+     * @param segmentLog the segment log, only opened for the segment log
+     * storage type
      * @return a block reader singleton
      */
     @Provides
@@ -88,10 +95,12 @@ public interface PersistenceInjectionModule {
     static BlockReader<BlockUnparsed> providesBlockReader(
             @NonNull final PersistenceStorageConfig config,
             @NonNull final BlockPathResolver blockPathResolver,
-            @NonNull final Compression compression) {
+            @NonNull final Compression compression,
+            @NonNull final Lazy<SegmentLog> segmentLog) {
         final StorageType persistenceType = config.type();
         return switch (persistenceType) {
             case BLOCK_AS_LOCAL_FILE -> BlockAsLocalFileReader.of(compression, blockPathResolver);
+            case SEGMENT_LOG -> SegmentLogReader.of(compression, segmentLog.get());
             case NO_OP -> NoOpBlockReader.newInstance();
         };
     }
@@ -111,7 +120,7 @@ public interface PersistenceInjectionModule {
         Objects.requireNonNull(blockPathResolver);
         final StorageType persistenceType = config.type();
         return switch (persistenceType) {
-            case BLOCK_AS_LOCAL_FILE -> new BlockAsLocalFileRemover(blockPathResolver);
+            case BLOCK_AS_LOCAL_FILE, SEGMENT_LOG -> new BlockAsLocalFileRemover(blockPathResolver);
             case NO_OP -> NoOpBlockRemover.newInstance();
         };
     }
@@ -121,15 +130,19 @@ public interface PersistenceInjectionModule {
      *
      * @param config the persistence storage configuration needed to build the
      * path resolver
+     * @param segmentLog the segment log, only opened for the segment log
+     * storage type
      * @return a path resolver singleton
      */
     @Provides
     @Singleton
-    static BlockPathResolver providesPathResolver(@NonNull final PersistenceStorageConfig config) {
+    static BlockPathResolver providesPathResolver(
+            @NonNull final PersistenceStorageConfig config, @NonNull final Lazy<SegmentLog> segmentLog) {
         final StorageType persistenceType = config.type();
         try {
             return switch (persistenceType) {
                 case BLOCK_AS_LOCAL_FILE -> new BlockAsLocalFilePathResolver(config);
+                case SEGMENT_LOG -> new SegmentLogPathResolver(config, segmentLog.get());
                 case NO_OP -> new NoOpBlockPathResolver();
             };
         } catch (final IOException e) {
@@ -137,6 +150,25 @@ public interface PersistenceInjectionModule {
         }
     }
 
+    /**
+     * Provides a segment log singleton using the persistence storage config.
+     * The segment log loads the index of every segment under the live root,
+     * so it is only opened when the segment log storage type is used.
+     *
+     * @param config the persistence storage configuration needed to build the
+     * segment log
+     * @return a segment log singleton
+     */
+    @Provides
+    @Singleton
+    static SegmentLog providesSegmentLog(@NonNull final PersistenceStorageConfig config) {
+        try {
+            return new SegmentLog(config.liveRootPath(), config.segmentSize());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Provides a compression singleton using the persistence config.
      *
@@ -158,8 +190,14 @@ public interface PersistenceInjectionModule {
     @Singleton
     static LocalBlockArchiver providesLocalBlockArchiver(
             @NonNull final PersistenceStorageConfig config, @NonNull final BlockPathResolver blockPathResolver) {
-        // @todo(740) allow for configurable executor for the archiver
-        return new BlockAsLocalFileArchiver(config, blockPathResolver, Executors.newFixedThreadPool(5));
+        final StorageType persistenceType = config.type();
+        return switch (persistenceType) {
+            // @todo(740) allow for configurable executor for the archiver
+            case BLOCK_AS_LOCAL_FILE, NO_OP -> new BlockAsLocalFileArchiver(
+                    config, blockPathResolver, Executors.newFixedThreadPool(5));
+            // sealed segments are the archive unit, there is nothing to zip
+            case SEGMENT_LOG -> NoOpBlockArchiver.newInstance();
+        };
     }
 
     /**
@@ -170,6 +208,8 @@ public interface PersistenceInjectionModule {
      * @param serviceStatus the service status
      * @param ackHandler the ack handler
      * @param asyncBlockWriterFactory the async block writer factory
+     * @param segmentLog the segment log, only opened for the segment log
+     * storage type
      * @return the persistence block node event handler singleton
      */
     @Provides
@@ -184,7 +224,8 @@ public interface PersistenceInjectionModule {
             @NonNull final AsyncBlockWriterFactory asyncBlockWriterFactory,
             @NonNull final BlockPathResolver blockPathResolver,
             @NonNull final PersistenceStorageConfig persistenceStorageConfig,
-            @NonNull final LocalBlockArchiver localBlockArchiver) {
+            @NonNull final LocalBlockArchiver localBlockArchiver,
+            @NonNull final Lazy<SegmentLog> segmentLog) {
         try {
             final Executor executor = AsyncWriterExecutorFactory.createExecutor(persistenceStorageConfig);
             return new StreamPersistenceHandlerImpl(
@@ -197,7 +238,8 @@ public interface PersistenceInjectionModule {
                     executor,
                     localBlockArchiver,
                     blockPathResolver,
-                    persistenceStorageConfig);
+                    persistenceStorageConfig,
+                    persistenceStorageConfig.type() == StorageType.SEGMENT_LOG ? segmentLog.get() : null);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
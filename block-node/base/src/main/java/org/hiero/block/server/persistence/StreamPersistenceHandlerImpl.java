@@ -9,6 +9,7 @@ import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.hapi.block.stream.output.BlockHeader;
 import com.hedera.pbj.runtime.ParseException;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -38,7 +39,9 @@ import org.hiero.block.server.notifier.Notifier;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
 import org.hiero.block.server.persistence.storage.archive.LocalBlockArchiver;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
+import org.hiero.block.server.persistence.storage.path.LiveBlockPath;
 import org.hiero.block.server.persistence.storage.path.UnverifiedBlockPath;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriter;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriterFactory;
 import org.hiero.block.server.persistence.storage.write.BlockPersistenceResult;
@@ -65,6 +68,7 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
     private final CompletionService<Void> completionService;
     private final LocalBlockArchiver archiver;
     private final BlockPathResolver pathResolver;
+    private final SegmentLog segmentLog;
     private TransferQueue<BlockItemUnparsed> currentWriterQueue;
 
     /**
@@ -92,6 +96,48 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
             @NonNull final BlockPathResolver pathResolver,
             @NonNull final PersistenceStorageConfig persistenceStorageConfig)
             throws IOException {
+        this(
+                subscriptionHandler,
+                notifier,
+                metricsService,
+                serviceStatus,
+                ackHandler,
+                asyncBlockWriterFactory,
+                writerExecutor,
+                archiver,
+                pathResolver,
+                persistenceStorageConfig,
+                null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param subscriptionHandler valid, non-null instance of {@link SubscriptionHandler}
+     * @param notifier valid, non-null instance of {@link Notifier}
+     * @param metricsService valid, non-null instance of {@link MetricsService}
+     * @param serviceStatus valid, non-null instance of {@link ServiceStatus}
+     * @param ackHandler valid, non-null instance of {@link AckHandler}
+     * @param asyncBlockWriterFactory valid, non-null instance of {@link AsyncBlockWriterFactory}
+     * @param writerExecutor valid, non-null instance of {@link Executor}
+     * @param archiver valid, non-null instance of {@link LocalBlockArchiver}
+     * @param persistenceStorageConfig valid, non-null instance of {@link PersistenceStorageConfig}
+     * @param segmentLog the {@link SegmentLog} verified blocks are appended
+     * to, or {@code null} if verified blocks are moved as files of their own
+     */
+    public StreamPersistenceHandlerImpl(
+            @NonNull final SubscriptionHandler<List<BlockItemUnparsed>> subscriptionHandler,
+            @NonNull final Notifier notifier,
+            @NonNull final MetricsService metricsService,
+            @NonNull final ServiceStatus serviceStatus,
+            @NonNull final AckHandler ackHandler,
+            @NonNull final AsyncBlockWriterFactory asyncBlockWriterFactory,
+            @NonNull final Executor writerExecutor,
+            @NonNull final LocalBlockArchiver archiver,
+            @NonNull final BlockPathResolver pathResolver,
+            @NonNull final PersistenceStorageConfig persistenceStorageConfig,
+            @Nullable final SegmentLog segmentLog)
+            throws IOException {
         this.subscriptionHandler = Objects.requireNonNull(subscriptionHandler);
         this.notifier = Objects.requireNonNull(notifier);
         this.metricsService = metricsService;
@@ -99,6 +145,7 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
         this.asyncBlockWriterFactory = Objects.requireNonNull(asyncBlockWriterFactory);
         this.archiver = Objects.requireNonNull(archiver);
         this.pathResolver = Objects.requireNonNull(pathResolver);
+        this.segmentLog = segmentLog;
         this.completionService = new ExecutorCompletionService<>(Objects.requireNonNull(writerExecutor));
         // Ensure that the root paths exist
         final Path liveRootPath = Objects.requireNonNull(persistenceStorageConfig.liveRootPath());
@@ -162,23 +209,64 @@ public class StreamPersistenceHandlerImpl implements BlockNodeEventHandler<Objec
         this.ackHandler.registerPersistence(this);
     }
 
-    public void moveVerified(final long blockNumber) throws IOException {
+    /**
+     * Moves a verified block from the unverified storage to the live storage.
+     * If a segment log is used, the block is appended to it instead of being
+     * moved as a file of its own.
+     *
+     * @param blockNumber the number of the verified block
+     * @return the path of the block, or of the segment it was appended to, in
+     * the live storage
+     * @throws IOException if the block could not be moved
+     */
+    public Path moveVerified(final long blockNumber) throws IOException {
         final Optional<UnverifiedBlockPath> optUnverified = pathResolver.findUnverifiedBlock(blockNumber);
         if (optUnverified.isPresent()) {
             final UnverifiedBlockPath unverifiedBlockPath = optUnverified.get();
             final Path source = unverifiedBlockPath.dirPath().resolve(unverifiedBlockPath.blockFileName());
+            if (segmentLog != null) {
+                final Path segment = segmentLog.append(blockNumber, source, unverifiedBlockPath.compressionType());
+                Files.delete(source);
+                archiver.notifyBlockPersisted(blockNumber);
+                return segment;
+            }
             final Path rawPathToLive = pathResolver.resolveLiveRawPathToBlock(unverifiedBlockPath.blockNumber());
             final Path target = FileUtilities.appendExtension(
                     rawPathToLive, unverifiedBlockPath.compressionType().getFileExtension());
             Files.createDirectories(target.getParent());
             Files.move(source, target);
             archiver.notifyBlockPersisted(blockNumber);
+            return target;
         } else {
             throw new FileNotFoundException(
                     "File for Block [%s] not found under unverified root".formatted(blockNumber));
         }
     }
 
+    /**
+     * Removes the verified blocks after the given block from the live storage,
+     * so they are no longer served and can be persisted and moved again.
+     * Blocks are moved in order, so the blocks removed are the ones that
+     * directly follow the given block. If a segment log is used, the blocks
+     * are truncated from it instead.
+     *
+     * @param blockNumber the number of the last block to keep, -1 to keep none
+     * @throws IOException if a block could not be removed
+     */
+    public void removeVerifiedAfter(final long blockNumber) throws IOException {
+        if (segmentLog != null) {
+            segmentLog.truncateAfter(blockNumber);
+            return;
+        }
+        long next = blockNumber + 1;
+        Optional<LiveBlockPath> optLive = pathResolver.findLiveBlock(next);
+        while (optLive.isPresent()) {
+            final LiveBlockPath liveBlockPath = optLive.get();
+            Files.delete(liveBlockPath.dirPath().resolve(liveBlockPath.blockFileName()));
+            optLive = pathResolver.findLiveBlock(++next);
+        }
+    }
+
     /**
      * The onEvent method is invoked by the Disruptor when a new SubscribeStreamResponse is
      * available. The method processes the response and persists the block item to the file system.
@@ -20,6 +20,11 @@ import org.hiero.block.server.config.logging.Loggable;
  * @param compressionLevel compression level used by the compression algorithm
  * Non-PRODUCTION values should only be used for troubleshooting and development purposes.
  * @param archiveGroupSize the number of blocks to archive in a single group
+ * @param durabilityMode when persisted blocks are synced to the disk
+ * @param groupCommitWindowMillis the time in milliseconds a group commit waits
+ * for more blocks to sync together
+ * @param segmentSize the size in bytes at which a segment of the segment log
+ * is rolled over to a new one
  */
 @ConfigData("persistence.storage")
 public record PersistenceStorageConfig(
@@ -34,7 +39,10 @@ public record PersistenceStorageConfig(
         @Loggable @ConfigProperty(defaultValue = "THREAD_POOL") ExecutorType executorType,
         @Loggable @ConfigProperty(defaultValue = "6") @Min(1) @Max(16) int threadCount,
         @Loggable @ConfigProperty(defaultValue = "60000") @Min(0) long threadKeepAliveTime,
-        @Loggable @ConfigProperty(defaultValue = "false") boolean useVirtualThreads) {
+        @Loggable @ConfigProperty(defaultValue = "false") boolean useVirtualThreads,
+        @Loggable @ConfigProperty(defaultValue = "NONE") DurabilityMode durabilityMode,
+        @Loggable @ConfigProperty(defaultValue = "5") @Min(0) int groupCommitWindowMillis,
+        @Loggable @ConfigProperty(defaultValue = "268435456") @Min(1048576) long segmentSize) {
     /**
      * Constructor.
      */
@@ -44,6 +52,7 @@ public record PersistenceStorageConfig(
         Objects.requireNonNull(unverifiedRootPath);
         Objects.requireNonNull(type);
         Objects.requireNonNull(executorType);
+        Objects.requireNonNull(durabilityMode);
         compression.verifyCompressionLevel(compressionLevel);
         // @todo(742) verify that the group size has not changed once it has
         //    been set initially
@@ -63,6 +72,13 @@ public record PersistenceStorageConfig(
                 "persistence.storage.executionQueueLimit [%d] is required to be between [%d] and [%d].");
         Preconditions.requireInRange(
                 threadCount, 1, 16, "persistence.storage.threadCount [%d] is required to be between [%d] and [%d].");
+        Preconditions.requireWhole(
+                groupCommitWindowMillis,
+                "persistence.storage.groupCommitWindowMillis [%d] is required to be greater or equal than 0.");
+        Preconditions.requireGreaterOrEqual(
+                segmentSize,
+                1_048_576L,
+                "persistence.storage.segmentSize [%d] is required to be greater or equal than [%d].");
     }
 
     /**
@@ -83,6 +99,18 @@ public record PersistenceStorageConfig(
          * explicitly specified via an environment variable or app.properties.
          */
         BLOCK_AS_LOCAL_FILE,
+        /**
+         * This type of storage appends verified Blocks, as they were written
+         * compressed, to large pre-allocated segment files under the live
+         * root. A compact index maps every Block number to its segment,
+         * offset and length. A segment is rolled over once it reaches
+         * {@link PersistenceStorageConfig#segmentSize()}, and a sealed
+         * segment is the archive unit itself, so no archiving pass is run.
+         * Unverified Blocks are still written as files of their own under
+         * the unverified root, and copied into a segment once verified, so
+         * every Block is written to the disk twice.
+         */
+        SEGMENT_LOG,
         /**
          * This type of storage does nothing.
          */
@@ -115,6 +143,26 @@ public record PersistenceStorageConfig(
         FORK_JOIN,
     }
 
+    /**
+     * An enum that defines when the persisted blocks are synced to the disk.
+     */
+    public enum DurabilityMode {
+        /**
+         * Blocks are never synced, the operating system writes them to the
+         * disk in its own time. A power loss can lose blocks that were
+         * already acknowledged.
+         */
+        NONE,
+
+        /**
+         * Every block is synced to the disk, together with the directory it
+         * is moved to once verified, before it is acknowledged. The blocks
+         * moved within the group commit window are synced together, so the
+         * cost of the syncs is shared between them.
+         */
+        GROUP_COMMIT,
+    }
+
     /**
      * An enum that reflects the type of compression that is used to compress
      * the blocks that are stored within the persistence storage.
@@ -0,0 +1,29 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.archive;
+
+/**
+ * A no-op local block archiver. Used where the persisted Blocks need no
+ * archiving pass, like the segment log, whose sealed segments are the archive
+ * unit themselves.
+ */
+public final class NoOpBlockArchiver implements LocalBlockArchiver {
+    /**
+     * Constructor.
+     */
+    private NoOpBlockArchiver() {}
+
+    /**
+     * This method creates and returns a new instance of {@link NoOpBlockArchiver}.
+     *
+     * @return a new, fully initialized instance of {@link NoOpBlockArchiver}
+     */
+    public static NoOpBlockArchiver newInstance() {
+        return new NoOpBlockArchiver();
+    }
+
+    /**
+     * No-op archiver. Does nothing. No preconditions check also.
+     */
+    @Override
+    public void notifyBlockPersisted(final long blockNumber) {}
+}
@@ -0,0 +1,28 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.path;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.file.Path;
+import java.util.Objects;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+
+/**
+ * A record that represents a detailed path to a Block that is stored inside a
+ * segment of the segment log. The Block is the {@code length} bytes found at
+ * the {@code offset} of the segment file.
+ */
+public record SegmentBlockPath(
+        long blockNumber,
+        @NonNull Path segmentPath,
+        long offset,
+        int length,
+        @NonNull CompressionType compressionType) {
+    public SegmentBlockPath {
+        Preconditions.requireWhole(blockNumber);
+        Objects.requireNonNull(segmentPath);
+        Preconditions.requireWhole(offset);
+        Preconditions.requireWhole(length);
+        Objects.requireNonNull(compressionType);
+    }
+}
@@ -0,0 +1,123 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.path;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
+
+/**
+ * A Block path resolver for the segment log. Unverified Blocks are files of
+ * their own, resolved the same way as for block-as-file. Verified Blocks are
+ * records inside the segments of the {@link SegmentLog}, so they have no file
+ * of their own and are found with {@link SegmentLog#find(long)}. The path of a
+ * verified Block resolves to its segment, which is also the archive unit.
+ */
+public final class SegmentLogPathResolver implements BlockPathResolver {
+    private final BlockAsLocalFilePathResolver unverifiedPathResolver;
+    private final Path archiveRootPath;
+    private final SegmentLog segmentLog;
+
+    /**
+     * Constructor.
+     *
+     * @param config valid, {@code non-null} instance of
+     * {@link PersistenceStorageConfig} used for initializing the resolver
+     * @param segmentLog valid, {@code non-null} instance of {@link SegmentLog}
+     * the verified Blocks are stored in
+     */
+    public SegmentLogPathResolver(
+            @NonNull final PersistenceStorageConfig config, @NonNull final SegmentLog segmentLog) throws IOException {
+        this.unverifiedPathResolver = new BlockAsLocalFilePathResolver(config);
+        this.archiveRootPath = Objects.requireNonNull(config.archiveRootPath());
+        this.segmentLog = Objects.requireNonNull(segmentLog);
+    }
+
+    /**
+     * Verified Blocks are records inside a segment, so this resolves the raw
+     * path to the segment the Block is in, or would start.
+     */
+    @NonNull
+    @Override
+    public Path resolveLiveRawPathToBlock(final long blockNumber) {
+        return segmentLog.resolveRawSegmentPath(blockNumber);
+    }
+
+    @NonNull
+    @Override
+    public Path resolveLiveRawUnverifiedPathToBlock(final long blockNumber) {
+        return unverifiedPathResolver.resolveLiveRawUnverifiedPathToBlock(blockNumber);
+    }
+
+    /**
+     * Sealed segments are the archive unit, so this resolves the raw path to
+     * the segment the Block is in, or would start.
+     */
+    @NonNull
+    @Override
+    public Path resolveRawPathToArchiveParentUnderLive(final long blockNumber) {
+        return segmentLog.resolveRawSegmentPath(blockNumber);
+    }
+
+    /**
+     * Sealed segments are the archive unit, so this resolves the raw path
+     * under the archive root for the segment the Block is in, or would start.
+     */
+    @NonNull
+    @Override
+    public Path resolveRawPathToArchiveParentUnderArchive(final long blockNumber) {
+        return archiveRootPath.resolve(segmentLog.resolveRawSegmentPath(blockNumber).getFileName());
+    }
+
+    /**
+     * Verified Blocks have no file of their own, so this always returns an
+     * empty {@link Optional}, use {@link SegmentLog#find(long)} to find a
+     * verified Block.
+     */
+    @NonNull
+    @Override
+    public Optional<LiveBlockPath> findLiveBlock(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        return Optional.empty();
+    }
+
+    /**
+     * Segments are not archived as groups of Block files, so this always
+     * returns an empty {@link Optional}, use {@link SegmentLog#find(long)} to
+     * find a verified Block.
+     */
+    @NonNull
+    @Override
+    public Optional<ArchiveBlockPath> findArchivedBlock(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        return Optional.empty();
+    }
+
+    @NonNull
+    @Override
+    public Optional<UnverifiedBlockPath> findUnverifiedBlock(final long blockNumber) {
+        return unverifiedPathResolver.findUnverifiedBlock(blockNumber);
+    }
+
+    @Override
+    public boolean existsVerifiedBlock(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        return segmentLog.contains(blockNumber);
+    }
+
+    @NonNull
+    @Override
+    public Optional<Long> findFirstAvailableBlockNumber() {
+        return segmentLog.findFirstBlockNumber();
+    }
+
+    @NonNull
+    @Override
+    public Optional<Long> findLatestAvailableBlockNumber() {
+        return segmentLog.findLatestBlockNumber();
+    }
+}
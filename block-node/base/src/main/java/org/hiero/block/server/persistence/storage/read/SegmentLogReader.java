@@ -0,0 +1,78 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.stream.ReadableStreamingData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Optional;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.persistence.storage.compression.Compression;
+import org.hiero.block.server.persistence.storage.path.SegmentBlockPath;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
+
+/**
+ * A Block reader that reads Blocks from the segment log.
+ */
+public final class SegmentLogReader implements LocalBlockReader<BlockUnparsed> {
+    private final Compression compression;
+    private final SegmentLog segmentLog;
+
+    /**
+     * Constructor.
+     *
+     * @param compression valid, {@code non-null} instance of {@link Compression}
+     * @param segmentLog valid, {@code non-null} instance of {@link SegmentLog}
+     * the Blocks are read from
+     */
+    private SegmentLogReader(@NonNull final Compression compression, @NonNull final SegmentLog segmentLog) {
+        this.compression = Objects.requireNonNull(compression);
+        this.segmentLog = Objects.requireNonNull(segmentLog);
+    }
+
+    /**
+     * This method creates and returns a new instance of {@link SegmentLogReader}.
+     *
+     * @param compression valid, {@code non-null} instance of {@link Compression}
+     * @param segmentLog valid, {@code non-null} instance of {@link SegmentLog}
+     * the Blocks are read from
+     * @return a new, fully initialized instance of {@link SegmentLogReader}
+     */
+    public static SegmentLogReader of(@NonNull final Compression compression, @NonNull final SegmentLog segmentLog) {
+        return new SegmentLogReader(compression, segmentLog);
+    }
+
+    @NonNull
+    @Override
+    public Optional<BlockUnparsed> read(final long blockNumber) throws IOException, ParseException {
+        Preconditions.requireWhole(blockNumber);
+        final Optional<SegmentBlockPath> optBlockPath = segmentLog.find(blockNumber);
+        if (optBlockPath.isPresent()) {
+            final SegmentBlockPath segmentBlockPath = optBlockPath.get();
+            // a positional read of only the bytes of the Block
+            final ByteBuffer block = ByteBuffer.allocate(segmentBlockPath.length());
+            try (final FileChannel channel =
+                    FileChannel.open(segmentBlockPath.segmentPath(), StandardOpenOption.READ)) {
+                while (block.hasRemaining()) {
+                    if (channel.read(block, segmentBlockPath.offset() + block.position()) < 0) {
+                        throw new EOFException("Segment [%s] ended before Block [%d]"
+                                .formatted(segmentBlockPath.segmentPath(), blockNumber));
+                    }
+                }
+            }
+            try (final ReadableStreamingData data = new ReadableStreamingData(compression.wrap(
+                    new ByteArrayInputStream(block.array()), segmentBlockPath.compressionType()))) {
+                return Optional.of(BlockUnparsed.PROTOBUF.parse(data));
+            }
+        } else {
+            return Optional.empty();
+        }
+    }
+}
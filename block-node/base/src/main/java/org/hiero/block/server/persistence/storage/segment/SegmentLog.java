@@ -0,0 +1,561 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.segment;
+
+import static java.lang.System.Logger.Level.INFO;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import org.hiero.block.common.utils.FileUtilities;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.path.SegmentBlockPath;
+import org.hiero.block.server.service.Constants;
+
+/**
+ * A segment log stores verified Blocks by appending them, as they were
+ * written compressed, to large segment files under the live root. Every Block
+ * is a record of its number, its length, the CRC32C of its bytes and its
+ * bytes. A segment holds
+ * consecutive Blocks of a single compression type, it is named after the
+ * number of its first Block, and it is pre-allocated to the segment size, so
+ * appending a Block neither creates a file nor a directory. Once the next
+ * Block does not fit, the segment is sealed: it is truncated to the end of its
+ * last record and its index is written next to it. A sealed segment never
+ * changes again, so it is the archive unit itself.
+ *
+ * <p>The index of a segment is the offset of every record in it, so looking a
+ * Block up costs a single map lookup and it takes 8 bytes of memory per Block.
+ * A segment that was not sealed, because the server stopped while it was
+ * being appended to, has its index recovered from the record headers and is
+ * sealed when the log is opened. Appends always go to a new segment after
+ * that. A record is only recovered if its bytes match its checksum, so a
+ * record that was partially written is never taken for a Block.
+ *
+ * <p>A Block is appended once it is verified, by copying the file it was
+ * written to under the unverified root, so every Block is written to the disk
+ * twice. The unverified file is deleted once it is appended.
+ */
+public final class SegmentLog {
+    private static final System.Logger LOGGER = System.getLogger(SegmentLog.class.getName());
+    private static final int MAX_LONG_DIGITS = 19;
+    /** The size of the header of every record, the Block number, the Block length and the Block checksum. */
+    private static final int RECORD_HEADER_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES;
+    /** The size of the buffer Blocks are copied and checksummed through. */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+    private final Path liveRootPath;
+    private final long segmentSize;
+    private final DecimalFormat longLeadingZeroesFormat;
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    /** Only used by appends, which are synchronized. */
+    private final ByteBuffer copyBuffer = ByteBuffer.allocateDirect(COPY_BUFFER_SIZE);
+    private Segment activeSegment;
+
+    /**
+     * Constructor. Loads the index of every segment found under the live root,
+     * recovering and sealing the segments that were not sealed.
+     *
+     * @param liveRootPath valid, {@code non-null} path to the live root the
+     * segments are stored under
+     * @param segmentSize the size in bytes at which a segment is rolled over
+     * to a new one
+     * @throws IOException if the segments could not be loaded
+     */
+    public SegmentLog(@NonNull final Path liveRootPath, final long segmentSize) throws IOException {
+        this.liveRootPath = Objects.requireNonNull(liveRootPath);
+        this.segmentSize = Preconditions.requirePositive(segmentSize);
+        this.longLeadingZeroesFormat = new DecimalFormat("0".repeat(MAX_LONG_DIGITS));
+        Files.createDirectories(liveRootPath);
+        final List<Path> segmentFiles;
+        try (final Stream<Path> files = Files.list(liveRootPath)) {
+            segmentFiles = files.sorted().toList();
+        }
+        for (final Path segmentFile : segmentFiles) {
+            final Optional<CompressionType> compressionType =
+                    compressionTypeOfSegment(segmentFile.getFileName().toString());
+            if (compressionType.isPresent()) {
+                loadSegment(segmentFile, compressionType.get());
+            }
+        }
+    }
+
+    /**
+     * This method appends a Block to the segment log. The Block is copied from
+     * the given file as it is. The segment is rolled over first if the Block
+     * does not fit in it, if it does not follow the last Block of the segment,
+     * or if it is compressed with another compression type.
+     *
+     * @param blockNumber the number of the Block to append
+     * @param blockFile valid, {@code non-null} path to the file of the Block
+     * @param compressionType valid, {@code non-null} compression type the
+     * Block file is compressed with
+     * @return the path to the segment the Block was appended to
+     * @throws IOException if the Block is already in the segment log, or if it
+     * could not be appended
+     */
+    @NonNull
+    public synchronized Path append(
+            final long blockNumber, @NonNull final Path blockFile, @NonNull final CompressionType compressionType)
+            throws IOException {
+        Preconditions.requireWhole(blockNumber);
+        Objects.requireNonNull(compressionType);
+        if (contains(blockNumber)) {
+            throw new IOException("Block [%d] is already in the segment log".formatted(blockNumber));
+        }
+        final long blockSize = Files.size(blockFile);
+        if (blockSize > Integer.MAX_VALUE - RECORD_HEADER_SIZE) {
+            throw new IOException(
+                    "Block [%d] of [%d] bytes is too large for a segment".formatted(blockNumber, blockSize));
+        }
+        final long recordSize = RECORD_HEADER_SIZE + blockSize;
+        if (activeSegment == null || !activeSegment.accepts(blockNumber, compressionType, recordSize, segmentSize)) {
+            roll(blockNumber, compressionType);
+        }
+
+        final Segment segment = activeSegment;
+        final long start = segment.end();
+        // the header is written after the Block, with the checksum of the Block
+        final CRC32C checksum = new CRC32C();
+        try (final FileChannel source = FileChannel.open(blockFile, StandardOpenOption.READ)) {
+            long copied = 0;
+            while (copied < blockSize) {
+                copyBuffer.clear().limit((int) Math.min(COPY_BUFFER_SIZE, blockSize - copied));
+                if (source.read(copyBuffer, copied) < 0) {
+                    throw new EOFException("Block file [%s] ended early".formatted(blockFile));
+                }
+                copyBuffer.flip();
+                checksum.update(copyBuffer);
+                copyBuffer.rewind();
+                while (copyBuffer.hasRemaining()) {
+                    copied += segment.channel.write(copyBuffer, start + RECORD_HEADER_SIZE + copied);
+                }
+            }
+        }
+        final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE)
+                .putLong(blockNumber)
+                .putInt((int) blockSize)
+                .putInt((int) checksum.getValue())
+                .flip();
+        while (header.hasRemaining()) {
+            segment.channel.write(header, start + header.position());
+        }
+        // the Block is only visible to readers once all of it is written
+        segment.add(start + recordSize);
+        return segment.path;
+    }
+
+    /**
+     * This method removes every Block after the given one from the segment
+     * log, so they can be appended again. The segments that start after the
+     * given Block are deleted, and the segment of the given Block is truncated
+     * to the end of its record, so the removed Blocks are not recovered when
+     * the log is opened again.
+     *
+     * @param blockNumber the number of the last Block to keep, -1 to keep none
+     * @throws IOException if the Blocks could not be removed
+     */
+    public synchronized void truncateAfter(final long blockNumber) throws IOException {
+        for (final Segment segment : segments.tailMap(blockNumber, false).values()) {
+            segments.remove(segment.firstBlockNumber);
+            if (segment == activeSegment) {
+                activeSegment = null;
+            }
+            if (segment.channel != null) {
+                segment.channel.close();
+                segment.channel = null;
+            }
+            Files.deleteIfExists(segment.path);
+            Files.deleteIfExists(indexPathOf(segment.firstBlockNumber));
+        }
+        final Map.Entry<Long, Segment> entry = segments.floorEntry(blockNumber);
+        if (entry == null) {
+            return;
+        }
+        final Segment segment = entry.getValue();
+        final int keep = (int) (blockNumber - segment.firstBlockNumber + 1);
+        if (keep >= segment.count) {
+            return;
+        }
+        // readers no longer find the removed Blocks before they are truncated
+        segment.count = keep;
+        if (segment.channel != null) {
+            segment.channel.truncate(segment.end());
+        } else {
+            try (final FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.WRITE)) {
+                channel.truncate(segment.end());
+            }
+            writeIndex(indexPathOf(segment.firstBlockNumber), segment.offsets, keep);
+        }
+    }
+
+    /**
+     * This method attempts to find a Block by a given number in the segment
+     * log.
+     *
+     * @param blockNumber the number of the Block to find
+     * @return an {@link Optional} of {@link SegmentBlockPath} if the Block is
+     * found, else an empty {@link Optional}
+     */
+    @NonNull
+    public Optional<SegmentBlockPath> find(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        final Map.Entry<Long, Segment> entry = segments.floorEntry(blockNumber);
+        return entry == null ? Optional.empty() : entry.getValue().find(blockNumber);
+    }
+
+    /**
+     * This method resolves the path to the segment a Block is in, or to the
+     * segment the Block would start if it is not in the segment log. No
+     * compression extension is appended to the file name.
+     *
+     * @param blockNumber the number of the Block to resolve the segment for
+     * @return the raw path to the segment of the Block
+     */
+    @NonNull
+    public Path resolveRawSegmentPath(final long blockNumber) {
+        Preconditions.requireWhole(blockNumber);
+        final Map.Entry<Long, Segment> entry = segments.floorEntry(blockNumber);
+        final boolean inSegment = entry != null && entry.getValue().find(blockNumber).isPresent();
+        return rawSegmentPathOf(inSegment ? entry.getKey() : blockNumber);
+    }
+
+    /**
+     * @param blockNumber the number of the Block to look for
+     * @return {@code true} if the Block is in the segment log
+     */
+    public boolean contains(final long blockNumber) {
+        return find(blockNumber).isPresent();
+    }
+
+    /**
+     * @return the number of the first Block in the segment log, or an empty
+     * {@link Optional} if the segment log is empty
+     */
+    @NonNull
+    public Optional<Long> findFirstBlockNumber() {
+        for (final Segment segment : segments.values()) {
+            if (segment.count > 0) {
+                return Optional.of(segment.firstBlockNumber);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the number of the latest Block in the segment log, or an empty
+     * {@link Optional} if the segment log is empty
+     */
+    @NonNull
+    public Optional<Long> findLatestBlockNumber() {
+        final Iterator<Segment> descending = segments.descendingMap().values().iterator();
+        while (descending.hasNext()) {
+            final Segment segment = descending.next();
+            final int count = segment.count;
+            if (count > 0) {
+                return Optional.of(segment.firstBlockNumber + count - 1);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void roll(final long firstBlockNumber, @NonNull final CompressionType compressionType)
+            throws IOException {
+        if (activeSegment != null) {
+            final Segment sealing = activeSegment;
+            activeSegment = null;
+            seal(sealing);
+        }
+        final Path segmentPath =
+                FileUtilities.appendExtension(rawSegmentPathOf(firstBlockNumber), compressionType.getFileExtension());
+        final FileChannel channel = FileChannel.open(
+                segmentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            // pre-allocate the segment by writing its last byte, the rest is
+            // left to the file system, which allocates it sparsely
+            channel.write(ByteBuffer.allocate(1), segmentSize - 1);
+        } catch (final IOException e) {
+            channel.close();
+            Files.deleteIfExists(segmentPath);
+            throw e;
+        }
+        final Segment segment =
+                new Segment(firstBlockNumber, segmentPath, compressionType, new long[INITIAL_INDEX_CAPACITY], 0);
+        segment.channel = channel;
+        segments.put(firstBlockNumber, segment);
+        activeSegment = segment;
+    }
+
+    private void seal(@NonNull final Segment segment) throws IOException {
+        try (final FileChannel channel = segment.channel) {
+            segment.channel = null;
+            if (segment.count > 0) {
+                channel.truncate(segment.end());
+            }
+        }
+        if (segment.count > 0) {
+            writeIndex(indexPathOf(segment.firstBlockNumber), segment.offsets, segment.count);
+        } else {
+            // no Block was ever appended to the segment
+            segments.remove(segment.firstBlockNumber);
+            Files.deleteIfExists(segment.path);
+        }
+    }
+
+    private void loadSegment(@NonNull final Path segmentPath, @NonNull final CompressionType compressionType)
+            throws IOException {
+        final long firstBlockNumber =
+                Long.parseLong(segmentPath.getFileName().toString().substring(0, MAX_LONG_DIGITS));
+        final Path indexPath = indexPathOf(firstBlockNumber);
+        final Optional<long[]> index = readIndex(indexPath, Files.size(segmentPath));
+        final long[] offsets;
+        if (index.isPresent()) {
+            offsets = index.get();
+        } else {
+            offsets = recoverIndex(segmentPath, firstBlockNumber);
+            LOGGER.log(
+                    INFO,
+                    "Recovered [%d] Blocks of unsealed segment [%s]".formatted(offsets.length - 1, segmentPath));
+            if (offsets.length == 1) {
+                Files.delete(segmentPath);
+                Files.deleteIfExists(indexPath);
+                return;
+            }
+            try (final FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.WRITE)) {
+                channel.truncate(offsets[offsets.length - 1]);
+            }
+            writeIndex(indexPath, offsets, offsets.length - 1);
+        }
+        segments.put(
+                firstBlockNumber,
+                new Segment(firstBlockNumber, segmentPath, compressionType, offsets, offsets.length - 1));
+    }
+
+    /**
+     * Reads the index of a sealed segment.
+     *
+     * @return the offsets of the records, or an empty {@link Optional} if there
+     * is no valid index for a segment of the given size
+     */
+    @NonNull
+    private static Optional<long[]> readIndex(@NonNull final Path indexPath, final long segmentFileSize)
+            throws IOException {
+        if (Files.notExists(indexPath)) {
+            return Optional.empty();
+        }
+        final byte[] bytes = Files.readAllBytes(indexPath);
+        if (bytes.length < 2 * Long.BYTES || bytes.length % Long.BYTES != 0) {
+            return Optional.empty();
+        }
+        final LongBuffer buffer = ByteBuffer.wrap(bytes).asLongBuffer();
+        final long[] offsets = new long[buffer.remaining()];
+        buffer.get(offsets);
+        for (int i = 1; i < offsets.length; i++) {
+            if (offsets[i] <= offsets[i - 1] + RECORD_HEADER_SIZE) {
+                return Optional.empty();
+            }
+        }
+        final boolean coversSegment = offsets[0] == 0 && offsets[offsets.length - 1] == segmentFileSize;
+        return coversSegment ? Optional.of(offsets) : Optional.empty();
+    }
+
+    /**
+     * Recovers the index of a segment that was not sealed by reading its
+     * records. The recovery stops at the first record that is not the next
+     * Block, that does not fit in the segment, or whose bytes do not match its
+     * checksum, which is where the pre-allocated, or partially written, part
+     * of the segment starts.
+     */
+    @NonNull
+    private static long[] recoverIndex(@NonNull final Path segmentPath, final long firstBlockNumber)
+            throws IOException {
+        long[] offsets = new long[INITIAL_INDEX_CAPACITY];
+        int count = 0;
+        try (final FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+            final long fileSize = channel.size();
+            final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            final ByteBuffer block = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+            long position = 0;
+            while (position + RECORD_HEADER_SIZE <= fileSize) {
+                header.clear();
+                while (header.hasRemaining()) {
+                    if (channel.read(header, position + header.position()) < 0) {
+                        throw new EOFException("Segment [%s] ended early".formatted(segmentPath));
+                    }
+                }
+                header.flip();
+                final long blockNumber = header.getLong();
+                final int length = header.getInt();
+                final int expectedChecksum = header.getInt();
+                final long next = position + RECORD_HEADER_SIZE + length;
+                if (blockNumber != firstBlockNumber + count
+                        || length <= 0
+                        || next > fileSize
+                        || checksumOf(channel, position + RECORD_HEADER_SIZE, length, block) != expectedChecksum) {
+                    break;
+                }
+                if (count + 1 >= offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                offsets[++count] = next;
+                position = next;
+            }
+        }
+        return Arrays.copyOf(offsets, count + 1);
+    }
+
+    /**
+     * @return the CRC32C of the bytes at the given position of the channel,
+     * read through the given buffer
+     */
+    private static int checksumOf(
+            @NonNull final FileChannel channel, final long position, final int length, @NonNull final ByteBuffer buffer)
+            throws IOException {
+        final CRC32C checksum = new CRC32C();
+        long read = 0;
+        while (read < length) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), length - read));
+            final int count = channel.read(buffer, position + read);
+            if (count < 0) {
+                throw new EOFException("Segment ended early at [%d]".formatted(position + read));
+            }
+            buffer.flip();
+            checksum.update(buffer);
+            read += count;
+        }
+        return (int) checksum.getValue();
+    }
+
+    private static void writeIndex(@NonNull final Path indexPath, @NonNull final long[] offsets, final int count)
+            throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate((count + 1) * Long.BYTES);
+        buffer.asLongBuffer().put(offsets, 0, count + 1);
+        // write the index aside first, so a partially written index is never
+        // taken for the index of the segment
+        final Path tempPath = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        Files.write(tempPath, buffer.array());
+        Files.move(tempPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @NonNull
+    private Path rawSegmentPathOf(final long firstBlockNumber) {
+        return liveRootPath.resolve(
+                longLeadingZeroesFormat.format(firstBlockNumber).concat(Constants.SEGMENT_FILE_EXTENSION));
+    }
+
+    @NonNull
+    private Path indexPathOf(final long firstBlockNumber) {
+        return liveRootPath.resolve(
+                longLeadingZeroesFormat.format(firstBlockNumber).concat(Constants.SEGMENT_INDEX_FILE_EXTENSION));
+    }
+
+    /**
+     * @return the compression type of the segment with the given file name,
+     * or an empty {@link Optional} if the file is not a segment
+     */
+    @NonNull
+    private static Optional<CompressionType> compressionTypeOfSegment(@NonNull final String fileName) {
+        if (!fileName.startsWith(Constants.SEGMENT_FILE_EXTENSION, MAX_LONG_DIGITS)) {
+            return Optional.empty();
+        }
+        for (int i = 0; i < MAX_LONG_DIGITS; i++) {
+            final char c = fileName.charAt(i);
+            if (c < '0' || c > '9') {
+                return Optional.empty();
+            }
+        }
+        final String extension = fileName.substring(MAX_LONG_DIGITS + Constants.SEGMENT_FILE_EXTENSION.length());
+        for (final CompressionType compressionType : CompressionType.values()) {
+            if (compressionType.getFileExtension().equals(extension)) {
+                return Optional.of(compressionType);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * A segment and its index. The index is only ever appended to by the
+     * appending thread, readers see a Block once the count covers it.
+     */
+    private static final class Segment {
+        private final long firstBlockNumber;
+        private final Path path;
+        private final CompressionType compressionType;
+        /** The offset of the record of every Block, followed by the end of the last record. */
+        private volatile long[] offsets;
+
+        private volatile int count;
+        /** Open while the segment is being appended to. */
+        private FileChannel channel;
+
+        private Segment(
+                final long firstBlockNumber,
+                @NonNull final Path path,
+                @NonNull final CompressionType compressionType,
+                @NonNull final long[] offsets,
+                final int count) {
+            this.firstBlockNumber = firstBlockNumber;
+            this.path = path;
+            this.compressionType = compressionType;
+            this.offsets = offsets;
+            this.count = count;
+        }
+
+        private long end() {
+            return offsets[count];
+        }
+
+        private boolean accepts(
+                final long blockNumber,
+                @NonNull final CompressionType compressionType,
+                final long recordSize,
+                final long segmentSize) {
+            return this.compressionType == compressionType
+                    && blockNumber == firstBlockNumber + count
+                    && (count == 0 || end() + recordSize <= segmentSize);
+        }
+
+        private void add(final long newEnd) {
+            long[] current = offsets;
+            if (count + 1 >= current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+                offsets = current;
+            }
+            current[count + 1] = newEnd;
+            // publishes the new record, after its offset is in the index
+            count = count + 1;
+        }
+
+        @NonNull
+        private Optional<SegmentBlockPath> find(final long blockNumber) {
+            // read the count first, the offsets read after it always cover it
+            final int localCount = count;
+            final long[] localOffsets = offsets;
+            final long index = blockNumber - firstBlockNumber;
+            if (index < 0 || index >= localCount) {
+                return Optional.empty();
+            }
+            final long start = localOffsets[(int) index];
+            final int length = (int) (localOffsets[(int) index + 1] - start - RECORD_HEADER_SIZE);
+            return Optional.of(
+                    new SegmentBlockPath(blockNumber, path, start + RECORD_HEADER_SIZE, length, compressionType));
+        }
+    }
+}
@@ -7,15 +7,14 @@ import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlockP
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlocksPersisted;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
-import com.hedera.hapi.block.BlockUnparsed;
 import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.LinkedTransferQueue;
 import java.util.concurrent.TransferQueue;
@@ -34,6 +33,8 @@ import org.hiero.block.server.persistence.storage.write.BlockPersistenceResult.B
  */
 final class AsyncBlockAsLocalFileWriter implements AsyncBlockWriter {
     private static final System.Logger LOGGER = System.getLogger(AsyncBlockAsLocalFileWriter.class.getName());
+    /** The tag of the length delimited {@code block_items} field, number 1, of a block. */
+    private static final int BLOCK_ITEMS_FIELD_TAG = (1 << 3) | 2;
     private final BlockPathResolver blockPathResolver;
     private final BlockRemover blockRemover;
     private final Compression compression;
@@ -90,44 +91,67 @@ final class AsyncBlockAsLocalFileWriter implements AsyncBlockWriter {
         if (blockPathResolver.existsVerifiedBlock(blockNumber)) {
             return new BlockPersistenceResult(blockNumber, BlockPersistenceStatus.DUPLICATE_BLOCK);
         } else {
-            boolean blockComplete = false;
-            final List<BlockItemUnparsed> localBlockItems = new LinkedList<>();
-            while (!blockComplete) { // loop until received all items (until block proof arrives)
-                try {
-                    final BlockItemUnparsed nextItem = queue.take();
-                    if (nextItem == AsyncBlockWriter.INCOMPLETE_BLOCK_FLAG) {
-                        return new BlockPersistenceResult(blockNumber, BlockPersistenceStatus.INCOMPLETE_BLOCK);
-                    } else {
-                        localBlockItems.add(nextItem);
-                        if (nextItem.hasBlockProof()) {
-                            blockComplete = true;
-                            LOGGER.log(DEBUG, "Received Block Proof for Block [%d]".formatted(blockNumber));
-                        }
-                    }
-                } catch (final InterruptedException e) {
-                    // @todo(713) if we have entered here, something has cancelled the task.
-                    //    Is this the proper handling here?
-                    LOGGER.log(
-                            ERROR,
-                            "Interrupted while waiting for next block item for block [%d]".formatted(blockNumber));
-                    final BlockPersistenceResult result = revertWrite(BlockPersistenceStatus.PERSISTENCE_INTERRUPTED);
-                    Thread.currentThread().interrupt();
-                    return result;
-                }
-            }
-            // proceed to persist the items
+            // persist the items as they arrive, so only the final flush is left
+            // once the block proof arrives, the small writes of each item are
+            // buffered before they reach the compression
             // providing no {@link OpenOption} to the newOutputStream method
             // will create the file if it does not exist or truncate it if it does
-            try (final WritableStreamingData wsd = new WritableStreamingData(
-                    compression.wrap(Files.newOutputStream(getResolvedUnverifiedBlockPath())))) {
-                final BlockUnparsed blockToWrite =
-                        BlockUnparsed.newBuilder().blockItems(localBlockItems).build();
-                BlockUnparsed.PROTOBUF.toBytes(blockToWrite).writeTo(wsd);
-            } catch (final IOException e) {
+            final BlockPersistenceStatus status;
+            try (final WritableStreamingData wsd = new WritableStreamingData(new BufferedOutputStream(
+                    compression.wrap(Files.newOutputStream(getResolvedUnverifiedBlockPath()))))) {
+                status = writeBlockItems(wsd);
+            } catch (final IOException | UncheckedIOException e) {
                 LOGGER.log(ERROR, "Failed to write block [%d] to local storage!".formatted(blockNumber), e);
                 return revertWrite(BlockPersistenceStatus.FAILURE_DURING_WRITE);
             }
-            return new BlockPersistenceResult(blockNumber, BlockPersistenceStatus.SUCCESS);
+            if (status == BlockPersistenceStatus.SUCCESS) {
+                return new BlockPersistenceResult(blockNumber, status);
+            } else {
+                // discard the items written so far
+                final BlockPersistenceResult result = revertWrite(status);
+                if (status == BlockPersistenceStatus.PERSISTENCE_INTERRUPTED) {
+                    Thread.currentThread().interrupt();
+                }
+                return result;
+            }
+        }
+    }
+
+    /**
+     * This method will write the block items, as they are taken from the
+     * queue, until the block proof arrives. Each item is written as a
+     * {@code block_items} field of a {@link com.hedera.hapi.block.BlockUnparsed},
+     * so the written file is the same as the whole block written at once.
+     * The item payloads are written as they are, so the payloads sliced from
+     * a publisher's request are copied straight from the request bytes.
+     *
+     * @param wsd the data to write the block items to
+     * @return the status of the write, {@link BlockPersistenceStatus#SUCCESS}
+     * if all the items up to the block proof are written
+     * @throws IOException if an item could not be written
+     */
+    private BlockPersistenceStatus writeBlockItems(@NonNull final WritableStreamingData wsd) throws IOException {
+        while (true) { // loop until received all items (until block proof arrives)
+            try {
+                final BlockItemUnparsed nextItem = queue.take();
+                if (nextItem == AsyncBlockWriter.INCOMPLETE_BLOCK_FLAG) {
+                    return BlockPersistenceStatus.INCOMPLETE_BLOCK;
+                } else {
+                    wsd.writeVarInt(BLOCK_ITEMS_FIELD_TAG, false);
+                    wsd.writeVarInt(BlockItemUnparsed.PROTOBUF.measureRecord(nextItem), false);
+                    BlockItemUnparsed.PROTOBUF.write(nextItem, wsd);
+                    if (nextItem.hasBlockProof()) {
+                        LOGGER.log(DEBUG, "Received Block Proof for Block [%d]".formatted(blockNumber));
+                        return BlockPersistenceStatus.SUCCESS;
+                    }
+                }
+            } catch (final InterruptedException e) {
+                // @todo(713) if we have entered here, something has cancelled the task.
+                //    Is this the proper handling here?
+                LOGGER.log(
+                        ERROR, "Interrupted while waiting for next block item for block [%d]".formatted(blockNumber));
+                return BlockPersistenceStatus.PERSISTENCE_INTERRUPTED;
+            }
         }
     }
 
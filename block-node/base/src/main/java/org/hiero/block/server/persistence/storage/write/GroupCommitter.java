@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.write;
+
+import static java.lang.System.Logger.Level.ERROR;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.GroupCommitBlocks;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.GroupCommitTime;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.GroupCommits;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.GroupCommitSize;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.hiero.block.common.utils.Preconditions;
+import org.hiero.block.server.metrics.MetricsService;
+
+/**
+ * A group committer syncs persisted block files, and the directories they are
+ * in up to the root they are stored under, to the disk. The files committed
+ * within a short window are synced together by a single thread, so every
+ * directory is synced once for the whole group, and the cost of waiting for
+ * the disk is shared between all the blocks of the group.
+ */
+public final class GroupCommitter {
+    private static final System.Logger LOGGER = System.getLogger(GroupCommitter.class.getName());
+    private final MetricsService metricsService;
+    private final Path rootPath;
+    private final long windowNanos;
+    private final LinkedBlockingQueue<Commit> pending = new LinkedBlockingQueue<>();
+
+    /**
+     * Constructor. Starts the thread that runs the group commits.
+     *
+     * @param metricsService the service responsible for handling metrics
+     * @param rootPath the root the files are stored under, the directories
+     * from a file up to and including the root are synced with the file
+     * @param windowMillis the time in milliseconds a group commit waits for
+     * more files after the first one, 0 to only sync the files already waiting
+     */
+    public GroupCommitter(
+            @NonNull final MetricsService metricsService, @NonNull final Path rootPath, final int windowMillis) {
+        this.metricsService = Objects.requireNonNull(metricsService);
+        this.rootPath = Objects.requireNonNull(rootPath).toAbsolutePath();
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Preconditions.requireWhole(windowMillis));
+        Thread.ofPlatform().name("group-committer").daemon().start(this::run);
+    }
+
+    /**
+     * Use this method to sync a persisted block file, and the directories it
+     * is in up to the root, to the disk.
+     *
+     * @param file the block file to sync
+     * @return a future that completes once the file and its directories are
+     * synced, or completes exceptionally if they could not be synced
+     */
+    @NonNull
+    public CompletableFuture<Void> commit(@NonNull final Path file) {
+        final Commit commit = new Commit(Objects.requireNonNull(file), new CompletableFuture<>());
+        pending.add(commit);
+        return commit.committed();
+    }
+
+    private void run() {
+        final List<Commit> group = new ArrayList<>();
+        while (true) {
+            try {
+                // wait for the first file of the group, then for the rest of the window
+                group.add(pending.take());
+                final long deadline = System.nanoTime() + windowNanos;
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0) {
+                    final Commit next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+                pending.drainTo(group);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                group.forEach(commit -> commit.committed().completeExceptionally(e));
+                return;
+            }
+            syncGroup(group);
+            group.clear();
+        }
+    }
+
+    private void syncGroup(@NonNull final List<Commit> group) {
+        final long start = System.nanoTime();
+        try {
+            final Set<Path> directories = new LinkedHashSet<>();
+            for (final Commit commit : group) {
+                sync(commit.file(), StandardOpenOption.WRITE);
+                // the directories above the file may have just been created with it, so they are synced
+                // up to the root, a directory already added has had the directories above it added too
+                Path directory = commit.file().toAbsolutePath().getParent();
+                while (directories.add(directory) && directory.startsWith(rootPath) && !directory.equals(rootPath)) {
+                    directory = directory.getParent();
+                }
+            }
+            for (final Path directory : directories) {
+                sync(directory, StandardOpenOption.READ);
+            }
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.log(ERROR, "Failed to sync a group of %d block files".formatted(group.size()), e);
+            group.forEach(commit -> commit.committed().completeExceptionally(e));
+            return;
+        }
+
+        metricsService.get(GroupCommits).increment();
+        metricsService.get(GroupCommitBlocks).add(group.size());
+        metricsService.get(GroupCommitTime).add(System.nanoTime() - start);
+        metricsService.get(GroupCommitSize).set(group.size());
+        // complete in order, so the blocks are acknowledged in order
+        group.forEach(commit -> commit.committed().complete(null));
+    }
+
+    private static void sync(@NonNull final Path path, @NonNull final OpenOption option) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, option)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * A block file waiting to be synced.
+     */
+    private record Commit(@NonNull Path file, @NonNull CompletableFuture<Void> committed) {}
+}
@@ -0,0 +1,185 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.producer;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.pbj.runtime.OneOf;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * BlockItemSlicer reads the block items of a publish stream request without copying them. The payload of every item
+ * is a slice of the request bytes as they came off the wire, so the items are persisted by copying those slices
+ * straight into the block file, and ingest allocates no payload arrays of its own.
+ *
+ * <p>The request is read the way {@code PublishStreamRequestUnparsed.PROTOBUF.parse} reads it, unknown fields are
+ * skipped, a known field with the wrong wire type is rejected, the last block item set of the request wins and the
+ * last item kind of a block item wins.
+ */
+public final class BlockItemSlicer {
+
+    private static final int WIRE_TYPE_VARINT = 0;
+    private static final int WIRE_TYPE_FIXED_64 = 1;
+    private static final int WIRE_TYPE_DELIMITED = 2;
+    private static final int WIRE_TYPE_FIXED_32 = 5;
+
+    /** The {@code block_items} field of {@code PublishStreamRequestUnparsed} and {@code BlockItemSetUnparsed}. */
+    private static final int BLOCK_ITEMS_FIELD = 1;
+
+    /** The item kinds by their field number in the {@code BlockItemUnparsed} oneof. */
+    private static final ItemOneOfType[] KINDS = kindsByFieldNumber();
+
+    private BlockItemSlicer() {}
+
+    /**
+     * Use this method to read the block items of a publish stream request.
+     *
+     * @param publishStreamRequest the encoded {@code PublishStreamRequestUnparsed}
+     * @return the block items of the request, their payloads are slices of the request bytes
+     * @throws ParseException if the request is not a valid {@code PublishStreamRequestUnparsed}
+     */
+    @NonNull
+    public static List<BlockItemUnparsed> sliceBlockItems(@NonNull final Bytes publishStreamRequest)
+            throws ParseException {
+        Objects.requireNonNull(publishStreamRequest);
+        final Reader request = new Reader(publishStreamRequest, 0, publishStreamRequest.length());
+        final List<BlockItemUnparsed> blockItems = new ArrayList<>();
+        while (request.hasRemaining()) {
+            final int tag = request.readTag();
+            if (tag >>> 3 == BLOCK_ITEMS_FIELD) {
+                request.requireDelimited(tag);
+                // The block item set is a message field, a later one replaces an earlier one as in the parsed request
+                blockItems.clear();
+                final Reader blockItemSet = request.readDelimited();
+                while (blockItemSet.hasRemaining()) {
+                    final int itemTag = blockItemSet.readTag();
+                    if (itemTag >>> 3 == BLOCK_ITEMS_FIELD) {
+                        blockItemSet.requireDelimited(itemTag);
+                        blockItems.add(sliceBlockItem(blockItemSet.readDelimited()));
+                    } else {
+                        blockItemSet.skipField(itemTag);
+                    }
+                }
+            } else {
+                request.skipField(tag);
+            }
+        }
+        return blockItems;
+    }
+
+    @NonNull
+    private static BlockItemUnparsed sliceBlockItem(@NonNull final Reader blockItem) throws ParseException {
+        BlockItemUnparsed sliced = BlockItemUnparsed.newBuilder().build();
+        while (blockItem.hasRemaining()) {
+            final int tag = blockItem.readTag();
+            final int fieldNumber = tag >>> 3;
+            if (fieldNumber < KINDS.length && KINDS[fieldNumber] != null) {
+                blockItem.requireDelimited(tag);
+                sliced = new BlockItemUnparsed(new OneOf<>(KINDS[fieldNumber], blockItem.readDelimited().slice()));
+            } else {
+                blockItem.skipField(tag);
+            }
+        }
+        return sliced;
+    }
+
+    @NonNull
+    private static ItemOneOfType[] kindsByFieldNumber() {
+        int maxFieldNumber = 0;
+        for (final ItemOneOfType kind : ItemOneOfType.values()) {
+            maxFieldNumber = Math.max(maxFieldNumber, kind.protoOrdinal());
+        }
+        final ItemOneOfType[] kinds = new ItemOneOfType[maxFieldNumber + 1];
+        for (final ItemOneOfType kind : ItemOneOfType.values()) {
+            if (kind != ItemOneOfType.UNSET) {
+                kinds[kind.protoOrdinal()] = kind;
+            }
+        }
+        return kinds;
+    }
+
+    /**
+     * A position in a range of the request bytes.
+     */
+    private static final class Reader {
+        private final Bytes bytes;
+        private final long end;
+        private long position;
+
+        private Reader(@NonNull final Bytes bytes, final long start, final long end) {
+            this.bytes = bytes;
+            this.position = start;
+            this.end = end;
+        }
+
+        private boolean hasRemaining() {
+            return position < end;
+        }
+
+        private int readTag() throws ParseException {
+            final long tag = readVarLong();
+            if (tag <= 0 || tag > Integer.MAX_VALUE) {
+                throw new ParseException("Invalid field tag " + tag + " at " + position);
+            }
+            return (int) tag;
+        }
+
+        @NonNull
+        private Reader readDelimited() throws ParseException {
+            final long length = readVarLong();
+            if (length < 0 || length > end - position) {
+                throw new ParseException("Invalid length " + length + " at " + position);
+            }
+            final Reader delimited = new Reader(bytes, position, position + length);
+            position += length;
+            return delimited;
+        }
+
+        private void requireDelimited(final int tag) throws ParseException {
+            if ((tag & 7) != WIRE_TYPE_DELIMITED) {
+                throw new ParseException("Field " + (tag >>> 3) + " has wire type " + (tag & 7) + " at " + position);
+            }
+        }
+
+        @NonNull
+        private Bytes slice() {
+            return bytes.slice(position, end - position);
+        }
+
+        private void skipField(final int tag) throws ParseException {
+            switch (tag & 7) {
+                case WIRE_TYPE_VARINT -> readVarLong();
+                case WIRE_TYPE_FIXED_64 -> skip(8);
+                case WIRE_TYPE_DELIMITED -> readDelimited();
+                case WIRE_TYPE_FIXED_32 -> skip(4);
+                default -> throw new ParseException("Unsupported wire type " + (tag & 7) + " at " + position);
+            }
+        }
+
+        private void skip(final long length) throws ParseException {
+            if (length > end - position) {
+                throw new ParseException("Truncated field at " + position);
+            }
+            position += length;
+        }
+
+        private long readVarLong() throws ParseException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= end) {
+                    throw new ParseException("Truncated varint at " + position);
+                }
+                final byte b = bytes.getByte(position++);
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new ParseException("Malformed varint at " + position);
+        }
+    }
+}
@@ -30,6 +30,12 @@ public final class Constants {
     /** Constant defining zip file extension */
     public static final String ZIP_FILE_EXTENSION = ".zip";
 
+    /** Constant defining the segment file extension */
+    public static final String SEGMENT_FILE_EXTENSION = ".seg";
+
+    /** Constant defining the segment index file extension */
+    public static final String SEGMENT_INDEX_FILE_EXTENSION = ".idx";
+
     public static final SubscribeStreamResponseUnparsed READ_STREAM_INVALID_START_BLOCK_NUMBER_RESPONSE =
             SubscribeStreamResponseUnparsed.newBuilder()
                     .status(SubscribeStreamResponseCode.READ_STREAM_INVALID_START_BLOCK_NUMBER)
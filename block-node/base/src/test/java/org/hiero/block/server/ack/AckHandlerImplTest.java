@@ -1,17 +1,26 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.ack;
 
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlockPersistenceError;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.BlocksPersisted;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -20,26 +29,44 @@ import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.block.PublishStreamResponseCode;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.config.api.ConfigurationBuilder;
 import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.LongGauge;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import org.hiero.block.server.block.BlockInfo;
+import org.hiero.block.server.mediator.SubscriptionHandler;
 import org.hiero.block.server.metrics.BlockNodeMetricTypes;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.notifier.Notifier;
 import org.hiero.block.server.persistence.StreamPersistenceHandlerImpl;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.archive.LocalBlockArchiver;
+import org.hiero.block.server.persistence.storage.compression.NoOpCompression;
+import org.hiero.block.server.persistence.storage.path.BlockAsLocalFilePathResolver;
+import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
 import org.hiero.block.server.persistence.storage.remove.BlockRemover;
+import org.hiero.block.server.persistence.storage.write.AsyncBlockAsLocalFileWriterFactory;
+import org.hiero.block.server.persistence.storage.write.AsyncBlockWriter;
+import org.hiero.block.server.persistence.storage.write.AsyncBlockWriterFactory;
 import org.hiero.block.server.persistence.storage.write.BlockPersistenceResult;
 import org.hiero.block.server.persistence.storage.write.BlockPersistenceResult.BlockPersistenceStatus;
+import org.hiero.block.server.persistence.storage.write.GroupCommitter;
 import org.hiero.block.server.service.ServiceStatus;
+import org.hiero.block.server.util.TestConfigUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.ArgumentCaptor;
@@ -449,6 +476,141 @@ class AckHandlerImplTest {
         assertEquals(blockCount - 1, latest.getBlockNumber(), "Latest acknowledged block number mismatch");
     }
 
+    @Test
+    @DisplayName("With a group committer, blocks are ACKed in order once synced to the disk")
+    void groupCommit_acksAfterSync(@TempDir final Path tempDir) throws Exception {
+        // given
+        final LongGauge gauge = mock(LongGauge.class);
+        when(metricsService.get(BlockNodeMetricTypes.Counter.GroupCommits)).thenReturn(mock(Counter.class));
+        when(metricsService.get(BlockNodeMetricTypes.Counter.GroupCommitBlocks)).thenReturn(mock(Counter.class));
+        when(metricsService.get(BlockNodeMetricTypes.Counter.GroupCommitTime)).thenReturn(mock(Counter.class));
+        when(metricsService.get(BlockNodeMetricTypes.Gauge.GroupCommitSize)).thenReturn(gauge);
+        final AckHandlerImpl handler = new AckHandlerImpl(
+                notifier,
+                false,
+                serviceStatus,
+                blockRemover,
+                metricsService,
+                new GroupCommitter(metricsService, tempDir, 0));
+        handler.registerPersistence(persistenceHandlerMock);
+        when(persistenceHandlerMock.moveVerified(0L)).thenReturn(Files.createFile(tempDir.resolve("0.blk")));
+        when(persistenceHandlerMock.moveVerified(1L)).thenReturn(Files.createFile(tempDir.resolve("1.blk")));
+        final Bytes hash1 = Bytes.wrap("hash1".getBytes());
+        final Bytes hash2 = Bytes.wrap("hash2".getBytes());
+
+        // when
+        handler.blockPersisted(new BlockPersistenceResult(0L, BlockPersistenceStatus.SUCCESS));
+        handler.blockVerified(0L, hash1);
+        handler.blockPersisted(new BlockPersistenceResult(1L, BlockPersistenceStatus.SUCCESS));
+        handler.blockVerified(1L, hash2);
+
+        // then
+        final InOrder inOrder = inOrder(notifier);
+        inOrder.verify(notifier, timeout(1000)).sendAck(eq(0L), eq(hash1), eq(false));
+        inOrder.verify(notifier, timeout(1000)).sendAck(eq(1L), eq(hash2), eq(false));
+        verify(gauge, atLeastOnce()).set(anyLong());
+    }
+
+    @Test
+    @DisplayName("With a group committer, a block that fails to sync is not ACKed")
+    void groupCommit_failedSyncIsNotAcked(@TempDir final Path tempDir) throws Exception {
+        // given
+        final AckHandlerImpl handler = new AckHandlerImpl(
+                notifier,
+                false,
+                serviceStatus,
+                blockRemover,
+                metricsService,
+                new GroupCommitter(metricsService, tempDir, 0));
+        handler.registerPersistence(persistenceHandlerMock);
+        when(persistenceHandlerMock.moveVerified(0L)).thenReturn(tempDir.resolve("missing.blk"));
+
+        // when
+        handler.blockPersisted(new BlockPersistenceResult(0L, BlockPersistenceStatus.SUCCESS));
+        handler.blockVerified(0L, Bytes.wrap("hash1".getBytes()));
+
+        // then
+        verify(notifier, timeout(1000)).sendEndOfStream(-1L, PublishStreamResponseCode.STREAM_ITEMS_BAD_STATE_PROOF);
+        verify(notifier, never()).sendAck(anyLong(), any(), anyBoolean());
+        // the block was already moved to the live storage, so it is removed from there
+        verifyNoInteractions(blockRemover);
+        verify(persistenceHandlerMock, timeout(1000)).removeVerifiedAfter(-1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("With a group committer, blocks moved after a block that failed to sync are removed and sent again")
+    void groupCommit_blocksAfterFailedSyncAreRemoved(@TempDir final Path tempDir) throws Exception {
+        // given
+        final PersistenceStorageConfig config = ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .withValue(PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY, tempDir.resolve("live").toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY, tempDir.resolve("archive").toString())
+                .withValue(PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY, tempDir.resolve("unverified").toString())
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+        final MetricsService testMetricsService = TestConfigUtil.getTestBlockNodeMetricsService();
+        final BlockPathResolver pathResolver = new BlockAsLocalFilePathResolver(config);
+        final GroupCommitter groupCommitter = mock(GroupCommitter.class);
+        final CompletableFuture<Void> failedCommit = new CompletableFuture<>();
+        final CompletableFuture<Void> laterCommit = new CompletableFuture<>();
+        final CompletableFuture<Void> retriedCommit = new CompletableFuture<>();
+        when(groupCommitter.commit(any())).thenReturn(failedCommit, laterCommit, retriedCommit);
+        final AckHandlerImpl handler =
+                new AckHandlerImpl(notifier, false, serviceStatus, blockRemover, testMetricsService, groupCommitter);
+        final AsyncBlockWriterFactory writerFactory = new AsyncBlockAsLocalFileWriterFactory(
+                pathResolver, blockRemover, NoOpCompression.newInstance(), handler, testMetricsService);
+        // registers itself with the ack handler
+        new StreamPersistenceHandlerImpl(
+                mock(SubscriptionHandler.class),
+                notifier,
+                testMetricsService,
+                serviceStatus,
+                handler,
+                writerFactory,
+                Runnable::run,
+                mock(LocalBlockArchiver.class),
+                pathResolver,
+                config);
+        final Bytes hash = Bytes.wrap("hash".getBytes());
+
+        // when
+        persistBlock(writerFactory, 0L);
+        handler.blockVerified(0L, hash);
+        persistBlock(writerFactory, 1L);
+        handler.blockVerified(1L, hash);
+        assertTrue(pathResolver.existsVerifiedBlock(1L));
+        // block 1 is in a later group, which syncs after the group of block 0 failed
+        failedCommit.completeExceptionally(new IOException("sync failed"));
+        laterCommit.complete(null);
+
+        // then
+        verify(notifier).sendEndOfStream(-1L, PublishStreamResponseCode.STREAM_ITEMS_BAD_STATE_PROOF);
+        verify(notifier, never()).sendAck(anyLong(), any(), anyBoolean());
+        assertFalse(pathResolver.existsVerifiedBlock(0L));
+        assertFalse(pathResolver.existsVerifiedBlock(1L));
+
+        // when the publisher sends the block again
+        persistBlock(writerFactory, 0L);
+        handler.blockVerified(0L, hash);
+        retriedCommit.complete(null);
+
+        // then it is written again, rather than taken for a duplicate, and ACKed
+        assertEquals(3L, testMetricsService.get(BlocksPersisted).get());
+        assertEquals(0L, testMetricsService.get(BlockPersistenceError).get());
+        verify(notifier).sendAck(0L, hash, false);
+        verify(notifier, never()).sendAck(eq(1L), any(), anyBoolean());
+        assertTrue(pathResolver.existsVerifiedBlock(0L));
+    }
+
+    // Helper method to write a whole block with a writer, which reports the result to its ack handler.
+    private static void persistBlock(final AsyncBlockWriterFactory writerFactory, final long blockNumber)
+            throws Exception {
+        final AsyncBlockWriter writer = writerFactory.create(blockNumber);
+        generateBlockItemsUnparsedForWithBlockNumber(blockNumber).forEach(writer.getQueue()::offer);
+        writer.call();
+    }
+
     // Helper method to create a dummy Bytes object from a long.
     private static Bytes bytesFromLong(long value) {
         byte[] arr = new byte[8];
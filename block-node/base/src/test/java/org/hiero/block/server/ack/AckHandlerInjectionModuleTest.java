@@ -41,7 +41,10 @@ class AckHandlerInjectionModuleTest {
                 PersistenceStorageConfig.ExecutorType.THREAD_POOL,
                 6,
                 60000,
-                true);
+                true,
+                PersistenceStorageConfig.DurabilityMode.NONE,
+                5,
+                268435456L);
         final VerificationConfig verificationConfig = mock(VerificationConfig.class);
         when(verificationConfig.type()).thenReturn(VerificationConfig.VerificationServiceType.PRODUCTION);
 
@@ -0,0 +1,71 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class BlockItemFilterTest {
+
+    // Field numbers of the BlockItemUnparsed oneof cases
+    private static final int BLOCK_HEADER = 1;
+    private static final int STATE_CHANGES = 7;
+    private static final int BLOCK_PROOF = 9;
+    private static final int RECORD_FILE = 10;
+
+    private final BlockItemUnparsed blockHeader =
+            BlockItemUnparsed.newBuilder().blockHeader(Bytes.wrap("block_header")).build();
+    private final BlockItemUnparsed eventHeader =
+            BlockItemUnparsed.newBuilder().eventHeader(Bytes.wrap("event_header")).build();
+    private final BlockItemUnparsed stateChanges =
+            BlockItemUnparsed.newBuilder().stateChanges(Bytes.wrap("state_changes")).build();
+    private final BlockItemUnparsed blockProof =
+            BlockItemUnparsed.newBuilder().blockProof(Bytes.wrap("block_proof")).build();
+    private final List<BlockItemUnparsed> block = List.of(blockHeader, eventHeader, stateChanges, blockProof);
+
+    @Test
+    public void testNoKindsSendsEverything() {
+        final BlockItemFilter filter = BlockItemFilter.of(List.of(), List.of());
+        assertSame(BlockItemFilter.ALL, filter);
+        assertTrue(filter.isAll());
+        assertSame(block, filter.filter(block));
+    }
+
+    @Test
+    public void testIncludedKinds() {
+        final BlockItemFilter filter = BlockItemFilter.of(List.of(BLOCK_HEADER, BLOCK_PROOF), List.of());
+        assertFalse(filter.isAll());
+        assertEquals(List.of(blockHeader, blockProof), filter.filter(block));
+
+        // A batch with only included items is not copied
+        final List<BlockItemUnparsed> batch = List.of(blockHeader);
+        assertSame(batch, filter.filter(batch));
+        assertTrue(filter.filter(List.of(eventHeader, stateChanges)).isEmpty());
+    }
+
+    @Test
+    public void testExcludedKinds() {
+        final BlockItemFilter filter = BlockItemFilter.of(List.of(), List.of(STATE_CHANGES, RECORD_FILE));
+        assertEquals(List.of(blockHeader, eventHeader, blockProof), filter.filter(block));
+
+        // Excluding a kind wins over including it
+        final BlockItemFilter both = BlockItemFilter.of(List.of(BLOCK_HEADER, STATE_CHANGES), List.of(STATE_CHANGES));
+        assertEquals(List.of(blockHeader), both.filter(block));
+    }
+
+    @Test
+    public void testUnknownKindsAreIgnored() {
+        assertTrue(BlockItemFilter.of(List.of(), List.of(0, 99)).isAll());
+
+        // Only unknown kinds included is the same as none included, so everything is sent
+        assertTrue(BlockItemFilter.of(List.of(99), List.of()).isAll());
+        final BlockItemFilter unknownIncluded = BlockItemFilter.of(List.of(0, 99), List.of(STATE_CHANGES));
+        assertEquals(List.of(blockHeader, eventHeader, blockProof), unknownIncluded.filter(block));
+    }
+}
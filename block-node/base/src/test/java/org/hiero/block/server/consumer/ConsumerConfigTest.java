@@ -2,10 +2,22 @@
 package org.hiero.block.server.consumer;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.hiero.block.server.consumer.ConsumerConfig.OutboundBufferFullPolicy.PAUSE;
+import static org.hiero.block.server.consumer.ConsumerConfig.minHistoricReadAheadBlocks;
+import static org.hiero.block.server.consumer.ConsumerConfig.minHistoricReadAheadBytes;
+import static org.hiero.block.server.consumer.ConsumerConfig.minHistoricReadPermits;
+import static org.hiero.block.server.consumer.ConsumerConfig.minHistoricSharedWindowBlocks;
+import static org.hiero.block.server.consumer.ConsumerConfig.minHistoricSharedWindowBytes;
+import static org.hiero.block.server.consumer.ConsumerConfig.minHistoricStreamReadPermits;
 import static org.hiero.block.server.consumer.ConsumerConfig.minMaxBlockItemBatchSize;
+import static org.hiero.block.server.consumer.ConsumerConfig.minMaxClosedRangeStreams;
+import static org.hiero.block.server.consumer.ConsumerConfig.minMaxLiveStreamBatchBytes;
+import static org.hiero.block.server.consumer.ConsumerConfig.minMaxLiveStreamBatchEvents;
+import static org.hiero.block.server.consumer.ConsumerConfig.minOutboundBufferBytes;
 import static org.hiero.block.server.consumer.ConsumerConfig.minTimeoutThresholdMillis;
 
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -16,7 +28,8 @@ public class ConsumerConfigTest {
     @MethodSource("outOfRangeMaxBlockItemBatchSize")
     public void testMaxBlockItemBatchSize(int maxBlockItemBatchSize, final String message) {
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> new ConsumerConfig(1500, 3, maxBlockItemBatchSize))
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500, 3, maxBlockItemBatchSize, 32, 524288, 0, PAUSE, 8, 16777216, 64, 67108864, 64, 16, 2))
                 .withMessage(message);
     }
 
@@ -24,7 +37,8 @@ public class ConsumerConfigTest {
     @MethodSource("outOfRangeTimeoutThresholdMillis")
     public void testTimeoutThresholdMillis(int timeoutThresholdMillis, final String message) {
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> new ConsumerConfig(timeoutThresholdMillis, 3, 1000))
+                .isThrownBy(() -> new ConsumerConfig(
+                        timeoutThresholdMillis, 3, 1000, 32, 524288, 0, PAUSE, 8, 16777216, 64, 67108864, 64, 16, 2))
                 .withMessage(message);
     }
 
@@ -32,10 +46,119 @@ public class ConsumerConfigTest {
     @MethodSource("outOfRangeCueHistoricStreamingPaddingBlocks")
     public void testCueHistoricStreamingPaddingBlocks(int cueHistoricStreamingPaddingBlocks, final String message) {
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> new ConsumerConfig(1500, cueHistoricStreamingPaddingBlocks, 1000))
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500,
+                        cueHistoricStreamingPaddingBlocks,
+                        1000,
+                        32,
+                        524288,
+                        0,
+                        PAUSE,
+                        8,
+                        16777216,
+                        64,
+                        67108864,
+                        64,
+                        16,
+                        2))
+                .withMessage(message);
+    }
+
+    @ParameterizedTest
+    @MethodSource("outOfRangeMaxLiveStreamBatchEvents")
+    public void testMaxLiveStreamBatchEvents(int maxLiveStreamBatchEvents, final String message) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500,
+                        3,
+                        1000,
+                        maxLiveStreamBatchEvents,
+                        524288,
+                        0,
+                        PAUSE,
+                        8,
+                        16777216,
+                        64,
+                        67108864,
+                        64,
+                        16,
+                        2))
                 .withMessage(message);
     }
 
+    @ParameterizedTest
+    @MethodSource("outOfRangeMaxLiveStreamBatchBytes")
+    public void testMaxLiveStreamBatchBytes(int maxLiveStreamBatchBytes, final String message) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500, 3, 1000, 32, maxLiveStreamBatchBytes, 0, PAUSE, 8, 16777216, 64, 67108864, 64, 16, 2))
+                .withMessage(message);
+    }
+
+    @Test
+    public void testOutboundBufferBytes() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500, 3, 1000, 32, 524288, -1, PAUSE, 8, 16777216, 64, 67108864, 64, 16, 2))
+                .withMessage(String.format(
+                        "The input number [%d] is required to be greater or equal than [%d].",
+                        -1, minOutboundBufferBytes));
+    }
+
+    @Test
+    public void testHistoricReadAhead() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500, 3, 1000, 32, 524288, 0, PAUSE, -1, 16777216, 64, 67108864, 64, 16, 2))
+                .withMessage(String.format(
+                        "The input number [%d] is required to be greater or equal than [%d].",
+                        -1, minHistoricReadAheadBlocks));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500, 3, 1000, 32, 524288, 0, PAUSE, 8, 0, 64, 67108864, 64, 16, 2))
+                .withMessage(String.format(
+                        "The input number [%d] is required to be greater or equal than [%d].",
+                        0, minHistoricReadAheadBytes));
+    }
+
+    @Test
+    public void testHistoricSharedWindowBlocks() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500, 3, 1000, 32, 524288, 0, PAUSE, 8, 16777216, -1, 67108864, 64, 16, 2))
+                .withMessage(String.format(
+                        "The input number [%d] is required to be greater or equal than [%d].",
+                        -1, minHistoricSharedWindowBlocks));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500, 3, 1000, 32, 524288, 0, PAUSE, 8, 16777216, 64, 0, 64, 16, 2))
+                .withMessage(String.format(
+                        "The input number [%d] is required to be greater or equal than [%d].",
+                        0, minHistoricSharedWindowBytes));
+    }
+
+    @Test
+    public void testHistoricStreamingLimits() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500, 3, 1000, 32, 524288, 0, PAUSE, 8, 16777216, 64, 67108864, 0, 16, 2))
+                .withMessage(String.format(
+                        "The input number [%d] is required to be greater or equal than [%d].",
+                        0, minMaxClosedRangeStreams));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500, 3, 1000, 32, 524288, 0, PAUSE, 8, 16777216, 64, 67108864, 64, 0, 2))
+                .withMessage(String.format(
+                        "The input number [%d] is required to be greater or equal than [%d].",
+                        0, minHistoricReadPermits));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ConsumerConfig(
+                        1500, 3, 1000, 32, 524288, 0, PAUSE, 8, 16777216, 64, 67108864, 64, 16, 0))
+                .withMessage(String.format(
+                        "The input number [%d] is required to be greater or equal than [%d].",
+                        0, minHistoricStreamReadPermits));
+    }
+
     private static Stream<Arguments> outOfRangeMaxBlockItemBatchSize() {
         return Stream.of(
                 Arguments.of(
@@ -77,4 +200,32 @@ public class ConsumerConfigTest {
                                 "The input number [%d] is required to be greater or equal than [%d].",
                                 -1, minMaxBlockItemBatchSize)));
     }
+
+    private static Stream<Arguments> outOfRangeMaxLiveStreamBatchEvents() {
+        return Stream.of(
+                Arguments.of(
+                        0,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                0, minMaxLiveStreamBatchEvents)),
+                Arguments.of(
+                        -1,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                -1, minMaxLiveStreamBatchEvents)));
+    }
+
+    private static Stream<Arguments> outOfRangeMaxLiveStreamBatchBytes() {
+        return Stream.of(
+                Arguments.of(
+                        0,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                0, minMaxLiveStreamBatchBytes)),
+                Arguments.of(
+                        -1,
+                        String.format(
+                                "The input number [%d] is required to be greater or equal than [%d].",
+                                -1, minMaxLiveStreamBatchBytes)));
+    }
 }
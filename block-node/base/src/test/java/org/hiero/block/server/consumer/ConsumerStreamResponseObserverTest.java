@@ -1,8 +1,13 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.consumer;
 
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ConsumersDisconnected;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.OutboundStreamingError;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
@@ -24,6 +29,7 @@ import java.io.UncheckedIOException;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import org.hiero.block.server.mediator.LiveStreamMediator;
 import org.hiero.block.server.mediator.LiveStreamMediatorBuilder;
 import org.hiero.block.server.mediator.MediatorConfig;
@@ -238,6 +244,69 @@ public class ConsumerStreamResponseObserverTest {
         verify(helidonResponseStreamObserver, timeout(testTimeout).times(0)).onNext(subscribeStreamResponse);
     }
 
+    @Test
+    public void testConsumerDisconnectedWhenOutboundBufferFull() throws Exception {
+        final Map<String, String> configMap = Map.of(
+                TestConfigUtil.CONSUMER_TIMEOUT_THRESHOLD_KEY,
+                String.valueOf(TIMEOUT_THRESHOLD_MILLIS),
+                "consumer.outboundBufferBytes",
+                "1",
+                "consumer.outboundBufferFullPolicy",
+                "DISCONNECT");
+        final ConsumerConfig disconnectConsumerConfig =
+                TestConfigUtil.getTestBlockNodeConfiguration(configMap).getConfigData(ConsumerConfig.class);
+
+        // The client never reads, so the writer thread is held up by the first response
+        final CountDownLatch clientReading = new CountDownLatch(1);
+        doAnswer(invocation -> {
+                    clientReading.await();
+                    return null;
+                })
+                .when(helidonResponseStreamObserver)
+                .onNext(any());
+
+        final LiveStreamMediator streamMediator = LiveStreamMediatorBuilder.newBuilder(
+                        metricsService, mediatorConfig, serviceStatus)
+                .build();
+        when(testClock.millis()).thenReturn(TEST_TIME);
+
+        // Mock live streaming
+        when(subscribeStreamRequest.startBlockNumber()).thenReturn(0L);
+        when(serviceStatus.isRunning()).thenReturn(true);
+
+        final StreamManager streamManager = ConsumerStreamBuilder.buildStreamManager(
+                testClock,
+                subscribeStreamRequest,
+                streamMediator,
+                helidonResponseStreamObserver,
+                blockReader,
+                serviceStatus,
+                metricsService,
+                disconnectConsumerConfig);
+
+        // Set up the StreamManager to poll for
+        // block items
+        streamManager.execute();
+
+        // The one byte buffer is full once a response is queued behind
+        // the one being written, so the consumer is disconnected by the third
+        boolean streaming = true;
+        for (int i = 1; i <= 3 && streaming; i++) {
+            final BlockHeader blockHeader = BlockHeader.newBuilder().number(i).build();
+            streamMediator.publish(List.of(BlockItemUnparsed.newBuilder()
+                    .blockHeader(BlockHeader.PROTOBUF.toBytes(blockHeader))
+                    .build()));
+            streaming = streamManager.execute();
+        }
+        clientReading.countDown();
+
+        // The consumer is disconnected quietly, not counted as an error
+        assertFalse(streaming);
+        assertFalse(streamMediator.isSubscribed(streamManager));
+        assertEquals(1, metricsService.get(ConsumersDisconnected).get());
+        assertEquals(0, metricsService.get(OutboundStreamingError).get());
+    }
+
     @ParameterizedTest
     @ValueSource(classes = {RuntimeException.class, UncheckedIOException.class})
     public void testClientDisconnectWithUncheckedIOException(Class<RuntimeException> runtimeException) {
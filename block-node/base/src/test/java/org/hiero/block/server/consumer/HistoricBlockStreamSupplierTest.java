@@ -2,12 +2,17 @@
 package org.hiero.block.server.consumer;
 
 import static org.hiero.block.server.util.PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber;
+import static org.hiero.block.server.service.Constants.READ_STREAM_SUCCESS_RESPONSE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.hedera.hapi.block.BlockItemSetUnparsed;
 import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.hapi.block.BlockUnparsed;
 import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
@@ -15,10 +20,14 @@ import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.grpc.Pipeline;
 import com.swirlds.config.api.Configuration;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 import org.hiero.block.common.utils.ChunkUtils;
 import org.hiero.block.server.metrics.MetricsService;
@@ -30,6 +39,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -116,6 +126,82 @@ public class HistoricBlockStreamSupplierTest {
         verify(helidonConsumerObserver, timeout(testTimeout).times(1)).onNext(any());
     }
 
+    @Test
+    public void testClosedRangeHistoricStreamingReadAheadKeepsOrder() throws Exception {
+        final int numberOfBlocks = 20;
+        final List<BlockUnparsed> blocks = generateBlocks(numberOfBlocks, 5);
+        for (int i = 1; i <= numberOfBlocks; i++) {
+            when(blockReader.read(i)).thenReturn(Optional.of(blocks.get(i - 1)));
+        }
+
+        final ExecutorService readAheadExecutor = Executors.newFixedThreadPool(4);
+        try {
+            final Runnable closedRangeHistoricStreamingRunnable = ClosedRangeHistoricStreamEventHandlerBuilder.build(
+                    1L,
+                    numberOfBlocks,
+                    blockReader,
+                    helidonConsumerObserver,
+                    metricsService,
+                    consumerConfig,
+                    BlockItemFilter.ALL,
+                    readAheadExecutor);
+            closedRangeHistoricStreamingRunnable.run();
+        } finally {
+            readAheadExecutor.shutdownNow();
+        }
+
+        // The blocks are read in parallel, but still sent in order
+        final InOrder inOrder = inOrder(helidonConsumerObserver);
+        for (final BlockUnparsed block : blocks) {
+            inOrder.verify(helidonConsumerObserver)
+                    .onNext(SubscribeStreamResponseUnparsed.newBuilder()
+                            .blockItems(BlockItemSetUnparsed.newBuilder()
+                                    .blockItems(block.blockItems())
+                                    .build())
+                            .build());
+        }
+        inOrder.verify(helidonConsumerObserver).onNext(READ_STREAM_SUCCESS_RESPONSE);
+    }
+
+    @Test
+    public void testClosedRangeHistoricStreamingReadAheadStopsOnDisconnect() throws Exception {
+        final int numberOfBlocks = 20;
+        final List<BlockUnparsed> blocks = generateBlocks(numberOfBlocks, 5);
+        when(blockReader.read(anyLong()))
+                .thenAnswer(invocation -> Optional.of(blocks.get(invocation.<Long>getArgument(0).intValue() - 1)));
+
+        // The client disconnects on the first block
+        doThrow(new UncheckedIOException(new IOException("client disconnected")))
+                .doNothing()
+                .when(helidonConsumerObserver)
+                .onNext(any());
+
+        // Reads only run when the test runs them, so no read is in progress at the end
+        final List<Runnable> pendingReads = new ArrayList<>();
+        final HistoricBlockStreamSupplier historicBlockStreamSupplier = new HistoricBlockStreamSupplier(
+                1L,
+                numberOfBlocks,
+                blockReader,
+                helidonConsumerObserver,
+                metricsService,
+                consumerConfig,
+                BlockItemFilter.ALL,
+                command -> {
+                    // Read the first block straight away, defer the rest
+                    if (pendingReads.isEmpty()) {
+                        pendingReads.add(() -> {});
+                        command.run();
+                    } else {
+                        pendingReads.add(command);
+                    }
+                });
+        historicBlockStreamSupplier.run();
+
+        // The deferred reads were cancelled, so running them now reads nothing
+        pendingReads.forEach(Runnable::run);
+        verify(blockReader, times(1)).read(anyLong());
+    }
+
     private List<BlockUnparsed> generateBlocks(int numberOfBlocks, int itemsPerBlock) {
         final List<BlockUnparsed> blocks = new LinkedList<>();
         for (int i = 1; i <= numberOfBlocks; i++) {
@@ -0,0 +1,113 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import static org.hiero.block.server.util.PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hapi.block.BlockUnparsed;
+import com.swirlds.config.api.Configuration;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.util.TestConfigUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class HistoricDataPollerImplTest {
+
+    // Run the reads on the polling thread, so the test is deterministic
+    private static final Executor directExecutor = Runnable::run;
+
+    @Mock
+    private BlockReader<BlockUnparsed> blockReader;
+
+    private MetricsService metricsService;
+    private ConsumerConfig consumerConfig;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        final Map<String, String> configMap = Map.of(
+                "consumer.maxBlockItemBatchSize", "1000",
+                "consumer.historicReadAheadBlocks", "4");
+        final Configuration config = TestConfigUtil.getTestBlockNodeConfiguration(configMap);
+        this.metricsService = TestConfigUtil.getTestBlockNodeMetricsService(config);
+        this.consumerConfig = config.getConfigData(ConsumerConfig.class);
+    }
+
+    @Test
+    public void testReadAheadPollsBlocksInOrder() throws Exception {
+        final Map<Long, BlockUnparsed> persistedBlocks = new ConcurrentHashMap<>();
+        for (int i = 1; i <= 5; i++) {
+            persistedBlocks.put((long) i, block(i));
+        }
+        when(blockReader.read(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(persistedBlocks.get(invocation.<Long>getArgument(0))));
+
+        final HistoricDataPollerImpl poller =
+                new HistoricDataPollerImpl(blockReader, metricsService, consumerConfig, directExecutor);
+        poller.init(1);
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(persistedBlocks.get((long) i).blockItems(), poller.poll().orElseThrow());
+        }
+
+        // Block 6 is not persisted yet
+        assertTrue(poller.poll().isEmpty());
+
+        // Once it is, the next poll reads it again
+        persistedBlocks.put(6L, block(6));
+        assertEquals(persistedBlocks.get(6L).blockItems(), poller.poll().orElseThrow());
+
+        // Every block is read once, apart from block 6 which was not there the first time
+        for (int i = 1; i <= 5; i++) {
+            verify(blockReader, times(1)).read(i);
+        }
+        verify(blockReader, times(2)).read(6);
+    }
+
+    @Test
+    public void testReadAheadDisabled() throws Exception {
+        final Configuration config =
+                TestConfigUtil.getTestBlockNodeConfiguration(Map.of("consumer.historicReadAheadBlocks", "0"));
+        when(blockReader.read(0)).thenReturn(Optional.of(block(0)));
+
+        // The blocks are read on the polling thread, the executor is never used
+        final Executor unusedExecutor = command -> {
+            throw new AssertionError("Read-ahead is disabled");
+        };
+        final HistoricDataPollerImpl poller = new HistoricDataPollerImpl(
+                blockReader, metricsService, config.getConfigData(ConsumerConfig.class), unusedExecutor);
+        poller.init(0);
+        assertEquals(block(0).blockItems(), poller.poll().orElseThrow());
+        verify(blockReader, times(1)).read(0);
+    }
+
+    @Test
+    public void testReadAheadFailureIsThrown() throws Exception {
+        when(blockReader.read(0)).thenThrow(new IOException("disk failure"));
+
+        final HistoricDataPollerImpl poller =
+                new HistoricDataPollerImpl(blockReader, metricsService, consumerConfig, directExecutor);
+        poller.init(0);
+        assertThrows(IOException.class, poller::poll);
+    }
+
+    private static BlockUnparsed block(final long blockNumber) {
+        return BlockUnparsed.newBuilder()
+                .blockItems(generateBlockItemsUnparsedForWithBlockNumber(blockNumber))
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ClosedRangeHistoricStreamsRejected;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hapi.block.BlockUnparsed;
+import com.swirlds.config.api.Configuration;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.util.TestConfigUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class HistoricStreamingSchedulerTest {
+
+    @Mock
+    private BlockReader<BlockUnparsed> blockReader;
+
+    private MetricsService metricsService;
+    private ConsumerConfig consumerConfig;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        final Map<String, String> configMap = Map.of(
+                "consumer.maxClosedRangeStreams", "2",
+                "consumer.historicReadPermits", "1");
+        final Configuration config = TestConfigUtil.getTestBlockNodeConfiguration(configMap);
+        this.metricsService = TestConfigUtil.getTestBlockNodeMetricsService(config);
+        this.consumerConfig = config.getConfigData(ConsumerConfig.class);
+    }
+
+    @Test
+    public void testClosedRangeStreamsOverLimitAreRejected() {
+        final HistoricStreamingScheduler scheduler = new HistoricStreamingScheduler(metricsService, consumerConfig);
+
+        assertTrue(scheduler.tryAdmitClosedRangeStream());
+        assertTrue(scheduler.tryAdmitClosedRangeStream());
+        assertFalse(scheduler.tryAdmitClosedRangeStream());
+        assertEquals(2, scheduler.closedRangeStreams());
+        assertEquals(1, metricsService.get(ClosedRangeHistoricStreamsRejected).get());
+
+        // Once a stream ends, another one is admitted
+        scheduler.releaseClosedRangeStream();
+        assertTrue(scheduler.tryAdmitClosedRangeStream());
+        assertEquals(2, scheduler.closedRangeStreams());
+    }
+
+    @Test
+    public void testReleasingStreamReleasesOnFailure() {
+        final HistoricStreamingScheduler scheduler = new HistoricStreamingScheduler(metricsService, consumerConfig);
+
+        assertTrue(scheduler.tryAdmitClosedRangeStream());
+        final Runnable stream = scheduler.releasing(() -> {
+            throw new IllegalStateException("stream failure");
+        });
+        assertThrows(IllegalStateException.class, stream::run);
+        assertEquals(0, scheduler.closedRangeStreams());
+    }
+
+    @Test
+    public void testBlockReadsAreLimited() throws Exception {
+        final AtomicInteger reading = new AtomicInteger();
+        final AtomicInteger maxReading = new AtomicInteger();
+        final CountDownLatch firstRead = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(blockReader.read(anyLong())).thenAnswer(invocation -> {
+            maxReading.accumulateAndGet(reading.incrementAndGet(), Math::max);
+            firstRead.countDown();
+            release.await();
+            reading.decrementAndGet();
+            return Optional.of(BlockUnparsed.newBuilder().build());
+        });
+        final HistoricStreamingScheduler scheduler = new HistoricStreamingScheduler(metricsService, consumerConfig);
+        final BlockReader<BlockUnparsed> limitedReader = scheduler.limit(blockReader);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Optional<BlockUnparsed>> first = executor.submit(() -> limitedReader.read(1));
+            assertTrue(firstRead.await(1, TimeUnit.SECONDS));
+
+            // The second read waits for the only read permit
+            final Future<Optional<BlockUnparsed>> second = executor.submit(() -> limitedReader.read(2));
+            release.countDown();
+            assertTrue(first.get(1, TimeUnit.SECONDS).isPresent());
+            assertTrue(second.get(1, TimeUnit.SECONDS).isPresent());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, maxReading.get());
+    }
+
+    @Test
+    public void testStreamReadsAreLimitedPerStream() throws Exception {
+        final AtomicInteger reading = new AtomicInteger();
+        final AtomicInteger maxReading = new AtomicInteger();
+        final CountDownLatch firstRead = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(blockReader.read(anyLong())).thenAnswer(invocation -> {
+            maxReading.accumulateAndGet(reading.incrementAndGet(), Math::max);
+            firstRead.countDown();
+            release.await();
+            reading.decrementAndGet();
+            return Optional.of(BlockUnparsed.newBuilder().build());
+        });
+        final BlockReader<BlockUnparsed> streamReader = HistoricStreamingScheduler.limitStream(blockReader, 1);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Optional<BlockUnparsed>> first = executor.submit(() -> streamReader.read(1));
+            assertTrue(firstRead.await(1, TimeUnit.SECONDS));
+
+            // The stream reading ahead waits for its only stream read permit
+            final Future<Optional<BlockUnparsed>> second = executor.submit(() -> streamReader.read(2));
+            release.countDown();
+            assertTrue(first.get(1, TimeUnit.SECONDS).isPresent());
+            assertTrue(second.get(1, TimeUnit.SECONDS).isPresent());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, maxReading.get());
+    }
+}
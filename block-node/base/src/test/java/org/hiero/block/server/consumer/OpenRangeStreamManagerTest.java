@@ -1,7 +1,9 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.hiero.block.server.consumer;
 
+import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.CUE_HISTORIC_STREAMING;
 import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.CUE_LIVE_STREAMING;
+import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.DRAIN_LIVE_STREAMING;
 import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.HISTORIC_STREAMING;
 import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.INIT_HISTORIC;
 import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.INIT_LIVE;
@@ -9,6 +11,7 @@ import static org.hiero.block.server.consumer.OpenRangeStreamManager.State.LIVE_
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.ClosedRangeHistoricBlocksRetrieved;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.HistoricToLiveStreamTransitions;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.LiveBlockItemsConsumed;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.LiveToHistoricStreamTransitions;
 import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.CurrentBlockNumberOutbound;
 import static org.hiero.block.server.util.PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -43,6 +46,7 @@ import org.hiero.block.server.service.ServiceStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -85,13 +89,14 @@ public class OpenRangeStreamManagerTest {
     @Mock
     private Counter liveBlockItemsConsumed;
 
-    //    @Mock
-    //    private Counter liveToHistoricStreamTransitions;
+    @Mock
+    private Counter liveToHistoricStreamTransitions;
 
     @Mock
     private Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver;
 
-    @Mock
+    // Call the real default methods, so draining the poller uses the mocked poll()
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private Poller<ObjectEvent<List<BlockItemUnparsed>>> liveBlockItemPoller;
 
     @BeforeEach
@@ -99,6 +104,8 @@ public class OpenRangeStreamManagerTest {
         // Set up the ConsumerConfig
         when(consumerConfig.maxBlockItemBatchSize()).thenReturn(1000);
         when(consumerConfig.timeoutThresholdMillis()).thenReturn(TIMEOUT_THRESHOLD_MILLIS);
+        when(consumerConfig.maxLiveStreamBatchEvents()).thenReturn(32);
+        when(consumerConfig.maxLiveStreamBatchBytes()).thenReturn(524288);
     }
 
     @Test
@@ -158,6 +165,68 @@ public class OpenRangeStreamManagerTest {
         verify(helidonConsumerObserver, times(NUM_OF_BLOCKS)).onNext(any());
     }
 
+    @Test
+    public void testLiveStreamMergesBatchesWithinBlock() throws Exception {
+
+        // Set up the test clock within the time range
+        when(testClock.millis()).thenReturn(TEST_TIME, TEST_TIME + 1);
+
+        final int NUM_OF_BLOCKS = 3;
+        final List<BlockUnparsed> blocks = buildBlocks(NUM_OF_BLOCKS);
+
+        // Prep the poller to mock a "live stream" publishing each block in two batches
+        final List<Optional<ObjectEvent<List<BlockItemUnparsed>>>> liveStreamResults = new ArrayList<>();
+        for (final BlockUnparsed block : blocks) {
+            final List<BlockItemUnparsed> blockItems = block.blockItems();
+            final int half = blockItems.size() / 2;
+            for (final List<BlockItemUnparsed> batch :
+                    List.of(blockItems.subList(0, half), blockItems.subList(half, blockItems.size()))) {
+                final ObjectEvent<List<BlockItemUnparsed>> objectEvent = new ObjectEvent<>();
+                objectEvent.set(batch);
+                liveStreamResults.add(Optional.of(objectEvent));
+            }
+        }
+        liveStreamResults.add(Optional.empty());
+
+        // Prep the poller to return the live stream results in order
+        when(liveBlockItemPoller.poll())
+                .thenReturn(
+                        liveStreamResults.get(0),
+                        liveStreamResults.subList(1, liveStreamResults.size()).toArray(new Optional[0]));
+
+        // Prep the subscriptionHandler to return the poller when subscribing
+        when(subscriptionHandler.subscribePoller(any())).thenReturn(liveBlockItemPoller);
+
+        // Mock a subscribeStreamRequest indicating a live stream starting
+        when(subscribeStreamRequest.startBlockNumber()).thenReturn(0L);
+        when(metricsService.get(CurrentBlockNumberOutbound)).thenReturn(currentBlockNumberOutbound);
+        when(metricsService.get(LiveBlockItemsConsumed)).thenReturn(liveBlockItemsConsumed);
+
+        final OpenRangeStreamManager streamManager = ConsumerStreamBuilder.buildStreamManager(
+                testClock,
+                subscribeStreamRequest,
+                subscriptionHandler,
+                helidonConsumerObserver,
+                blockReader,
+                serviceStatus,
+                metricsService,
+                consumerConfig);
+
+        // INIT_LIVE - transition
+        assertTrue(streamManager.execute());
+        assertEquals(LIVE_STREAMING, streamManager.getState());
+
+        // Each block is sent in a single response, merged from its two batches
+        for (int i = 0; i < NUM_OF_BLOCKS; i++) {
+            assertTrue(streamManager.execute());
+            assertEquals(LIVE_STREAMING, streamManager.getState());
+            verify(helidonConsumerObserver, times(1))
+                    .onNext(buildResponse(blocks.get(i).blockItems()));
+        }
+
+        verify(helidonConsumerObserver, times(NUM_OF_BLOCKS)).onNext(any());
+    }
+
     @Test
     public void testHappyPathHistoricToLiveStreamTransition() throws Exception {
 
@@ -176,9 +245,9 @@ public class OpenRangeStreamManagerTest {
 
         // Prep the blockReader to return 2 historical blocks
         // for the last part of the test when we transition back to historic
-        //        for (int i = 14; i < NUM_OF_BLOCKS; i++) {
-        //            when(blockReader.read(i)).thenReturn(Optional.of(blocks.get(i)));
-        //        }
+        for (int i = 14; i < NUM_OF_BLOCKS; i++) {
+            when(blockReader.read(i)).thenReturn(Optional.of(blocks.get(i)));
+        }
 
         // Prep the serviceStatus to return the last acked block number
         // Block 5 is acked
@@ -206,13 +275,13 @@ public class OpenRangeStreamManagerTest {
         // from block 1 and to live stream once it catches up.
         when(subscribeStreamRequest.startBlockNumber()).thenReturn(1L);
 
-        //        when(consumerConfig.cueHistoricStreamingPaddingBlocks()).thenReturn(3);
+        when(consumerConfig.cueHistoricStreamingPaddingBlocks()).thenReturn(3);
 
         // Prep the metrics
         when(metricsService.get(ClosedRangeHistoricBlocksRetrieved)).thenReturn(closedRangeHistoricBlocksRetrieved);
         when(metricsService.get(HistoricToLiveStreamTransitions)).thenReturn(historicToLiveStreamTransitions);
         when(metricsService.get(CurrentBlockNumberOutbound)).thenReturn(currentBlockNumberOutbound);
-        //        when(metricsService.get(LiveToHistoricStreamTransitions)).thenReturn(liveToHistoricStreamTransitions);
+        when(metricsService.get(LiveToHistoricStreamTransitions)).thenReturn(liveToHistoricStreamTransitions);
         when(metricsService.get(LiveBlockItemsConsumed)).thenReturn(liveBlockItemsConsumed);
 
         final OpenRangeStreamManager streamManager = ConsumerStreamBuilder.buildStreamManager(
@@ -310,50 +379,135 @@ public class OpenRangeStreamManagerTest {
                     .onNext(buildResponse(blocks.get(i).blockItems()));
         }
 
-        // @todo(#750) - Re-enable this test once the slow consumer logic is implemented
         // Simulate a slow consumer - flag that the threshold has been exceeded
-        //        when(liveBlockItemPoller.exceedsThreshold()).thenReturn(true);
-
-        //        // STREAMING_LIVE - transition to DRAIN_LIVE_STREAMING
-        //        streamManager.execute();
-        //        assertEquals(DRAIN_LIVE_STREAMING, streamManager.getState());
-        //
-        //        // DRAIN_LIVE_STREAMING - blocks 13, transition back to INIT_HISTORIC
-        //        streamManager.execute();
-        //        assertEquals(INIT_HISTORIC, streamManager.getState());
-        //        verify(helidonConsumerObserver, times(1))
-        //                .onNext(buildResponse(blocks.get(13).blockItems()));
-        //
-        //        for (int i = 8; i < 15 + 3; i++) {
-        //            // Verify the streamManager stays on the
-        //            // CUE_HISTORIC_STREAMING state until the
-        //            // blocks acked exceed the next live block number
-        //            // + the default padding of 3
-        //            streamManager.execute();
-        //            assertEquals(CUE_HISTORIC_STREAMING, streamManager.getState());
-        //
-        //            // Simulate blocks being acked
-        //            when(serviceStatus.getLatestAckedBlock()).thenReturn(new BlockInfo(i));
-        //        }
-        //
-        //        // Simulate block 18 being acked
-        //        when(serviceStatus.getLatestAckedBlock()).thenReturn(new BlockInfo(18));
-        //
-        //        // Blocks up to 18 should be acked now - transition to HISTORIC_STREAMING
-        //        streamManager.execute();
-        //        assertEquals(HISTORIC_STREAMING, streamManager.getState());
-        //
-        //        // STREAMING_HISTORIC - block 14
-        //        streamManager.execute();
-        //        assertEquals(HISTORIC_STREAMING, streamManager.getState());
-        //        verify(helidonConsumerObserver, times(1))
-        //                .onNext(buildResponse(blocks.get(14).blockItems()));
-        //
-        //        // STREAMING_HISTORIC - block 15
-        //        streamManager.execute();
-        //        assertEquals(HISTORIC_STREAMING, streamManager.getState());
-        //        verify(helidonConsumerObserver, times(1))
-        //                .onNext(buildResponse(blocks.get(15).blockItems()));
+        when(liveBlockItemPoller.exceedsThreshold()).thenReturn(true);
+
+        // STREAMING_LIVE - transition to DRAIN_LIVE_STREAMING
+        assertTrue(streamManager.execute());
+        assertEquals(DRAIN_LIVE_STREAMING, streamManager.getState());
+
+        // DRAIN_LIVE_STREAMING - blocks 13, transition back to INIT_HISTORIC
+        assertTrue(streamManager.execute());
+        assertEquals(INIT_HISTORIC, streamManager.getState());
+        verify(helidonConsumerObserver, times(1))
+                .onNext(buildResponse(blocks.get(13).blockItems()));
+        verify(liveToHistoricStreamTransitions, times(1)).increment();
+
+        // Verify the live stream poller was released
+        verify(subscriptionHandler, times(1)).unsubscribePoller(any());
+
+        for (int i = 8; i < 14 + 3; i++) {
+            // Verify the streamManager stays on the
+            // CUE_HISTORIC_STREAMING state until the
+            // blocks acked reach the next historic block number
+            // + the padding of 3
+            assertTrue(streamManager.execute());
+            assertEquals(CUE_HISTORIC_STREAMING, streamManager.getState());
+
+            // Simulate blocks being acked
+            when(serviceStatus.getLatestAckedBlock()).thenReturn(new BlockInfo(i));
+        }
+
+        // Simulate block 17 being acked
+        when(serviceStatus.getLatestAckedBlock()).thenReturn(new BlockInfo(17));
+
+        // Blocks up to 17 should be acked now - transition to HISTORIC_STREAMING
+        assertTrue(streamManager.execute());
+        assertEquals(HISTORIC_STREAMING, streamManager.getState());
+
+        // STREAMING_HISTORIC - block 14
+        assertTrue(streamManager.execute());
+        assertEquals(HISTORIC_STREAMING, streamManager.getState());
+        verify(helidonConsumerObserver, times(1))
+                .onNext(buildResponse(blocks.get(14).blockItems()));
+
+        // STREAMING_HISTORIC - block 15
+        assertTrue(streamManager.execute());
+        assertEquals(HISTORIC_STREAMING, streamManager.getState());
+        verify(helidonConsumerObserver, times(1))
+                .onNext(buildResponse(blocks.get(15).blockItems()));
+    }
+
+    @Test
+    public void testLiveStreamOverflowRestartsHistoricAtBlockInProgress() throws Exception {
+
+        // Set up the test clock within the time range
+        when(testClock.millis()).thenReturn(TEST_TIME, TEST_TIME + 1);
+
+        final List<BlockUnparsed> blocks = buildBlocks(3);
+        when(blockReader.read(2)).thenReturn(Optional.of(blocks.get(2)));
+        when(serviceStatus.getLatestAckedBlock()).thenReturn(new BlockInfo(10));
+        when(consumerConfig.cueHistoricStreamingPaddingBlocks()).thenReturn(3);
+
+        // Prep the poller to mock a "live stream" that overflows part way through block 2
+        final List<BlockItemUnparsed> block2Items = blocks.get(2).blockItems();
+        final List<BlockItemUnparsed> block2Start = block2Items.subList(0, block2Items.size() / 2);
+        final ObjectEvent<List<BlockItemUnparsed>> block1Event = new ObjectEvent<>();
+        block1Event.set(blocks.get(1).blockItems());
+        final ObjectEvent<List<BlockItemUnparsed>> block2StartEvent = new ObjectEvent<>();
+        block2StartEvent.set(block2Start);
+        when(liveBlockItemPoller.poll())
+                .thenReturn(Optional.of(block1Event), Optional.of(block2StartEvent), Optional.empty());
+
+        // Prep the subscriptionHandler to return the poller when subscribing
+        when(subscriptionHandler.subscribePoller(any())).thenReturn(liveBlockItemPoller);
+
+        // Mock a subscribeStreamRequest indicating a live stream starting
+        when(subscribeStreamRequest.startBlockNumber()).thenReturn(0L);
+
+        // Prep the metrics
+        when(metricsService.get(ClosedRangeHistoricBlocksRetrieved)).thenReturn(closedRangeHistoricBlocksRetrieved);
+        when(metricsService.get(CurrentBlockNumberOutbound)).thenReturn(currentBlockNumberOutbound);
+        when(metricsService.get(LiveToHistoricStreamTransitions)).thenReturn(liveToHistoricStreamTransitions);
+        when(metricsService.get(LiveBlockItemsConsumed)).thenReturn(liveBlockItemsConsumed);
+
+        final OpenRangeStreamManager streamManager = ConsumerStreamBuilder.buildStreamManager(
+                testClock,
+                subscribeStreamRequest,
+                subscriptionHandler,
+                helidonConsumerObserver,
+                blockReader,
+                serviceStatus,
+                metricsService,
+                consumerConfig);
+
+        // INIT_LIVE - transition
+        assertTrue(streamManager.execute());
+        assertEquals(LIVE_STREAMING, streamManager.getState());
+
+        // STREAMING_LIVE - block 1
+        assertTrue(streamManager.execute());
+        assertEquals(LIVE_STREAMING, streamManager.getState());
+        verify(helidonConsumerObserver, times(1))
+                .onNext(buildResponse(blocks.get(1).blockItems()));
+
+        // Simulate the poller overflowing, it stops receiving events and keeps exceeding the threshold
+        when(liveBlockItemPoller.exceedsThreshold()).thenReturn(true);
+
+        // STREAMING_LIVE - transition to DRAIN_LIVE_STREAMING
+        assertTrue(streamManager.execute());
+        assertEquals(DRAIN_LIVE_STREAMING, streamManager.getState());
+
+        // DRAIN_LIVE_STREAMING - the start of block 2, which was queued before the overflow
+        assertTrue(streamManager.execute());
+        assertEquals(DRAIN_LIVE_STREAMING, streamManager.getState());
+        verify(helidonConsumerObserver, times(1)).onNext(buildResponse(block2Start));
+
+        // DRAIN_LIVE_STREAMING - the block proof never arrives, transition back to INIT_HISTORIC
+        assertTrue(streamManager.execute());
+        assertEquals(INIT_HISTORIC, streamManager.getState());
+        verify(liveToHistoricStreamTransitions, times(1)).increment();
+        verify(subscriptionHandler, times(1)).unsubscribePoller(any());
+
+        // Block 10 is acked, past the padding, so the historic stream starts straight away
+        assertTrue(streamManager.execute());
+        assertEquals(HISTORIC_STREAMING, streamManager.getState());
+
+        // STREAMING_HISTORIC - block 2 again, from its header
+        assertTrue(streamManager.execute());
+        assertEquals(HISTORIC_STREAMING, streamManager.getState());
+        verify(helidonConsumerObserver, times(1))
+                .onNext(buildResponse(blocks.get(2).blockItems()));
     }
 
     @Test
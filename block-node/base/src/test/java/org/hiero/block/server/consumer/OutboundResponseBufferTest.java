@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.hapi.block.BlockItemSetUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.SubscribeStreamResponseCode;
+import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
+import com.hedera.pbj.runtime.grpc.Pipeline;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.util.TestConfigUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboundResponseBufferTest {
+
+    private static final int testTimeout = 1000;
+
+    @Mock
+    private Pipeline<? super SubscribeStreamResponseUnparsed> helidonResponseStreamObserver;
+
+    private MetricsService metricsService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        metricsService = TestConfigUtil.getTestBlockNodeMetricsService(TestConfigUtil.getTestBlockNodeConfiguration());
+    }
+
+    @Test
+    public void testQueuedResponsesAreSentBeforeFinalResponse() throws InterruptedException {
+        final OutboundResponseBuffer buffer =
+                new OutboundResponseBuffer(helidonResponseStreamObserver, metricsService, 1024 * 1024);
+        final SubscribeStreamResponseUnparsed response1 = response("event_header_1");
+        final SubscribeStreamResponseUnparsed response2 = response("event_header_2");
+        final SubscribeStreamResponseUnparsed finalResponse = SubscribeStreamResponseUnparsed.newBuilder()
+                .status(SubscribeStreamResponseCode.READ_STREAM_SUCCESS)
+                .build();
+
+        buffer.put(response1);
+        assertTrue(buffer.offer(response2));
+        buffer.complete(finalResponse, false);
+
+        final InOrder inOrder = inOrder(helidonResponseStreamObserver);
+        inOrder.verify(helidonResponseStreamObserver, timeout(testTimeout)).onNext(response1);
+        inOrder.verify(helidonResponseStreamObserver, timeout(testTimeout)).onNext(response2);
+        inOrder.verify(helidonResponseStreamObserver, timeout(testTimeout)).onNext(finalResponse);
+        inOrder.verify(helidonResponseStreamObserver, timeout(testTimeout)).onComplete();
+
+        // Nothing can be queued once the buffer is completed
+        assertThrows(IllegalStateException.class, () -> buffer.offer(response1));
+    }
+
+    @Test
+    public void testFullBufferRejectsOffer() throws InterruptedException {
+        // Block the writer thread in the first send, like a client that stopped reading
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+                    sending.countDown();
+                    release.await();
+                    return null;
+                })
+                .when(helidonResponseStreamObserver)
+                .onNext(any());
+
+        final SubscribeStreamResponseUnparsed response1 = response("event_header_1");
+        final SubscribeStreamResponseUnparsed response2 = response("event_header_2");
+        final int responseSize = SubscribeStreamResponseUnparsed.PROTOBUF.measureRecord(response1);
+        final OutboundResponseBuffer buffer =
+                new OutboundResponseBuffer(helidonResponseStreamObserver, metricsService, responseSize);
+
+        // An empty buffer takes the response, which fills it
+        assertTrue(buffer.offer(response1));
+        assertTrue(sending.await(testTimeout, TimeUnit.MILLISECONDS));
+        assertTrue(buffer.isFull());
+        assertFalse(buffer.offer(response2));
+
+        // Once the client reads again there is room
+        release.countDown();
+        buffer.put(response2);
+        verify(helidonResponseStreamObserver, timeout(testTimeout)).onNext(response2);
+
+        // Complete and drop anything still queued
+        buffer.complete(null, true);
+        verify(helidonResponseStreamObserver, timeout(testTimeout)).onComplete();
+        verify(helidonResponseStreamObserver, never()).onError(any());
+    }
+
+    private static SubscribeStreamResponseUnparsed response(final String eventHeader) {
+        return SubscribeStreamResponseUnparsed.newBuilder()
+                .blockItems(BlockItemSetUnparsed.newBuilder()
+                        .blockItems(List.of(BlockItemUnparsed.newBuilder()
+                                .eventHeader(Bytes.wrap(eventHeader))
+                                .build()))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,181 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import static org.hiero.block.server.util.PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hapi.block.BlockUnparsed;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.util.TestConfigUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SharedHistoricBlockReaderTest {
+
+    private static final long WINDOW_BYTES = 64L * 1024 * 1024;
+
+    @Mock
+    private BlockReader<BlockUnparsed> blockReader;
+
+    private MetricsService metricsService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        metricsService = TestConfigUtil.getTestBlockNodeMetricsService(TestConfigUtil.getTestBlockNodeConfiguration());
+    }
+
+    @Test
+    public void testStreamsInWindowShareReads() throws Exception {
+        when(blockReader.read(anyLong())).thenAnswer(invocation -> Optional.of(block(invocation.getArgument(0))));
+        final SharedHistoricBlockReader sharedReader =
+                new SharedHistoricBlockReader(blockReader, metricsService, 4, WINDOW_BYTES);
+
+        // Two streams replaying the same range
+        for (long blockNumber = 1; blockNumber <= 3; blockNumber++) {
+            final Optional<BlockUnparsed> first = sharedReader.read(blockNumber);
+            assertSame(first.orElseThrow(), sharedReader.read(blockNumber).orElseThrow());
+            verify(blockReader, times(1)).read(blockNumber);
+        }
+    }
+
+    @Test
+    public void testStreamBehindWindowReadsPrivately() throws Exception {
+        when(blockReader.read(anyLong())).thenAnswer(invocation -> Optional.of(block(invocation.getArgument(0))));
+        final SharedHistoricBlockReader sharedReader =
+                new SharedHistoricBlockReader(blockReader, metricsService, 4, WINDOW_BYTES);
+
+        for (long blockNumber = 1; blockNumber <= 10; blockNumber++) {
+            sharedReader.read(blockNumber);
+        }
+        assertTrue(sharedReader.sharedBlocks() <= 4);
+
+        // Block 2 fell out of the window, so it is read again, and not shared
+        assertEquals(block(2), sharedReader.read(2).orElseThrow());
+        assertEquals(block(2), sharedReader.read(2).orElseThrow());
+        verify(blockReader, times(3)).read(2);
+
+        // Block 8 is still in the window
+        sharedReader.read(8);
+        verify(blockReader, times(1)).read(8);
+    }
+
+    @Test
+    public void testMissingBlocksAreNotShared() throws Exception {
+        when(blockReader.read(1)).thenReturn(Optional.empty()).thenReturn(Optional.of(block(1)));
+        final SharedHistoricBlockReader sharedReader =
+                new SharedHistoricBlockReader(blockReader, metricsService, 4, WINDOW_BYTES);
+
+        assertTrue(sharedReader.read(1).isEmpty());
+        assertEquals(block(1), sharedReader.read(1).orElseThrow());
+    }
+
+    @Test
+    public void testConcurrentReadIsShared() throws Exception {
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(blockReader.read(1)).thenAnswer(invocation -> {
+            reading.countDown();
+            release.await();
+            return Optional.of(block(1));
+        });
+        final SharedHistoricBlockReader sharedReader =
+                new SharedHistoricBlockReader(blockReader, metricsService, 4, WINDOW_BYTES);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Optional<BlockUnparsed>> first = executor.submit(() -> sharedReader.read(1));
+            assertTrue(reading.await(1, TimeUnit.SECONDS));
+
+            // The second stream waits for the read in progress
+            final Future<Optional<BlockUnparsed>> second = executor.submit(() -> sharedReader.read(1));
+            release.countDown();
+            assertSame(first.get(1, TimeUnit.SECONDS).orElseThrow(), second.get(1, TimeUnit.SECONDS).orElseThrow());
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(blockReader, times(1)).read(1);
+    }
+
+    @Test
+    public void testFailedReadIsNotShared() throws Exception {
+        when(blockReader.read(1)).thenThrow(new IOException("disk failure")).thenReturn(Optional.of(block(1)));
+        final SharedHistoricBlockReader sharedReader =
+                new SharedHistoricBlockReader(blockReader, metricsService, 4, WINDOW_BYTES);
+
+        assertThrows(IOException.class, () -> sharedReader.read(1));
+        assertEquals(block(1), sharedReader.read(1).orElseThrow());
+    }
+
+    @Test
+    public void testReadFailingWithErrorIsNotShared() throws Exception {
+        when(blockReader.read(1)).thenThrow(new OutOfMemoryError("no heap")).thenReturn(Optional.of(block(1)));
+        final SharedHistoricBlockReader sharedReader =
+                new SharedHistoricBlockReader(blockReader, metricsService, 4, WINDOW_BYTES);
+
+        assertThrows(OutOfMemoryError.class, () -> sharedReader.read(1));
+        assertEquals(0, sharedReader.sharedBlocks());
+        assertEquals(block(1), sharedReader.read(1).orElseThrow());
+    }
+
+    @Test
+    public void testWindowIsBoundedInBytes() throws Exception {
+        when(blockReader.read(anyLong())).thenAnswer(invocation -> Optional.of(block(invocation.getArgument(0))));
+        final long blockBytes = BlockUnparsed.PROTOBUF.measureRecord(block(1));
+        final SharedHistoricBlockReader sharedReader =
+                new SharedHistoricBlockReader(blockReader, metricsService, 4, 2 * blockBytes);
+
+        for (long blockNumber = 1; blockNumber <= 4; blockNumber++) {
+            sharedReader.read(blockNumber);
+        }
+
+        // Only the newest blocks that fit in the bytes are still shared
+        assertEquals(2, sharedReader.sharedBlocks());
+        assertEquals(2 * blockBytes, sharedReader.sharedBytes());
+        sharedReader.read(4);
+        verify(blockReader, times(1)).read(4);
+        sharedReader.read(1);
+        verify(blockReader, times(2)).read(1);
+    }
+
+    @Test
+    public void testBlocksNoLongerReadAreDropped() throws Exception {
+        when(blockReader.read(anyLong())).thenAnswer(invocation -> Optional.of(block(invocation.getArgument(0))));
+        final SharedHistoricBlockReader sharedReader = new SharedHistoricBlockReader(
+                blockReader, metricsService, 4, WINDOW_BYTES, TimeUnit.MILLISECONDS.toNanos(50));
+
+        sharedReader.read(1);
+        sharedReader.read(2);
+        assertEquals(2, sharedReader.sharedBlocks());
+
+        // Blocks 1 and 2 are not read again, so they are dropped when the next block is read
+        Thread.sleep(100);
+        sharedReader.read(3);
+        assertEquals(1, sharedReader.sharedBlocks());
+        assertEquals(BlockUnparsed.PROTOBUF.measureRecord(block(3)), sharedReader.sharedBytes());
+    }
+
+    private static BlockUnparsed block(final long blockNumber) {
+        return BlockUnparsed.newBuilder()
+                .blockItems(generateBlockItemsUnparsedForWithBlockNumber(blockNumber))
+                .build();
+    }
+}
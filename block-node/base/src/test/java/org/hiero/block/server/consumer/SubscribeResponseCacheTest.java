@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.hapi.block.BlockItemSetUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.SubscribeStreamResponseCode;
+import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class SubscribeResponseCacheTest {
+
+    @Test
+    public void testSameBatchSharesResponseAndBytes() {
+        final SubscribeResponseCache cache = new SubscribeResponseCache();
+        final List<BlockItemUnparsed> blockItems = blockItems(1);
+
+        final SubscribeStreamResponseUnparsed response = cache.response(blockItems);
+        assertSame(response, cache.response(blockItems));
+
+        final Bytes bytes = cache.encode(response);
+        assertSame(bytes, cache.encode(cache.response(blockItems)));
+        assertEquals(SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(expectedResponse(blockItems)), bytes);
+    }
+
+    @Test
+    public void testEqualBatchesAreNotShared() {
+        final SubscribeResponseCache cache = new SubscribeResponseCache();
+
+        // Batches are shared by instance, equal batches published separately are different batches
+        final SubscribeStreamResponseUnparsed response1 = cache.response(blockItems(1));
+        final SubscribeStreamResponseUnparsed response2 = cache.response(blockItems(1));
+        assertNotSame(response1, response2);
+        assertEquals(response1, response2);
+    }
+
+    @Test
+    public void testReplacedBatchIsStillEncoded() {
+        // A single slot, so every new batch replaces the cached one
+        final SubscribeResponseCache cache = new SubscribeResponseCache(1);
+        final List<BlockItemUnparsed> blockItems1 = blockItems(1);
+        final SubscribeStreamResponseUnparsed response1 = cache.response(blockItems1);
+        final List<BlockItemUnparsed> blockItems2 = blockItems(2);
+        final SubscribeStreamResponseUnparsed response2 = cache.response(blockItems2);
+
+        assertEquals(
+                SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(expectedResponse(blockItems1)),
+                cache.encode(response1));
+        assertEquals(
+                SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(expectedResponse(blockItems2)),
+                cache.encode(response2));
+    }
+
+    @Test
+    public void testUncachedResponseIsEncoded() {
+        final SubscribeResponseCache cache = new SubscribeResponseCache();
+        final SubscribeStreamResponseUnparsed response = SubscribeStreamResponseUnparsed.newBuilder()
+                .status(SubscribeStreamResponseCode.READ_STREAM_SUCCESS)
+                .build();
+        assertEquals(SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(response), cache.encode(response));
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SubscribeResponseCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new SubscribeResponseCache(3));
+    }
+
+    private static List<BlockItemUnparsed> blockItems(final int count) {
+        final List<BlockItemUnparsed> blockItems = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            blockItems.add(BlockItemUnparsed.newBuilder()
+                    .eventHeader(Bytes.wrap("event_header_" + i))
+                    .build());
+        }
+        return blockItems;
+    }
+
+    private static SubscribeStreamResponseUnparsed expectedResponse(final List<BlockItemUnparsed> blockItems) {
+        return SubscribeStreamResponseUnparsed.newBuilder()
+                .blockItems(BlockItemSetUnparsed.newBuilder()
+                        .blockItems(blockItems)
+                        .build())
+                .build();
+    }
+}
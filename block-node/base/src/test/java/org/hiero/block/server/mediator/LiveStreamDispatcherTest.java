@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.swirlds.config.api.Configuration;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.hiero.block.server.consumer.StreamManager;
+import org.hiero.block.server.events.ObjectEvent;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.service.ServiceStatus;
+import org.hiero.block.server.util.TestConfigUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class LiveStreamDispatcherTest {
+
+    @Mock
+    private ServiceStatus serviceStatus;
+
+    @Test
+    public void testDispatchSharesEventCopyWithAllSubscribers() {
+        final LiveStreamDispatcher<String> dispatcher = new LiveStreamDispatcher<>();
+        final LiveStreamQueuePoller<ObjectEvent<String>> poller1 = dispatcher.subscribe(8, 50);
+        final LiveStreamQueuePoller<ObjectEvent<String>> poller2 = dispatcher.subscribe(8, 50);
+        assertEquals(2, dispatcher.subscriberCount());
+
+        final ObjectEvent<String> ringEvent = new ObjectEvent<>();
+        ringEvent.set("event_0");
+        dispatcher.onEvent(ringEvent, 0, true);
+
+        // The ring buffer event is reused, so the subscribers get a shared copy
+        ringEvent.set("event_1");
+        final ObjectEvent<String> polled1 = poller1.poll().orElseThrow();
+        final ObjectEvent<String> polled2 = poller2.poll().orElseThrow();
+        assertSame(polled1, polled2);
+        assertEquals("event_0", polled1.get());
+        assertTrue(poller1.poll().isEmpty());
+
+        // Unsubscribed pollers get no more events
+        assertTrue(dispatcher.unsubscribe(poller2));
+        assertFalse(dispatcher.unsubscribe(poller2));
+        dispatcher.onEvent(ringEvent, 1, true);
+        assertEquals("event_1", poller1.poll().orElseThrow().get());
+        assertTrue(poller2.poll().isEmpty());
+    }
+
+    @Test
+    public void testQueueThresholdAndOverflow() {
+        final LiveStreamDispatcher<String> dispatcher = new LiveStreamDispatcher<>();
+        final LiveStreamQueuePoller<ObjectEvent<String>> poller = dispatcher.subscribe(8, 50);
+        final ObjectEvent<String> ringEvent = new ObjectEvent<>();
+
+        // 4 of 8 queued is 50%, not over the threshold
+        for (int i = 0; i < 4; i++) {
+            ringEvent.set("event_" + i);
+            dispatcher.onEvent(ringEvent, i, true);
+        }
+        assertFalse(poller.exceedsThreshold());
+
+        // 5 of 8 queued is 62%, over the threshold
+        ringEvent.set("event_4");
+        dispatcher.onEvent(ringEvent, 4, true);
+        assertTrue(poller.exceedsThreshold());
+
+        // Overflow the queue, the events that did not fit are dropped
+        for (int i = 5; i < 12; i++) {
+            ringEvent.set("event_" + i);
+            dispatcher.onEvent(ringEvent, i, true);
+        }
+        assertTrue(poller.exceedsThreshold());
+
+        // Later events are not queued either, so there is never a gap in the polled events
+        assertEquals("event_0", poller.poll().orElseThrow().get());
+        ringEvent.set("event_12");
+        dispatcher.onEvent(ringEvent, 12, true);
+
+        // The queued events are still polled, then nothing is polled and the threshold stays exceeded
+        for (int i = 1; i < 8; i++) {
+            assertEquals("event_" + i, poller.poll().orElseThrow().get());
+        }
+        assertTrue(poller.poll().isEmpty());
+        assertTrue(poller.exceedsThreshold());
+    }
+
+    @Test
+    public void testMediatorFansOutToDispatchedPollers() throws IOException {
+        final Configuration config = TestConfigUtil.getTestBlockNodeConfiguration();
+        final MetricsService metricsService = TestConfigUtil.getTestBlockNodeMetricsService(config);
+        when(serviceStatus.isRunning()).thenReturn(true);
+
+        final LiveStreamMediatorImpl mediator = new LiveStreamMediatorImpl(
+                new ConcurrentHashMap<>(),
+                new ConcurrentHashMap<>(),
+                serviceStatus,
+                metricsService,
+                new MediatorConfig(16, null, 50, 2, 8));
+
+        final StreamManager streamManager1 = () -> true;
+        final StreamManager streamManager2 = () -> true;
+        final StreamManager streamManager3 = () -> true;
+        final Poller<ObjectEvent<List<BlockItemUnparsed>>> poller1 = mediator.subscribePoller(streamManager1);
+        final Poller<ObjectEvent<List<BlockItemUnparsed>>> poller2 = mediator.subscribePoller(streamManager2);
+        final Poller<ObjectEvent<List<BlockItemUnparsed>>> poller3 = mediator.subscribePoller(streamManager3);
+        assertInstanceOf(LiveStreamQueuePoller.class, poller1);
+        assertTrue(mediator.isSubscribed(streamManager1));
+
+        final List<BlockItemUnparsed> blockItems = List.of(BlockItemUnparsed.newBuilder().build());
+        mediator.publish(blockItems);
+
+        for (final Poller<ObjectEvent<List<BlockItemUnparsed>>> poller : List.of(poller1, poller2, poller3)) {
+            assertTrue(poller.awaitData(TimeUnit.SECONDS.toNanos(5)));
+            final Optional<ObjectEvent<List<BlockItemUnparsed>>> polled = poller.poll();
+            assertSame(blockItems, polled.orElseThrow().get());
+        }
+
+        mediator.unsubscribePoller(streamManager1);
+        assertFalse(mediator.isSubscribed(streamManager1));
+        assertTrue(mediator.isSubscribed(streamManager2));
+    }
+}
@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.lmax.disruptor.EventPoller;
+import com.lmax.disruptor.RingBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.hiero.block.server.events.ObjectEvent;
+import org.junit.jupiter.api.Test;
+
+public class LiveStreamPollerTest {
+
+    private static final int RING_BUFFER_SIZE = 16;
+
+    @Test
+    public void testExceedsThreshold() throws Exception {
+        final RingBuffer<ObjectEvent<String>> ringBuffer =
+                RingBuffer.createSingleProducer(ObjectEvent::new, RING_BUFFER_SIZE);
+        final EventPoller<ObjectEvent<String>> eventPoller = ringBuffer.newPoller();
+        ringBuffer.addGatingSequences(eventPoller.getSequence());
+        final LiveStreamPoller<ObjectEvent<String>> poller = new LiveStreamPoller<>(
+                eventPoller,
+                ringBuffer,
+                new LiveStreamSignal(),
+                new MediatorConfig(RING_BUFFER_SIZE, null, 50, 0, 1024));
+
+        // 8 of 16 events behind is 50%, not over the threshold
+        for (int i = 0; i < 8; i++) {
+            ringBuffer.publishEvent((event, sequence) -> event.set("event"));
+        }
+        assertFalse(poller.exceedsThreshold());
+
+        // 9 of 16 events behind is 56%, over the threshold
+        ringBuffer.publishEvent((event, sequence) -> event.set("event"));
+        assertTrue(poller.exceedsThreshold());
+
+        // Polling catches up
+        for (int i = 0; i < 9; i++) {
+            assertTrue(poller.poll().isPresent());
+        }
+        assertFalse(poller.exceedsThreshold());
+
+        // Still measured correctly once the cursor has wrapped around the ring
+        for (int i = 0; i < 15; i++) {
+            ringBuffer.publishEvent((event, sequence) -> event.set("event"));
+        }
+        assertTrue(poller.exceedsThreshold());
+    }
+
+    @Test
+    public void testPollDrainsAvailableEvents() throws Exception {
+        final RingBuffer<ObjectEvent<String>> ringBuffer =
+                RingBuffer.createSingleProducer(ObjectEvent::new, RING_BUFFER_SIZE);
+        final EventPoller<ObjectEvent<String>> eventPoller = ringBuffer.newPoller();
+        ringBuffer.addGatingSequences(eventPoller.getSequence());
+        final LiveStreamPoller<ObjectEvent<String>> poller = new LiveStreamPoller<>(
+                eventPoller,
+                ringBuffer,
+                new LiveStreamSignal(),
+                new MediatorConfig(RING_BUFFER_SIZE, null, 50, 0, 1024));
+
+        for (int i = 0; i < 10; i++) {
+            final String value = "event_" + i;
+            ringBuffer.publishEvent((event, sequence) -> event.set(value));
+        }
+
+        // Limited by the maximum number of events
+        final List<String> polled = new ArrayList<>();
+        assertEquals(4, poller.poll(4, event -> polled.add(event.get())));
+        assertEquals(List.of("event_0", "event_1", "event_2", "event_3"), polled);
+
+        // Stopped by the handler, the event the handler stopped on is polled
+        polled.clear();
+        assertEquals(2, poller.poll(10, event -> polled.add(event.get()) && polled.size() < 2));
+        assertEquals(List.of("event_4", "event_5"), polled);
+
+        // Limited by the events available
+        polled.clear();
+        assertEquals(4, poller.poll(10, event -> polled.add(event.get())));
+        assertEquals(List.of("event_6", "event_7", "event_8", "event_9"), polled);
+        assertEquals(0, poller.poll(10, event -> polled.add(event.get())));
+        assertFalse(poller.exceedsThreshold());
+    }
+}
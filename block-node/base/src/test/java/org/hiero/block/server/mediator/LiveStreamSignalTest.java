@@ -0,0 +1,107 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.mediator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class LiveStreamSignalTest {
+
+    @Test
+    public void testAwaitReturnsImmediatelyWhenDataAvailable() {
+        final LiveStreamSignal signal = new LiveStreamSignal();
+        final AtomicInteger checks = new AtomicInteger();
+        assertTrue(signal.newWaiter().await(() -> checks.incrementAndGet() > 0, TimeUnit.SECONDS.toNanos(10)));
+        assertEquals(1, checks.get(), "Data should have been found on the first check");
+    }
+
+    @Test
+    public void testAwaitTimesOutWithoutData() {
+        final LiveStreamSignal signal = new LiveStreamSignal();
+        final long start = System.nanoTime();
+        assertFalse(signal.newWaiter().await(() -> false, TimeUnit.MILLISECONDS.toNanos(20)));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    public void testSignalWakesParkedWaiter() throws Exception {
+        final LiveStreamSignal signal = new LiveStreamSignal();
+        final AtomicBoolean published = new AtomicBoolean(false);
+        final AtomicInteger checks = new AtomicInteger();
+        final CompletableFuture<Boolean> result = CompletableFuture.supplyAsync(() -> signal.newWaiter().await(
+                () -> {
+                    checks.incrementAndGet();
+                    return published.get();
+                },
+                TimeUnit.SECONDS.toNanos(30)));
+
+        // Wait until the waiter is past the spin phase and parked
+        while (checks.get() <= LiveStreamSignal.SPIN_TRIES) {
+            Thread.sleep(1);
+        }
+
+        published.set(true);
+        signal.signalAll();
+
+        // Well within the 30 second timeout, so the waiter must have been woken by the signal
+        assertTrue(result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testInterruptStopsWaiting() {
+        final LiveStreamSignal signal = new LiveStreamSignal();
+        Thread.currentThread().interrupt();
+        try {
+            assertFalse(signal.newWaiter().await(() -> false, TimeUnit.SECONDS.toNanos(30)));
+            assertTrue(Thread.currentThread().isInterrupted(), "Interrupt status should be preserved");
+        } finally {
+            // Clear the interrupt so it does not leak into other tests
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testSignalWakesEveryParkedWaiter() throws Exception {
+        final LiveStreamSignal signal = new LiveStreamSignal();
+        final AtomicBoolean published = new AtomicBoolean(false);
+        final int waiterCount = 8;
+        final AtomicInteger checks = new AtomicInteger();
+        final List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < waiterCount; i++) {
+                final LiveStreamSignal.Waiter waiter = signal.newWaiter();
+                results.add(CompletableFuture.supplyAsync(
+                        () -> waiter.await(
+                                () -> {
+                                    checks.incrementAndGet();
+                                    return published.get();
+                                },
+                                TimeUnit.SECONDS.toNanos(30)),
+                        executor));
+            }
+
+            // Wait until every waiter has spun and registered as parked
+            while (checks.get() < waiterCount * (LiveStreamSignal.SPIN_TRIES + 1)) {
+                Thread.sleep(1);
+            }
+
+            published.set(true);
+            signal.signalAll();
+
+            // Well within the 30 second timeout, so every waiter must have been woken by the one signal
+            for (final CompletableFuture<Boolean> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS));
+            }
+        }
+    }
+}
@@ -13,14 +13,14 @@ public class MediatorConfigTest {
 
     @Test
     public void testMediatorConfig_happyPath() {
-        MediatorConfig mediatorConfig = new MediatorConfig(2048, null, 90);
+        MediatorConfig mediatorConfig = new MediatorConfig(2048, null, 90, 0, 1024);
         assertEquals(2048, mediatorConfig.ringBufferSize());
     }
 
     @Test
     public void testMediatorConfig_negativeRingBufferSize() {
         IllegalArgumentException exception =
-                assertThrows(IllegalArgumentException.class, () -> new MediatorConfig(-1, null, 90));
+                assertThrows(IllegalArgumentException.class, () -> new MediatorConfig(-1, null, 90, 0, 1024));
         assertEquals("Mediator Ring Buffer Size must be positive", exception.getMessage());
     }
 
@@ -31,14 +31,14 @@ public class MediatorConfigTest {
 
         // Test the power of 2 values
         for (int powerOf2Value : powerOf2Values) {
-            MediatorConfig mediatorConfig = new MediatorConfig(powerOf2Value, null, 90);
+            MediatorConfig mediatorConfig = new MediatorConfig(powerOf2Value, null, 90, 0, 1024);
             assertEquals(powerOf2Value, mediatorConfig.ringBufferSize());
         }
 
         // Test the non-power of 2 values
         for (int powerOf2Value : powerOf2Values) {
-            IllegalArgumentException exception =
-                    assertThrows(IllegalArgumentException.class, () -> new MediatorConfig(powerOf2Value + 1, null, 90));
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class, () -> new MediatorConfig(powerOf2Value + 1, null, 90, 0, 1024));
             assertEquals("Mediator Ring Buffer Size must be a power of 2", exception.getMessage());
         }
     }
@@ -47,14 +47,29 @@ public class MediatorConfigTest {
     @ValueSource(ints = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 91, 92, 93, 94, 95, 96, 97, 98, 99})
     public void testInvalidHistoricTransitionThresholdPercentage(int value) {
         IllegalArgumentException exception =
-                assertThrows(IllegalArgumentException.class, () -> new MediatorConfig(2048, null, value));
+                assertThrows(IllegalArgumentException.class, () -> new MediatorConfig(2048, null, value, 0, 1024));
         assertEquals("Historic Transition Threshold Percentage must be between 10 and 90", exception.getMessage());
     }
 
     @ParameterizedTest
     @ValueSource(ints = {10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 90})
     public void testValidHistoricTransitionThresholdPercentage(int value) {
-        MediatorConfig mediatorConfig = new MediatorConfig(2048, null, value);
+        MediatorConfig mediatorConfig = new MediatorConfig(2048, null, value, 0, 1024);
         assertEquals(value, mediatorConfig.historicTransitionThresholdPercentage());
     }
+
+    @Test
+    public void testInvalidLiveStreamDispatcherCount() {
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> new MediatorConfig(2048, null, 90, -1, 1024));
+        assertEquals("Live Stream Dispatcher Count must not be negative", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 1000, 1025})
+    public void testInvalidLiveStreamQueueSize(int value) {
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> new MediatorConfig(2048, null, 90, 2, value));
+        assertEquals("Live Stream Queue Size must be a power of 2", exception.getMessage());
+    }
 }
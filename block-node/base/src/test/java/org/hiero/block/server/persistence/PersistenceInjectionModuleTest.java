@@ -8,7 +8,9 @@ import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.hapi.block.BlockUnparsed;
+import dagger.Lazy;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.Executor;
@@ -23,18 +25,22 @@ import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.Compr
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.StorageType;
 import org.hiero.block.server.persistence.storage.archive.BlockAsLocalFileArchiver;
 import org.hiero.block.server.persistence.storage.archive.LocalBlockArchiver;
+import org.hiero.block.server.persistence.storage.archive.NoOpBlockArchiver;
 import org.hiero.block.server.persistence.storage.compression.Compression;
 import org.hiero.block.server.persistence.storage.compression.NoOpCompression;
 import org.hiero.block.server.persistence.storage.compression.ZstdCompression;
 import org.hiero.block.server.persistence.storage.path.BlockAsLocalFilePathResolver;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
 import org.hiero.block.server.persistence.storage.path.NoOpBlockPathResolver;
+import org.hiero.block.server.persistence.storage.path.SegmentLogPathResolver;
 import org.hiero.block.server.persistence.storage.read.BlockAsLocalFileReader;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
 import org.hiero.block.server.persistence.storage.read.NoOpBlockReader;
+import org.hiero.block.server.persistence.storage.read.SegmentLogReader;
 import org.hiero.block.server.persistence.storage.remove.BlockAsLocalFileRemover;
 import org.hiero.block.server.persistence.storage.remove.BlockRemover;
 import org.hiero.block.server.persistence.storage.remove.NoOpBlockRemover;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriterFactory;
 import org.hiero.block.server.service.ServiceStatus;
 import org.hiero.block.server.util.TestConfigUtil;
@@ -99,11 +105,12 @@ class PersistenceInjectionModuleTest {
         when(persistenceStorageConfigMock.type()).thenReturn(storageType);
 
         final BlockReader<BlockUnparsed> actual = PersistenceInjectionModule.providesBlockReader(
-                persistenceStorageConfigMock, blockPathResolverMock, compressionMock);
+                persistenceStorageConfigMock, blockPathResolverMock, compressionMock, lazySegmentLog());
 
         final Class<?> targetInstanceType =
                 switch (storageType) {
                     case BLOCK_AS_LOCAL_FILE -> BlockAsLocalFileReader.class;
+                    case SEGMENT_LOG -> SegmentLogReader.class;
                     case NO_OP -> NoOpBlockReader.class;
                 };
         assertThat(actual).isNotNull().isExactlyInstanceOf(targetInstanceType);
@@ -131,7 +138,7 @@ class PersistenceInjectionModuleTest {
 
         final Class<?> targetInstanceType =
                 switch (storageType) {
-                    case BLOCK_AS_LOCAL_FILE -> BlockAsLocalFileRemover.class;
+                    case BLOCK_AS_LOCAL_FILE, SEGMENT_LOG -> BlockAsLocalFileRemover.class;
                     case NO_OP -> NoOpBlockRemover.class;
                 };
         assertThat(actual).isNotNull().isExactlyInstanceOf(targetInstanceType);
@@ -139,7 +146,7 @@ class PersistenceInjectionModuleTest {
 
     /**
      * This test aims to verify that the
-     * {@link PersistenceInjectionModule#providesPathResolver(PersistenceStorageConfig)}
+     * {@link PersistenceInjectionModule#providesPathResolver(PersistenceStorageConfig, Lazy)}
      * method will return the correct {@link BlockPathResolver} instance based
      * on the {@link StorageType} parameter. The test verifies only the result
      * type and not what is inside the instance! For the purpose of this test,
@@ -158,11 +165,13 @@ class PersistenceInjectionModuleTest {
         lenient().when(persistenceStorageConfigMock.archiveGroupSize()).thenReturn(10);
         when(persistenceStorageConfigMock.type()).thenReturn(storageType);
 
-        final BlockPathResolver actual = PersistenceInjectionModule.providesPathResolver(persistenceStorageConfigMock);
+        final BlockPathResolver actual =
+                PersistenceInjectionModule.providesPathResolver(persistenceStorageConfigMock, lazySegmentLog());
 
         final Class<?> targetInstanceType =
                 switch (storageType) {
                     case BLOCK_AS_LOCAL_FILE -> BlockAsLocalFilePathResolver.class;
+                    case SEGMENT_LOG -> SegmentLogPathResolver.class;
                     case NO_OP -> NoOpBlockPathResolver.class;
                 };
         assertThat(actual).isNotNull().isExactlyInstanceOf(targetInstanceType);
@@ -209,9 +218,17 @@ class PersistenceInjectionModuleTest {
     @ParameterizedTest
     @EnumSource(StorageType.class)
     void testProvidesLocalBlockArchiver(final StorageType type) {
+        when(persistenceStorageConfigMock.type()).thenReturn(type);
+
         final LocalBlockArchiver actual = PersistenceInjectionModule.providesLocalBlockArchiver(
                 persistenceStorageConfigMock, blockPathResolverMock);
-        assertThat(actual).isNotNull().isExactlyInstanceOf(BlockAsLocalFileArchiver.class);
+
+        final Class<?> targetInstanceType =
+                switch (type) {
+                    case BLOCK_AS_LOCAL_FILE, NO_OP -> BlockAsLocalFileArchiver.class;
+                    case SEGMENT_LOG -> NoOpBlockArchiver.class;
+                };
+        assertThat(actual).isNotNull().isExactlyInstanceOf(targetInstanceType);
     }
 
     @Test
@@ -238,10 +255,25 @@ class PersistenceInjectionModuleTest {
                         asyncBlockWriterFactoryMock,
                         blockPathResolverMock,
                         persistenceStorageConfigMock,
-                        archiverMock);
+                        archiverMock,
+                        lazySegmentLog());
 
         // Then
         assertNotNull(streamVerifier);
         assertThat(streamVerifier).isExactlyInstanceOf(StreamPersistenceHandlerImpl.class);
     }
+
+    /**
+     * The segment log is only opened if a provider asks for it, the same as
+     * when it is injected.
+     */
+    private Lazy<SegmentLog> lazySegmentLog() {
+        return () -> {
+            try {
+                return new SegmentLog(testLiveRootPath, 1_048_576L);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
 }
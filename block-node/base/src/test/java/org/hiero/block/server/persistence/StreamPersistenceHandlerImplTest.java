@@ -33,6 +33,7 @@ import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.Compr
 import org.hiero.block.server.persistence.storage.archive.LocalBlockArchiver;
 import org.hiero.block.server.persistence.storage.path.BlockPathResolver;
 import org.hiero.block.server.persistence.storage.path.UnverifiedBlockPath;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
 import org.hiero.block.server.persistence.storage.write.AsyncBlockWriterFactory;
 import org.hiero.block.server.service.ServiceStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -194,6 +195,80 @@ class StreamPersistenceHandlerImplTest {
         assertThat(expectedInLive).isNotNull().hasBinaryContent(blockAsBytes);
     }
 
+    /**
+     * This test aims to assert that the method
+     * {@link StreamPersistenceHandlerImpl#moveVerified(long)} appends the
+     * block to the segment log, when one is used, instead of moving it.
+     */
+    @Test
+    void testSuccessfulAppendToSegmentLog() throws IOException {
+        // Given a block number and a handler that uses a segment log
+        final long blockNumber = 1;
+        final String blockFileName = blockNumber + ".blk";
+        final SegmentLog segmentLog = new SegmentLog(testLiveRootPath, persistenceStorageConfig.segmentSize());
+        final StreamPersistenceHandlerImpl segmentLogHandler = new StreamPersistenceHandlerImpl(
+                subscriptionHandler,
+                notifierMock,
+                metricsServiceMock,
+                serviceStatusMock,
+                ackHandlerMock,
+                asyncBlockWriterFactoryMock,
+                executorMock,
+                archiverMock,
+                pathResolverMock,
+                persistenceStorageConfig,
+                segmentLog);
+        when(pathResolverMock.findUnverifiedBlock(blockNumber))
+                .thenReturn(Optional.of(new UnverifiedBlockPath(
+                        blockNumber, testUnverifiedRootPath, blockFileName, CompressionType.NONE)));
+        final byte[] blockAsBytes = BlockUnparsed.PROTOBUF
+                .toBytes(BlockUnparsed.newBuilder()
+                        .blockItems(generateBlockItemsUnparsedForWithBlockNumber(blockNumber))
+                        .build())
+                .toByteArray();
+        final Path blockInUnverified = testUnverifiedRootPath.resolve(blockFileName);
+        Files.write(blockInUnverified, blockAsBytes);
+
+        // Call actual method && assert that the block is in the segment
+        final Path segment = segmentLogHandler.moveVerified(blockNumber);
+        assertThat(segment).hasParent(testLiveRootPath);
+        assertThat(segmentLog.find(blockNumber)).isPresent();
+        assertThat(blockInUnverified).doesNotExist();
+        verify(archiverMock).notifyBlockPersisted(blockNumber);
+    }
+
+    /**
+     * This test aims to assert that the method
+     * {@link StreamPersistenceHandlerImpl#removeVerifiedAfter(long)} removes
+     * the blocks after the given one from the segment log, when one is used,
+     * so they can be appended again.
+     */
+    @Test
+    void testRemoveVerifiedAfterTruncatesSegmentLog() throws IOException {
+        // Given a handler that uses a segment log, with two blocks appended
+        final SegmentLog segmentLog = new SegmentLog(testLiveRootPath, persistenceStorageConfig.segmentSize());
+        final StreamPersistenceHandlerImpl segmentLogHandler = new StreamPersistenceHandlerImpl(
+                subscriptionHandler,
+                notifierMock,
+                metricsServiceMock,
+                serviceStatusMock,
+                ackHandlerMock,
+                asyncBlockWriterFactoryMock,
+                executorMock,
+                archiverMock,
+                pathResolverMock,
+                persistenceStorageConfig,
+                segmentLog);
+        final Path blockFile = Files.write(testTempDir.resolve("block"), new byte[] {1, 2, 3});
+        segmentLog.append(1, blockFile, CompressionType.NONE);
+        segmentLog.append(2, blockFile, CompressionType.NONE);
+
+        // Call actual method && assert that only the first block is left
+        segmentLogHandler.removeVerifiedAfter(1);
+        assertThat(segmentLog.find(1)).isPresent();
+        assertThat(segmentLog.find(2)).isEmpty();
+    }
+
     @Test
     void testThrowsWhenNonExistingSource() throws IOException {
         final long blockNumber = 1;
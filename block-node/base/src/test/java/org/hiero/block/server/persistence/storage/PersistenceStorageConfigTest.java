@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.stream.Stream;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.DurabilityMode;
 import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.StorageType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -46,6 +47,11 @@ class PersistenceStorageConfigTest {
     private static final int DEFAULT_THREAD_COUNT = 6;
     private static final int DEFAULT_THREAD_KEEP_ALIVE_TIME = 60000;
     private static final boolean DEFAULT_USE_VIRTUAL_THREADS = false;
+    // Durability defaults
+    private static final DurabilityMode DEFAULT_DURABILITY_MODE = DurabilityMode.NONE;
+    private static final int DEFAULT_GROUP_COMMIT_WINDOW_MILLIS = 5;
+    // Segment log defaults
+    private static final long DEFAULT_SEGMENT_SIZE = 268_435_456L;
 
     @AfterEach
     void tearDown() {
@@ -86,7 +92,10 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_DURABILITY_MODE,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                DEFAULT_SEGMENT_SIZE);
         assertThat(actual).returns(storageType, from(PersistenceStorageConfig::type));
     }
 
@@ -119,7 +128,10 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_DURABILITY_MODE,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                DEFAULT_SEGMENT_SIZE);
         assertThat(actual)
                 .returns(expectedLiveRootPathToTest, from(PersistenceStorageConfig::liveRootPath))
                 .returns(expectedArchiveRootPathToTest, from(PersistenceStorageConfig::archiveRootPath));
@@ -147,7 +159,10 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_DURABILITY_MODE,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                DEFAULT_SEGMENT_SIZE);
         assertThat(actual).returns(compressionLevel, from(PersistenceStorageConfig::compressionLevel));
     }
 
@@ -175,7 +190,10 @@ class PersistenceStorageConfigTest {
                         DEFAULT_EXECUTOR_TYPE,
                         DEFAULT_THREAD_COUNT,
                         DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                        DEFAULT_USE_VIRTUAL_THREADS));
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_DURABILITY_MODE,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        DEFAULT_SEGMENT_SIZE));
     }
 
     /**
@@ -199,7 +217,10 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_DURABILITY_MODE,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                DEFAULT_SEGMENT_SIZE);
         assertThat(actual).returns(compressionType, from(PersistenceStorageConfig::compression));
     }
 
@@ -224,7 +245,10 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_DURABILITY_MODE,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                DEFAULT_SEGMENT_SIZE);
         assertThat(actual).returns(archiveGroupSize, from(PersistenceStorageConfig::archiveGroupSize));
     }
 
@@ -251,7 +275,10 @@ class PersistenceStorageConfigTest {
                         DEFAULT_EXECUTOR_TYPE,
                         DEFAULT_THREAD_COUNT,
                         DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                        DEFAULT_USE_VIRTUAL_THREADS));
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_DURABILITY_MODE,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        DEFAULT_SEGMENT_SIZE));
     }
 
     /**
@@ -275,7 +302,10 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_DURABILITY_MODE,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                DEFAULT_SEGMENT_SIZE);
         assertThat(actual).returns(executionQueueLimit, from(PersistenceStorageConfig::executionQueueLimit));
     }
 
@@ -302,7 +332,10 @@ class PersistenceStorageConfigTest {
                         DEFAULT_EXECUTOR_TYPE,
                         DEFAULT_THREAD_COUNT,
                         DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                        DEFAULT_USE_VIRTUAL_THREADS));
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_DURABILITY_MODE,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        DEFAULT_SEGMENT_SIZE));
     }
 
     /**
@@ -326,7 +359,10 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 threadCount,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_DURABILITY_MODE,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                DEFAULT_SEGMENT_SIZE);
         assertThat(actual).returns(threadCount, from(PersistenceStorageConfig::threadCount));
     }
 
@@ -353,7 +389,10 @@ class PersistenceStorageConfigTest {
                         DEFAULT_EXECUTOR_TYPE,
                         threadCount,
                         DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                        DEFAULT_USE_VIRTUAL_THREADS));
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_DURABILITY_MODE,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        DEFAULT_SEGMENT_SIZE));
     }
 
     /**
@@ -377,7 +416,10 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 threadKeepAliveTime,
-                DEFAULT_USE_VIRTUAL_THREADS);
+                DEFAULT_USE_VIRTUAL_THREADS,
+                DEFAULT_DURABILITY_MODE,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                DEFAULT_SEGMENT_SIZE);
         assertThat(actual).returns(threadKeepAliveTime, from(PersistenceStorageConfig::threadKeepAliveTime));
     }
 
@@ -404,7 +446,10 @@ class PersistenceStorageConfigTest {
                         DEFAULT_EXECUTOR_TYPE,
                         DEFAULT_THREAD_COUNT,
                         threadKeepAliveTime,
-                        DEFAULT_USE_VIRTUAL_THREADS));
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_DURABILITY_MODE,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        DEFAULT_SEGMENT_SIZE));
     }
 
     /**
@@ -428,10 +473,99 @@ class PersistenceStorageConfigTest {
                 DEFAULT_EXECUTOR_TYPE,
                 DEFAULT_THREAD_COUNT,
                 DEFAULT_THREAD_KEEP_ALIVE_TIME,
-                useVirtualThreads);
+                useVirtualThreads,
+                DEFAULT_DURABILITY_MODE,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                DEFAULT_SEGMENT_SIZE);
         assertThat(actual).returns(useVirtualThreads, from(PersistenceStorageConfig::useVirtualThreads));
     }
 
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly returns the durability mode that was set in the constructor.
+     *
+     * @param durabilityMode parameterized, the durability mode to test
+     */
+    @ParameterizedTest
+    @EnumSource(DurabilityMode.class)
+    void testPersistenceStorageConfigDurabilityModes(final DurabilityMode durabilityMode) {
+        final PersistenceStorageConfig actual = new PersistenceStorageConfig(
+                Path.of(""),
+                Path.of(""),
+                Path.of(""),
+                StorageType.NO_OP,
+                CompressionType.NONE,
+                DEFAULT_COMPRESSION_LEVEL,
+                DEFAULT_ARCHIVE_BATCH_SIZE,
+                DEFAULT_EXECUTION_QUEUE_LIMIT,
+                DEFAULT_EXECUTOR_TYPE,
+                DEFAULT_THREAD_COUNT,
+                DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                DEFAULT_USE_VIRTUAL_THREADS,
+                durabilityMode,
+                DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                DEFAULT_SEGMENT_SIZE);
+        assertThat(actual).returns(durabilityMode, from(PersistenceStorageConfig::durabilityMode));
+    }
+
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly throws an {@link IllegalArgumentException} when the group
+     * commit window is negative.
+     *
+     * @param groupCommitWindowMillis parameterized, the group commit window to test
+     */
+    @ParameterizedTest
+    @MethodSource("invalidGroupCommitWindows")
+    void testPersistenceStorageConfigInvalidGroupCommitWindows(final int groupCommitWindowMillis) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PersistenceStorageConfig(
+                        Path.of(""),
+                        Path.of(""),
+                        Path.of(""),
+                        StorageType.NO_OP,
+                        CompressionType.NONE,
+                        DEFAULT_COMPRESSION_LEVEL,
+                        DEFAULT_ARCHIVE_BATCH_SIZE,
+                        DEFAULT_EXECUTION_QUEUE_LIMIT,
+                        DEFAULT_EXECUTOR_TYPE,
+                        DEFAULT_THREAD_COUNT,
+                        DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DurabilityMode.GROUP_COMMIT,
+                        groupCommitWindowMillis,
+                        DEFAULT_SEGMENT_SIZE));
+    }
+
+    /**
+     * This test aims to verify that the {@link PersistenceStorageConfig} class
+     * correctly throws an {@link IllegalArgumentException} when the segment
+     * size is less than 1 MiB.
+     *
+     * @param segmentSize parameterized, the segment size to test
+     */
+    @ParameterizedTest
+    @MethodSource("invalidSegmentSizes")
+    void testPersistenceStorageConfigInvalidSegmentSizes(final long segmentSize) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PersistenceStorageConfig(
+                        Path.of(""),
+                        Path.of(""),
+                        Path.of(""),
+                        StorageType.SEGMENT_LOG,
+                        CompressionType.NONE,
+                        DEFAULT_COMPRESSION_LEVEL,
+                        DEFAULT_ARCHIVE_BATCH_SIZE,
+                        DEFAULT_EXECUTION_QUEUE_LIMIT,
+                        DEFAULT_EXECUTOR_TYPE,
+                        DEFAULT_THREAD_COUNT,
+                        DEFAULT_THREAD_KEEP_ALIVE_TIME,
+                        DEFAULT_USE_VIRTUAL_THREADS,
+                        DEFAULT_DURABILITY_MODE,
+                        DEFAULT_GROUP_COMMIT_WINDOW_MILLIS,
+                        segmentSize));
+    }
+
     /**
      * The default absolute paths. We expect these to allow the persistence
      * config to be instantiated. Providing a blank string is accepted, it will
@@ -622,6 +756,14 @@ class PersistenceStorageConfigTest {
                 Arguments.of(-3600000));
     }
 
+    private static Stream<Arguments> invalidGroupCommitWindows() {
+        return Stream.of(Arguments.of(-1), Arguments.of(-5), Arguments.of(-1000), Arguments.of(Integer.MIN_VALUE));
+    }
+
+    private static Stream<Arguments> invalidSegmentSizes() {
+        return Stream.of(Arguments.of(0L), Arguments.of(-1L), Arguments.of(1_048_575L), Arguments.of(Long.MIN_VALUE));
+    }
+
     private static Stream<Arguments> validUseVirtualThreads() {
         return Stream.of(Arguments.of(true), Arguments.of(false));
     }
@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY;
+import static org.hiero.block.server.util.PersistTestUtils.PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY;
+
+import com.swirlds.config.api.ConfigurationBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link SegmentLogPathResolver} class.
+ */
+class SegmentLogPathResolverTest {
+    private SegmentLog segmentLog;
+    private SegmentLogPathResolver toTest;
+
+    @TempDir
+    private Path testTempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final PersistenceStorageConfig config = ConfigurationBuilder.create()
+                .withConfigDataType(PersistenceStorageConfig.class)
+                .withValue(PERSISTENCE_STORAGE_LIVE_ROOT_PATH_KEY, testTempDir.resolve("live").toString())
+                .withValue(PERSISTENCE_STORAGE_ARCHIVE_ROOT_PATH_KEY, testTempDir.resolve("archive").toString())
+                .withValue(PERSISTENCE_STORAGE_UNVERIFIED_ROOT_PATH_KEY, testTempDir.resolve("unverified").toString())
+                .build()
+                .getConfigData(PersistenceStorageConfig.class);
+        segmentLog = new SegmentLog(config.liveRootPath(), config.segmentSize());
+        toTest = new SegmentLogPathResolver(config, segmentLog);
+    }
+
+    /**
+     * This test aims to verify that the verified Blocks, and the first and
+     * latest available Block numbers, are resolved from the segment log.
+     */
+    @Test
+    void testVerifiedBlocksAreResolvedFromSegmentLog() throws IOException {
+        assertThat(toTest.findFirstAvailableBlockNumber()).isEmpty();
+        assertThat(toTest.findLatestAvailableBlockNumber()).isEmpty();
+
+        final Path blockFile = Files.write(testTempDir.resolve("block"), new byte[] {1, 2, 3});
+        segmentLog.append(4, blockFile, CompressionType.NONE);
+        segmentLog.append(5, blockFile, CompressionType.NONE);
+
+        assertThat(toTest.existsVerifiedBlock(4)).isTrue();
+        assertThat(toTest.existsVerifiedBlock(6)).isFalse();
+        assertThat(toTest.findFirstAvailableBlockNumber()).contains(4L);
+        assertThat(toTest.findLatestAvailableBlockNumber()).contains(5L);
+    }
+
+    /**
+     * This test aims to verify that the unverified Blocks are resolved as
+     * files of their own under the unverified root.
+     */
+    @Test
+    void testUnverifiedBlocksAreFiles() throws IOException {
+        final Path unverified = toTest.resolveLiveRawUnverifiedPathToBlock(7);
+        assertThat(unverified)
+                .hasFileName("0000000000000000007.blk")
+                .hasParent(testTempDir.resolve("unverified"));
+
+        Files.createDirectories(unverified.getParent());
+        Files.createFile(unverified);
+        assertThat(toTest.findUnverifiedBlock(7).orElseThrow().compressionType())
+                .isEqualTo(CompressionType.NONE);
+    }
+
+    /**
+     * This test aims to verify that the paths of verified Blocks, which are
+     * records inside a segment, resolve to their segment, and that they are
+     * not found as files of their own.
+     */
+    @Test
+    void testVerifiedBlockPathsResolveToSegment() throws IOException {
+        final Path blockFile = Files.write(testTempDir.resolve("block"), new byte[] {1, 2, 3});
+        segmentLog.append(4, blockFile, CompressionType.NONE);
+        segmentLog.append(5, blockFile, CompressionType.NONE);
+
+        assertThat(toTest.resolveLiveRawPathToBlock(5))
+                .isEqualTo(testTempDir.resolve("live").resolve("0000000000000000004.seg"));
+        assertThat(toTest.resolveLiveRawPathToBlock(9))
+                .isEqualTo(testTempDir.resolve("live").resolve("0000000000000000009.seg"));
+        assertThat(toTest.resolveRawPathToArchiveParentUnderLive(5)).isEqualTo(toTest.resolveLiveRawPathToBlock(5));
+        assertThat(toTest.resolveRawPathToArchiveParentUnderArchive(5))
+                .isEqualTo(testTempDir.resolve("archive").resolve("0000000000000000004.seg"));
+        assertThat(toTest.findLiveBlock(5)).isEmpty();
+        assertThat(toTest.findArchivedBlock(5)).isEmpty();
+    }
+}
@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.compression.NoOpCompression;
+import org.hiero.block.server.persistence.storage.segment.SegmentLog;
+import org.hiero.block.server.util.PersistTestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link SegmentLogReader} class.
+ */
+class SegmentLogReaderTest {
+    private SegmentLog segmentLog;
+    private SegmentLogReader toTest;
+
+    @TempDir
+    private Path testTempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        segmentLog = new SegmentLog(testTempDir.resolve("live"), 1_048_576L);
+        toTest = SegmentLogReader.of(NoOpCompression.newInstance(), segmentLog);
+    }
+
+    /**
+     * This test aims to verify that the {@link SegmentLogReader#read(long)}
+     * reads every Block of a segment with the same contents as the Block
+     * that has been appended.
+     */
+    @Test
+    void testSuccessfulBlockReadContents() throws IOException, ParseException {
+        for (long blockNumber = 0; blockNumber < 3; blockNumber++) {
+            appendBlock(blockNumber);
+        }
+
+        for (long blockNumber = 0; blockNumber < 3; blockNumber++) {
+            final Optional<BlockUnparsed> actual = toTest.read(blockNumber);
+            assertThat(actual).isPresent();
+            assertThat(actual.get().blockItems())
+                    .containsExactlyElementsOf(
+                            PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(blockNumber));
+        }
+    }
+
+    /**
+     * This test aims to verify that the {@link SegmentLogReader#read(long)}
+     * returns an empty {@link Optional} for a Block that is not in the log.
+     */
+    @Test
+    void testEmptyOptionalWhenBlockIsNotFound() throws IOException, ParseException {
+        appendBlock(0);
+
+        assertThat(toTest.read(1)).isNotNull().isEmpty();
+    }
+
+    /**
+     * This test aims to verify that the {@link SegmentLogReader#read(long)}
+     * throws an {@link IllegalArgumentException} for a negative Block number.
+     */
+    @Test
+    void testInvalidBlockNumber() {
+        assertThatIllegalArgumentException().isThrownBy(() -> toTest.read(-1));
+    }
+
+    private void appendBlock(final long blockNumber) throws IOException {
+        final List<BlockItemUnparsed> blockItems =
+                PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber(blockNumber);
+        final BlockUnparsed block = BlockUnparsed.newBuilder().blockItems(blockItems).build();
+        final Path blockFile = Files.write(
+                testTempDir.resolve(blockNumber + ".blk"),
+                BlockUnparsed.PROTOBUF.toBytes(block).toByteArray());
+        segmentLog.append(blockNumber, blockFile, CompressionType.NONE);
+    }
+}
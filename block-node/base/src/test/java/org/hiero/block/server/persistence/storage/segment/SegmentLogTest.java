@@ -0,0 +1,242 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.segment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.hiero.block.server.persistence.storage.PersistenceStorageConfig.CompressionType;
+import org.hiero.block.server.persistence.storage.path.SegmentBlockPath;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link SegmentLog} class.
+ */
+class SegmentLogTest {
+    private static final long SEGMENT_SIZE = 1_024L;
+
+    @TempDir
+    private Path testTempDir;
+
+    /**
+     * This test aims to verify that the {@link SegmentLog#append(long, Path, CompressionType)}
+     * appends Blocks to a single pre-allocated segment, and that
+     * {@link SegmentLog#find(long)} finds the bytes of every appended Block.
+     */
+    @Test
+    void testAppendAndFind() throws IOException {
+        final Path liveRoot = testTempDir.resolve("live");
+        final SegmentLog toTest = new SegmentLog(liveRoot, SEGMENT_SIZE);
+
+        final Path segment = toTest.append(0, blockFile(0, 100), CompressionType.NONE);
+        assertThat(toTest.append(1, blockFile(1, 200), CompressionType.NONE)).isEqualTo(segment);
+        assertThat(toTest.append(2, blockFile(2, 50), CompressionType.NONE)).isEqualTo(segment);
+
+        assertThat(segment).hasFileName("0000000000000000000.seg").hasSize(SEGMENT_SIZE);
+        assertThat(readBlock(toTest.find(1).orElseThrow())).isEqualTo(blockBytes(1, 200));
+        assertThat(readBlock(toTest.find(2).orElseThrow())).isEqualTo(blockBytes(2, 50));
+        assertThat(toTest.find(3)).isEmpty();
+        assertThat(toTest.findFirstBlockNumber()).contains(0L);
+        assertThat(toTest.findLatestBlockNumber()).contains(2L);
+    }
+
+    /**
+     * This test aims to verify that a segment is sealed and rolled over to a
+     * new one once the next Block does not fit in it.
+     */
+    @Test
+    void testSegmentRollsOverWhenFull() throws IOException {
+        final Path liveRoot = testTempDir.resolve("live");
+        final SegmentLog toTest = new SegmentLog(liveRoot, SEGMENT_SIZE);
+
+        final Path first = toTest.append(10, blockFile(10, 600), CompressionType.NONE);
+        final Path second = toTest.append(11, blockFile(11, 600), CompressionType.NONE);
+
+        assertThat(second).isNotEqualTo(first).hasFileName("0000000000000000011.seg");
+        // the sealed segment is truncated to its last record and has its index
+        assertThat(first).hasSize(616);
+        assertThat(liveRoot.resolve("0000000000000000010.idx")).exists();
+        assertThat(readBlock(toTest.find(10).orElseThrow())).isEqualTo(blockBytes(10, 600));
+        assertThat(readBlock(toTest.find(11).orElseThrow())).isEqualTo(blockBytes(11, 600));
+    }
+
+    /**
+     * This test aims to verify that a Block that does not follow the last
+     * Block of the segment, or that has another compression type, starts a
+     * new segment.
+     */
+    @Test
+    void testGapsAndCompressionChangesStartNewSegments() throws IOException {
+        final Path liveRoot = testTempDir.resolve("live");
+        final SegmentLog toTest = new SegmentLog(liveRoot, SEGMENT_SIZE);
+
+        toTest.append(1, blockFile(1, 10), CompressionType.NONE);
+        final Path afterGap = toTest.append(5, blockFile(5, 10), CompressionType.NONE);
+        final Path zstd = toTest.append(6, blockFile(6, 10), CompressionType.ZSTD);
+
+        assertThat(afterGap).hasFileName("0000000000000000005.seg");
+        assertThat(zstd).hasFileName("0000000000000000006.seg.zstd");
+        assertThat(toTest.find(3)).isEmpty();
+        assertThat(toTest.find(6).orElseThrow().compressionType()).isEqualTo(CompressionType.ZSTD);
+    }
+
+    /**
+     * This test aims to verify that a segment that was not sealed has its
+     * index recovered from the record headers when the log is opened again.
+     */
+    @Test
+    void testUnsealedSegmentIsRecovered() throws IOException {
+        final Path liveRoot = testTempDir.resolve("live");
+        final SegmentLog beforeRestart = new SegmentLog(liveRoot, SEGMENT_SIZE);
+        beforeRestart.append(7, blockFile(7, 100), CompressionType.NONE);
+        final Path segment = beforeRestart.append(8, blockFile(8, 100), CompressionType.NONE);
+
+        final SegmentLog toTest = new SegmentLog(liveRoot, SEGMENT_SIZE);
+
+        assertThat(segment).hasSize(232);
+        assertThat(toTest.findFirstBlockNumber()).contains(7L);
+        assertThat(toTest.findLatestBlockNumber()).contains(8L);
+        assertThat(readBlock(toTest.find(8).orElseThrow())).isEqualTo(blockBytes(8, 100));
+        // appends go to a new segment after a restart
+        final Path next = toTest.append(9, blockFile(9, 100), CompressionType.NONE);
+        assertThat(next).hasFileName("0000000000000000009.seg");
+    }
+
+    /**
+     * This test aims to verify that a record whose bytes do not match its
+     * checksum, as after a partial write, is not recovered, and that the
+     * recovery stops there.
+     */
+    @Test
+    void testCorruptRecordIsNotRecovered() throws IOException {
+        final Path liveRoot = testTempDir.resolve("live");
+        final SegmentLog beforeRestart = new SegmentLog(liveRoot, SEGMENT_SIZE);
+        beforeRestart.append(7, blockFile(7, 100), CompressionType.NONE);
+        final Path segment = beforeRestart.append(8, blockFile(8, 100), CompressionType.NONE);
+        final long corruptOffset = beforeRestart.find(8).orElseThrow().offset() + 10;
+        try (final FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0}), corruptOffset);
+        }
+
+        final SegmentLog toTest = new SegmentLog(liveRoot, SEGMENT_SIZE);
+
+        assertThat(segment).hasSize(116);
+        assertThat(toTest.findLatestBlockNumber()).contains(7L);
+        assertThat(readBlock(toTest.find(7).orElseThrow())).isEqualTo(blockBytes(7, 100));
+        assertThat(toTest.find(8)).isEmpty();
+    }
+
+    /**
+     * This test aims to verify that {@link SegmentLog#truncateAfter(long)}
+     * removes the Blocks after the given one, from the segment of that Block
+     * and from the segments after it, that the removed Blocks can be appended
+     * again, and that they are not recovered when the log is opened again.
+     */
+    @Test
+    void testTruncateAfter() throws IOException {
+        final Path liveRoot = testTempDir.resolve("live");
+        final SegmentLog toTest = new SegmentLog(liveRoot, SEGMENT_SIZE);
+        final Path first = toTest.append(0, blockFile(0, 100), CompressionType.NONE);
+        toTest.append(1, blockFile(1, 100), CompressionType.NONE);
+        toTest.append(2, blockFile(2, 100), CompressionType.NONE);
+        final Path second = toTest.append(3, blockFile(3, 900), CompressionType.NONE);
+
+        toTest.truncateAfter(0);
+
+        assertThat(toTest.findLatestBlockNumber()).contains(0L);
+        assertThat(toTest.find(1)).isEmpty();
+        assertThat(first).hasSize(116);
+        assertThat(second).doesNotExist();
+        assertThat(liveRoot.resolve("0000000000000000003.idx")).doesNotExist();
+        // the sealed segment of the kept Block has a new index, so appends go to a new segment
+        final Path next = toTest.append(1, blockFile(1, 10), CompressionType.NONE);
+        assertThat(next).hasFileName("0000000000000000001.seg");
+
+        final SegmentLog reopened = new SegmentLog(liveRoot, SEGMENT_SIZE);
+        assertThat(reopened.findLatestBlockNumber()).contains(1L);
+        assertThat(readBlock(reopened.find(1).orElseThrow())).isEqualTo(blockBytes(1, 10));
+        assertThat(reopened.find(2)).isEmpty();
+    }
+
+    /**
+     * This test aims to verify that {@link SegmentLog#truncateAfter(long)}
+     * truncates the segment being appended to, which keeps being appended to.
+     */
+    @Test
+    void testTruncateActiveSegment() throws IOException {
+        final SegmentLog toTest = new SegmentLog(testTempDir.resolve("live"), SEGMENT_SIZE);
+        final Path segment = toTest.append(5, blockFile(5, 100), CompressionType.NONE);
+        toTest.append(6, blockFile(6, 100), CompressionType.NONE);
+
+        toTest.truncateAfter(5);
+
+        assertThat(segment).hasSize(116);
+        assertThat(toTest.find(6)).isEmpty();
+        assertThat(toTest.append(6, blockFile(6, 50), CompressionType.NONE)).isEqualTo(segment);
+        assertThat(readBlock(toTest.find(6).orElseThrow())).isEqualTo(blockBytes(6, 50));
+
+        toTest.truncateAfter(-1);
+        assertThat(toTest.findFirstBlockNumber()).isEmpty();
+        assertThat(segment).doesNotExist();
+    }
+
+    /**
+     * This test aims to verify that a Block cannot be appended twice.
+     */
+    @Test
+    void testDuplicateBlockIsRejected() throws IOException {
+        final SegmentLog toTest = new SegmentLog(testTempDir.resolve("live"), SEGMENT_SIZE);
+        toTest.append(3, blockFile(3, 10), CompressionType.NONE);
+
+        assertThatIOException().isThrownBy(() -> toTest.append(3, blockFile(3, 10), CompressionType.NONE));
+    }
+
+    /**
+     * This test aims to verify that a {@link SegmentLog} cannot be created
+     * with a segment size that is not positive.
+     */
+    @Test
+    void testInvalidSegmentSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SegmentLog(testTempDir.resolve("live"), 0));
+    }
+
+    /**
+     * An empty log has no first or latest Block.
+     */
+    @Test
+    void testEmptyLog() throws IOException {
+        final SegmentLog toTest = new SegmentLog(testTempDir.resolve("live"), SEGMENT_SIZE);
+
+        assertThat(toTest.findFirstBlockNumber()).isEmpty();
+        assertThat(toTest.findLatestBlockNumber()).isEmpty();
+        assertThat(toTest.contains(0)).isFalse();
+    }
+
+    private Path blockFile(final long blockNumber, final int size) throws IOException {
+        return Files.write(testTempDir.resolve(blockNumber + ".blk"), blockBytes(blockNumber, size));
+    }
+
+    private static byte[] blockBytes(final long blockNumber, final int size) {
+        final byte[] bytes = new byte[size];
+        Arrays.fill(bytes, (byte) (blockNumber + 1));
+        return bytes;
+    }
+
+    private static byte[] readBlock(final SegmentBlockPath segmentBlockPath) throws IOException {
+        final ByteBuffer block = ByteBuffer.allocate(segmentBlockPath.length());
+        try (final FileChannel channel = FileChannel.open(segmentBlockPath.segmentPath(), StandardOpenOption.READ)) {
+            while (block.hasRemaining()) {
+                channel.read(block, segmentBlockPath.offset() + block.position());
+            }
+        }
+        return block.array();
+    }
+}
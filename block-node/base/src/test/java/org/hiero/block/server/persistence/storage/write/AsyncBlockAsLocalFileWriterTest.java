@@ -333,13 +333,19 @@ class AsyncBlockAsLocalFileWriterTest {
         validBlock.forEach(q::offer);
 
         // when
+        final Path expectedWrittenBlockFile = testTempDir.resolve(validBlockNumber + Constants.BLOCK_FILE_EXTENSION);
+        when(blockPathResolverMock.resolveLiveRawUnverifiedPathToBlock(validBlockNumber))
+                .thenReturn(expectedWrittenBlockFile);
         when(blockPathResolverMock.existsVerifiedBlock(validBlockNumber)).thenReturn(false);
+        when(compressionMock.getCompressionFileExtension()).thenReturn("");
+        when(compressionMock.wrap(any(OutputStream.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        // then
+        // then (we expect the items written before the flag to be discarded)
         toTest.call();
         final BlockPersistenceResult expectedResult =
                 new BlockPersistenceResult(validBlockNumber, BlockPersistenceStatus.INCOMPLETE_BLOCK);
         verifyUnsuccessfulPersistencePublish(expectedResult);
+        verify(blockRemoverMock, times(1)).removeUnverified(validBlockNumber);
     }
 
     /**
@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.persistence.storage.write;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.GroupCommitBlocks;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Counter.GroupCommits;
+import static org.hiero.block.server.metrics.BlockNodeMetricTypes.Gauge.GroupCommitSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.hiero.block.server.metrics.MetricsService;
+import org.hiero.block.server.util.TestConfigUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * A test suite for the {@link GroupCommitter} class.
+ */
+class GroupCommitterTest {
+    @TempDir
+    private Path testTempDir;
+
+    private MetricsService metricsService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        metricsService = TestConfigUtil.getTestBlockNodeMetricsService();
+    }
+
+    /**
+     * This test aims to verify that the {@link GroupCommitter#commit(Path)}
+     * syncs the files committed within the window as a single group.
+     */
+    @Test
+    void testFilesInWindowAreCommittedTogether() throws Exception {
+        final GroupCommitter toTest = new GroupCommitter(metricsService, testTempDir, 200);
+        final CompletableFuture<Void> first = toTest.commit(Files.createFile(testTempDir.resolve("1.blk")));
+        final CompletableFuture<Void> second = toTest.commit(Files.createFile(testTempDir.resolve("2.blk")));
+
+        second.get(1, TimeUnit.SECONDS);
+        assertThat(first).isCompleted();
+        assertThat(metricsService.get(GroupCommits).get()).isEqualTo(1);
+        assertThat(metricsService.get(GroupCommitBlocks).get()).isEqualTo(2);
+        assertThat(metricsService.get(GroupCommitSize).get()).isEqualTo(2);
+    }
+
+    /**
+     * This test aims to verify that the {@link GroupCommitter#commit(Path)}
+     * completes exceptionally if the file could not be synced, and that the
+     * next groups are still committed.
+     */
+    @Test
+    void testFailedCommit() throws Exception {
+        final GroupCommitter toTest = new GroupCommitter(metricsService, testTempDir, 0);
+
+        final CompletableFuture<Void> missing = toTest.commit(testTempDir.resolve("missing.blk"));
+        assertThat(missing).failsWithin(1, TimeUnit.SECONDS).withThrowableOfType(ExecutionException.class);
+
+        toTest.commit(Files.createFile(testTempDir.resolve("1.blk"))).get(1, TimeUnit.SECONDS);
+        assertThat(metricsService.get(GroupCommitBlocks).get()).isEqualTo(1);
+    }
+
+    /**
+     * This test aims to verify that the {@link GroupCommitter#commit(Path)}
+     * syncs a file in directories that were just created under the root,
+     * along with those directories.
+     */
+    @Test
+    void testFileInNewDirectoriesIsCommitted() throws Exception {
+        final GroupCommitter toTest = new GroupCommitter(metricsService, testTempDir, 0);
+        final Path directory = Files.createDirectories(testTempDir.resolve("000").resolve("001"));
+
+        toTest.commit(Files.createFile(directory.resolve("1.blk"))).get(1, TimeUnit.SECONDS);
+        assertThat(metricsService.get(GroupCommitBlocks).get()).isEqualTo(1);
+    }
+
+    /**
+     * This test aims to verify that a {@link GroupCommitter} cannot be created
+     * with a negative window.
+     */
+    @Test
+    void testNegativeWindow() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new GroupCommitter(metricsService, testTempDir, -1));
+    }
+}
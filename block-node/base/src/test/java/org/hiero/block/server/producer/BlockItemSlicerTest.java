@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.producer;
+
+import static org.hiero.block.server.util.PersistTestUtils.generateBlockItemsUnparsedForWithBlockNumber;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.BlockItemSetUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.hapi.block.PublishStreamRequestUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class BlockItemSlicerTest {
+
+    @Test
+    public void testSlicedItemsMatchParsedItems() throws ParseException {
+        final Bytes request = encode(generateBlockItemsUnparsedForWithBlockNumber(1));
+
+        final List<BlockItemUnparsed> slicedItems = BlockItemSlicer.sliceBlockItems(request);
+        final List<BlockItemUnparsed> parsedItems =
+                PublishStreamRequestUnparsed.PROTOBUF.parse(request).blockItems().blockItems();
+        assertEquals(parsedItems, slicedItems);
+    }
+
+    @Test
+    public void testUnknownFieldsAreSkipped() throws ParseException {
+        final List<BlockItemUnparsed> blockItems = generateBlockItemsUnparsedForWithBlockNumber(1);
+        final byte[] encoded = encode(blockItems).toByteArray();
+
+        // Append field 15 as a varint, which no publish stream request has
+        final byte[] withUnknownField = new byte[encoded.length + 2];
+        System.arraycopy(encoded, 0, withUnknownField, 0, encoded.length);
+        withUnknownField[encoded.length] = (byte) ((15 << 3) | 0);
+        withUnknownField[encoded.length + 1] = 1;
+
+        assertEquals(blockItems, BlockItemSlicer.sliceBlockItems(Bytes.wrap(withUnknownField)));
+    }
+
+    @Test
+    public void testEmptyRequest() throws ParseException {
+        assertTrue(BlockItemSlicer.sliceBlockItems(Bytes.EMPTY).isEmpty());
+    }
+
+    @Test
+    public void testTruncatedRequestIsRejected() {
+        final byte[] encoded = encode(generateBlockItemsUnparsedForWithBlockNumber(1)).toByteArray();
+        final Bytes truncated = Bytes.wrap(encoded).slice(0, encoded.length - 1);
+
+        assertThrows(ParseException.class, () -> BlockItemSlicer.sliceBlockItems(truncated));
+    }
+
+    @Test
+    public void testLastBlockItemSetWins() throws ParseException {
+        final byte[] first = encode(generateBlockItemsUnparsedForWithBlockNumber(1)).toByteArray();
+        final List<BlockItemUnparsed> lastItems = generateBlockItemsUnparsedForWithBlockNumber(2);
+        final byte[] last = encode(lastItems).toByteArray();
+
+        // Two block item set fields in one request, as when two encoded requests are concatenated
+        final byte[] both = new byte[first.length + last.length];
+        System.arraycopy(first, 0, both, 0, first.length);
+        System.arraycopy(last, 0, both, first.length, last.length);
+        final Bytes request = Bytes.wrap(both);
+
+        assertEquals(lastItems, BlockItemSlicer.sliceBlockItems(request));
+        assertEquals(
+                PublishStreamRequestUnparsed.PROTOBUF.parse(request).blockItems().blockItems(),
+                BlockItemSlicer.sliceBlockItems(request));
+    }
+
+    @Test
+    public void testBlockItemSetWithWrongWireTypeIsRejected() {
+        // The block item set field as a varint
+        final Bytes request = Bytes.wrap(new byte[] {(byte) ((1 << 3) | 0), 1});
+
+        assertThrows(ParseException.class, () -> BlockItemSlicer.sliceBlockItems(request));
+    }
+
+    @Test
+    public void testItemKindWithWrongWireTypeIsRejected() {
+        // A block header item as a varint, inside a block item inside a block item set
+        final byte[] blockItem = {(byte) ((ItemOneOfType.BLOCK_HEADER.protoOrdinal() << 3) | 0), 1};
+        final byte[] blockItemSet = {(byte) ((1 << 3) | 2), (byte) blockItem.length, blockItem[0], blockItem[1]};
+        final byte[] request = new byte[blockItemSet.length + 2];
+        request[0] = (byte) ((1 << 3) | 2);
+        request[1] = (byte) blockItemSet.length;
+        System.arraycopy(blockItemSet, 0, request, 2, blockItemSet.length);
+
+        assertThrows(ParseException.class, () -> BlockItemSlicer.sliceBlockItems(Bytes.wrap(request)));
+    }
+
+    private static Bytes encode(final List<BlockItemUnparsed> blockItems) {
+        return PublishStreamRequestUnparsed.PROTOBUF.toBytes(PublishStreamRequestUnparsed.newBuilder()
+                .blockItems(BlockItemSetUnparsed.newBuilder().blockItems(blockItems).build())
+                .build());
+    }
+}
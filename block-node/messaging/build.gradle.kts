@@ -1,5 +1,8 @@
 // SPDX-License-Identifier: Apache-2.0
-plugins { id("org.hiero.gradle.module.library") }
+plugins {
+    id("org.hiero.gradle.module.library")
+    id("org.hiero.gradle.feature.benchmark")
+}
 
 description = "Hiero Block Node Messaging"
 
@@ -20,3 +23,14 @@ testModuleInfo {
     requires("org.junit.jupiter.api")
     requires("org.junit.jupiter.params")
 }
+
+jmhModuleInfo {
+    requires("com.hedera.pbj.runtime")
+    requires("jmh.core")
+}
+
+// Write results as JSON, so runs from different builds can be compared by tools
+jmh {
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+}
@@ -0,0 +1,48 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.pbj.runtime.OneOf;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.nio.file.Path;
+import java.util.List;
+import org.hiero.block.server.messaging.impl.MessagingConfig;
+import org.hiero.block.server.messaging.impl.MessagingServiceImpl;
+
+/**
+ * Shared setup for the messaging service benchmarks.
+ */
+final class BenchmarkSupport {
+    /** The size of the ring buffers used in the benchmarks, the same as the default configuration */
+    static final int QUEUE_SIZE = 1024;
+    /** A typical batch of block items, a few transactions */
+    static final List<BlockItemUnparsed> BATCH = List.of(
+            item(ItemOneOfType.EVENT_TRANSACTION),
+            item(ItemOneOfType.EVENT_TRANSACTION),
+            item(ItemOneOfType.EVENT_TRANSACTION),
+            item(ItemOneOfType.EVENT_TRANSACTION));
+
+    private BenchmarkSupport() {}
+
+    /**
+     * Create a messaging service for a benchmark, with spilling unused and merging of batches turned off.
+     *
+     * @param multiProducer true to allow several threads to send at once
+     * @return the new messaging service, not yet started
+     */
+    static MessagingService createService(final boolean multiProducer) {
+        return new MessagingServiceImpl(new MessagingConfig(
+                QUEUE_SIZE, multiProducer, Path.of(System.getProperty("java.io.tmpdir")), 1024 * 1024, 0, 2, 10_000));
+    }
+
+    /**
+     * Create a block item of the given type with a small payload.
+     *
+     * @param type the type of the item
+     * @return the block item
+     */
+    private static BlockItemUnparsed item(final ItemOneOfType type) {
+        return new BlockItemUnparsed(new OneOf<>(type, Bytes.wrap(new byte[256])));
+    }
+}
@@ -0,0 +1,80 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End to end latency of handing a batch of block items to a handler. Each operation sends one batch and waits until
+ * the handler has been called with it, so there is never more than one batch in the ring. Sample time mode reports the
+ * latency percentiles, which is where the wait policies differ most.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MessagingServiceLatencyBenchmark {
+    /** The policy the handler uses to wait for new block items */
+    @Param({"BUSY_SPIN", "YIELDING", "SLEEPING", "BLOCKING", "PHASED_BACKOFF", "ADAPTIVE"})
+    public WaitPolicy waitPolicy;
+
+    /** True for a platform thread handler, false for a virtual thread handler */
+    @Param({"false", "true"})
+    public boolean cpuIntensiveHandler;
+
+    /** The number of batches the handler has been called with */
+    private volatile long handledCount;
+    /** The number of batches sent, only used by the benchmark thread */
+    private long sentCount;
+    /** The messaging service being benchmarked */
+    private MessagingService messagingService;
+
+    /**
+     * Start the messaging service with the handler registered.
+     */
+    @Setup(Level.Trial)
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    public void setup() {
+        messagingService = BenchmarkSupport.createService(false);
+        // only the handler thread writes, so a plain increment is fine
+        messagingService.registerBlockItemHandler(
+                items -> handledCount++,
+                BlockItemHandlerOptions.of(cpuIntensiveHandler, "latency-benchmark-handler")
+                        .withWaitPolicy(waitPolicy));
+        messagingService.start();
+    }
+
+    /**
+     * Shut down the messaging service.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        messagingService.shutdown();
+    }
+
+    /**
+     * Send one batch of block items and wait for the handler to be called with it.
+     */
+    @Benchmark
+    public void sendAndWaitForHandler() {
+        messagingService.sendBlockItems(BenchmarkSupport.BATCH);
+        sentCount++;
+        while (handledCount < sentCount) {
+            Thread.onSpinWait();
+        }
+    }
+}
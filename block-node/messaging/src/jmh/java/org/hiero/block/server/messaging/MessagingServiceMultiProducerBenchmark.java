@@ -0,0 +1,72 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of several threads sending block items and notifications at once, which needs the multi producer ring.
+ * Compare with the single threaded {@link MessagingServiceThroughputBenchmark} to see the cost of contended sending.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class MessagingServiceMultiProducerBenchmark {
+    /** The number of items and notifications handled, so handling can not be optimized away */
+    private final LongAdder handled = new LongAdder();
+    /** The messaging service being benchmarked */
+    private MessagingService messagingService;
+
+    /**
+     * Start the messaging service with a block item and a block notification handler registered.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        messagingService = BenchmarkSupport.createService(true);
+        messagingService.registerBlockItemHandler(items -> handled.add(items.size()), false, "multi-producer-handler");
+        messagingService.registerBlockNotificationHandler(
+                notification -> handled.increment(), false, "multi-producer-notification-handler");
+        messagingService.start();
+    }
+
+    /**
+     * Shut down the messaging service.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        messagingService.shutdown();
+    }
+
+    /**
+     * Send one batch of block items, from each benchmark thread at once.
+     */
+    @Benchmark
+    public void sendBlockItems() {
+        messagingService.sendBlockItems(BenchmarkSupport.BATCH);
+    }
+
+    /**
+     * Send one block notification, from each benchmark thread at once.
+     */
+    @Benchmark
+    public void sendBlockNotification() {
+        messagingService.sendBlockNotification(1, BlockNotification.Type.BLOCK_PERSISTED);
+    }
+}
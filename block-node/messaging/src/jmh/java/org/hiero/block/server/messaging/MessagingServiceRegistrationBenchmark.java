@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of dynamically registering and unregistering handlers while block items are being published, like consumers
+ * connecting and disconnecting from a busy block node. One thread publishes while another registers and then
+ * unregisters a no back pressure handler, so the results show both the registration cost and how much it slows the
+ * publisher down.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MessagingServiceRegistrationBenchmark {
+    /** True for platform thread handlers, false for virtual thread handlers */
+    @Param({"false", "true"})
+    public boolean cpuIntensiveHandler;
+
+    /** The messaging service being benchmarked */
+    private MessagingService messagingService;
+    /** The number of handlers registered so far, used to give each a unique name */
+    private int registeredCount;
+
+    /**
+     * Start the messaging service with one handler that stays registered, so the publisher has a consumer.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        messagingService = BenchmarkSupport.createService(false);
+        messagingService.registerBlockItemHandler(items -> {}, cpuIntensiveHandler, "registration-benchmark-handler");
+        messagingService.start();
+    }
+
+    /**
+     * Shut down the messaging service.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        messagingService.shutdown();
+    }
+
+    /**
+     * Send one batch of block items, while handlers come and go.
+     */
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(1)
+    public void publish() {
+        messagingService.sendBlockItems(BenchmarkSupport.BATCH);
+    }
+
+    /**
+     * Register a handler and then unregister it, while block items are being sent.
+     */
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(1)
+    public void registerAndUnregister() {
+        final NoBackPressureBlockItemHandler handler = new NoBackPressureBlockItemHandler() {
+            @Override
+            public void handleBlockItemsReceived(final List<BlockItemUnparsed> blockItems) {}
+
+            @Override
+            public void onTooFarBehindError() {}
+        };
+        messagingService.registerNoBackpressureBlockItemHandler(
+                handler, cpuIntensiveHandler, "dynamic-handler-" + registeredCount++);
+        messagingService.unregisterBlockItemHandler(handler);
+    }
+}
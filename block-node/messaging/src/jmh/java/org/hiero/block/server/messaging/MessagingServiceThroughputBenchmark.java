@@ -0,0 +1,77 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of sending block items, with a number of registered handlers. As handlers apply back pressure, once the
+ * ring is full the rate measured is the rate the slowest handler keeps up with, so this covers the whole hand off not
+ * just the producer side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MessagingServiceThroughputBenchmark {
+    /** The number of handlers registered, each gets every batch */
+    @Param({"1", "4", "16"})
+    public int handlerCount;
+
+    /** True for platform thread handlers, false for virtual thread handlers */
+    @Param({"false", "true"})
+    public boolean cpuIntensiveHandler;
+
+    /** True for the multi producer ring, to compare its cost with the single producer ring */
+    @Param({"false", "true"})
+    public boolean multiProducer;
+
+    /** The number of items handled, across all handlers, so handling can not be optimized away */
+    private final LongAdder itemsHandled = new LongAdder();
+    /** The messaging service being benchmarked */
+    private MessagingService messagingService;
+
+    /**
+     * Start the messaging service with the handlers registered.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        messagingService = BenchmarkSupport.createService(multiProducer);
+        for (int i = 0; i < handlerCount; i++) {
+            messagingService.registerBlockItemHandler(
+                    items -> itemsHandled.add(items.size()), cpuIntensiveHandler, "benchmark-handler-" + i);
+        }
+        messagingService.start();
+    }
+
+    /**
+     * Shut down the messaging service.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        messagingService.shutdown();
+    }
+
+    /**
+     * Send one batch of block items.
+     */
+    @Benchmark
+    public void sendBlockItems() {
+        messagingService.sendBlockItems(BenchmarkSupport.BATCH);
+    }
+}
@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The options a block item handler is registered with. Start from {@link #of(boolean, String)} for the defaults and
+ * change the options needed with the {@code with} methods. Options that can not be used together are rejected when
+ * the options are created, rather than when the handler is registered.
+ *
+ * @param cpuIntensiveHandler hint to the service that the handler is CPU intensive vs IO intensive
+ * @param handlerName the name of the handler, used for thread name and logging, may be null
+ * @param waitPolicy the policy the handler uses to wait for new block items when it has caught up with the producer
+ * @param upstreamHandlers the handlers that must handle each block item batch before this handler, may be empty. Only
+ *     handlers that apply back pressure can have upstream handlers, and the upstream handlers must apply back pressure
+ *     too, as no back pressure handlers can be unregistered at any time.
+ * @param spillWhenTooFarBehind true for a handler that does not apply back pressure to spill to disk when it falls too
+ *     far behind, rather than being unregistered
+ * @param startAtLastBlockHeader true for a handler registered after the service is started to first be called with
+ *     the block item batches from the last block header, so it starts on a block boundary
+ */
+public record BlockItemHandlerOptions(
+        boolean cpuIntensiveHandler,
+        String handlerName,
+        WaitPolicy waitPolicy,
+        List<BlockItemHandler> upstreamHandlers,
+        boolean spillWhenTooFarBehind,
+        boolean startAtLastBlockHeader) {
+    /**
+     * Validates the options.
+     *
+     * @throws IllegalArgumentException if an upstream handler does not apply back pressure, or the handler has upstream
+     *     handlers and also asks to spill or to start at the last block header
+     */
+    public BlockItemHandlerOptions {
+        Objects.requireNonNull(waitPolicy);
+        upstreamHandlers = List.copyOf(upstreamHandlers);
+        for (final BlockItemHandler upstreamHandler : upstreamHandlers) {
+            if (upstreamHandler instanceof NoBackPressureBlockItemHandler) {
+                // they can be unregistered at any time, which would leave this handler waiting forever
+                throw new IllegalArgumentException("Handlers can not run after a no back pressure handler");
+            }
+        }
+        if (!upstreamHandlers.isEmpty() && startAtLastBlockHeader) {
+            // replayed items would reach this handler before its upstream handlers had handled them
+            throw new IllegalArgumentException(
+                    "Handlers with upstream handlers can not start at the last block header");
+        }
+        if (!upstreamHandlers.isEmpty() && spillWhenTooFarBehind) {
+            throw new IllegalArgumentException("Handlers with upstream handlers apply back pressure and can not spill");
+        }
+    }
+
+    /**
+     * Create the default options, the {@link WaitPolicy#SLEEPING} wait policy with no upstream handlers, no spilling
+     * and only live block items.
+     *
+     * @param cpuIntensiveHandler hint to the service that the handler is CPU intensive vs IO intensive
+     * @param handlerName the name of the handler, used for thread name and logging, may be null
+     * @return the default options
+     */
+    public static BlockItemHandlerOptions of(final boolean cpuIntensiveHandler, final String handlerName) {
+        return new BlockItemHandlerOptions(
+                cpuIntensiveHandler, handlerName, WaitPolicy.SLEEPING, List.of(), false, false);
+    }
+
+    /**
+     * Copy these options with a different wait policy.
+     *
+     * @param newWaitPolicy the policy the handler uses to wait for new block items
+     * @return the new options
+     */
+    public BlockItemHandlerOptions withWaitPolicy(final WaitPolicy newWaitPolicy) {
+        return new BlockItemHandlerOptions(
+                cpuIntensiveHandler,
+                handlerName,
+                newWaitPolicy,
+                upstreamHandlers,
+                spillWhenTooFarBehind,
+                startAtLastBlockHeader);
+    }
+
+    /**
+     * Copy these options with different upstream handlers.
+     *
+     * @param newUpstreamHandlers the handlers that must handle each block item batch before this handler
+     * @return the new options
+     * @throws IllegalArgumentException if the options can not be used together
+     */
+    public BlockItemHandlerOptions withUpstreamHandlers(final List<BlockItemHandler> newUpstreamHandlers) {
+        return new BlockItemHandlerOptions(
+                cpuIntensiveHandler,
+                handlerName,
+                waitPolicy,
+                newUpstreamHandlers,
+                spillWhenTooFarBehind,
+                startAtLastBlockHeader);
+    }
+
+    /**
+     * Copy these options with spilling turned on or off.
+     *
+     * @param newSpillWhenTooFarBehind true to spill to disk when the handler falls too far behind
+     * @return the new options
+     * @throws IllegalArgumentException if the options can not be used together
+     */
+    public BlockItemHandlerOptions withSpillWhenTooFarBehind(final boolean newSpillWhenTooFarBehind) {
+        return new BlockItemHandlerOptions(
+                cpuIntensiveHandler,
+                handlerName,
+                waitPolicy,
+                upstreamHandlers,
+                newSpillWhenTooFarBehind,
+                startAtLastBlockHeader);
+    }
+
+    /**
+     * Copy these options with starting at the last block header turned on or off.
+     *
+     * @param newStartAtLastBlockHeader true to start at the last block header, false to only see live block items
+     * @return the new options
+     * @throws IllegalArgumentException if the options can not be used together
+     */
+    public BlockItemHandlerOptions withStartAtLastBlockHeader(final boolean newStartAtLastBlockHeader) {
+        return new BlockItemHandlerOptions(
+                cpuIntensiveHandler,
+                handlerName,
+                waitPolicy,
+                upstreamHandlers,
+                spillWhenTooFarBehind,
+                newStartAtLastBlockHeader);
+    }
+}
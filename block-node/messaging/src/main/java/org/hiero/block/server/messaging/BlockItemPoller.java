@@ -0,0 +1,37 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import java.util.List;
+
+/**
+ * Pull based alternative to {@link BlockItemHandler}. Instead of the messaging service calling a handler on its own
+ * thread, the consumer calls {@link #poll(List, int)} on a thread of its choosing and drains as many block item batches
+ * as are available in one call. This allows a consumer to batch work and to decide itself how to wait when no data is
+ * available.
+ * <p>
+ * A poller applies back pressure to the block item producer in the same way a {@link BlockItemHandler} does, so it must
+ * be polled regularly or unregistered with {@link MessagingService#unregisterBlockItemPoller(BlockItemPoller)} when no
+ * longer needed. A poller is not thread safe, it should only be polled by a single thread at a time.
+ */
+public interface BlockItemPoller {
+    /**
+     * Drain up to {@code maxBatches} block item batches that are available into the given buffer. The batches are
+     * appended to the end of the buffer in the order they were sent. This method never blocks, if no batches are
+     * available it returns zero immediately.
+     *
+     * @param buffer     caller owned buffer to append the immutable block item batches to
+     * @param maxBatches the maximum number of batches to append to the buffer, must be greater than zero
+     * @return the number of batches appended to the buffer, zero if none were available
+     * @throws IllegalArgumentException if maxBatches is less than one
+     * @throws IllegalStateException if the poller has been unregistered
+     */
+    int poll(List<List<BlockItemUnparsed>> buffer, int maxBatches);
+
+    /**
+     * Get the name of the poller, used for logging.
+     *
+     * @return the name of the poller
+     */
+    String name();
+}
@@ -12,4 +12,17 @@ public interface BlockNotificationHandler {
      * @param notification the block notification to handle
      */
     void handleBlockNotification(BlockNotification notification);
+
+    /**
+     * Handle a block notification given as its primitive parts. This is the method the messaging service calls, by
+     * default it creates a {@link BlockNotification} and calls {@link #handleBlockNotification(BlockNotification)}.
+     * Handlers on hot paths can override this to handle notifications without any allocation. Always called on handler
+     * thread.
+     *
+     * @param blockNumber the block number the notification is for
+     * @param type the type of notification
+     */
+    default void handleBlockNotification(long blockNumber, BlockNotification.Type type) {
+        handleBlockNotification(new BlockNotification(blockNumber, type));
+    }
 }
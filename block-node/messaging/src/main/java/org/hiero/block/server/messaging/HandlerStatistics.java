@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import java.util.List;
+
+/**
+ * Point in time snapshot of the statistics for a single registered handler.
+ *
+ * @param handlerName the name of the handler, as given when registered
+ * @param waitPolicy the wait policy the handler uses when it has caught up with the producer, or null for a block
+ *     item poller, which chooses how to wait itself
+ * @param eventsProcessed the number of ring events the handler has processed
+ * @param wakeUps the number of times the handler woke up after having caught up with the producer
+ * @param meanWakeUpLatencyNanos the mean time in nanoseconds from an event being published to an idle handler
+ *     starting to process it
+ * @param maxWakeUpLatencyNanos the maximum time in nanoseconds from an event being published to an idle handler
+ *     starting to process it
+ * @param idleWaitNanos the total time in nanoseconds the handler spent waiting for new events. For the
+ *     {@link WaitPolicy#BUSY_SPIN} and {@link WaitPolicy#YIELDING} policies this is CPU time burnt while idle.
+ * @param idleSpinNanos the part of {@code idleWaitNanos} that was spent spinning or yielding rather than parked, an
+ *     estimate of the CPU time burnt while idle
+ * @param spillBytes the total number of bytes of block items spilled to disk, always zero for handlers that do not
+ *     spill
+ * @param spillDepthBytes the number of spilled bytes the handler still has to catch up on
+ * @param spillNanos the total time in nanoseconds the handler has spent spilling, including any current spill
+ * @param eventsPerSecond the recent rate the handler processed ring events at, a moving average over roughly the last
+ *     five seconds that falls off while the handler is idle
+ * @param lagSequences the number of ring events published that the handler has not processed yet
+ * @param lagBlocks the number of blocks started that the handler has not seen the start of yet, always zero for block
+ *     notification handlers
+ * @param processingTimeHistogram the number of events the handler took each range of time to process, one count for
+ *     each limit in {@link #PROCESSING_TIME_BUCKET_LIMITS_NANOS} for times under that limit and over the previous one,
+ *     then a final count for times over the last limit
+ * @param stalled true if the handler has left a published event unprocessed for longer than the configured stall
+ *     window. A stalled handler that applies back pressure is holding up every other handler and the producer.
+ */
+public record HandlerStatistics(
+        String handlerName,
+        WaitPolicy waitPolicy,
+        long eventsProcessed,
+        long wakeUps,
+        long meanWakeUpLatencyNanos,
+        long maxWakeUpLatencyNanos,
+        long idleWaitNanos,
+        long idleSpinNanos,
+        long spillBytes,
+        long spillDepthBytes,
+        long spillNanos,
+        double eventsPerSecond,
+        long lagSequences,
+        long lagBlocks,
+        List<Long> processingTimeHistogram,
+        boolean stalled) {
+    /** The upper limits in nanoseconds of the processing time histogram buckets, before the final overflow bucket */
+    public static final List<Long> PROCESSING_TIME_BUCKET_LIMITS_NANOS =
+            List.of(1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L);
+}
@@ -25,12 +25,24 @@ public interface MessagingService {
      * Use this method to send block items to the service. The service will forward items to all registered block item
      * handlers. If the block item handlers are too slow, it will apply back pressure to this caller, by this call
      * taking a long time to return. This should be called by a single thread and the order of calls is significant and
-     * preserved.
+     * preserved. If the service is configured for multiple producers, it can be called by several threads at once and
+     * the order of calls from each thread is preserved. If the service is configured to merge small batches, handlers
+     * may receive these items merged with the batches sent before or after, but never merged across a block boundary.
      *
      * @param items the block items to send
      */
     void sendBlockItems(List<BlockItemUnparsed> items);
 
+    /**
+     * Use this method to send several batches of block items to the service at once. This is the same as calling
+     * {@link #sendBlockItems(List)} for each batch in turn, but claims space in the ring for all the batches in one go.
+     * This is cheaper per batch, and with multiple producers the batches are kept together rather than interleaved
+     * with batches from other threads. Very large lists are sent in chunks of at most the ring size.
+     *
+     * @param batches the batches of block items to send, in order
+     */
+    void sendBlockItemBatches(List<List<BlockItemUnparsed>> batches);
+
     /**
      * Use this method to register a block item handler. The handler will be called every time new block items arrive.
      * The calls will be on its own thread, every handler registered has its own thread. It can consume block items at
@@ -45,6 +57,30 @@ public interface MessagingService {
      */
     void registerBlockItemHandler(BlockItemHandler handler, boolean cpuIntensiveHandler, String handlerName);
 
+    /**
+     * Use this method to register a block item handler with options. This is the same as
+     * {@link #registerBlockItemHandler(BlockItemHandler, boolean, String)} except for the other options given:
+     * <ul>
+     *     <li>The wait policy chooses how the handler waits for new block items when it has caught up with the
+     *     producer. Latency critical handlers can choose to spin, while cold handlers can choose to block and use no
+     *     CPU while idle.</li>
+     *     <li>With upstream handlers, the handler will only be called with block items once every upstream handler has
+     *     finished handling them, so handlers can be arranged into an ordered pipeline of stages without any locking
+     *     between them. For example persisting a block after it has been verified. The upstream handlers must already
+     *     be registered. While this handler is registered its upstream handlers can not be unregistered.</li>
+     *     <li>When starting at the last block header is asked for and the service is already started, the handler is
+     *     first called with the block item batches from the last block header up to where it joined, so it starts on a
+     *     block boundary rather than part way through a block, then with live block items as normal. If the start of
+     *     the current block has already been overwritten in the ring, or was too long ago, the handler only sees live
+     *     block items. Handlers registered before the service is started see every block item anyway.</li>
+     * </ul>
+     *
+     * @param handler the block item handler to register
+     * @param options the options to register the handler with
+     * @throws IllegalArgumentException if an upstream handler is not registered, or the options ask to spill
+     */
+    void registerBlockItemHandler(BlockItemHandler handler, BlockItemHandlerOptions options);
+
     /**
      * Use this method to dynamically register a block item handler. The handler will be called every time new block
      * items arrive. It will be called on its own thread, every handler registered has its own thread. It can consume
@@ -59,22 +95,75 @@ public interface MessagingService {
     void registerNoBackpressureBlockItemHandler(
             NoBackPressureBlockItemHandler handler, boolean cpuIntensiveHandler, String handlerName);
 
+    /**
+     * Use this method to dynamically register a block item handler, that does not apply back pressure, with options.
+     * This is the same as
+     * {@link #registerNoBackpressureBlockItemHandler(NoBackPressureBlockItemHandler, boolean, String)} except for the
+     * wait policy and starting at the last block header, as described for
+     * {@link #registerBlockItemHandler(BlockItemHandler, BlockItemHandlerOptions)}, and spilling. When spilling is
+     * enabled, once the handler falls too far behind the block items it has not handled yet are written to a memory
+     * mapped spill file and the handler is fed from there until it has caught up with the live block items again. The
+     * handler still sees every block item batch exactly once and in order. It is only unregistered, and
+     * {@link NoBackPressureBlockItemHandler#onTooFarBehindError} called, if the spill file fills up.
+     *
+     * @param handler the block item handler to register
+     * @param options the options to register the handler with
+     * @throws IllegalArgumentException if the options have upstream handlers
+     */
+    void registerNoBackpressureBlockItemHandler(
+            NoBackPressureBlockItemHandler handler, BlockItemHandlerOptions options);
+
     /**
      * Use this method to unregister any block item handler. The handler will no longer be called when new block
      * items arrive. You only need to unregister handlers if they need to be unregistered before the service is
      * shutdown. Shutting down the service will unregister all handlers.
      *
      * @param handler the block item handler to unregister
+     * @throws IllegalStateException if other registered handlers run after this handler
      */
     void unregisterBlockItemHandler(BlockItemHandler handler);
 
     /**
-     * Use this method to send block notifications to all registered handlers.
+     * Use this method to register a pull based block item consumer. Rather than being called on its own thread, the
+     * consumer calls {@link BlockItemPoller#poll} on its own thread to drain all available block item batches at once.
+     * This avoids a thread per consumer and lets consumers serving many clients batch their work. Like a block item
+     * handler, a poller applies back pressure to the block item producer if it does not poll often enough. Pollers can
+     * be registered before or after the service is started.
+     *
+     * @param pollerName the name of the poller, used for logging
+     * @return the new poller, positioned at the next block item batch to be sent
+     */
+    BlockItemPoller registerBlockItemPoller(String pollerName);
+
+    /**
+     * Use this method to unregister a block item poller. The poller will no longer hold back the block item producer
+     * and any further calls to {@link BlockItemPoller#poll} will fail. Shutting down the service will unregister all
+     * pollers.
+     *
+     * @param poller the block item poller to unregister
+     */
+    void unregisterBlockItemPoller(BlockItemPoller poller);
+
+    /**
+     * Use this method to send block notifications to all registered handlers. If the service is configured for
+     * multiple producers, it can be called by several threads at once.
      *
      * @param notification the block notification to send
      */
     void sendBlockNotification(BlockNotification notification);
 
+    /**
+     * Use this method to send a block notification to all registered handlers, given as its primitive parts. This is
+     * the same as {@link #sendBlockNotification(BlockNotification)} but does not allocate, so notifications can be sent
+     * on hot paths without creating garbage. Handlers that override
+     * {@link BlockNotificationHandler#handleBlockNotification(long, BlockNotification.Type)} receive them without
+     * allocation too.
+     *
+     * @param blockNumber the block number the notification is for
+     * @param type the type of notification, must not be null
+     */
+    void sendBlockNotification(long blockNumber, BlockNotification.Type type);
+
     /**
      * Use this method to register a block notification handler. The handler will be called every time new block
      * notifications arrive. The calls will be on its own thread, every handler registered has its own thread. It can
@@ -98,6 +187,18 @@ public interface MessagingService {
      */
     void unregisterBlockNotificationHandler(BlockNotificationHandler handler);
 
+    /**
+     * Get a point in time snapshot of the statistics of every registered block item handler, block item poller and
+     * block notification handler. This can be used to export metrics on how quickly handlers are woken up and how much
+     * time they spend idle. It also shows how far behind each handler is and whether it has stalled, so when ingest
+     * slows down the handler holding up the ring can be found. Pollers are reported by their name with no wait policy,
+     * as they choose how to wait themselves. The events per second of each handler are a moving average of its recent
+     * rate, so an idle handler drops towards zero. Taking a snapshot does not reset anything.
+     *
+     * @return the statistics of all registered handlers
+     */
+    List<HandlerStatistics> getHandlerStatistics();
+
     /**
      * Start the messaging service. This will start the internal threads and start processing messages. All non-dynamic
      * handlers must have been registered before calling this.
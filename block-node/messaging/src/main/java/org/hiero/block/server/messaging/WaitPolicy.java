@@ -0,0 +1,37 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+/**
+ * The policy a handler uses to wait for new messages when it has caught up with the producer. The choice is a trade-off
+ * between hand-off latency and CPU used while idle.
+ */
+public enum WaitPolicy {
+    /**
+     * Spin on the CPU without ever giving it up. Lowest latency, burns a whole core while idle. Only sensible for a
+     * small number of latency critical handlers on platform threads.
+     */
+    BUSY_SPIN,
+    /**
+     * Spin for a short while then yield the thread. Low latency, still uses a lot of CPU while idle.
+     */
+    YIELDING,
+    /**
+     * Spin, then yield, then sleep for short periods. A good general purpose default and the policy used when none is
+     * specified.
+     */
+    SLEEPING,
+    /**
+     * Block on a lock until the producer signals new messages. Uses no CPU while idle but has the highest hand-off
+     * latency. Suitable for cold handlers such as archiving.
+     */
+    BLOCKING,
+    /**
+     * Spin, then yield, then block for a fixed time budget for each phase.
+     */
+    PHASED_BACKOFF,
+    /**
+     * Escalate from spinning to yielding to blocking based on the observed time between messages. Handlers receiving
+     * messages at a high rate spin, handlers receiving messages rarely block almost immediately.
+     */
+    ADAPTIVE
+}
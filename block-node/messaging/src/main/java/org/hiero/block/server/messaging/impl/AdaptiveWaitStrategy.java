@@ -0,0 +1,167 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+import com.lmax.disruptor.AlertException;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.SequenceBarrier;
+import com.lmax.disruptor.WaitStrategy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Wait strategy that escalates from spinning, to yielding, to blocking based on the observed time between events.
+ * <p>
+ * It keeps an exponentially weighted moving average of the inter-arrival time of events. When events arrive faster
+ * than {@link #SPIN_THRESHOLD_NANOS} it spins for up to twice the average inter-arrival time, so the next event is
+ * very likely picked up without ever giving up the CPU. Slower streams spend progressively less time spinning and
+ * yielding and fall through to blocking on a lock, until signalled by the producer, much sooner. Each instance must
+ * only be used by a single handler thread.
+ */
+final class AdaptiveWaitStrategy implements WaitStrategy {
+    /** Inter-arrival times below this are considered hot, and it is worth spinning for the next event */
+    static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    /** Inter-arrival times below this are considered warm, and it is worth yielding for the next event */
+    static final long YIELD_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    /** The minimum time to spin before yielding, so even cold handlers pick up back-to-back events cheaply */
+    private static final long MIN_SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    /** Only check the clock every this many spins, as {@link System#nanoTime()} is not free */
+    private static final int SPINS_PER_CLOCK_CHECK = 64;
+    /** The shift used for the moving average, new samples have a weight of 1/8 */
+    private static final int AVERAGE_SHIFT = 3;
+
+    /** Lock used for blocking */
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Condition signalled when new events are published */
+    private final Condition processorNotifyCondition = lock.newCondition();
+    /** True when the handler thread is, or is about to be, blocked and needs a signal */
+    private final AtomicBoolean signalNeeded = new AtomicBoolean(false);
+    /** Moving average of the time between events arriving, only accessed by the handler thread */
+    private long meanInterArrivalNanos = YIELD_THRESHOLD_NANOS;
+    /** The time the last event arrived, only accessed by the handler thread */
+    private long lastArrivalNanos = System.nanoTime();
+    /** The time spent spinning or yielding in the last wait, written only by the handler thread */
+    private volatile long lastSpinNanos = 0;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long waitFor(
+            final long sequence, final Sequence cursor, final Sequence dependentSequence, final SequenceBarrier barrier)
+            throws AlertException, InterruptedException {
+        long availableSequence = dependentSequence.get();
+        if (availableSequence >= sequence) {
+            lastSpinNanos = 0;
+            recordArrival(System.nanoTime());
+            return availableSequence;
+        }
+        final long spinNanos = spinBudgetNanos();
+        final long yieldNanos = meanInterArrivalNanos < YIELD_THRESHOLD_NANOS ? meanInterArrivalNanos : 0;
+        final long start = System.nanoTime();
+        long now = start;
+        long activeNanos = 0;
+        int counter = 0;
+        while ((availableSequence = dependentSequence.get()) < sequence) {
+            barrier.checkAlert();
+            if (++counter % SPINS_PER_CLOCK_CHECK == 0) {
+                now = System.nanoTime();
+            }
+            final long waited = now - start;
+            if (waited < spinNanos) {
+                Thread.onSpinWait();
+            } else if (waited < spinNanos + yieldNanos) {
+                Thread.yield();
+                now = System.nanoTime();
+            } else if (cursor.get() < sequence) {
+                if (activeNanos == 0) {
+                    // only the time before the first block is active, the rest was spent parked
+                    activeNanos = Math.max(1, waited);
+                }
+                block(sequence, cursor, barrier);
+                now = System.nanoTime();
+            } else {
+                // the event is published, so only handlers ahead of this one are pending, and they do not signal
+                Thread.onSpinWait();
+            }
+        }
+        final long end = System.nanoTime();
+        lastSpinNanos = activeNanos == 0 ? end - start : activeNanos;
+        recordArrival(end);
+        return availableSequence;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void signalAllWhenBlocking() {
+        if (signalNeeded.getAndSet(false)) {
+            lock.lock();
+            try {
+                processorNotifyCondition.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Get the time spent spinning or yielding, rather than blocked, during the last wait.
+     *
+     * @return the time in nanoseconds
+     */
+    long lastSpinNanos() {
+        return lastSpinNanos;
+    }
+
+    /**
+     * Block until signalled that the cursor has moved past the sequence, or the barrier is alerted.
+     *
+     * @param sequence the sequence being waited for
+     * @param cursor the ring cursor
+     * @param barrier the barrier, checked for alerts
+     * @throws AlertException if the barrier has been alerted
+     * @throws InterruptedException if the thread is interrupted
+     */
+    private void block(final long sequence, final Sequence cursor, final SequenceBarrier barrier)
+            throws AlertException, InterruptedException {
+        lock.lock();
+        try {
+            do {
+                signalNeeded.set(true);
+                // re-check after flagging, so a publish between the last check and now is not missed
+                if (cursor.get() >= sequence) {
+                    break;
+                }
+                barrier.checkAlert();
+                processorNotifyCondition.await();
+            } while (cursor.get() < sequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compute how long to spin for based on the moving average of inter-arrival times.
+     *
+     * @return the time in nanoseconds to spin before yielding
+     */
+    private long spinBudgetNanos() {
+        return meanInterArrivalNanos < SPIN_THRESHOLD_NANOS
+                ? Math.max(MIN_SPIN_NANOS, meanInterArrivalNanos << 1)
+                : MIN_SPIN_NANOS;
+    }
+
+    /**
+     * Update the moving average of inter-arrival times with a new arrival.
+     *
+     * @param arrivalNanos the time the event arrived
+     */
+    private void recordArrival(final long arrivalNanos) {
+        final long sample = arrivalNanos - lastArrivalNanos;
+        lastArrivalNanos = arrivalNanos;
+        meanInterArrivalNanos += (sample - meanInterArrivalNanos) >> AVERAGE_SHIFT;
+    }
+}
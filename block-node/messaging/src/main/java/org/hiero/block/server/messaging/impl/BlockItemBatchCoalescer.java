@@ -0,0 +1,219 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Merges consecutive small batches of block items into larger batches before they are published to the ring, so
+ * chatty producers sending a few items at a time do not cost a ring event and a call to every handler per batch.
+ * <p>
+ * Batches are merged until the merged batch would go over the maximum number of items. A merged batch never crosses a
+ * block boundary, a batch containing a block header always starts a new merged batch and a batch containing a block
+ * proof always ends one. So handlers still see every block start at the beginning of a batch and end at the end of one.
+ * Any pending items are flushed at least once every maximum delay, so a producer going quiet does not leave items
+ * stuck.
+ * <p>
+ * This class is thread safe, batches from concurrent producers are merged in the order they are added. The publisher
+ * is never called while holding the lock on the pending items, so a producer blocked publishing into a full ring does
+ * not stop other producers from adding items to merge. Merged batches are instead handed to the publisher in the order
+ * they were taken from the pending items, each taking a ticket and waiting for its turn.
+ */
+final class BlockItemBatchCoalescer {
+    /** Logger for the block item batch coalescer. */
+    private static final System.Logger LOGGER = System.getLogger(BlockItemBatchCoalescer.class.getName());
+    /** The thread factory for the thread that periodically flushes pending items */
+    private static final ThreadFactory FLUSH_THREAD_FACTORY =
+            Thread.ofVirtual().name("messaging-service-coalescer").factory();
+
+    /** Publishes a batch of block items to the ring */
+    private final Consumer<List<BlockItemUnparsed>> publisher;
+    /** The maximum number of items in a merged batch */
+    private final int maxItems;
+    /** The maximum time in milliseconds items can wait to be published */
+    private final long maxDelayMillis;
+    /** The block items waiting to be published as one batch. Guarded by this */
+    private final List<BlockItemUnparsed> pending = new ArrayList<>();
+    /** The ticket given to the next merged batches taken from the pending items. Guarded by this */
+    private long nextTicket = 0;
+    /** The lock merged batches wait on for their turn to be published */
+    private final Object publishOrder = new Object();
+    /** The ticket of the merged batches whose turn it is to be published. Guarded by publishOrder */
+    private long publishingTicket = 0;
+    /** The executor that periodically flushes pending items, null until started. Guarded by this */
+    private ScheduledExecutorService flushExecutor;
+
+    /**
+     * Constructs a new BlockItemBatchCoalescer.
+     *
+     * @param publisher publishes a batch of block items to the ring
+     * @param maxItems the maximum number of items in a merged batch
+     * @param maxDelayMillis the maximum time in milliseconds items can wait to be published
+     */
+    BlockItemBatchCoalescer(
+            final Consumer<List<BlockItemUnparsed>> publisher, final int maxItems, final long maxDelayMillis) {
+        this.publisher = publisher;
+        this.maxItems = maxItems;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * Add a batch of block items, publishing it merged with the batches before or after it.
+     *
+     * @param items the batch of block items to add
+     */
+    void add(final List<BlockItemUnparsed> items) {
+        addAll(List.of(items));
+    }
+
+    /**
+     * Add several batches of block items at once, merged with each other and the batches before or after them. The
+     * batches are kept together, batches added by other producers are not merged in between them.
+     *
+     * @param batches the batches of block items to add, in order
+     */
+    void addAll(final List<List<BlockItemUnparsed>> batches) {
+        final List<List<BlockItemUnparsed>> ready = new ArrayList<>();
+        final long ticket;
+        synchronized (this) {
+            for (final List<BlockItemUnparsed> items : batches) {
+                merge(items, ready);
+            }
+            if (ready.isEmpty()) {
+                return;
+            }
+            ticket = nextTicket++;
+        }
+        publishInOrder(ticket, ready);
+    }
+
+    /**
+     * Publish any pending items as one batch.
+     */
+    void flush() {
+        final List<BlockItemUnparsed> batch;
+        final long ticket;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+            ticket = nextTicket++;
+        }
+        publishInOrder(ticket, List.of(batch));
+    }
+
+    /**
+     * Merge a batch of block items with the pending items. Must hold the lock.
+     *
+     * @param items the batch of block items to merge
+     * @param ready the batches that are ready to publish, added to
+     */
+    private void merge(final List<BlockItemUnparsed> items, final List<List<BlockItemUnparsed>> ready) {
+        boolean startsBlock = false;
+        boolean endsBlock = false;
+        for (final BlockItemUnparsed item : items) {
+            startsBlock |= item.hasBlockHeader();
+            endsBlock |= item.hasBlockProof();
+        }
+        if (!pending.isEmpty() && (startsBlock || pending.size() + items.size() > maxItems)) {
+            // do not merge across the start of a block or over the size budget
+            ready.add(takePending());
+        }
+        if (pending.isEmpty() && (endsBlock || items.size() >= maxItems)) {
+            // nothing to merge with, so publish as is without copying
+            ready.add(items);
+            return;
+        }
+        pending.addAll(items);
+        if (endsBlock) {
+            // do not merge across the end of a block
+            ready.add(takePending());
+        }
+    }
+
+    /**
+     * Take all the pending items as one batch. Must hold the lock.
+     *
+     * @return the batch of pending items
+     */
+    private List<BlockItemUnparsed> takePending() {
+        // handlers may hold on to the batch, so it must be a new list
+        final List<BlockItemUnparsed> batch = List.copyOf(pending);
+        pending.clear();
+        return batch;
+    }
+
+    /**
+     * Publish merged batches once every batch taken from the pending items before them has been published.
+     *
+     * @param ticket the ticket the batches were given when they were taken from the pending items
+     * @param ready the batches to publish, in order
+     */
+    private void publishInOrder(final long ticket, final List<List<BlockItemUnparsed>> ready) {
+        boolean interrupted = false;
+        synchronized (publishOrder) {
+            while (publishingTicket != ticket) {
+                try {
+                    publishOrder.wait();
+                } catch (InterruptedException e) {
+                    // the turn can not be given up, every later ticket would wait for it forever
+                    interrupted = true;
+                }
+            }
+        }
+        try {
+            ready.forEach(publisher);
+        } finally {
+            synchronized (publishOrder) {
+                publishingTicket++;
+                publishOrder.notifyAll();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Start periodically flushing pending items, so they are published within the maximum delay.
+     */
+    synchronized void start() {
+        if (flushExecutor == null) {
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(FLUSH_THREAD_FACTORY);
+            flushExecutor.scheduleAtFixedRate(
+                    this::scheduledFlush, maxDelayMillis, maxDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stop periodically flushing and publish any pending items.
+     */
+    void shutdown() {
+        synchronized (this) {
+            if (flushExecutor != null) {
+                flushExecutor.shutdownNow();
+                flushExecutor = null;
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Flush called by the flush executor, exceptions are logged as they would otherwise stop further flushes.
+     */
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.ERROR, "Exception flushing coalesced block items: " + e.getMessage(), e);
+        }
+    }
+}
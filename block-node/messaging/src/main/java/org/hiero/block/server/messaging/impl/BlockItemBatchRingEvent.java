@@ -2,15 +2,25 @@
 package org.hiero.block.server.messaging.impl;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
+import java.lang.invoke.VarHandle;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Simple mutable container for a BlockNotification. The ring buffer is made up of these events.
+ * Simple mutable container for a batch of block items. The ring buffer is made up of these events.
  */
-public class BlockItemBatchRingEvent {
+public class BlockItemBatchRingEvent implements TimedRingEvent {
     /** The value to be published to downstream subscribers through the LMAX Disruptor. */
     private List<BlockItemUnparsed> val;
+    /** The time the value was published, as given by {@link System#nanoTime()}. */
+    private long publishedNanos;
+    /**
+     * The ring sequence the value was published at, or -1 while the value is being replaced or if not known. Used to
+     * check a value read outside the normal ring gating, has not been overwritten as it was read.
+     */
+    private volatile long sequence = -1;
+    /** The number of blocks started up to and including this batch, or zero if not known */
+    private long blockCount;
 
     /** Constructor for the BlockItemBatchRingEvent class. */
     public BlockItemBatchRingEvent() {}
@@ -22,7 +32,33 @@ public class BlockItemBatchRingEvent {
      * @param val the value to set
      */
     public void set(final List<BlockItemUnparsed> val) {
+        set(val, -1, 0);
+    }
+
+    /**
+     * Sets the given value to be published at the given ring sequence to downstream subscribers through the LMAX
+     * Disruptor. The value must not be null and the method is thread-safe.
+     *
+     * @param val the value to set
+     * @param sequence the ring sequence the value is being published at
+     * @param blockCount the number of blocks started up to and including this batch
+     */
+    public void set(final List<BlockItemUnparsed> val, final long sequence, final long blockCount) {
+        // mark the event as changing before the value is replaced, like a seqlock
+        this.sequence = -1;
+        VarHandle.storeStoreFence();
         this.val = val;
+        this.blockCount = blockCount;
+        this.publishedNanos = System.nanoTime();
+        this.sequence = sequence;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long publishedNanos() {
+        return publishedNanos;
     }
 
     /**
@@ -35,6 +71,33 @@ public class BlockItemBatchRingEvent {
         return val;
     }
 
+    /**
+     * Gets the number of blocks started up to and including this batch, used to work out how many blocks behind a
+     * handler is.
+     *
+     * @return the number of blocks started, or zero if not known
+     */
+    public long blockCount() {
+        return blockCount;
+    }
+
+    /**
+     * Gets the value of the event, only if it is the value published at the given ring sequence. This is safe to call
+     * for events the caller is not gated on, so that the producer could be overwriting at the same time.
+     *
+     * @param expectedSequence the ring sequence the value must have been published at
+     * @return the value of the event, or null if the event has been or is being overwritten with a later value
+     */
+    public List<BlockItemUnparsed> getIfSequence(final long expectedSequence) {
+        if (sequence != expectedSequence) {
+            return null;
+        }
+        final List<BlockItemUnparsed> value = val;
+        // make sure the value is read before the sequence is checked again
+        VarHandle.loadLoadFence();
+        return sequence == expectedSequence ? value : null;
+    }
+
     /**
      * toString method to provide a string representation of the BlockItemBatchRingEvent for debugging.
      *
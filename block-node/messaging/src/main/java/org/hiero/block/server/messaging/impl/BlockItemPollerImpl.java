@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.lmax.disruptor.EventPoller;
+import java.util.List;
+import org.hiero.block.server.messaging.BlockItemPoller;
+
+/**
+ * Implementation of {@link BlockItemPoller} backed by a LMAX Disruptor {@link EventPoller} on the block item batch
+ * ring. The event poller sequence is added as a gating sequence to the ring buffer, so the poller applies back pressure
+ * just like a push handler does.
+ * <p>
+ * The poll handler is a field and the drain state is kept in fields so that a call to {@link #poll(List, int)} does
+ * not allocate. This is safe as a poller is only ever polled by a single thread.
+ */
+final class BlockItemPollerImpl implements BlockItemPoller {
+    /** The disruptor event poller used to read from the ring */
+    private final EventPoller<BlockItemBatchRingEvent> eventPoller;
+    /** The name of the poller, used for logging */
+    private final String name;
+    /** The statistics of the poller, reported along with those of the handlers */
+    private final HandlerStatisticsCollector statistics;
+    /** The reusable handler that copies events into the current target buffer */
+    private final EventPoller.Handler<BlockItemBatchRingEvent> drainHandler = this::drainEvent;
+    /** The buffer being drained into by the current poll call */
+    private List<List<BlockItemUnparsed>> target;
+    /** The number of batches still allowed to be drained by the current poll call */
+    private int remaining;
+    /** True once the poller has been unregistered */
+    private volatile boolean closed = false;
+
+    /**
+     * Constructs a new BlockItemPollerImpl.
+     *
+     * @param eventPoller the disruptor event poller to read from
+     * @param statistics the statistics of the poller, also giving the name of the poller
+     */
+    BlockItemPollerImpl(
+            final EventPoller<BlockItemBatchRingEvent> eventPoller, final HandlerStatisticsCollector statistics) {
+        this.eventPoller = eventPoller;
+        this.statistics = statistics;
+        this.name = statistics.handlerName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int poll(final List<List<BlockItemUnparsed>> buffer, final int maxBatches) {
+        if (maxBatches < 1) {
+            throw new IllegalArgumentException("maxBatches must be greater than zero, was " + maxBatches);
+        }
+        if (closed) {
+            throw new IllegalStateException("Poller [" + name + "] has been unregistered");
+        }
+        target = buffer;
+        remaining = maxBatches;
+        try {
+            eventPoller.poll(drainHandler);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // drainEvent never throws checked exceptions, this is just to satisfy the EventPoller API
+            throw new IllegalStateException("Unexpected exception polling [" + name + "]", e);
+        } finally {
+            target = null;
+        }
+        return maxBatches - remaining;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Get the disruptor event poller, used to manage the gating sequence of this poller.
+     *
+     * @return the disruptor event poller
+     */
+    EventPoller<BlockItemBatchRingEvent> eventPoller() {
+        return eventPoller;
+    }
+
+    /**
+     * Get the statistics of the poller.
+     *
+     * @return the statistics of the poller
+     */
+    HandlerStatisticsCollector statistics() {
+        return statistics;
+    }
+
+    /**
+     * Mark this poller as closed, any further calls to {@link #poll(List, int)} will fail.
+     */
+    void close() {
+        closed = true;
+    }
+
+    /**
+     * Event poller callback, appends the event batch to the current target buffer.
+     *
+     * @param event the ring event
+     * @param sequence the sequence of the event
+     * @param endOfBatch true if this is the last available event
+     * @return true if more events should be drained in this poll call
+     */
+    private boolean drainEvent(final BlockItemBatchRingEvent event, final long sequence, final boolean endOfBatch) {
+        target.add(event.get());
+        statistics.recordEvent();
+        statistics.recordBlocksHandled(event.blockCount());
+        return --remaining > 0;
+    }
+}
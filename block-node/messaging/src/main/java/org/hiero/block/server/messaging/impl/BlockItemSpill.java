@@ -0,0 +1,303 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import org.hiero.block.server.messaging.NoBackPressureBlockItemHandler;
+
+/**
+ * Delivers block items to a {@link NoBackPressureBlockItemHandler} with a disk backed overflow, rather than evicting
+ * the handler as soon as it falls too far behind the ring head.
+ * <p>
+ * While the handler keeps up, batches are handed straight to it on the ring handler thread. Once it falls too far
+ * behind, the ring handler thread stops calling the handler and only appends batches to a memory mapped
+ * {@link SpillSegment}, which is fast enough to keep up with the ring. A separate drain thread then feeds the handler
+ * from the segment at whatever pace it can manage. When the drain thread has emptied the segment and the ring handler
+ * thread is close to the ring head again, the handler goes back to being called directly. Only one thread ever calls
+ * the handler at a time, and batches are always delivered in order. If the segment fills up the handler is evicted
+ * just like it would have been without the spill.
+ */
+final class BlockItemSpill {
+    /** Logger for the block item spill. */
+    private static final System.Logger LOGGER = System.getLogger(BlockItemSpill.class.getName());
+    /** The percentage behind the ring head at which the handler starts spilling */
+    static final double SPILL_START_PERCENTAGE = 80;
+    /** The percentage behind the ring head the ring handler thread must be under before spilling can stop */
+    static final double SPILL_STOP_PERCENTAGE = 10;
+    /** How long the drain thread waits for more batches before re-checking if spilling can stop */
+    private static final long DRAIN_WAIT_MILLIS = 1;
+
+    /** The handler to deliver to */
+    private final NoBackPressureBlockItemHandler handler;
+    /** The name of the handler, used for the spill file and drain thread names */
+    private final String handlerName;
+    /** The directory to create the spill segment in */
+    private final Path spillDirectory;
+    /** The size of the spill segment in bytes */
+    private final int spillSegmentSize;
+    /** The thread factory used to create the drain thread */
+    private final ThreadFactory threadFactory;
+    /** The statistics of the handler, spill statistics are recorded here */
+    private final HandlerStatisticsCollector statistics;
+    /** Called, without holding the lock, to unregister the handler when the spill overflows */
+    private final Runnable unregister;
+    /** The spill segment, created the first time the handler spills. Guarded by this */
+    private SpillSegment segment;
+    /** True while batches are going to the spill segment rather than directly to the handler. Guarded by this */
+    private boolean spilling = false;
+    /** True when the segment overflowed and the handler is being evicted. Guarded by this */
+    private boolean overflowed = false;
+    /** True once the handler has been unregistered. Guarded by this */
+    private boolean closed = false;
+    /** True while the drain thread is running. Guarded by this */
+    private boolean draining = false;
+    /** The last percentage behind the ring head seen by the ring handler thread */
+    private volatile double percentageBehindRingHead = 0;
+
+    /**
+     * Constructs a new BlockItemSpill.
+     *
+     * @param handler the handler to deliver to
+     * @param handlerName the name of the handler
+     * @param spillDirectory the directory to create the spill segment in
+     * @param spillSegmentSize the size of the spill segment in bytes
+     * @param threadFactory the thread factory used to create the drain thread
+     * @param statistics the statistics of the handler
+     * @param unregister called to unregister the handler when the spill overflows
+     */
+    BlockItemSpill(
+            final NoBackPressureBlockItemHandler handler,
+            final String handlerName,
+            final Path spillDirectory,
+            final int spillSegmentSize,
+            final ThreadFactory threadFactory,
+            final HandlerStatisticsCollector statistics,
+            final Runnable unregister) {
+        this.handler = handler;
+        this.handlerName = handlerName;
+        this.spillDirectory = spillDirectory;
+        this.spillSegmentSize = spillSegmentSize;
+        this.threadFactory = threadFactory;
+        this.statistics = statistics;
+        this.unregister = unregister;
+    }
+
+    /**
+     * Called on the ring handler thread for every batch of block items.
+     *
+     * @param items the batch of block items
+     * @param percentageBehindRingHead percentage 0.0 to 100.0 behind the ring head the ring handler thread is
+     */
+    void onBlockItems(final List<BlockItemUnparsed> items, final double percentageBehindRingHead) {
+        this.percentageBehindRingHead = percentageBehindRingHead;
+        final boolean deliverDirectly;
+        boolean overflow = false;
+        boolean notifyHandler = false;
+        synchronized (this) {
+            if (closed || overflowed) {
+                return;
+            }
+            deliverDirectly = !spilling;
+            if (spilling && !appendToSpill(items)) {
+                overflow = true;
+                notifyHandler = markOverflowed();
+            }
+        }
+        if (deliverDirectly) {
+            handler.handleBlockItemsReceived(items);
+            if (percentageBehindRingHead > SPILL_START_PERCENTAGE) {
+                synchronized (this) {
+                    if (!startSpilling()) {
+                        overflow = true;
+                        notifyHandler = markOverflowed();
+                    }
+                }
+            }
+        }
+        if (overflow) {
+            // unregister outside the lock, unregistering closes this spill
+            unregister.run();
+            if (notifyHandler) {
+                handler.onTooFarBehindError();
+            }
+        }
+    }
+
+    /**
+     * Close the spill, when the handler is unregistered. Stops the drain thread and deletes the spill segment.
+     */
+    synchronized void close() {
+        closed = true;
+        notifyAll();
+        if (!draining) {
+            closeSegment();
+        }
+    }
+
+    /**
+     * Switch to spilling, called on the ring handler thread after it has delivered the last direct batch. Must hold
+     * the lock.
+     *
+     * @return true if spilling started or the spill is closed, false if the spill segment could not be created
+     */
+    private boolean startSpilling() {
+        if (closed) {
+            return true;
+        }
+        if (segment == null) {
+            try {
+                segment = new SpillSegment(spillDirectory, handlerName, spillSegmentSize);
+            } catch (IOException e) {
+                LOGGER.log(Level.ERROR, "Could not create spill segment for [" + handlerName + "]", e);
+                return false;
+            }
+        }
+        spilling = true;
+        draining = true;
+        statistics.recordSpillStart();
+        final Thread drainThread = threadFactory.newThread(this::drain);
+        drainThread.setName("MessageHandlerSpill:" + handlerName);
+        drainThread.start();
+        return true;
+    }
+
+    /**
+     * Append a batch to the spill segment. Must hold the lock.
+     *
+     * @param items the batch of block items
+     * @return true if the batch was spilled, false if it did not fit or could not be written
+     */
+    private boolean appendToSpill(final List<BlockItemUnparsed> items) {
+        try {
+            final int depthBefore = segment.depth();
+            if (!segment.append(items)) {
+                return false;
+            }
+            statistics.recordSpilled(segment.depth() - depthBefore, segment.depth());
+            notifyAll();
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.ERROR, "Could not spill block items for [" + handlerName + "]", e);
+            return false;
+        }
+    }
+
+    /**
+     * Mark the spill as overflowed, so the handler gets evicted. Must hold the lock.
+     *
+     * @return true if the caller must call {@link NoBackPressureBlockItemHandler#onTooFarBehindError()}, false if the
+     *     drain thread will call it once it has stopped delivering batches
+     */
+    private boolean markOverflowed() {
+        overflowed = true;
+        notifyAll();
+        return !draining;
+    }
+
+    /**
+     * Body of the drain thread, feeds the handler from the spill segment until it has caught up.
+     */
+    private void drain() {
+        boolean stopped = false;
+        boolean evict = false;
+        boolean notifyHandler = false;
+        try {
+            while (true) {
+                final List<BlockItemUnparsed> items;
+                synchronized (this) {
+                    items = nextSpilledBatch();
+                    if (items == null) {
+                        // stop while still holding the lock that found the segment empty, so the ring handler
+                        // thread either spilled its next batch before this or delivers it directly after
+                        notifyHandler = stopDraining();
+                        stopped = true;
+                        break;
+                    }
+                }
+                handler.handleBlockItemsReceived(items);
+            }
+        } catch (ParseException | InterruptedException e) {
+            // the spill can not be trusted to deliver everything in order any more, so give up on the handler
+            LOGGER.log(Level.ERROR, "Could not drain spilled block items for [" + handlerName + "]", e);
+            evict = true;
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            if (!stopped) {
+                synchronized (this) {
+                    if (evict && !overflowed && !closed) {
+                        overflowed = true;
+                    } else {
+                        evict = false;
+                    }
+                    notifyHandler = stopDraining();
+                }
+            }
+        }
+        if (evict) {
+            unregister.run();
+        }
+        if (notifyHandler) {
+            handler.onTooFarBehindError();
+        }
+    }
+
+    /**
+     * Stop draining and go back to direct delivery, or clean up if the handler is being evicted. Must hold the lock.
+     *
+     * @return true if the drain thread must call {@link NoBackPressureBlockItemHandler#onTooFarBehindError()}
+     */
+    private boolean stopDraining() {
+        draining = false;
+        spilling = false;
+        statistics.recordSpillEnd(segment.depth());
+        if (closed || overflowed) {
+            closeSegment();
+        }
+        return overflowed;
+    }
+
+    /**
+     * Get the next spilled batch, waiting for more if the ring handler thread is still catching up. Must hold the
+     * lock, which is released while waiting.
+     *
+     * @return the next batch, or null if draining should stop
+     * @throws ParseException if the batch could not be decoded
+     * @throws InterruptedException if the drain thread is interrupted
+     */
+    private List<BlockItemUnparsed> nextSpilledBatch() throws ParseException, InterruptedException {
+        while (!closed && !overflowed) {
+            final List<BlockItemUnparsed> items = segment.read();
+            if (items != null) {
+                statistics.recordSpillDrained(segment.depth());
+                return items;
+            }
+            if (percentageBehindRingHead < SPILL_STOP_PERCENTAGE) {
+                // caught up with the spill and the ring, go back to direct delivery
+                return null;
+            }
+            wait(DRAIN_WAIT_MILLIS);
+        }
+        return null;
+    }
+
+    /**
+     * Close the spill segment, deleting its file. Must hold the lock.
+     */
+    private void closeSegment() {
+        if (segment != null) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Could not close spill segment for [" + handlerName + "]", e);
+            }
+            segment = null;
+        }
+    }
+}
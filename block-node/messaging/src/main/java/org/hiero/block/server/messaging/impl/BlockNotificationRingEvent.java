@@ -4,11 +4,16 @@ package org.hiero.block.server.messaging.impl;
 import org.hiero.block.server.messaging.BlockNotification;
 
 /**
- * Simple mutable container for batch of block items. The ring buffer is made up of these events.
+ * Simple mutable container for a block notification. The ring buffer is made up of these events. The notification is
+ * stored as primitive fields inline in the event, so sending and handling notifications does not need to allocate.
  */
-public class BlockNotificationRingEvent {
-    /** The value to be published to downstream subscribers through the LMAX Disruptor. */
-    private BlockNotification val;
+public class BlockNotificationRingEvent implements TimedRingEvent {
+    /** The block number of the notification to be published to downstream subscribers through the LMAX Disruptor. */
+    private long blockNumber;
+    /** The type of the notification, or null if no notification has been set. */
+    private BlockNotification.Type type;
+    /** The time the value was published, as given by {@link System#nanoTime()}. */
+    private long publishedNanos;
 
     /** Constructor for the BlockNotificationRingEvent class. */
     public BlockNotificationRingEvent() {}
@@ -20,16 +25,56 @@ public class BlockNotificationRingEvent {
      * @param val the value to set
      */
     public void set(final BlockNotification val) {
-        this.val = val;
+        set(val.blockNumber(), val.type());
+    }
+
+    /**
+     * Sets the given notification to be published to downstream subscribers through the LMAX Disruptor, without
+     * allocating a {@link BlockNotification}. The type must not be null and the method is thread-safe.
+     *
+     * @param blockNumber the block number the notification is for
+     * @param type the type of notification
+     */
+    public void set(final long blockNumber, final BlockNotification.Type type) {
+        this.blockNumber = blockNumber;
+        this.type = type;
+        this.publishedNanos = System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long publishedNanos() {
+        return publishedNanos;
+    }
+
+    /**
+     * Gets the block number of the event from the LMAX Disruptor on the consumer side. The method is thread-safe.
+     *
+     * @return the block number of the notification
+     */
+    public long blockNumber() {
+        return blockNumber;
+    }
+
+    /**
+     * Gets the type of the event from the LMAX Disruptor on the consumer side. The method is thread-safe.
+     *
+     * @return the type of the notification, or null if no notification has been set
+     */
+    public BlockNotification.Type type() {
+        return type;
     }
 
     /**
      * Gets the value of the event from the LMAX Disruptor on the consumer side. The method is
-     * thread-safe.
+     * thread-safe. This allocates a new {@link BlockNotification} on every call, use {@link #blockNumber()} and
+     * {@link #type()} to read the event without allocating.
      *
-     * @return the value of the event
+     * @return the value of the event, or null if no notification has been set
      */
     public BlockNotification get() {
-        return val;
+        return type == null ? null : new BlockNotification(blockNumber, type);
     }
 }
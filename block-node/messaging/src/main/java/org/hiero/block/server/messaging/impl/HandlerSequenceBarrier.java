@@ -0,0 +1,175 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+import com.lmax.disruptor.AlertException;
+import com.lmax.disruptor.FixedSequenceGroup;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.SequenceBarrier;
+import com.lmax.disruptor.TimeoutException;
+
+/**
+ * Sequence barrier for a single handler that waits using the handler's own {@link HandlerWaitStrategy}, rather than
+ * the wait strategy of the ring buffer. This is what allows every handler on a ring to choose its own trade-off
+ * between latency and idle CPU. A barrier can also depend on the sequences of upstream handlers, in which case it only
+ * lets its handler process an event once all the upstream handlers have processed it.
+ * <p>
+ * Waiting is done in two steps. First the handler wait strategy waits until the ring cursor, or all the upstream
+ * handler sequences, have reached the requested sequence. Then the barrier created by the ring buffer is used to find
+ * the highest sequence that has actually been published, this returns immediately as the data is already there. The
+ * time spent in the first step is recorded as idle time in the handler statistics, and the time from the awaited event
+ * being published to the handler waking up as wake-up latency.
+ *
+ * @param <E> the type of the ring event
+ */
+final class HandlerSequenceBarrier<E extends TimedRingEvent> implements SequenceBarrier {
+    /** The ring buffer this barrier is for */
+    private final RingBuffer<E> ringBuffer;
+    /** The handler wait strategy */
+    private final HandlerWaitStrategy handlerWaitStrategy;
+    /** The ring buffer barrier, used to check published sequences and alerts */
+    private final SequenceBarrier ringBarrier;
+    /** Read only view of the ring buffer cursor */
+    private final Sequence cursorSequence;
+    /** The sequence this barrier waits on, the ring cursor or the minimum of the upstream handler sequences */
+    private final Sequence dependentSequence;
+    /** The statistics to record idle time to */
+    private final HandlerStatisticsCollector statistics;
+    /** True when the barrier has been alerted, so the handler should stop */
+    private volatile boolean alerted = false;
+
+    /**
+     * Constructs a new HandlerSequenceBarrier.
+     *
+     * @param ringBuffer the ring buffer this barrier is for
+     * @param handlerWaitStrategy the handler wait strategy to wait with
+     * @param statistics the statistics to record idle time to
+     * @param upstreamSequences the sequences of the handlers that must process an event before this one, may be empty
+     */
+    HandlerSequenceBarrier(
+            final RingBuffer<E> ringBuffer,
+            final HandlerWaitStrategy handlerWaitStrategy,
+            final HandlerStatisticsCollector statistics,
+            final Sequence... upstreamSequences) {
+        this.ringBuffer = ringBuffer;
+        this.handlerWaitStrategy = handlerWaitStrategy;
+        this.ringBarrier = ringBuffer.newBarrier(upstreamSequences);
+        this.cursorSequence = new RingCursorSequence(ringBuffer);
+        this.dependentSequence =
+                upstreamSequences.length == 0 ? cursorSequence : new FixedSequenceGroup(upstreamSequences);
+        this.statistics = statistics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long waitFor(final long sequence) throws AlertException, InterruptedException, TimeoutException {
+        checkAlert();
+        if (dependentSequence.get() < sequence) {
+            final long start = System.nanoTime();
+            final long availableSequence = handlerWaitStrategy
+                    .waitStrategy()
+                    .waitFor(sequence, cursorSequence, dependentSequence, this);
+            final long waited = System.nanoTime() - start;
+            statistics.recordIdleWait(waited, handlerWaitStrategy.idleSpinEstimator().applyAsLong(waited));
+            if (availableSequence < sequence) {
+                return availableSequence;
+            }
+            final long publishedSequence = ringBarrier.waitFor(sequence);
+            if (publishedSequence >= sequence) {
+                statistics.recordWakeUp(System.nanoTime() - ringBuffer.get(sequence).publishedNanos());
+            }
+            return publishedSequence;
+        }
+        return ringBarrier.waitFor(sequence);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCursor() {
+        return dependentSequence.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAlerted() {
+        return alerted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alert() {
+        alerted = true;
+        ringBarrier.alert();
+        handlerWaitStrategy.waitStrategy().signalAllWhenBlocking();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearAlert() {
+        alerted = false;
+        ringBarrier.clearAlert();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void checkAlert() throws AlertException {
+        if (alerted) {
+            throw AlertException.INSTANCE;
+        }
+    }
+
+    /**
+     * Read only {@link Sequence} view of the cursor of a ring buffer, as the ring buffer does not expose its cursor
+     * sequence directly.
+     */
+    private static final class RingCursorSequence extends Sequence {
+        /** The ring buffer to read the cursor of */
+        private final RingBuffer<?> ringBuffer;
+
+        /**
+         * Constructs a new RingCursorSequence.
+         *
+         * @param ringBuffer the ring buffer to read the cursor of
+         */
+        private RingCursorSequence(final RingBuffer<?> ringBuffer) {
+            this.ringBuffer = ringBuffer;
+        }
+
+        @Override
+        public long get() {
+            return ringBuffer.getCursor();
+        }
+
+        @Override
+        public void set(final long value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean compareAndSet(final long expectedValue, final long newValue) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long incrementAndGet() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long addAndGet(final long increment) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,263 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hiero.block.server.messaging.HandlerStatistics;
+import org.hiero.block.server.messaging.WaitPolicy;
+
+/**
+ * Collects the statistics for a single registered handler. Values are only ever written by the handler thread, or the
+ * spill drain thread of a spilling handler, but can be read at any time from any thread to build a
+ * {@link HandlerStatistics} snapshot.
+ */
+final class HandlerStatisticsCollector {
+    /** The upper limits of the processing time histogram buckets, unboxed for the handler thread */
+    private static final long[] PROCESSING_TIME_BUCKET_LIMITS_NANOS =
+            HandlerStatistics.PROCESSING_TIME_BUCKET_LIMITS_NANOS.stream()
+                    .mapToLong(Long::longValue)
+                    .toArray();
+    /** The time constant of the event rate moving average, events older than this have a fading weight */
+    private static final double EVENT_RATE_TIME_CONSTANT_NANOS = 5_000_000_000d;
+    /** How often the handler thread folds the events it has processed into the event rate moving average */
+    private static final long EVENT_RATE_UPDATE_NANOS = 1_000_000_000L;
+
+    /** The name of the handler */
+    private final String handlerName;
+    /** The wait policy of the handler */
+    private final WaitPolicy waitPolicy;
+    /** The number of events processed */
+    private final AtomicLong eventsProcessed = new AtomicLong();
+    /** The number of times the handler woke up after being idle */
+    private final AtomicLong wakeUps = new AtomicLong();
+    /** The total wake-up latency in nanoseconds */
+    private final AtomicLong totalWakeUpLatencyNanos = new AtomicLong();
+    /** The maximum wake-up latency in nanoseconds */
+    private final AtomicLong maxWakeUpLatencyNanos = new AtomicLong();
+    /** The total time spent waiting for events in nanoseconds */
+    private final AtomicLong idleWaitNanos = new AtomicLong();
+    /** The total time spent spinning or yielding while waiting for events in nanoseconds */
+    private final AtomicLong idleSpinNanos = new AtomicLong();
+    /** The total number of bytes spilled */
+    private final AtomicLong spillBytes = new AtomicLong();
+    /** The number of spilled bytes not yet drained */
+    private final AtomicLong spillDepthBytes = new AtomicLong();
+    /** The total time spent in completed spills in nanoseconds */
+    private final AtomicLong spillNanos = new AtomicLong();
+    /** The time the current spill started, or zero if the handler is not spilling */
+    private final AtomicLong spillStartNanos = new AtomicLong();
+    /** The number of blocks started up to the last block item event processed */
+    private final AtomicLong blocksHandled = new AtomicLong();
+    /** The number of events processed in each processing time range */
+    private final AtomicLongArray processingTimeHistogram =
+            new AtomicLongArray(HandlerStatistics.PROCESSING_TIME_BUCKET_LIMITS_NANOS.size() + 1);
+    /** The event rate moving average, as of the last time the handler thread updated it */
+    private final AtomicReference<EventRate> eventRate = new AtomicReference<>(new EventRate(0, System.nanoTime(), 0));
+
+    /**
+     * Constructs a new HandlerStatisticsCollector.
+     *
+     * @param handlerName the name of the handler, or null if it has no name
+     * @param waitPolicy the wait policy of the handler, or null for a block item poller
+     */
+    HandlerStatisticsCollector(final String handlerName, final WaitPolicy waitPolicy) {
+        this.handlerName = handlerName == null ? "Unknown" : handlerName;
+        this.waitPolicy = waitPolicy;
+    }
+
+    /**
+     * Get the name of the handler.
+     *
+     * @return the name of the handler
+     */
+    String handlerName() {
+        return handlerName;
+    }
+
+    /**
+     * Get the wait policy of the handler.
+     *
+     * @return the wait policy of the handler
+     */
+    WaitPolicy waitPolicy() {
+        return waitPolicy;
+    }
+
+    /**
+     * Record that an event has been processed.
+     */
+    void recordEvent() {
+        final long events = eventsProcessed.incrementAndGet();
+        final long nowNanos = System.nanoTime();
+        final EventRate rate = eventRate.get();
+        if (nowNanos - rate.updatedNanos() >= EVENT_RATE_UPDATE_NANOS) {
+            eventRate.set(new EventRate(rate.eventsPerSecondAt(nowNanos, events), nowNanos, events));
+        }
+    }
+
+    /**
+     * Record how long the handler took to process an event.
+     *
+     * @param processingNanos the processing time in nanoseconds
+     */
+    void recordProcessingTime(final long processingNanos) {
+        int bucket = 0;
+        while (bucket < PROCESSING_TIME_BUCKET_LIMITS_NANOS.length
+                && processingNanos >= PROCESSING_TIME_BUCKET_LIMITS_NANOS[bucket]) {
+            bucket++;
+        }
+        processingTimeHistogram.incrementAndGet(bucket);
+    }
+
+    /**
+     * Record the number of blocks started up to the block item event just processed.
+     *
+     * @param blockCount the number of blocks started
+     */
+    void recordBlocksHandled(final long blockCount) {
+        blocksHandled.set(blockCount);
+    }
+
+    /**
+     * Get the number of blocks started up to the last block item event processed.
+     *
+     * @return the number of blocks handled
+     */
+    long blocksHandled() {
+        return blocksHandled.get();
+    }
+
+    /**
+     * Record the time from an event being published to the idle handler starting to process it.
+     *
+     * @param latencyNanos the wake-up latency in nanoseconds
+     */
+    void recordWakeUp(final long latencyNanos) {
+        wakeUps.incrementAndGet();
+        totalWakeUpLatencyNanos.addAndGet(latencyNanos);
+        if (latencyNanos > maxWakeUpLatencyNanos.get()) {
+            maxWakeUpLatencyNanos.set(latencyNanos);
+        }
+    }
+
+    /**
+     * Record time spent waiting for new events.
+     *
+     * @param waitNanos the total time waited in nanoseconds
+     * @param spinNanos the part of the wait spent spinning or yielding in nanoseconds
+     */
+    void recordIdleWait(final long waitNanos, final long spinNanos) {
+        idleWaitNanos.addAndGet(waitNanos);
+        idleSpinNanos.addAndGet(Math.min(waitNanos, spinNanos));
+    }
+
+    /**
+     * Record that the handler has started spilling.
+     */
+    void recordSpillStart() {
+        spillStartNanos.set(System.nanoTime());
+    }
+
+    /**
+     * Record that a batch has been spilled.
+     *
+     * @param bytes the number of bytes spilled
+     * @param depthBytes the number of spilled bytes not yet drained, including this batch
+     */
+    void recordSpilled(final long bytes, final long depthBytes) {
+        spillBytes.addAndGet(bytes);
+        spillDepthBytes.set(depthBytes);
+    }
+
+    /**
+     * Record that a spilled batch has been drained.
+     *
+     * @param depthBytes the number of spilled bytes not yet drained
+     */
+    void recordSpillDrained(final long depthBytes) {
+        spillDepthBytes.set(depthBytes);
+    }
+
+    /**
+     * Record that the handler has stopped spilling.
+     *
+     * @param depthBytes the number of spilled bytes left undrained, non-zero if the handler was evicted
+     */
+    void recordSpillEnd(final long depthBytes) {
+        final long startNanos = spillStartNanos.getAndSet(0);
+        if (startNanos != 0) {
+            spillNanos.addAndGet(System.nanoTime() - startNanos);
+        }
+        spillDepthBytes.set(depthBytes);
+    }
+
+    /**
+     * Create a point in time snapshot of the statistics. The events per second are an exponentially weighted moving
+     * average of the recent rate, so they fall off while the handler is idle. Taking a snapshot does not change any
+     * state, so any number of readers can take them.
+     *
+     * @param lagSequences the number of ring events published that the handler has not processed yet
+     * @param lagBlocks the number of blocks started that the handler has not seen the start of yet
+     * @param stalled true if the handler has left an event unprocessed for longer than the stall window
+     * @return the statistics snapshot
+     */
+    HandlerStatistics snapshot(final long lagSequences, final long lagBlocks, final boolean stalled) {
+        final long nowNanos = System.nanoTime();
+        final long events = eventsProcessed.get();
+        final double eventsPerSecond = eventRate.get().eventsPerSecondAt(nowNanos, events);
+        final List<Long> histogram = new ArrayList<>(processingTimeHistogram.length());
+        for (int i = 0; i < processingTimeHistogram.length(); i++) {
+            histogram.add(processingTimeHistogram.get(i));
+        }
+        final long wakeUpCount = wakeUps.get();
+        final long currentSpillStartNanos = spillStartNanos.get();
+        final long currentSpillNanos = currentSpillStartNanos == 0 ? 0 : nowNanos - currentSpillStartNanos;
+        return new HandlerStatistics(
+                handlerName,
+                waitPolicy,
+                events,
+                wakeUpCount,
+                wakeUpCount == 0 ? 0 : totalWakeUpLatencyNanos.get() / wakeUpCount,
+                maxWakeUpLatencyNanos.get(),
+                idleWaitNanos.get(),
+                idleSpinNanos.get(),
+                spillBytes.get(),
+                spillDepthBytes.get(),
+                spillNanos.get() + currentSpillNanos,
+                eventsPerSecond,
+                lagSequences,
+                lagBlocks,
+                List.copyOf(histogram),
+                stalled);
+    }
+
+    /**
+     * The event rate moving average at a point in time. Only the handler thread replaces it, readers extend it to the
+     * current time without changing it.
+     *
+     * @param eventsPerSecond the moving average of the event rate at the time it was updated
+     * @param updatedNanos the time the moving average was updated, as given by {@link System#nanoTime()}
+     * @param eventsProcessed the number of events processed when the moving average was updated
+     */
+    private record EventRate(double eventsPerSecond, long updatedNanos, long eventsProcessed) {
+        /**
+         * Get the moving average at a later time, folding in the rate of the events processed since it was updated.
+         *
+         * @param nowNanos the current time, as given by {@link System#nanoTime()}
+         * @param events the number of events processed by now
+         * @return the moving average of the event rate at the current time
+         */
+        double eventsPerSecondAt(final long nowNanos, final long events) {
+            final long elapsedNanos = nowNanos - updatedNanos;
+            if (elapsedNanos <= 0) {
+                return eventsPerSecond;
+            }
+            final double sinceUpdatePerSecond = (events - eventsProcessed) * 1_000_000_000d / elapsedNanos;
+            final double decay = Math.exp(-elapsedNanos / EVENT_RATE_TIME_CONSTANT_NANOS);
+            return eventsPerSecond * decay + sinceUpdatePerSecond * (1 - decay);
+        }
+    }
+}
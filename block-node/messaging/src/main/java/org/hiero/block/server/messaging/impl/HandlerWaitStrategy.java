@@ -0,0 +1,60 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.PhasedBackoffWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongUnaryOperator;
+import org.hiero.block.server.messaging.WaitPolicy;
+
+/**
+ * The wait strategy used by a single handler, created from the {@link WaitPolicy} it was registered with. Each handler
+ * gets its own instance, so blocking strategies only ever have one waiting thread.
+ *
+ * @param waitPolicy the policy this strategy was created for
+ * @param waitStrategy the disruptor wait strategy
+ * @param requiresSignal true if the strategy blocks and needs to be signalled by the producer when it publishes
+ * @param idleSpinEstimator function from the total time of a wait to the part of it spent spinning or yielding
+ */
+record HandlerWaitStrategy(
+        WaitPolicy waitPolicy,
+        WaitStrategy waitStrategy,
+        boolean requiresSignal,
+        LongUnaryOperator idleSpinEstimator) {
+    /** Time the phased backoff strategy spins for before yielding */
+    private static final long PHASED_SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    /** Time the phased backoff strategy spins and yields for in total before blocking */
+    private static final long PHASED_YIELD_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+    /**
+     * Create a new handler wait strategy for the given policy.
+     *
+     * @param waitPolicy the wait policy
+     * @return a new handler wait strategy
+     */
+    static HandlerWaitStrategy forPolicy(final WaitPolicy waitPolicy) {
+        return switch (waitPolicy) {
+            case BUSY_SPIN -> new HandlerWaitStrategy(
+                    waitPolicy, new BusySpinWaitStrategy(), false, LongUnaryOperator.identity());
+            case YIELDING -> new HandlerWaitStrategy(
+                    waitPolicy, new YieldingWaitStrategy(), false, LongUnaryOperator.identity());
+            // sleeping parks for 100ns at a time, which is well below timer resolution, so it is mostly parked
+            case SLEEPING -> new HandlerWaitStrategy(waitPolicy, new SleepingWaitStrategy(), false, waited -> 0);
+            case BLOCKING -> new HandlerWaitStrategy(waitPolicy, new BlockingWaitStrategy(), true, waited -> 0);
+            case PHASED_BACKOFF -> new HandlerWaitStrategy(
+                    waitPolicy,
+                    PhasedBackoffWaitStrategy.withLock(PHASED_SPIN_NANOS, PHASED_YIELD_NANOS, TimeUnit.NANOSECONDS),
+                    true,
+                    waited -> Math.min(waited, PHASED_YIELD_NANOS));
+            case ADAPTIVE -> {
+                final AdaptiveWaitStrategy adaptiveWaitStrategy = new AdaptiveWaitStrategy();
+                yield new HandlerWaitStrategy(
+                        waitPolicy, adaptiveWaitStrategy, true, waited -> adaptiveWaitStrategy.lastSpinNanos());
+            }
+        };
+    }
+}
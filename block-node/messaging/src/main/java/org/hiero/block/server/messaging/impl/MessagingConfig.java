@@ -3,12 +3,47 @@ package org.hiero.block.server.messaging.impl;
 
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import java.nio.file.Path;
+import org.hiero.block.common.utils.Preconditions;
 import org.hiero.block.server.config.logging.Loggable;
 
 /**
  * Configuration for the messaging system.
  *
  * @param queueSize The maximum number of messages that can be queued for processing.
+ * @param multiProducer True to allow block items and block notifications to be sent from several threads at once,
+ *     false if each is only ever sent from a single thread. Single producer mode is faster, but is not safe with
+ *     concurrent senders.
+ * @param spillDirectory The directory spill segments are created in, for no back pressure handlers that spill when
+ *     they fall too far behind.
+ * @param spillSegmentSize The size in bytes of the spill segment for each spilling handler. A handler that falls
+ *     further behind than this is unregistered.
+ * @param coalesceMaxItems The maximum number of block items consecutive small batches are merged into before being
+ *     published. 0 or 1 turns merging off, so every batch sent is published as is.
+ * @param coalesceMaxDelayMillis The maximum time in milliseconds block items wait to be merged with later batches
+ *     before being published, when merging is turned on.
+ * @param stallWindowMillis The time in milliseconds a handler can leave a published event unhandled before it is
+ *     reported as stalled in its statistics.
  */
 @ConfigData("messaging")
-public record MessagingConfig(@Loggable @ConfigProperty(defaultValue = "1024") int queueSize) {}
+public record MessagingConfig(
+        @Loggable @ConfigProperty(defaultValue = "1024") int queueSize,
+        @Loggable @ConfigProperty(defaultValue = "false") boolean multiProducer,
+        @Loggable @ConfigProperty(defaultValue = "/opt/hashgraph/blocknode/data/messaging-spill") Path spillDirectory,
+        @Loggable @ConfigProperty(defaultValue = "67_108_864") int spillSegmentSize,
+        @Loggable @ConfigProperty(defaultValue = "0") int coalesceMaxItems,
+        @Loggable @ConfigProperty(defaultValue = "2") long coalesceMaxDelayMillis,
+        @Loggable @ConfigProperty(defaultValue = "10_000") long stallWindowMillis) {
+
+    /**
+     * Validate the configuration.
+     *
+     * @throws IllegalArgumentException if the configuration is invalid
+     */
+    public MessagingConfig {
+        Preconditions.requirePositive(spillSegmentSize, "Messaging Spill Segment Size must be positive");
+        Preconditions.requireGreaterOrEqual(coalesceMaxItems, 0, "Messaging Coalesce Max Items must not be negative");
+        Preconditions.requirePositive(coalesceMaxDelayMillis, "Messaging Coalesce Max Delay Millis must be positive");
+        Preconditions.requirePositive(stallWindowMillis, "Messaging Stall Window Millis must be positive");
+    }
+}
@@ -4,26 +4,36 @@ package org.hiero.block.server.messaging.impl;
 import com.hedera.hapi.block.BlockItemUnparsed;
 import com.lmax.disruptor.BatchEventProcessor;
 import com.lmax.disruptor.BatchEventProcessorBuilder;
+import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.ExceptionHandler;
 import com.lmax.disruptor.RingBuffer;
-import com.lmax.disruptor.SequenceBarrier;
-import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.Sequence;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import com.swirlds.config.api.spi.ConfigurationBuilderFactory;
 import java.lang.System.Logger.Level;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
 import org.hiero.block.server.messaging.BlockItemHandler;
+import org.hiero.block.server.messaging.BlockItemHandlerOptions;
+import org.hiero.block.server.messaging.BlockItemPoller;
 import org.hiero.block.server.messaging.BlockNotification;
 import org.hiero.block.server.messaging.BlockNotificationHandler;
+import org.hiero.block.server.messaging.HandlerStatistics;
 import org.hiero.block.server.messaging.MessagingService;
 import org.hiero.block.server.messaging.NoBackPressureBlockItemHandler;
+import org.hiero.block.server.messaging.WaitPolicy;
 
 /**
  * Implementation of the MessagingService interface. It uses the LMAX Disruptor to handle block item batches and block
@@ -108,29 +118,37 @@ public class MessagingServiceImpl implements MessagingService {
 
     /**
      * The disruptor that handles the block item batches. It is used to send block items to the different handlers.
-     * It is a single producer, multiple consumer disruptor.
+     * It is a single or multiple producer, depending on config, multiple consumer disruptor.
      */
     private final Disruptor<BlockItemBatchRingEvent> blockItemDisruptor;
 
     /**
      * The disruptor that handles the block notifications. It is used to send block notifications to the different
-     * handlers. It is a single producer, multiple consumer disruptor.
+     * handlers. It is a single or multiple producer, depending on config, multiple consumer disruptor.
      */
     private final Disruptor<BlockNotificationRingEvent> blockNotificationDisruptor;
 
-    /** Map of block item handlers to their threads. So that we can stop them */
-    private final Map<BlockItemHandler, Thread> blockItemHandlerToThread = new HashMap<>();
+    /** The wait strategy of the block item ring, used to signal handlers that block waiting for events */
+    private final RingWaitStrategy blockItemRingWaitStrategy = new RingWaitStrategy();
 
-    /** Map of block item handlers to their event processors. So that we can stop them */
-    private final Map<BlockItemHandler, BatchEventProcessor<BlockItemBatchRingEvent>> blockItemHandlerToEventProcessor =
+    /** The wait strategy of the block notification ring, used to signal handlers that block waiting for events */
+    private final RingWaitStrategy blockNotificationRingWaitStrategy = new RingWaitStrategy();
+
+    /** Map of block item handlers to their event processors, threads and statistics. So that we can stop them */
+    private final Map<BlockItemHandler, RegisteredHandler<BlockItemBatchRingEvent>> blockItemHandlers =
             new HashMap<>();
 
-    /** Map of block notification handlers to their threads. So that we can stop them */
-    private final Map<BlockNotificationHandler, Thread> blockNotificationHandlerToThread = new HashMap<>();
+    /**
+     * Map of block notification handlers to their event processors, threads and statistics. So that we can stop them
+     */
+    private final Map<BlockNotificationHandler, RegisteredHandler<BlockNotificationRingEvent>>
+            blockNotificationHandlers = new HashMap<>();
 
-    /** Map of block notification handlers to their event processors. So that we can stop them */
-    private final Map<BlockNotificationHandler, BatchEventProcessor<BlockNotificationRingEvent>>
-            blockNotificationHandlerToEventProcessor = new HashMap<>();
+    /** Map of spilling no back pressure block item handlers to their spills. So that we can close them */
+    private final Map<NoBackPressureBlockItemHandler, BlockItemSpill> blockItemSpills = new HashMap<>();
+
+    /** Set of registered block item pollers. So that we can remove their gating sequences on shutdown */
+    private final Set<BlockItemPollerImpl> blockItemPollers = new HashSet<>();
 
     /**
      * List of pre-registered block item handlers, that were registered before the service started. These will be added
@@ -145,6 +163,18 @@ public class MessagingServiceImpl implements MessagingService {
     private final List<PreRegisteredBlockNotificationHandler> preRegisteredBlockNotificationHandlers =
             new ArrayList<>();
 
+    /** The configuration for the messaging service, used for the spill settings */
+    private final MessagingConfig config;
+
+    /** The ring sequence of the last block item batch with a block header, or -1 if there has not been one */
+    private final AtomicLong lastBlockHeaderSequence = new AtomicLong(-1);
+
+    /** The number of block item batches with a block header published, used to work out how far behind handlers are */
+    private final AtomicLong blockCount = new AtomicLong();
+
+    /** Merges small block item batches before they are published, null if merging is turned off */
+    private final BlockItemBatchCoalescer blockItemCoalescer;
+
     /**
      * Constructs a new MessagingServiceImpl instance with the default configuration. It uses the
      * ConfigurationBuilderFactory to load the configuration from the classpath.
@@ -159,18 +189,25 @@ public class MessagingServiceImpl implements MessagingService {
      * @param config the configuration for the messaging service
      */
     public MessagingServiceImpl(final MessagingConfig config) {
+        this.config = config;
+        // multiple producers need the CAS based sequencer, a single producer can use the faster plain one
+        final ProducerType producerType = config.multiProducer() ? ProducerType.MULTI : ProducerType.SINGLE;
         blockItemDisruptor = new Disruptor<>(
                 BlockItemBatchRingEvent::new,
                 config.queueSize(),
                 VIRTUAL_THREAD_FACTORY,
-                ProducerType.SINGLE,
-                new SleepingWaitStrategy());
+                producerType,
+                blockItemRingWaitStrategy);
         blockNotificationDisruptor = new Disruptor<>(
                 BlockNotificationRingEvent::new,
                 config.queueSize(),
                 VIRTUAL_THREAD_FACTORY,
-                ProducerType.SINGLE,
-                new SleepingWaitStrategy());
+                producerType,
+                blockNotificationRingWaitStrategy);
+        blockItemCoalescer = config.coalesceMaxItems() > 1
+                ? new BlockItemBatchCoalescer(
+                        this::publishBlockItems, config.coalesceMaxItems(), config.coalesceMaxDelayMillis())
+                : null;
         // Set the exception handler for the disruptors
         blockItemDisruptor.setDefaultExceptionHandler(BLOCK_ITEM_EXCEPTION_HANDLER);
         blockNotificationDisruptor.setDefaultExceptionHandler(BLOCK_NOTIFICATION_EXCEPTION_HANDLER);
@@ -208,32 +245,90 @@ public class MessagingServiceImpl implements MessagingService {
      */
     @Override
     public void sendBlockItems(final List<BlockItemUnparsed> items) {
-        blockItemDisruptor.getRingBuffer().publishEvent((event, sequence) -> event.set(items));
+        if (blockItemCoalescer != null) {
+            blockItemCoalescer.add(items);
+        } else {
+            publishBlockItems(items);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void registerBlockItemHandler(
+    public void sendBlockItemBatches(final List<List<BlockItemUnparsed>> batches) {
+        if (blockItemCoalescer != null) {
+            // merging is cheaper still than claiming a slot per batch
+            blockItemCoalescer.addAll(batches);
+            return;
+        }
+        final RingBuffer<BlockItemBatchRingEvent> ringBuffer = blockItemDisruptor.getRingBuffer();
+        int offset = 0;
+        while (offset < batches.size()) {
+            // can not claim more than the whole ring at once
+            final int count = Math.min(batches.size() - offset, ringBuffer.getBufferSize());
+            // claim all the slots with one sequencer update, rather than one per batch
+            final long hi = ringBuffer.next(count);
+            final long lo = hi - (count - 1);
+            try {
+                for (long sequence = lo; sequence <= hi; sequence++) {
+                    setBlockItems(ringBuffer.get(sequence), batches.get(offset + (int) (sequence - lo)), sequence);
+                }
+            } finally {
+                // claimed slots must always be published, or the ring stalls
+                ringBuffer.publish(lo, hi);
+            }
+            offset += count;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void registerBlockItemHandler(
             final BlockItemHandler handler, final boolean cpuIntensiveHandler, final String handlerName) {
+        registerBlockItemHandler(handler, BlockItemHandlerOptions.of(cpuIntensiveHandler, handlerName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void registerBlockItemHandler(
+            final BlockItemHandler handler, final BlockItemHandlerOptions options) {
+        if (options.spillWhenTooFarBehind()) {
+            throw new IllegalArgumentException("Only no back pressure handlers can spill");
+        }
+        final List<BlockItemHandler> upstreamHandlers = options.upstreamHandlers();
+        for (final BlockItemHandler upstreamHandler : upstreamHandlers) {
+            if (!blockItemHandlers.containsKey(upstreamHandler)
+                    && preRegisteredBlockItemHandlers.stream().noneMatch(pre -> pre.handler() == upstreamHandler)) {
+                throw new IllegalArgumentException("Upstream handlers must be registered before their dependents");
+            }
+        }
+        final boolean cpuIntensiveHandler = options.cpuIntensiveHandler();
         final InformedEventHandler<BlockItemBatchRingEvent> informedEventHandler =
                 (event, sequence, endOfBatch, percentageBehindRingHead) ->
                         handler.handleBlockItemsReceived(event.get());
+        final HandlerStatisticsCollector statistics =
+                new HandlerStatisticsCollector(options.handlerName(), options.waitPolicy());
         if (blockItemDisruptor.hasStarted()) {
             // if the disruptor is already running, we need to register the handler with the disruptor
             registerHandler(
                     handler,
                     cpuIntensiveHandler,
-                    handlerName,
+                    statistics,
+                    upstreamHandlers,
                     blockItemDisruptor.getRingBuffer(),
+                    blockItemRingWaitStrategy,
                     informedEventHandler,
-                    blockItemHandlerToEventProcessor,
-                    blockItemHandlerToThread);
+                    options.startAtLastBlockHeader() ? this::copyEventsFromLastBlockHeader : null,
+                    blockItemHandlers);
         } else {
             // if the disruptor is not running, we need to add the handler to the list of pre-registered handlers
-            preRegisteredBlockItemHandlers.add(
-                    new PreRegisteredBlockItemHandler(handler, informedEventHandler, cpuIntensiveHandler, handlerName));
+            preRegisteredBlockItemHandlers.add(new PreRegisteredBlockItemHandler(
+                    handler, informedEventHandler, cpuIntensiveHandler, statistics, upstreamHandlers));
         }
     }
 
@@ -241,34 +336,65 @@ public class MessagingServiceImpl implements MessagingService {
      * {@inheritDoc}
      */
     @Override
-    public synchronized void registerNoBackpressureBlockItemHandler(
+    public void registerNoBackpressureBlockItemHandler(
             final NoBackPressureBlockItemHandler handler, final boolean cpuIntensiveHandler, final String handlerName) {
-        final InformedEventHandler<BlockItemBatchRingEvent> informedEventHandler =
-                (event, sequence, endOfBatch, percentageBehindRingHead) -> {
-                    // send on the event block items
-                    handler.handleBlockItemsReceived(event.get());
-                    if (percentageBehindRingHead > 80) {
-                        // If the event processor is more than 80% behind, we need to stop it.
-                        // This is a sign that the event processor is not able to keep up with the
-                        // rate of events being published.
-                        unregisterBlockItemHandler(handler);
-                        // the handler it got too far behind
-                        handler.onTooFarBehindError();
-                    }
-                };
+        registerNoBackpressureBlockItemHandler(handler, BlockItemHandlerOptions.of(cpuIntensiveHandler, handlerName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void registerNoBackpressureBlockItemHandler(
+            final NoBackPressureBlockItemHandler handler, final BlockItemHandlerOptions options) {
+        if (!options.upstreamHandlers().isEmpty()) {
+            throw new IllegalArgumentException("No back pressure handlers can not have upstream handlers");
+        }
+        final boolean cpuIntensiveHandler = options.cpuIntensiveHandler();
+        final HandlerStatisticsCollector statistics =
+                new HandlerStatisticsCollector(options.handlerName(), options.waitPolicy());
+        final InformedEventHandler<BlockItemBatchRingEvent> informedEventHandler;
+        if (options.spillWhenTooFarBehind()) {
+            final BlockItemSpill spill = new BlockItemSpill(
+                    handler,
+                    statistics.handlerName(),
+                    config.spillDirectory(),
+                    config.spillSegmentSize(),
+                    cpuIntensiveHandler ? PLATFORM_THREAD_FACTORY : VIRTUAL_THREAD_FACTORY,
+                    statistics,
+                    () -> unregisterBlockItemHandler(handler));
+            blockItemSpills.put(handler, spill);
+            informedEventHandler = (event, sequence, endOfBatch, percentageBehindRingHead) ->
+                    spill.onBlockItems(event.get(), percentageBehindRingHead);
+        } else {
+            informedEventHandler = (event, sequence, endOfBatch, percentageBehindRingHead) -> {
+                // send on the event block items
+                handler.handleBlockItemsReceived(event.get());
+                if (percentageBehindRingHead > 80) {
+                    // If the event processor is more than 80% behind, we need to stop it.
+                    // This is a sign that the event processor is not able to keep up with the
+                    // rate of events being published.
+                    unregisterBlockItemHandler(handler);
+                    // the handler it got too far behind
+                    handler.onTooFarBehindError();
+                }
+            };
+        }
         if (blockItemDisruptor.hasStarted()) {
             registerHandler(
                     handler,
                     cpuIntensiveHandler,
-                    handlerName,
+                    statistics,
+                    List.of(),
                     blockItemDisruptor.getRingBuffer(),
+                    blockItemRingWaitStrategy,
                     informedEventHandler,
-                    blockItemHandlerToEventProcessor,
-                    blockItemHandlerToThread);
+                    options.startAtLastBlockHeader() ? this::copyEventsFromLastBlockHeader : null,
+                    blockItemHandlers);
         } else {
             // if the disruptor is not running, we need to add the handler to the list of pre-registered handlers
-            preRegisteredBlockItemHandlers.add(
-                    new PreRegisteredBlockItemHandler(handler, informedEventHandler, cpuIntensiveHandler, handlerName));
+            preRegisteredBlockItemHandlers.add(new PreRegisteredBlockItemHandler(
+                    handler, informedEventHandler, cpuIntensiveHandler, statistics, List.of()));
         }
     }
 
@@ -277,11 +403,38 @@ public class MessagingServiceImpl implements MessagingService {
      */
     @Override
     public synchronized void unregisterBlockItemHandler(final BlockItemHandler handler) {
-        unregisterHandler(
-                handler,
-                blockItemDisruptor.getRingBuffer(),
-                blockItemHandlerToEventProcessor,
-                blockItemHandlerToThread);
+        unregisterHandler(handler, blockItemDisruptor.getRingBuffer(), blockItemRingWaitStrategy, blockItemHandlers);
+        // stop draining any spill of the handler and delete its spill file
+        final BlockItemSpill spill = blockItemSpills.remove(handler);
+        if (spill != null) {
+            spill.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized BlockItemPoller registerBlockItemPoller(final String pollerName) {
+        final RingBuffer<BlockItemBatchRingEvent> ringBuffer = blockItemDisruptor.getRingBuffer();
+        // pollers choose how to wait themselves, so have no wait policy
+        final BlockItemPollerImpl poller =
+                new BlockItemPollerImpl(ringBuffer.newPoller(), new HandlerStatisticsCollector(pollerName, null));
+        // adding the gating sequence also moves the poller sequence up to the current cursor
+        ringBuffer.addGatingSequences(poller.eventPoller().getSequence());
+        blockItemPollers.add(poller);
+        return poller;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void unregisterBlockItemPoller(final BlockItemPoller poller) {
+        if (poller instanceof BlockItemPollerImpl pollerImpl && blockItemPollers.remove(pollerImpl)) {
+            blockItemDisruptor.getRingBuffer().removeGatingSequence(pollerImpl.eventPoller().getSequence());
+            pollerImpl.close();
+        }
     }
 
     /**
@@ -289,7 +442,23 @@ public class MessagingServiceImpl implements MessagingService {
      */
     @Override
     public void sendBlockNotification(final BlockNotification notification) {
-        blockNotificationDisruptor.getRingBuffer().publishEvent((event, sequence) -> event.set(notification));
+        sendBlockNotification(notification.blockNumber(), notification.type());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sendBlockNotification(final long blockNumber, final BlockNotification.Type type) {
+        Objects.requireNonNull(type);
+        // claim and publish directly, a capturing translator lambda or boxed argument would allocate on every call
+        final RingBuffer<BlockNotificationRingEvent> ringBuffer = blockNotificationDisruptor.getRingBuffer();
+        final long sequence = ringBuffer.next();
+        try {
+            ringBuffer.get(sequence).set(blockNumber, type);
+        } finally {
+            ringBuffer.publish(sequence);
+        }
     }
 
     /**
@@ -300,23 +469,26 @@ public class MessagingServiceImpl implements MessagingService {
             final BlockNotificationHandler handler, final boolean cpuIntensiveHandler, final String handlerName) {
         final InformedEventHandler<BlockNotificationRingEvent> informedEventHandler =
                 (event, sequence, endOfBatch, percentageBehindRingHead) -> {
-                    // send on the event
-                    handler.handleBlockNotification(event.get());
+                    // send on the event, without allocating a notification record
+                    handler.handleBlockNotification(event.blockNumber(), event.type());
                 };
+        final HandlerStatisticsCollector statistics = new HandlerStatisticsCollector(handlerName, WaitPolicy.SLEEPING);
         if (blockNotificationDisruptor.hasStarted()) {
             // if the disruptor is already running, we need to register the handler with the disruptor
             registerHandler(
                     handler,
                     cpuIntensiveHandler,
-                    handlerName,
+                    statistics,
+                    List.of(),
                     blockNotificationDisruptor.getRingBuffer(),
+                    blockNotificationRingWaitStrategy,
                     informedEventHandler,
-                    blockNotificationHandlerToEventProcessor,
-                    blockNotificationHandlerToThread);
+                    null,
+                    blockNotificationHandlers);
         } else {
             // if the disruptor is not running, we need to add the handler to the list of pre-registered handlers
             preRegisteredBlockNotificationHandlers.add(new PreRegisteredBlockNotificationHandler(
-                    handler, informedEventHandler, cpuIntensiveHandler, handlerName));
+                    handler, informedEventHandler, cpuIntensiveHandler, statistics));
         }
     }
 
@@ -328,8 +500,8 @@ public class MessagingServiceImpl implements MessagingService {
         unregisterHandler(
                 handler,
                 blockNotificationDisruptor.getRingBuffer(),
-                blockNotificationHandlerToEventProcessor,
-                blockNotificationHandlerToThread);
+                blockNotificationRingWaitStrategy,
+                blockNotificationHandlers);
     }
 
     /**
@@ -340,27 +512,35 @@ public class MessagingServiceImpl implements MessagingService {
         // start the disruptors
         blockItemDisruptor.start();
         blockNotificationDisruptor.start();
+        // start flushing merged block items that have waited too long
+        if (blockItemCoalescer != null) {
+            blockItemCoalescer.start();
+        }
         // register all the pre-registered block item handlers
         for (var preRegisteredHandler : preRegisteredBlockItemHandlers) {
             registerHandler(
                     preRegisteredHandler.handler(),
                     preRegisteredHandler.cpuIntensiveHandler(),
-                    preRegisteredHandler.handlerName(),
+                    preRegisteredHandler.statistics(),
+                    preRegisteredHandler.upstreamHandlers(),
                     blockItemDisruptor.getRingBuffer(),
+                    blockItemRingWaitStrategy,
                     preRegisteredHandler.informedHandler(),
-                    blockItemHandlerToEventProcessor,
-                    blockItemHandlerToThread);
+                    null,
+                    blockItemHandlers);
         }
         // register all the pre-registered block notification handlers
         for (var preRegisteredHandler : preRegisteredBlockNotificationHandlers) {
             registerHandler(
                     preRegisteredHandler.handler(),
                     preRegisteredHandler.cpuIntensiveHandler(),
-                    preRegisteredHandler.handlerName(),
+                    preRegisteredHandler.statistics(),
+                    List.of(),
                     blockNotificationDisruptor.getRingBuffer(),
+                    blockNotificationRingWaitStrategy,
                     preRegisteredHandler.informedHandler(),
-                    blockNotificationHandlerToEventProcessor,
-                    blockNotificationHandlerToThread);
+                    null,
+                    blockNotificationHandlers);
         }
     }
 
@@ -368,30 +548,184 @@ public class MessagingServiceImpl implements MessagingService {
      * {@inheritDoc}
      */
     @Override
-    public synchronized void shutdown() {
-        // Stop all the block item event handlers
-        for (var eventHandler : blockItemHandlerToEventProcessor.values()) {
-            blockItemDisruptor.getRingBuffer().removeGatingSequence(eventHandler.getSequence());
-            eventHandler.halt();
-        }
-        // Stop all the block item handler threads
-        for (Thread thread : blockItemHandlerToThread.values()) {
-            thread.interrupt();
-        }
-        // Stop all the block notification event handlers
-        for (var eventHandler : blockNotificationHandlerToEventProcessor.values()) {
-            blockNotificationDisruptor.getRingBuffer().removeGatingSequence(eventHandler.getSequence());
-            eventHandler.halt();
-        }
-        // Shuts down all the threads handling events.
-        blockItemDisruptor.shutdown();
-        blockNotificationDisruptor.shutdown();
-        // Stop all the block notification handlers
-        for (Thread thread : blockNotificationHandlerToThread.values()) {
-            thread.interrupt();
+    public void shutdown() {
+        // publish any coalesced block items first, outside the lock as a handler may need the lock to make room
+        if (blockItemCoalescer != null) {
+            blockItemCoalescer.shutdown();
+        }
+        synchronized (this) {
+            // Stop all the block item event handlers
+            for (var registeredHandler : blockItemHandlers.values()) {
+                blockItemDisruptor
+                        .getRingBuffer()
+                        .removeGatingSequence(registeredHandler.eventProcessor().getSequence());
+                registeredHandler.eventProcessor().halt();
+            }
+            // Stop all the block item handler threads
+            for (var registeredHandler : blockItemHandlers.values()) {
+                registeredHandler.thread().interrupt();
+            }
+            // Stop all the block item pollers
+            for (var poller : blockItemPollers) {
+                blockItemDisruptor.getRingBuffer().removeGatingSequence(poller.eventPoller().getSequence());
+                poller.close();
+            }
+            blockItemPollers.clear();
+            // Stop draining all the block item spills and delete their spill files
+            for (var spill : blockItemSpills.values()) {
+                spill.close();
+            }
+            blockItemSpills.clear();
+            // Stop all the block notification event handlers
+            for (var registeredHandler : blockNotificationHandlers.values()) {
+                blockNotificationDisruptor
+                        .getRingBuffer()
+                        .removeGatingSequence(registeredHandler.eventProcessor().getSequence());
+                registeredHandler.eventProcessor().halt();
+            }
+            // Shuts down all the threads handling events.
+            blockItemDisruptor.shutdown();
+            blockNotificationDisruptor.shutdown();
+            // Stop all the block notification handlers
+            for (var registeredHandler : blockNotificationHandlers.values()) {
+                registeredHandler.thread().interrupt();
+            }
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<HandlerStatistics> getHandlerStatistics() {
+        final long nowNanos = System.nanoTime();
+        final long stallWindowNanos = TimeUnit.MILLISECONDS.toNanos(config.stallWindowMillis());
+        final List<HandlerStatistics> statistics = new ArrayList<>();
+        for (var registeredHandler : blockItemHandlers.values()) {
+            statistics.add(snapshot(
+                    registeredHandler.eventProcessor().getSequence(),
+                    registeredHandler.statistics(),
+                    blockItemDisruptor.getRingBuffer(),
+                    blockCount.get(),
+                    nowNanos,
+                    stallWindowNanos));
+        }
+        for (var poller : blockItemPollers) {
+            statistics.add(snapshot(
+                    poller.eventPoller().getSequence(),
+                    poller.statistics(),
+                    blockItemDisruptor.getRingBuffer(),
+                    blockCount.get(),
+                    nowNanos,
+                    stallWindowNanos));
+        }
+        for (var registeredHandler : blockNotificationHandlers.values()) {
+            statistics.add(snapshot(
+                    registeredHandler.eventProcessor().getSequence(),
+                    registeredHandler.statistics(),
+                    blockNotificationDisruptor.getRingBuffer(),
+                    -1,
+                    nowNanos,
+                    stallWindowNanos));
+        }
+        return statistics;
+    }
+
+    /**
+     * Take a snapshot of the statistics of a registered handler or poller, working out how far behind the ring head it
+     * is and whether it has stalled.
+     *
+     * @param handledSequence the sequence of the last event the handler or poller has processed
+     * @param statistics the statistics of the handler or poller
+     * @param ringBuffer the ring buffer the handler processes events from
+     * @param blockCount the number of blocks started, or -1 for handlers that do not process block items
+     * @param nowNanos the current time, as given by {@link System#nanoTime()}
+     * @param stallWindowNanos the time in nanoseconds an event can be left unprocessed before the handler is stalled
+     * @return the statistics snapshot
+     * @param <E> the type of the event
+     */
+    private static <E extends TimedRingEvent> HandlerStatistics snapshot(
+            final Sequence handledSequence,
+            final HandlerStatisticsCollector statistics,
+            final RingBuffer<E> ringBuffer,
+            final long blockCount,
+            final long nowNanos,
+            final long stallWindowNanos) {
+        final long handled = handledSequence.get();
+        final long lagSequences = Math.max(0, ringBuffer.getCursor() - handled);
+        // the next event is only read once published, which makes its publish time visible, and the handler is gated
+        // on it, so it can not be overwritten while being read
+        final boolean stalled = lagSequences > 0
+                && ringBuffer.isAvailable(handled + 1)
+                && nowNanos - ringBuffer.get(handled + 1).publishedNanos() > stallWindowNanos;
+        final long lagBlocks = blockCount < 0 ? 0 : Math.max(0, blockCount - statistics.blocksHandled());
+        return statistics.snapshot(lagSequences, lagBlocks, stalled);
+    }
+
+    /**
+     * Publish a batch of block items to the block item ring, as a single ring event.
+     *
+     * @param items the block items to publish
+     */
+    private void publishBlockItems(final List<BlockItemUnparsed> items) {
+        blockItemDisruptor.getRingBuffer().publishEvent((event, sequence) -> setBlockItems(event, items, sequence));
+    }
+
+    /**
+     * Set a batch of block items into a claimed ring event, keeping track of the last sequence to start a block.
+     *
+     * @param event the claimed ring event
+     * @param items the block items to set
+     * @param sequence the ring sequence of the event
+     */
+    private void setBlockItems(
+            final BlockItemBatchRingEvent event, final List<BlockItemUnparsed> items, final long sequence) {
+        for (final BlockItemUnparsed item : items) {
+            if (item.hasBlockHeader()) {
+                // with multiple producers, sequences can be set out of order
+                lastBlockHeaderSequence.accumulateAndGet(sequence, Math::max);
+                event.set(items, sequence, blockCount.incrementAndGet());
+                return;
+            }
+        }
+        event.set(items, sequence, blockCount.get());
+    }
+
+    /**
+     * Copy the block item events from the last one with a block header, up to and including the given sequence. These
+     * are replayed to a newly registered handler, so it can start on the current block rather than waiting for the next
+     * one. Events are copied, as they are behind the gating sequence of the new handler so could be overwritten at any
+     * time.
+     *
+     * @param lastSequence the sequence of the last event to copy, the one before the first event the handler will see
+     * @return the copied events in order, or an empty list if there is nothing to replay or the events have already
+     *     been overwritten
+     */
+    private List<BlockItemBatchRingEvent> copyEventsFromLastBlockHeader(final long lastSequence) {
+        final RingBuffer<BlockItemBatchRingEvent> ringBuffer = blockItemDisruptor.getRingBuffer();
+        final long headerSequence = lastBlockHeaderSequence.get();
+        if (headerSequence < 0
+                || headerSequence > lastSequence
+                || lastSequence - headerSequence >= ringBuffer.getBufferSize() / 2) {
+            // no block header yet, the handler will see the header live, or the block started too far back to replay
+            // without the handler being too far behind straight away
+            return List.of();
+        }
+        final List<BlockItemBatchRingEvent> copies = new ArrayList<>((int) (lastSequence - headerSequence + 1));
+        for (long sequence = headerSequence; sequence <= lastSequence; sequence++) {
+            final List<BlockItemUnparsed> items = ringBuffer.get(sequence).getIfSequence(sequence);
+            if (items == null) {
+                // the producer has overwritten part of the block, so only live events can be delivered
+                LOGGER.log(Level.DEBUG, "Could not replay from last block header, it has been overwritten");
+                return List.of();
+            }
+            final BlockItemBatchRingEvent copy = new BlockItemBatchRingEvent();
+            copy.set(items, sequence, ringBuffer.get(sequence).blockCount());
+            copies.add(copy);
+        }
+        return copies;
+    }
+
     /**
      * Registers a handler with the ring buffer. This generic method allows all the logic to be common and hence any bug
      * hopefully only need fixing once. Any improvements can be made in one place.
@@ -400,40 +734,66 @@ public class MessagingServiceImpl implements MessagingService {
      * @param <E> the type of the event
      * @param handler the handler to register
      * @param cpuIntensiveHandler hint to the service that this handler is CPU intensive vs IO intensive
-     * @param handlerName the name of the handler, used for thread name and logging
+     * @param statistics the statistics for the handler, also providing its name and wait policy
+     * @param upstreamHandlers the registered handlers that must process each event before this handler
      * @param ringBuffer the ring buffer to register with
+     * @param ringWaitStrategy the wait strategy of the ring buffer, used to signal the handler if it blocks
      * @param informedEventHandler the event handler to call when an event is published
-     * @param handlerToEventProcessor the map of handlers to event processors
-     * @param handlerToThread the map of handlers to threads
+     * @param replay copies the events up to and including the given sequence, that are to be replayed to the handler
+     *     before live events, or null to only deliver live events
+     * @param registeredHandlers the map of handlers to their event processors, threads and statistics
      */
-    private static <H, E> void registerHandler(
+    private static <H, E extends TimedRingEvent> void registerHandler(
             final H handler,
             final boolean cpuIntensiveHandler,
-            final String handlerName,
+            final HandlerStatisticsCollector statistics,
+            final List<H> upstreamHandlers,
             final RingBuffer<E> ringBuffer,
+            final RingWaitStrategy ringWaitStrategy,
             final InformedEventHandler<E> informedEventHandler,
-            final Map<H, BatchEventProcessor<E>> handlerToEventProcessor,
-            final Map<H, Thread> handlerToThread) {
-        final SequenceBarrier barrier = ringBuffer.newBarrier();
+            final LongFunction<List<E>> replay,
+            final Map<H, RegisteredHandler<E>> registeredHandlers) {
+        final String name = statistics.handlerName();
+        // find the sequences of the upstream handlers, this handler will only see events once they have processed them
+        final Sequence[] upstreamSequences = new Sequence[upstreamHandlers.size()];
+        for (int i = 0; i < upstreamSequences.length; i++) {
+            final RegisteredHandler<E> upstreamHandler = registeredHandlers.get(upstreamHandlers.get(i));
+            if (upstreamHandler == null) {
+                throw new IllegalArgumentException("Upstream handler of [" + name + "] is not registered");
+            }
+            upstreamSequences[i] = upstreamHandler.eventProcessor().getSequence();
+        }
+        final HandlerWaitStrategy handlerWaitStrategy = HandlerWaitStrategy.forPolicy(statistics.waitPolicy());
+        final HandlerSequenceBarrier<E> barrier =
+                new HandlerSequenceBarrier<>(ringBuffer, handlerWaitStrategy, statistics, upstreamSequences);
+        final InformingEventHandler<E> eventHandler =
+                new InformingEventHandler<>(ringBuffer, statistics, informedEventHandler);
         // Create the event processor for the block item batch ring
-        final BatchEventProcessor<E> batchEventProcessor = new BatchEventProcessorBuilder()
-                .build(ringBuffer, barrier, (event, sequence, endOfBatch) -> {
-                    // calculate position in the ring buffer
-                    final double percentageBehindHead =
-                            (100d * ((double) (barrier.getCursor() - sequence) / (double) ringBuffer.getBufferSize()));
-                    // send on the event
-                    informedEventHandler.onEvent(event, sequence, endOfBatch, percentageBehindHead);
-                });
+        final BatchEventProcessor<E> batchEventProcessor =
+                new BatchEventProcessorBuilder().build(ringBuffer, barrier, eventHandler);
+        // Register the handler wait strategy for producer signals, before it can start waiting
+        ringWaitStrategy.add(handlerWaitStrategy);
         // Dynamically add sequences to the ring buffer
         ringBuffer.addGatingSequences(batchEventProcessor.getSequence());
+        if (replay != null) {
+            // the handler starts after the sequence it was added at, so replay up to and including that sequence
+            final long joinSequence = batchEventProcessor.getSequence().get();
+            eventHandler.setReplay(replay.apply(joinSequence), joinSequence);
+        }
         // Create the new virtual thread to power the batch processor
         final Thread handlerThread = cpuIntensiveHandler
                 ? PLATFORM_THREAD_FACTORY.newThread(batchEventProcessor)
                 : VIRTUAL_THREAD_FACTORY.newThread(batchEventProcessor);
-        handlerThread.setName("MessageHandler:" + (handlerName == null ? "Unknown" : handlerName));
+        handlerThread.setName("MessageHandler:" + name);
         // keep track of the event processor & thread so we can stop them later
-        handlerToEventProcessor.put(handler, batchEventProcessor);
-        handlerToThread.put(handler, handlerThread);
+        registeredHandlers.put(
+                handler,
+                new RegisteredHandler<>(
+                        batchEventProcessor,
+                        handlerThread,
+                        handlerWaitStrategy,
+                        statistics,
+                        List.of(upstreamSequences)));
         // start the event processor thread
         handlerThread.start();
     }
@@ -446,24 +806,134 @@ public class MessagingServiceImpl implements MessagingService {
      * @param <E> the type of the event
      * @param handler the handler to unregister
      * @param ringBuffer the ring buffer to unregister from
-     * @param handlerToEventProcessor the map of handlers to event processors
-     * @param handlerToThread the map of handlers to threads
+     * @param ringWaitStrategy the wait strategy of the ring buffer, so the handler is no longer signalled
+     * @param registeredHandlers the map of handlers to their event processors, threads and statistics
+     * @throws IllegalStateException if other registered handlers run after the handler
      */
     private static <H, E> void unregisterHandler(
             final H handler,
             final RingBuffer<E> ringBuffer,
-            final Map<H, BatchEventProcessor<E>> handlerToEventProcessor,
-            final Map<H, Thread> handlerToThread) {
-        final Thread handlerThread = handlerToThread.remove(handler);
-        final BatchEventProcessor<E> eventProcessor = handlerToEventProcessor.remove(handler);
-        if (eventProcessor != null) {
-            ringBuffer.removeGatingSequence(eventProcessor.getSequence());
+            final RingWaitStrategy ringWaitStrategy,
+            final Map<H, RegisteredHandler<E>> registeredHandlers) {
+        final RegisteredHandler<E> registeredHandler = registeredHandlers.get(handler);
+        if (registeredHandler != null) {
+            final Sequence sequence = registeredHandler.eventProcessor().getSequence();
+            if (registeredHandlers.values().stream().anyMatch(other -> other.upstreamSequences().contains(sequence))) {
+                // dependent handlers would wait forever on a sequence that no longer moves
+                throw new IllegalStateException("Can not unregister a handler that other handlers run after");
+            }
+            registeredHandlers.remove(handler);
+            ringBuffer.removeGatingSequence(registeredHandler.eventProcessor().getSequence());
+            ringWaitStrategy.remove(registeredHandler.waitStrategy());
             // stop the event processor
-            eventProcessor.halt();
+            registeredHandler.eventProcessor().halt();
+            // interrupt the thread so it stops quickly
+            registeredHandler.thread().interrupt();
         }
-        // interrupt the thread so it stops quickly
-        if (handlerThread != null) {
-            handlerThread.interrupt();
+    }
+
+    /**
+     * Event handler run by the event processor of a registered handler. It works out how far behind the ring head the
+     * handler is, records statistics and calls the informed event handler. It can also replay copies of events from
+     * before the handler was registered, on the handler thread before any live events.
+     *
+     * @param <E> the type of the event
+     */
+    private static final class InformingEventHandler<E> implements EventHandler<E> {
+        /** The ring buffer the events are from */
+        private final RingBuffer<E> ringBuffer;
+        /** The statistics for the handler */
+        private final HandlerStatisticsCollector statistics;
+        /** The informed event handler to call for each event */
+        private final InformedEventHandler<E> informedEventHandler;
+        /** Copies of events to replay when the handler starts, in order */
+        private List<E> replayEvents = List.of();
+        /** The sequence of the last event to replay, the one before the first live event */
+        private long replayEndSequence;
+
+        /**
+         * Constructs a new InformingEventHandler.
+         *
+         * @param ringBuffer the ring buffer the events are from
+         * @param statistics the statistics for the handler
+         * @param informedEventHandler the informed event handler to call for each event
+         */
+        private InformingEventHandler(
+                final RingBuffer<E> ringBuffer,
+                final HandlerStatisticsCollector statistics,
+                final InformedEventHandler<E> informedEventHandler) {
+            this.ringBuffer = ringBuffer;
+            this.statistics = statistics;
+            this.informedEventHandler = informedEventHandler;
+        }
+
+        /**
+         * Set the events to replay when the handler starts. Must be called before the handler thread is started.
+         *
+         * @param replayEvents copies of the events to replay, in order
+         * @param replayEndSequence the sequence of the last event to replay
+         */
+        private void setReplay(final List<E> replayEvents, final long replayEndSequence) {
+            this.replayEvents = replayEvents;
+            this.replayEndSequence = replayEndSequence;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onStart() {
+            final long firstSequence = replayEndSequence - replayEvents.size() + 1;
+            for (int i = 0; i < replayEvents.size(); i++) {
+                try {
+                    // the handler holds the ring back from the end of the replay, not from where the copies came from
+                    handleEvent(
+                            replayEvents.get(i), firstSequence + i, i == replayEvents.size() - 1, replayEndSequence);
+                } catch (Exception e) {
+                    LOGGER.log(
+                            Level.ERROR,
+                            "Exception replaying event to [" + statistics.handlerName() + "]: " + e.getMessage(),
+                            e);
+                }
+            }
+            // no need to keep the copies any longer
+            replayEvents = List.of();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onEvent(final E event, final long sequence, final boolean endOfBatch) throws Exception {
+            handleEvent(event, sequence, endOfBatch, sequence);
+        }
+
+        /**
+         * Handle a live or replayed event.
+         *
+         * @param event the event
+         * @param sequence the sequence of the event
+         * @param endOfBatch true if this is the last event in the batch
+         * @param ringSequence the sequence the handler is at in the ring, the sequence of a live event or the end of
+         *     the replay for a replayed event
+         * @throws Exception if the informed event handler throws
+         */
+        private void handleEvent(final E event, final long sequence, final boolean endOfBatch, final long ringSequence)
+                throws Exception {
+            // calculate position in the ring buffer
+            final double percentageBehindHead =
+                    (100d * ((double) (ringBuffer.getCursor() - ringSequence) / (double) ringBuffer.getBufferSize()));
+            statistics.recordEvent();
+            // send on the event
+            final long startNanos = System.nanoTime();
+            try {
+                informedEventHandler.onEvent(event, sequence, endOfBatch, percentageBehindHead);
+            } finally {
+                statistics.recordProcessingTime(System.nanoTime() - startNanos);
+                if (event instanceof BlockItemBatchRingEvent blockItemEvent) {
+                    statistics.recordBlocksHandled(blockItemEvent.blockCount());
+                }
+            }
         }
     }
 
@@ -496,13 +966,15 @@ public class MessagingServiceImpl implements MessagingService {
      * @param handler the block item handler
      * @param informedHandler the event handler to call when an event is published
      * @param cpuIntensiveHandler hint to the service that this handler is CPU intensive vs IO intensive
-     * @param handlerName the name of the handler, used for thread name and logging
+     * @param statistics the statistics for the handler, also providing its name and wait policy
+     * @param upstreamHandlers the handlers that must process each event before this handler
      */
     private record PreRegisteredBlockItemHandler(
             BlockItemHandler handler,
             InformedEventHandler<BlockItemBatchRingEvent> informedHandler,
             boolean cpuIntensiveHandler,
-            String handlerName) {}
+            HandlerStatisticsCollector statistics,
+            List<BlockItemHandler> upstreamHandlers) {}
 
     /**
      * Record for pre-registered block notification handlers.
@@ -510,11 +982,28 @@ public class MessagingServiceImpl implements MessagingService {
      * @param handler the block notification handler
      * @param informedHandler the informed event handler
      * @param cpuIntensiveHandler hint to the service that this handler is CPU intensive vs IO intensive
-     * @param handlerName the name of the handler, used for thread name and logging
+     * @param statistics the statistics for the handler, also providing its name
      */
     private record PreRegisteredBlockNotificationHandler(
             BlockNotificationHandler handler,
             InformedEventHandler<BlockNotificationRingEvent> informedHandler,
             boolean cpuIntensiveHandler,
-            String handlerName) {}
+            HandlerStatisticsCollector statistics) {}
+
+    /**
+     * Record for a handler that is registered with a ring buffer.
+     *
+     * @param <E> the type of the event
+     * @param eventProcessor the event processor calling the handler
+     * @param thread the thread running the event processor
+     * @param waitStrategy the wait strategy the handler waits for events with
+     * @param statistics the statistics for the handler
+     * @param upstreamSequences the sequences of the handlers that process each event before this handler
+     */
+    private record RegisteredHandler<E>(
+            BatchEventProcessor<E> eventProcessor,
+            Thread thread,
+            HandlerWaitStrategy waitStrategy,
+            HandlerStatisticsCollector statistics,
+            List<Sequence> upstreamSequences) {}
 }
@@ -0,0 +1,70 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+import com.lmax.disruptor.AlertException;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.SequenceBarrier;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.WaitStrategy;
+import java.util.Arrays;
+
+/**
+ * The wait strategy given to the ring buffer itself. Handlers do their waiting through their own
+ * {@link HandlerWaitStrategy}, so the only job of this strategy is to pass on the producer signal, sent on every
+ * publish, to the handler strategies that block. Strategies that do not block are never registered, so handlers that
+ * spin cost the producer nothing.
+ */
+final class RingWaitStrategy implements WaitStrategy {
+    /** Strategy used for any barriers created directly on the ring buffer, which only wait for published slots */
+    private final WaitStrategy fallbackWaitStrategy = new SleepingWaitStrategy();
+    /** The handler wait strategies that need signalling, replaced on change so publishing never locks or allocates */
+    private volatile WaitStrategy[] blockingWaitStrategies = new WaitStrategy[0];
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long waitFor(
+            final long sequence, final Sequence cursor, final Sequence dependentSequence, final SequenceBarrier barrier)
+            throws AlertException, InterruptedException, TimeoutException {
+        return fallbackWaitStrategy.waitFor(sequence, cursor, dependentSequence, barrier);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void signalAllWhenBlocking() {
+        for (final WaitStrategy waitStrategy : blockingWaitStrategies) {
+            waitStrategy.signalAllWhenBlocking();
+        }
+    }
+
+    /**
+     * Add a handler wait strategy, it is only kept if it requires signalling.
+     *
+     * @param handlerWaitStrategy the handler wait strategy to add
+     */
+    synchronized void add(final HandlerWaitStrategy handlerWaitStrategy) {
+        if (handlerWaitStrategy.requiresSignal()) {
+            final WaitStrategy[] current = blockingWaitStrategies;
+            final WaitStrategy[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = handlerWaitStrategy.waitStrategy();
+            blockingWaitStrategies = updated;
+        }
+    }
+
+    /**
+     * Remove a handler wait strategy, so it is no longer signalled.
+     *
+     * @param handlerWaitStrategy the handler wait strategy to remove
+     */
+    synchronized void remove(final HandlerWaitStrategy handlerWaitStrategy) {
+        if (handlerWaitStrategy.requiresSignal()) {
+            blockingWaitStrategies = Arrays.stream(blockingWaitStrategies)
+                    .filter(waitStrategy -> waitStrategy != handlerWaitStrategy.waitStrategy())
+                    .toArray(WaitStrategy[]::new);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+import com.hedera.hapi.block.BlockItemSetUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * A fixed size, memory mapped file that block item batches are appended to and read back from in order. Each batch is
+ * stored as an int length followed by the protobuf encoded {@link BlockItemSetUnparsed}. When every batch written has
+ * been read back the segment is rewound, so it only fills up if the reader never catches up.
+ * <p>
+ * This class is not thread safe, callers must synchronize access. The backing file is deleted when the segment is
+ * closed.
+ */
+final class SpillSegment implements AutoCloseable {
+    /** The file channel for the backing file */
+    private final FileChannel channel;
+    /** Write view of the memory mapped file */
+    private final BufferedData writeData;
+    /** Read view of the memory mapped file */
+    private final BufferedData readData;
+    /** The capacity of the segment in bytes */
+    private final int capacity;
+    /** The position the next batch will be written at */
+    private int writePosition = 0;
+    /** The position the next batch will be read from */
+    private int readPosition = 0;
+
+    /**
+     * Create a new spill segment, backed by a new temporary file in the given directory.
+     *
+     * @param directory the directory to create the backing file in, created if it does not exist
+     * @param name the prefix for the backing file name
+     * @param capacity the size of the segment in bytes
+     * @throws IOException if the backing file could not be created or mapped
+     */
+    SpillSegment(final Path directory, final String name, final int capacity) throws IOException {
+        Files.createDirectories(directory);
+        final Path file = Files.createTempFile(directory, name, ".spill");
+        this.channel = FileChannel.open(
+                file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        this.capacity = capacity;
+        // both views share the mapped memory but each has its own position
+        final MappedByteBuffer mappedBuffer = channel.map(MapMode.READ_WRITE, 0, capacity);
+        this.writeData = BufferedData.wrap(mappedBuffer);
+        this.readData = BufferedData.wrap(mappedBuffer.duplicate());
+    }
+
+    /**
+     * Append a batch of block items to the end of the segment.
+     *
+     * @param items the block items to append
+     * @return true if the batch was appended, false if there was not enough space left in the segment
+     * @throws IOException if the batch could not be encoded
+     */
+    boolean append(final List<BlockItemUnparsed> items) throws IOException {
+        final BlockItemSetUnparsed itemSet = new BlockItemSetUnparsed(items);
+        final int size = BlockItemSetUnparsed.PROTOBUF.measureRecord(itemSet);
+        if ((long) writePosition + Integer.BYTES + size > capacity) {
+            return false;
+        }
+        writeData.position(writePosition);
+        writeData.writeInt(size);
+        BlockItemSetUnparsed.PROTOBUF.write(itemSet, writeData);
+        writePosition = (int) writeData.position();
+        return true;
+    }
+
+    /**
+     * Read the next batch of block items from the segment.
+     *
+     * @return the next batch of block items, or null if all appended batches have been read
+     * @throws ParseException if the batch could not be decoded
+     */
+    List<BlockItemUnparsed> read() throws ParseException {
+        if (readPosition == writePosition) {
+            return null;
+        }
+        readData.position(readPosition);
+        final int size = readData.readInt();
+        // copy out of the mapped memory, so it can be reused once the segment is rewound
+        final BlockItemSetUnparsed itemSet = BlockItemSetUnparsed.PROTOBUF.parse(readData.readBytes(size));
+        readPosition = (int) readData.position();
+        if (readPosition == writePosition) {
+            // everything has been read, rewind so the whole segment is available again
+            readPosition = 0;
+            writePosition = 0;
+        }
+        return itemSet.blockItems();
+    }
+
+    /**
+     * Get the number of bytes written but not yet read.
+     *
+     * @return the number of bytes waiting to be read
+     */
+    int depth() {
+        return writePosition - readPosition;
+    }
+
+    /**
+     * Close the segment, deleting the backing file.
+     *
+     * @throws IOException if the backing file could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
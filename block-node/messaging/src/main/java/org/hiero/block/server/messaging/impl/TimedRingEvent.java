@@ -0,0 +1,14 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+/**
+ * A ring event that records when it was published, so the time taken to hand it off to handlers can be measured.
+ */
+public interface TimedRingEvent {
+    /**
+     * Get the time the event was published, as given by {@link System#nanoTime()}.
+     *
+     * @return the time the event was published in nanoseconds
+     */
+    long publishedNanos();
+}
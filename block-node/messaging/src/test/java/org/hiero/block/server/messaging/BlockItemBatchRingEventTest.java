@@ -47,4 +47,24 @@ public class BlockItemBatchRingEventTest {
                 event.toString(),
                 "The toString method should return a non-empty string");
     }
+
+    /**
+     * Test that the value is only returned for the sequence it was published at.
+     */
+    @Test
+    void testGetIfSequence() {
+        BlockItemBatchRingEvent event = new BlockItemBatchRingEvent();
+        assertNull(event.getIfSequence(0), "Nothing should be returned before a value has been set");
+        List<BlockItemUnparsed> items =
+                List.of(new BlockItemUnparsed(new OneOf<>(ItemOneOfType.BLOCK_HEADER, Bytes.wrap("fake"))));
+        event.set(items, 5, 1);
+        assertEquals(items, event.getIfSequence(5), "The value should be returned for the sequence it was set at");
+        assertNull(event.getIfSequence(4), "Nothing should be returned for a different sequence");
+        // overwritten by the producer at the same slot one lap of the ring later
+        event.set(items, 5 + 1024, 2);
+        assertNull(event.getIfSequence(5), "Nothing should be returned once overwritten");
+        // set without a sequence is never returned
+        event.set(items);
+        assertNull(event.getIfSequence(5 + 1024), "Nothing should be returned when set without a sequence");
+    }
 }
@@ -3,6 +3,7 @@ package org.hiero.block.server.messaging;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.hiero.block.server.messaging.impl.BlockNotificationRingEvent;
 import org.junit.jupiter.api.Test;
@@ -24,4 +25,21 @@ public class BlockNotificationRingEventTest {
         assertEquals(
                 notification, event.get(), "The set and get methods should return the same BlockNotification instance");
     }
+
+    @Test
+    void testSetAndGetPrimitives() {
+        BlockNotificationRingEvent event = new BlockNotificationRingEvent();
+        // type should be null before set
+        assertNull(event.type(), "The type should be null if no value has been set");
+        // set the notification without creating a BlockNotification
+        event.set(42, BlockNotification.Type.BLOCK_PERSISTED);
+        assertEquals(42, event.blockNumber());
+        assertSame(BlockNotification.Type.BLOCK_PERSISTED, event.type());
+        // the record view should match the primitive values
+        assertEquals(new BlockNotification(42, BlockNotification.Type.BLOCK_PERSISTED), event.get());
+        // setting a record should update the primitive values
+        event.set(new BlockNotification(7, BlockNotification.Type.BLOCK_FAILED_VERIFICATION));
+        assertEquals(7, event.blockNumber());
+        assertSame(BlockNotification.Type.BLOCK_FAILED_VERIFICATION, event.type());
+    }
 }
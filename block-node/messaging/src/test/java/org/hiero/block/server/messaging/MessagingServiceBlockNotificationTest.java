@@ -10,6 +10,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.stream.IntStream;
 import org.hiero.block.server.messaging.BlockNotification.Type;
@@ -296,4 +297,40 @@ public class MessagingServiceBlockNotificationTest {
         assertEquals(TEST_DATA_COUNT, handler2Counter.get());
         assertEquals(expectedTotal, handler2Sum.get());
     }
+
+    /**
+     * Test that notifications sent as primitives reach handlers that override the primitive handle method, without
+     * going through the record based method.
+     *
+     * @throws InterruptedException if the test latch is interrupted
+     */
+    @Test
+    void testPrimitiveBlockNotifications() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(TEST_DATA_COUNT);
+        final AtomicLong blockNumberSum = new AtomicLong(0);
+        final AtomicInteger recordCalls = new AtomicInteger(0);
+        final BlockNotificationHandler handler = new BlockNotificationHandler() {
+            @Override
+            public void handleBlockNotification(BlockNotification notification) {
+                recordCalls.incrementAndGet();
+            }
+
+            @Override
+            public void handleBlockNotification(long blockNumber, Type type) {
+                assertEquals(Type.BLOCK_VERIFIED, type);
+                blockNumberSum.addAndGet(blockNumber);
+                latch.countDown();
+            }
+        };
+        final MessagingService messagingService = MessagingService.createMessagingService();
+        messagingService.registerBlockNotificationHandler(handler, false, "primitive-handler");
+        messagingService.start();
+        for (int i = 0; i < TEST_DATA_COUNT; i++) {
+            messagingService.sendBlockNotification(i, Type.BLOCK_VERIFIED);
+        }
+        assertTrue(latch.await(20, TimeUnit.SECONDS), "Did not receive all notifications in time");
+        messagingService.shutdown();
+        assertEquals(IntStream.range(0, TEST_DATA_COUNT).asLongStream().sum(), blockNumberSum.get());
+        assertEquals(0, recordCalls.get(), "The record based handle method should not be called");
+    }
 }
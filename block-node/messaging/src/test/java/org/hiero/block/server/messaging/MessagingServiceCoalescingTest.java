@@ -0,0 +1,109 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.bytesToInt;
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.intToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.pbj.runtime.OneOf;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.block.server.messaging.impl.MessagingConfig;
+import org.hiero.block.server.messaging.impl.MessagingServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for merging small block item batches before they are published.
+ */
+public class MessagingServiceCoalescingTest {
+    /** The size of the ring buffer used in the tests */
+    private static final int QUEUE_SIZE = 1024;
+    /** The maximum number of items merged into one batch */
+    private static final int MAX_ITEMS = 8;
+    /** The number of blocks to send */
+    private static final int BLOCK_COUNT = 200;
+    /** The number of items in each block, a header, some transactions and a proof */
+    private static final int ITEMS_PER_BLOCK = 20;
+
+    /**
+     * Test that single item batches are merged, that merged batches never cross a block boundary, and that every item
+     * is delivered in order.
+     *
+     * @param tempDir directory for the unused spill config
+     */
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testSmallBatchesAreMergedWithinBlocks(@TempDir final Path tempDir) throws InterruptedException {
+        final int totalItems = BLOCK_COUNT * ITEMS_PER_BLOCK;
+        final CountDownLatch latch = new CountDownLatch(totalItems);
+        final AtomicInteger handlerCalls = new AtomicInteger(0);
+        final AtomicInteger nextExpected = new AtomicInteger(0);
+        final AtomicInteger outOfOrderCount = new AtomicInteger(0);
+        final AtomicInteger crossedBoundaryCount = new AtomicInteger(0);
+        final BlockItemHandler handler = items -> {
+            handlerCalls.incrementAndGet();
+            assertTrue(items.size() <= MAX_ITEMS, "Merged batch is over the size budget");
+            for (int i = 0; i < items.size(); i++) {
+                final BlockItemUnparsed item = items.get(i);
+                // a header may only start a batch and a proof may only end one
+                if ((item.hasBlockHeader() && i != 0) || (item.hasBlockProof() && i != items.size() - 1)) {
+                    crossedBoundaryCount.incrementAndGet();
+                }
+                if (bytesToInt(item.item().as()) != nextExpected.getAndIncrement()) {
+                    outOfOrderCount.incrementAndGet();
+                }
+                latch.countDown();
+            }
+        };
+        final MessagingService messagingService =
+                new MessagingServiceImpl(new MessagingConfig(QUEUE_SIZE, false, tempDir, 1024, MAX_ITEMS, 2, 10_000));
+        messagingService.registerBlockItemHandler(handler, false, "coalesced-handler");
+        messagingService.start();
+        for (int i = 0; i < totalItems; i++) {
+            final int indexInBlock = i % ITEMS_PER_BLOCK;
+            final ItemOneOfType type = indexInBlock == 0
+                    ? ItemOneOfType.BLOCK_HEADER
+                    : indexInBlock == ITEMS_PER_BLOCK - 1 ? ItemOneOfType.BLOCK_PROOF : ItemOneOfType.EVENT_TRANSACTION;
+            messagingService.sendBlockItems(List.of(new BlockItemUnparsed(new OneOf<>(type, intToBytes(i)))));
+        }
+        assertTrue(latch.await(20, TimeUnit.SECONDS), "Did not receive all items in time");
+        messagingService.shutdown();
+        assertEquals(0, outOfOrderCount.get(), "Items were delivered out of order");
+        assertEquals(0, crossedBoundaryCount.get(), "A merged batch crossed a block boundary");
+        // each block of 20 items is split in at least 3 batches of at most 8 items
+        assertTrue(
+                handlerCalls.get() < totalItems / 2,
+                "Handler should be called far less than once per batch sent, was called " + handlerCalls.get());
+    }
+
+    /**
+     * Test that a partial merged batch is published after the maximum delay, even when no more items are sent.
+     *
+     * @param tempDir directory for the unused spill config
+     */
+    @Test
+    void testPendingItemsFlushedAfterDelay(@TempDir final Path tempDir) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(3);
+        final BlockItemHandler handler = items -> items.forEach(item -> latch.countDown());
+        final MessagingService messagingService =
+                new MessagingServiceImpl(new MessagingConfig(QUEUE_SIZE, false, tempDir, 1024, MAX_ITEMS, 2, 10_000));
+        messagingService.registerBlockItemHandler(handler, false, "flushed-handler");
+        messagingService.start();
+        // fewer items than the size budget and no block proof, so only the delay can publish them
+        messagingService.sendBlockItems(
+                List.of(new BlockItemUnparsed(new OneOf<>(ItemOneOfType.BLOCK_HEADER, intToBytes(0)))));
+        messagingService.sendBlockItems(
+                List.of(new BlockItemUnparsed(new OneOf<>(ItemOneOfType.EVENT_TRANSACTION, intToBytes(1)))));
+        messagingService.sendBlockItems(
+                List.of(new BlockItemUnparsed(new OneOf<>(ItemOneOfType.EVENT_TRANSACTION, intToBytes(2)))));
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Pending items were not flushed");
+        messagingService.shutdown();
+    }
+}
@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.intToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.pbj.runtime.OneOf;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.hiero.block.server.messaging.impl.MessagingConfig;
+import org.hiero.block.server.messaging.impl.MessagingServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the lag, throughput and stall statistics of registered handlers.
+ */
+public class MessagingServiceHandlerTelemetryTest {
+    /** The size of the ring buffer used in the tests */
+    private static final int QUEUE_SIZE = 1024;
+    /** The stall window used in the tests, short so the test does not have to wait long */
+    private static final long STALL_WINDOW_MILLIS = 50;
+    /** The number of blocks sent, each a single batch with a block header */
+    private static final int BLOCK_COUNT = 5;
+
+    /**
+     * Test that a handler stuck on its first event is reported as lagging and stalled, and that once it is released it
+     * is caught up with every event counted in the processing time histogram.
+     *
+     * @param tempDir directory for the unused spill config
+     */
+    @Test
+    void testStuckHandlerLagsAndStalls(@TempDir final Path tempDir) throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final BlockItemHandler handler = items -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        final MessagingService messagingService = new MessagingServiceImpl(
+                new MessagingConfig(QUEUE_SIZE, false, tempDir, 1024, 0, 2, STALL_WINDOW_MILLIS));
+        messagingService.registerBlockItemHandler(handler, false, "stuck-handler");
+        messagingService.start();
+        for (int i = 0; i < BLOCK_COUNT; i++) {
+            messagingService.sendBlockItems(
+                    List.of(new BlockItemUnparsed(new OneOf<>(ItemOneOfType.BLOCK_HEADER, intToBytes(i)))));
+        }
+        Thread.sleep(STALL_WINDOW_MILLIS * 4);
+        final HandlerStatistics stuck = messagingService.getHandlerStatistics().getFirst();
+        assertEquals("stuck-handler", stuck.handlerName());
+        assertTrue(stuck.stalled(), "Handler should be stalled");
+        // the first event is being processed, so at least the rest are waiting
+        assertTrue(stuck.lagSequences() >= BLOCK_COUNT - 1, "Lag was " + stuck.lagSequences());
+        assertTrue(stuck.lagBlocks() >= BLOCK_COUNT - 1, "Block lag was " + stuck.lagBlocks());
+        release.countDown();
+        // wait for the handler to finish the last event
+        HandlerStatistics caughtUp = messagingService.getHandlerStatistics().getFirst();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (histogramTotal(caughtUp) < BLOCK_COUNT && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            caughtUp = messagingService.getHandlerStatistics().getFirst();
+        }
+        messagingService.shutdown();
+        assertEquals(BLOCK_COUNT, histogramTotal(caughtUp));
+        assertEquals(0, caughtUp.lagSequences());
+        assertEquals(0, caughtUp.lagBlocks());
+        assertFalse(caughtUp.stalled(), "Handler should no longer be stalled");
+        assertEquals(
+                HandlerStatistics.PROCESSING_TIME_BUCKET_LIMITS_NANOS.size() + 1,
+                caughtUp.processingTimeHistogram().size());
+        // the first event was held for longer than 10ms
+        final int tenMillisBucket = HandlerStatistics.PROCESSING_TIME_BUCKET_LIMITS_NANOS.indexOf(10_000_000L) + 1;
+        long slowEvents = 0;
+        for (int i = tenMillisBucket; i < caughtUp.processingTimeHistogram().size(); i++) {
+            slowEvents += caughtUp.processingTimeHistogram().get(i);
+        }
+        assertEquals(1, slowEvents, "Only the first event should have been slow");
+    }
+
+    /**
+     * Test that block notification handlers report lag but never any block lag.
+     *
+     * @param tempDir directory for the unused spill config
+     */
+    @Test
+    void testNotificationHandlerHasNoBlockLag(@TempDir final Path tempDir) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(BLOCK_COUNT);
+        final MessagingService messagingService = new MessagingServiceImpl(
+                new MessagingConfig(QUEUE_SIZE, false, tempDir, 1024, 0, 2, STALL_WINDOW_MILLIS));
+        messagingService.registerBlockNotificationHandler(
+                notification -> latch.countDown(), false, "notification-handler");
+        messagingService.start();
+        for (int i = 0; i < BLOCK_COUNT; i++) {
+            messagingService.sendBlockNotification(i, BlockNotification.Type.BLOCK_PERSISTED);
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Did not receive all notifications in time");
+        final HandlerStatistics statistics = messagingService.getHandlerStatistics().getFirst();
+        // taking a snapshot is read only, so a second one straight after still sees the events
+        final HandlerStatistics again = messagingService.getHandlerStatistics().getFirst();
+        messagingService.shutdown();
+        assertEquals(0, statistics.lagBlocks());
+        assertTrue(statistics.eventsPerSecond() > 0, "Handler should have processed events recently");
+        assertTrue(again.eventsPerSecond() > 0, "Snapshots should not reset the event rate");
+    }
+
+    /**
+     * Add up the counts in the processing time histogram.
+     *
+     * @param statistics the handler statistics
+     * @return the total number of events in the histogram
+     */
+    private static long histogramTotal(final HandlerStatistics statistics) {
+        return statistics.processingTimeHistogram().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+}
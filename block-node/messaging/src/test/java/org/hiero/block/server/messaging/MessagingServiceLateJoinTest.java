@@ -0,0 +1,178 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.bytesToInt;
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.intToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.pbj.runtime.OneOf;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.block.server.messaging.impl.MessagingConfig;
+import org.hiero.block.server.messaging.impl.MessagingServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for handlers registered after the service has started, asking to start at the last block header.
+ */
+public class MessagingServiceLateJoinTest {
+    /** The size of the ring buffer used in the tests */
+    private static final int QUEUE_SIZE = 1024;
+
+    /**
+     * Test that a handler registered part way through a block first sees the block from its header, then the live
+     * items, while a handler registered without replay only sees the live items.
+     *
+     * @param tempDir directory for the unused spill config
+     */
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testLateHandlerStartsAtLastBlockHeader(@TempDir final Path tempDir) throws InterruptedException {
+        final List<Integer> replayedValues = new CopyOnWriteArrayList<>();
+        final List<Integer> liveValues = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(2);
+        final MessagingService messagingService =
+                new MessagingServiceImpl(new MessagingConfig(QUEUE_SIZE, false, tempDir, 1024, 0, 2, 10_000));
+        messagingService.start();
+        // block 0 is items 0 to 6, block 1 starts at item 7 and is part way through when the handlers join
+        for (int i = 0; i < 11; i++) {
+            messagingService.sendBlockItems(List.of(item(i, i == 0 || i == 7, i == 6)));
+        }
+        messagingService.registerBlockItemHandler(
+                items -> {
+                    items.forEach(item -> replayedValues.add(bytesToInt(item.item().as())));
+                    if (replayedValues.getLast() == 13) {
+                        latch.countDown();
+                    }
+                },
+                BlockItemHandlerOptions.of(false, "late-replay-handler").withStartAtLastBlockHeader(true));
+        messagingService.registerBlockItemHandler(
+                items -> {
+                    items.forEach(item -> liveValues.add(bytesToInt(item.item().as())));
+                    if (liveValues.getLast() == 13) {
+                        latch.countDown();
+                    }
+                },
+                BlockItemHandlerOptions.of(false, "late-live-handler"));
+        // the rest of block 1
+        for (int i = 11; i < 14; i++) {
+            messagingService.sendBlockItems(List.of(item(i, false, i == 13)));
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Did not receive all items in time");
+        messagingService.shutdown();
+        assertEquals(List.of(7, 8, 9, 10, 11, 12, 13), replayedValues);
+        assertEquals(List.of(11, 12, 13), liveValues);
+    }
+
+    /**
+     * Test that a no back pressure handler replaying a long block is not counted as too far behind because of where the
+     * replayed copies came from in the ring. While replaying it only holds the ring back from where it joined.
+     *
+     * @param tempDir directory for the unused spill config
+     */
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testReplayIsNotTooFarBehind(@TempDir final Path tempDir) throws InterruptedException {
+        // a block started just under half a ring back, as long as can be replayed
+        final int replayedCount = QUEUE_SIZE / 2 - 12;
+        // enough live items sent during the replay to put the start of the block over 80% behind the ring head
+        final int liveCount = QUEUE_SIZE * 35 / 100;
+        final AtomicInteger receivedCount = new AtomicInteger(0);
+        final AtomicBoolean tooFarBehind = new AtomicBoolean(false);
+        final CountDownLatch replayStarted = new CountDownLatch(1);
+        final CountDownLatch liveSent = new CountDownLatch(1);
+        final NoBackPressureBlockItemHandler handler = new NoBackPressureBlockItemHandler() {
+            @Override
+            public void handleBlockItemsReceived(final List<BlockItemUnparsed> items) {
+                if (receivedCount.getAndAdd(items.size()) == 0) {
+                    // hold up the replay while the producer moves on
+                    replayStarted.countDown();
+                    try {
+                        liveSent.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            }
+
+            @Override
+            public void onTooFarBehindError() {
+                tooFarBehind.set(true);
+            }
+        };
+        final MessagingService messagingService =
+                new MessagingServiceImpl(new MessagingConfig(QUEUE_SIZE, false, tempDir, 1024, 0, 2, 10_000));
+        messagingService.start();
+        for (int i = 0; i < replayedCount; i++) {
+            messagingService.sendBlockItems(List.of(item(i, i == 0, false)));
+        }
+        messagingService.registerNoBackpressureBlockItemHandler(
+                handler, BlockItemHandlerOptions.of(false, "late-replay-handler").withStartAtLastBlockHeader(true));
+        assertTrue(replayStarted.await(5, TimeUnit.SECONDS), "Replay did not start in time");
+        for (int i = replayedCount; i < replayedCount + liveCount; i++) {
+            messagingService.sendBlockItems(List.of(item(i, false, false)));
+        }
+        liveSent.countDown();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (receivedCount.get() < replayedCount + liveCount && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        messagingService.shutdown();
+        assertFalse(tooFarBehind.get(), "Handler should not be too far behind while replaying");
+        assertEquals(replayedCount + liveCount, receivedCount.get());
+    }
+
+    /**
+     * Test that a handler is not replayed a block that started too far back in the ring, it only sees live items.
+     *
+     * @param tempDir directory for the unused spill config
+     */
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testBlockStartedTooFarBackIsNotReplayed(@TempDir final Path tempDir) throws InterruptedException {
+        final List<Integer> values = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final MessagingService messagingService =
+                new MessagingServiceImpl(new MessagingConfig(QUEUE_SIZE, false, tempDir, 1024, 0, 2, 10_000));
+        messagingService.start();
+        // a block longer than the ring, so its header has been overwritten by the time the handler joins
+        for (int i = 0; i < QUEUE_SIZE * 2; i++) {
+            messagingService.sendBlockItems(List.of(item(i, i == 0, false)));
+        }
+        messagingService.registerBlockItemHandler(
+                items -> {
+                    items.forEach(item -> values.add(bytesToInt(item.item().as())));
+                    latch.countDown();
+                },
+                BlockItemHandlerOptions.of(false, "late-replay-handler").withStartAtLastBlockHeader(true));
+        messagingService.sendBlockItems(List.of(item(QUEUE_SIZE * 2, false, true)));
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Did not receive live item in time");
+        messagingService.shutdown();
+        assertEquals(List.of(QUEUE_SIZE * 2), values);
+    }
+
+    /**
+     * Create a block item with the given value.
+     *
+     * @param value the value of the item
+     * @param header true for a block header
+     * @param proof true for a block proof
+     * @return the block item
+     */
+    private static BlockItemUnparsed item(final int value, final boolean header, final boolean proof) {
+        final ItemOneOfType type = header
+                ? ItemOneOfType.BLOCK_HEADER
+                : proof ? ItemOneOfType.BLOCK_PROOF : ItemOneOfType.EVENT_TRANSACTION;
+        return new BlockItemUnparsed(new OneOf<>(type, intToBytes(value)));
+    }
+}
@@ -0,0 +1,143 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.bytesToInt;
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.intToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.pbj.runtime.OneOf;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.hiero.block.server.messaging.BlockNotification.Type;
+import org.hiero.block.server.messaging.impl.MessagingConfig;
+import org.hiero.block.server.messaging.impl.MessagingServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the messaging service configured for multiple producers, with several threads sending at once.
+ */
+public class MessagingServiceMultiProducerTest {
+    /** The size of the ring buffer used in the tests */
+    private static final int QUEUE_SIZE = 1024;
+    /** The number of concurrent producer threads */
+    private static final int PRODUCER_COUNT = 4;
+    /** The number of block item batches or notifications each producer sends, enough to wrap the ring many times */
+    private static final int ITEMS_PER_PRODUCER = QUEUE_SIZE * 4;
+    /** The number of batches each producer sends per call to sendBlockItemBatches */
+    private static final int BATCHES_PER_SEND = 10;
+    /** The multiplier used to encode the producer into each value, so every value is unique */
+    private static final int PRODUCER_MULTIPLIER = 1_000_000;
+
+    /**
+     * Test that block items sent from several threads at once, both one batch at a time and several batches at a time,
+     * are all delivered exactly once and in order for each producer.
+     *
+     * @param tempDir directory for the unused spill config
+     */
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testConcurrentBlockItemProducers(@TempDir final Path tempDir) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(PRODUCER_COUNT * ITEMS_PER_PRODUCER);
+        final AtomicIntegerArray lastSeenPerProducer = new AtomicIntegerArray(PRODUCER_COUNT);
+        final AtomicInteger outOfOrderCount = new AtomicInteger(0);
+        for (int i = 0; i < PRODUCER_COUNT; i++) {
+            lastSeenPerProducer.set(i, -1);
+        }
+        final BlockItemHandler handler = items -> {
+            final int value = bytesToInt(items.getFirst().blockHeader());
+            final int producer = value / PRODUCER_MULTIPLIER;
+            final int index = value % PRODUCER_MULTIPLIER;
+            // only the handler thread writes, so a plain get and set is fine
+            if (lastSeenPerProducer.get(producer) != index - 1) {
+                outOfOrderCount.incrementAndGet();
+            }
+            lastSeenPerProducer.set(producer, index);
+            latch.countDown();
+        };
+        final MessagingService messagingService =
+                new MessagingServiceImpl(new MessagingConfig(QUEUE_SIZE, true, tempDir, 1024, 0, 2, 10_000));
+        messagingService.registerBlockItemHandler(handler, false, "multi-producer-handler");
+        messagingService.start();
+        final List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCER_COUNT; p++) {
+            final int producer = p;
+            // half the producers send one batch at a time, the other half claim several slots at once
+            final boolean sendInBatches = producer % 2 == 1;
+            producers.add(Thread.ofPlatform().start(() -> {
+                final List<List<BlockItemUnparsed>> batches = new ArrayList<>();
+                for (int i = 0; i < ITEMS_PER_PRODUCER; i++) {
+                    final List<BlockItemUnparsed> items = List.of(new BlockItemUnparsed(
+                            new OneOf<>(ItemOneOfType.BLOCK_HEADER, intToBytes(producer * PRODUCER_MULTIPLIER + i))));
+                    if (sendInBatches) {
+                        batches.add(items);
+                        if (batches.size() == BATCHES_PER_SEND || i == ITEMS_PER_PRODUCER - 1) {
+                            messagingService.sendBlockItemBatches(batches);
+                            batches.clear();
+                        }
+                    } else {
+                        messagingService.sendBlockItems(items);
+                    }
+                }
+            }));
+        }
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+        assertTrue(latch.await(20, TimeUnit.SECONDS), "Did not receive all items in time");
+        messagingService.shutdown();
+        assertEquals(0, outOfOrderCount.get(), "Items from a producer were delivered out of order");
+        for (int i = 0; i < PRODUCER_COUNT; i++) {
+            assertEquals(ITEMS_PER_PRODUCER - 1, lastSeenPerProducer.get(i));
+        }
+    }
+
+    /**
+     * Test that block notifications sent from several threads at once are all delivered.
+     *
+     * @param tempDir directory for the unused spill config
+     */
+    @Test
+    void testConcurrentBlockNotificationProducers(@TempDir final Path tempDir) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(PRODUCER_COUNT * ITEMS_PER_PRODUCER);
+        final AtomicIntegerArray countPerType = new AtomicIntegerArray(Type.values().length);
+        final MessagingService messagingService =
+                new MessagingServiceImpl(new MessagingConfig(QUEUE_SIZE, true, tempDir, 1024, 0, 2, 10_000));
+        messagingService.registerBlockNotificationHandler(
+                notification -> {
+                    countPerType.incrementAndGet(notification.type().ordinal());
+                    latch.countDown();
+                },
+                false,
+                "multi-producer-notification-handler");
+        messagingService.start();
+        final List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCER_COUNT; p++) {
+            // like persistence, verification and archive all notifying at once
+            final Type type = Type.values()[p % Type.values().length];
+            producers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < ITEMS_PER_PRODUCER; i++) {
+                    messagingService.sendBlockNotification(new BlockNotification(i, type));
+                }
+            }));
+        }
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+        assertTrue(latch.await(20, TimeUnit.SECONDS), "Did not receive all notifications in time");
+        messagingService.shutdown();
+        int total = 0;
+        for (int i = 0; i < countPerType.length(); i++) {
+            total += countPerType.get(i);
+        }
+        assertEquals(PRODUCER_COUNT * ITEMS_PER_PRODUCER, total);
+    }
+}
@@ -0,0 +1,114 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.bytesToInt;
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.intToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.pbj.runtime.OneOf;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.hiero.block.server.messaging.impl.MessagingServiceImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the pull based {@link BlockItemPoller} API of the messaging service.
+ */
+public class MessagingServicePollerTest {
+
+    /**
+     * The number of items to send to the messaging service. This is twice the size of the ring buffer, so that we can
+     * test the back pressure of the poller.
+     */
+    public static final int TEST_DATA_COUNT = MessagingServiceImpl.getConfig().queueSize() * 2;
+
+    /**
+     * Test that a poller receives every batch in order, draining many batches per poll call, while back pressure holds
+     * the sender when the poller falls behind.
+     */
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testPollerReceivesAllBatchesInOrder() throws Exception {
+        final MessagingService messagingService = MessagingService.createMessagingService();
+        final BlockItemPoller poller = messagingService.registerBlockItemPoller("test-poller");
+        messagingService.start();
+        // send on another thread as the sender will be held back by the poller
+        final CompletableFuture<Void> sender = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < TEST_DATA_COUNT; i++) {
+                messagingService.sendBlockItems(
+                        List.of(new BlockItemUnparsed(new OneOf<>(ItemOneOfType.BLOCK_HEADER, intToBytes(i)))));
+            }
+        });
+        final List<List<BlockItemUnparsed>> buffer = new ArrayList<>();
+        int pollCalls = 0;
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (buffer.size() < TEST_DATA_COUNT && System.nanoTime() < deadline) {
+            if (poller.poll(buffer, 100) == 0) {
+                Thread.sleep(1);
+            } else {
+                pollCalls++;
+            }
+        }
+        sender.get(5, TimeUnit.SECONDS);
+        messagingService.shutdown();
+        assertEquals(TEST_DATA_COUNT, buffer.size());
+        for (int i = 0; i < TEST_DATA_COUNT; i++) {
+            assertEquals(i, bytesToInt(buffer.get(i).getFirst().blockHeader()));
+        }
+        // each poll can drain at most 100 batches
+        assertTrue(pollCalls >= TEST_DATA_COUNT / 100);
+    }
+
+    /**
+     * Test that an unregistered poller no longer holds back the sender and can no longer be polled.
+     */
+    @Test
+    void testUnregisteredPollerDoesNotApplyBackPressure() throws Exception {
+        final MessagingService messagingService = MessagingService.createMessagingService();
+        final BlockItemPoller poller = messagingService.registerBlockItemPoller("test-poller");
+        messagingService.start();
+        assertThrows(IllegalArgumentException.class, () -> poller.poll(new ArrayList<>(), 0));
+        messagingService.unregisterBlockItemPoller(poller);
+        // without the poller gating the ring, sending more than the ring size must not block
+        CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < TEST_DATA_COUNT; i++) {
+                        messagingService.sendBlockItems(List.of(
+                                new BlockItemUnparsed(new OneOf<>(ItemOneOfType.BLOCK_HEADER, intToBytes(i)))));
+                    }
+                })
+                .get(20, TimeUnit.SECONDS);
+        messagingService.shutdown();
+        assertThrows(IllegalStateException.class, () -> poller.poll(new ArrayList<>(), 1));
+    }
+
+    /**
+     * Test that the statistics of a poller are reported with those of the handlers, including how far behind it is.
+     */
+    @Test
+    void testPollerStatisticsAreReported() {
+        final MessagingService messagingService = MessagingService.createMessagingService();
+        final BlockItemPoller poller = messagingService.registerBlockItemPoller("stats-poller");
+        messagingService.start();
+        for (int i = 0; i < 10; i++) {
+            messagingService.sendBlockItems(
+                    List.of(new BlockItemUnparsed(new OneOf<>(ItemOneOfType.BLOCK_HEADER, intToBytes(i)))));
+        }
+        assertEquals(4, poller.poll(new ArrayList<>(), 4));
+        final HandlerStatistics statistics = messagingService.getHandlerStatistics().stream()
+                .filter(handlerStatistics -> "stats-poller".equals(handlerStatistics.handlerName()))
+                .findFirst()
+                .orElseThrow();
+        messagingService.shutdown();
+        assertNull(statistics.waitPolicy());
+        assertEquals(4, statistics.eventsProcessed());
+        assertEquals(6, statistics.lagSequences());
+        assertEquals(6, statistics.lagBlocks());
+    }
+}
@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.bytesToInt;
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.intToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.pbj.runtime.OneOf;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.hiero.block.server.messaging.impl.MessagingConfig;
+import org.hiero.block.server.messaging.impl.MessagingServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for no back pressure block item handlers that spill to disk when they fall too far behind.
+ */
+public class MessagingServiceSpillTest {
+    /** The size of the ring buffer used in the tests */
+    private static final int QUEUE_SIZE = 1024;
+
+    /** The number of items to send, enough to overrun the ring buffer several times */
+    private static final int TEST_DATA_COUNT = QUEUE_SIZE * 4;
+
+    /**
+     * Test that a slow handler that spills is not unregistered, and still gets every item in order.
+     *
+     * @param spillDirectory the directory to create spill segments in
+     */
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testSlowHandlerSpillsAndCatchesUp(@TempDir final Path spillDirectory) throws Exception {
+        final CountDownLatch latch = new CountDownLatch(TEST_DATA_COUNT);
+        final AtomicInteger nextExpected = new AtomicInteger(0);
+        final AtomicInteger outOfOrderCount = new AtomicInteger(0);
+        final AtomicInteger onTooFarBehindErrorCalled = new AtomicInteger(0);
+        final NoBackPressureBlockItemHandler slowHandler = new NoBackPressureBlockItemHandler() {
+            @Override
+            public void handleBlockItemsReceived(List<BlockItemUnparsed> items) {
+                final int value = bytesToInt(items.getFirst().blockHeader());
+                if (nextExpected.getAndIncrement() != value) {
+                    outOfOrderCount.incrementAndGet();
+                }
+                // slow down for the first part of the stream, so the handler falls far behind
+                if (value < QUEUE_SIZE) {
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+                latch.countDown();
+            }
+
+            @Override
+            public void onTooFarBehindError() {
+                onTooFarBehindErrorCalled.incrementAndGet();
+            }
+        };
+        final MessagingService messagingService = new MessagingServiceImpl(
+                new MessagingConfig(QUEUE_SIZE, false, spillDirectory, 1024 * 1024, 0, 2, 10_000));
+        messagingService.registerNoBackpressureBlockItemHandler(
+                slowHandler, BlockItemHandlerOptions.of(false, "spilling-handler").withSpillWhenTooFarBehind(true));
+        messagingService.start();
+        for (int i = 0; i < TEST_DATA_COUNT; i++) {
+            messagingService.sendBlockItems(
+                    List.of(new BlockItemUnparsed(new OneOf<>(ItemOneOfType.BLOCK_HEADER, intToBytes(i)))));
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS), "Did not receive all items in time");
+        final HandlerStatistics statistics = messagingService.getHandlerStatistics().getFirst();
+        messagingService.shutdown();
+        assertEquals(0, onTooFarBehindErrorCalled.get(), "Spilling handler should not be unregistered");
+        assertEquals(0, outOfOrderCount.get(), "Items were delivered out of order");
+        assertEquals(TEST_DATA_COUNT, nextExpected.get());
+        assertTrue(statistics.spillBytes() > 0, "Handler should have spilled");
+        assertTrue(statistics.spillNanos() > 0, "Handler should have spent time spilling");
+        assertSpillFilesDeleted(spillDirectory);
+    }
+
+    /**
+     * Test that a handler that falls further behind than its spill segment can hold is unregistered, and gets the
+     * onTooFarBehindError() callback.
+     *
+     * @param spillDirectory the directory to create spill segments in
+     */
+    @Test
+    void testSpillOverflowUnregistersHandler(@TempDir final Path spillDirectory) throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicInteger receivedCount = new AtomicInteger(0);
+        final NoBackPressureBlockItemHandler stuckHandler = new NoBackPressureBlockItemHandler() {
+            @Override
+            public void handleBlockItemsReceived(List<BlockItemUnparsed> items) {
+                receivedCount.incrementAndGet();
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void onTooFarBehindError() {
+                latch.countDown();
+            }
+        };
+        // a spill segment far too small to hold the items the handler falls behind by
+        final MessagingService messagingService =
+                new MessagingServiceImpl(new MessagingConfig(QUEUE_SIZE, false, spillDirectory, 1024, 0, 2, 10_000));
+        messagingService.registerNoBackpressureBlockItemHandler(
+                stuckHandler,
+                BlockItemHandlerOptions.of(false, "overflowing-handler").withSpillWhenTooFarBehind(true));
+        messagingService.start();
+        for (int i = 0; i < TEST_DATA_COUNT; i++) {
+            messagingService.sendBlockItems(
+                    List.of(new BlockItemUnparsed(new OneOf<>(ItemOneOfType.BLOCK_HEADER, intToBytes(i)))));
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS), "Handler should have been told it is too far behind");
+        assertTrue(messagingService.getHandlerStatistics().isEmpty(), "Handler should have been unregistered");
+        messagingService.shutdown();
+        assertTrue(receivedCount.get() < TEST_DATA_COUNT);
+        assertSpillFilesDeleted(spillDirectory);
+    }
+
+    /**
+     * Assert that no spill files are left in the spill directory. A drain thread that was still running when the
+     * handler was unregistered deletes its file as it stops, so allow it a little time.
+     *
+     * @param spillDirectory the spill directory
+     */
+    private static void assertSpillFilesDeleted(final Path spillDirectory) throws IOException, InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        long fileCount;
+        do {
+            try (Stream<Path> files = Files.list(spillDirectory)) {
+                fileCount = files.count();
+            }
+            if (fileCount > 0) {
+                Thread.sleep(10);
+            }
+        } while (fileCount > 0 && System.nanoTime() < deadline);
+        assertEquals(0, fileCount, "Spill files should have been deleted");
+    }
+}
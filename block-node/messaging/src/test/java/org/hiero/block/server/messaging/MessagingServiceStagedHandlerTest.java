@@ -0,0 +1,129 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.bytesToInt;
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.intToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.pbj.runtime.OneOf;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.block.server.messaging.impl.MessagingServiceImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for block item handlers that run after other block item handlers.
+ */
+public class MessagingServiceStagedHandlerTest {
+
+    /**
+     * The number of items to send to the messaging service. This is twice the size of the ring buffer, so that the
+     * ring wraps while the stages are running.
+     */
+    public static final int TEST_DATA_COUNT = MessagingServiceImpl.getConfig().queueSize() * 2;
+
+    /**
+     * Test a diamond of handlers, two handlers that run in parallel followed by a handler that runs after both. The
+     * final handler must never see an item before both the upstream handlers have handled it.
+     */
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testDiamondOfHandlers() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicInteger verifiedUpTo = new AtomicInteger(-1);
+        final AtomicInteger indexedUpTo = new AtomicInteger(-1);
+        final AtomicInteger outOfOrderCount = new AtomicInteger(0);
+        final AtomicInteger committedCount = new AtomicInteger(0);
+        final BlockItemHandler verificationHandler = items -> {
+            // slow down a little so the downstream handler would overtake if not held back
+            Thread.onSpinWait();
+            verifiedUpTo.set(bytesToInt(items.getFirst().blockHeader()));
+        };
+        final BlockItemHandler indexingHandler =
+                items -> indexedUpTo.set(bytesToInt(items.getFirst().blockHeader()));
+        final BlockItemHandler commitHandler = items -> {
+            final int value = bytesToInt(items.getFirst().blockHeader());
+            if (verifiedUpTo.get() < value || indexedUpTo.get() < value) {
+                outOfOrderCount.incrementAndGet();
+            }
+            if (committedCount.incrementAndGet() == TEST_DATA_COUNT) {
+                latch.countDown();
+            }
+        };
+        final MessagingService messagingService = MessagingService.createMessagingService();
+        messagingService.registerBlockItemHandler(verificationHandler, true, "verification");
+        messagingService.registerBlockItemHandler(indexingHandler, false, "indexing");
+        messagingService.registerBlockItemHandler(
+                commitHandler,
+                BlockItemHandlerOptions.of(false, "commit")
+                        .withUpstreamHandlers(List.of(verificationHandler, indexingHandler)));
+        messagingService.start();
+        for (int i = 0; i < TEST_DATA_COUNT; i++) {
+            messagingService.sendBlockItems(
+                    List.of(new BlockItemUnparsed(new OneOf<>(ItemOneOfType.BLOCK_HEADER, intToBytes(i)))));
+        }
+        assertTrue(latch.await(20, TimeUnit.SECONDS), "Did not finish in time");
+        // upstream handlers can not be removed while the commit handler depends on them
+        assertThrows(IllegalStateException.class, () -> messagingService.unregisterBlockItemHandler(indexingHandler));
+        messagingService.unregisterBlockItemHandler(commitHandler);
+        messagingService.unregisterBlockItemHandler(indexingHandler);
+        messagingService.shutdown();
+        assertEquals(0, outOfOrderCount.get(), "Commit handler ran before an upstream handler");
+        assertEquals(TEST_DATA_COUNT, committedCount.get());
+    }
+
+    /**
+     * Test that invalid upstream handlers are rejected.
+     */
+    @Test
+    void testInvalidUpstreamHandlers() {
+        final MessagingService messagingService = MessagingService.createMessagingService();
+        final BlockItemHandler unregisteredHandler = items -> {};
+        final NoBackPressureBlockItemHandler noBackPressureHandler = new NoBackPressureBlockItemHandler() {
+            @Override
+            public void onTooFarBehindError() {}
+
+            @Override
+            public void handleBlockItemsReceived(List<BlockItemUnparsed> blockItems) {}
+        };
+        messagingService.registerNoBackpressureBlockItemHandler(noBackPressureHandler, false, "no-back-pressure");
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> messagingService.registerBlockItemHandler(
+                        items -> {},
+                        BlockItemHandlerOptions.of(false, "after-unregistered")
+                                .withUpstreamHandlers(List.of(unregisteredHandler))));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> BlockItemHandlerOptions.of(false, "after-no-back-pressure")
+                        .withUpstreamHandlers(List.of(noBackPressureHandler)));
+        messagingService.shutdown();
+    }
+
+    /**
+     * Test that options that can not be used together are rejected before the handler is registered.
+     */
+    @Test
+    void testConflictingOptions() {
+        final MessagingService messagingService = MessagingService.createMessagingService();
+        final BlockItemHandler upstreamHandler = items -> {};
+        messagingService.registerBlockItemHandler(upstreamHandler, false, "upstream");
+        final BlockItemHandlerOptions withUpstream =
+                BlockItemHandlerOptions.of(false, "downstream").withUpstreamHandlers(List.of(upstreamHandler));
+        // replayed items would reach the handler before its upstream handler
+        assertThrows(IllegalArgumentException.class, () -> withUpstream.withStartAtLastBlockHeader(true));
+        assertThrows(IllegalArgumentException.class, () -> withUpstream.withSpillWhenTooFarBehind(true));
+        // only no back pressure handlers can spill
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> messagingService.registerBlockItemHandler(
+                        items -> {}, BlockItemHandlerOptions.of(false, "spilling").withSpillWhenTooFarBehind(true)));
+        messagingService.shutdown();
+    }
+}
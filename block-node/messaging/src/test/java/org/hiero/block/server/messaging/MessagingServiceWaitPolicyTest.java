@@ -0,0 +1,68 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging;
+
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.bytesToInt;
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.intToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.pbj.runtime.OneOf;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests for handlers registered with each of the {@link WaitPolicy} options.
+ */
+public class MessagingServiceWaitPolicyTest {
+    /** The number of items to send, with pauses so handlers go idle and have to wake up */
+    private static final int TEST_DATA_COUNT = 200;
+
+    /**
+     * Test that a handler with the given wait policy receives every item, including items sent after it has gone idle,
+     * and that its statistics are reported.
+     *
+     * @param waitPolicy the wait policy to test
+     */
+    @ParameterizedTest
+    @EnumSource(WaitPolicy.class)
+    void testHandlerWithWaitPolicy(final WaitPolicy waitPolicy) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(TEST_DATA_COUNT);
+        final AtomicInteger sum = new AtomicInteger(0);
+        final BlockItemHandler handler = items -> {
+            sum.addAndGet(bytesToInt(items.getFirst().blockHeader()));
+            latch.countDown();
+        };
+        final MessagingService messagingService = MessagingService.createMessagingService();
+        messagingService.registerBlockItemHandler(
+                handler, BlockItemHandlerOptions.of(true, "wait-policy-handler").withWaitPolicy(waitPolicy));
+        messagingService.start();
+        for (int i = 0; i < TEST_DATA_COUNT; i++) {
+            messagingService.sendBlockItems(
+                    List.of(new BlockItemUnparsed(new OneOf<>(ItemOneOfType.BLOCK_HEADER, intToBytes(i)))));
+            // pause every now and then so the handler catches up and has to wait for the next item
+            if (i % 20 == 0) {
+                Thread.sleep(5);
+            }
+        }
+        assertTrue(latch.await(20, TimeUnit.SECONDS), "Did not receive all items in time");
+        final List<HandlerStatistics> statistics = messagingService.getHandlerStatistics();
+        messagingService.shutdown();
+        assertEquals(IntStream.range(0, TEST_DATA_COUNT).sum(), sum.get());
+        assertEquals(1, statistics.size());
+        final HandlerStatistics handlerStatistics = statistics.getFirst();
+        assertEquals("wait-policy-handler", handlerStatistics.handlerName());
+        assertEquals(waitPolicy, handlerStatistics.waitPolicy());
+        assertEquals(TEST_DATA_COUNT, handlerStatistics.eventsProcessed());
+        // the handler was idle at least once while the sender paused
+        assertTrue(handlerStatistics.wakeUps() > 0, "Handler should have woken up after being idle");
+        assertTrue(handlerStatistics.idleWaitNanos() > 0, "Handler should have spent time idle");
+        assertTrue(handlerStatistics.maxWakeUpLatencyNanos() >= handlerStatistics.meanWakeUpLatencyNanos());
+    }
+}
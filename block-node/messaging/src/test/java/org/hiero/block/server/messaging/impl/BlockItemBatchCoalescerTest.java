@@ -0,0 +1,78 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.bytesToInt;
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.intToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.pbj.runtime.OneOf;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for publishing merged batches from a {@link BlockItemBatchCoalescer}.
+ */
+class BlockItemBatchCoalescerTest {
+    /** The maximum number of items merged into one batch */
+    private static final int MAX_ITEMS = 8;
+
+    /**
+     * Test that a producer blocked publishing into a full ring does not stop another producer adding items, and that
+     * batches are still published in the order they were added.
+     */
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testBlockedPublishDoesNotBlockAdd() throws Exception {
+        final CountDownLatch publishStarted = new CountDownLatch(1);
+        final CountDownLatch releasePublish = new CountDownLatch(1);
+        final List<Integer> published = new CopyOnWriteArrayList<>();
+        final BlockItemBatchCoalescer coalescer = new BlockItemBatchCoalescer(
+                items -> {
+                    if (publishStarted.getCount() > 0) {
+                        // the first publish waits, like a producer held up by back pressure
+                        publishStarted.countDown();
+                        try {
+                            releasePublish.await();
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                    items.forEach(item -> published.add(bytesToInt(item.item().as())));
+                },
+                MAX_ITEMS,
+                1_000);
+        // a whole block in one batch is published as is
+        final CompletableFuture<Void> blockedProducer = CompletableFuture.runAsync(() -> coalescer.add(
+                List.of(item(0, ItemOneOfType.BLOCK_HEADER), item(1, ItemOneOfType.BLOCK_PROOF))));
+        assertTrue(publishStarted.await(5, TimeUnit.SECONDS), "Publish did not start in time");
+        // only merged with the pending items, so returns without waiting for the blocked publish
+        final CompletableFuture<Void> otherProducer =
+                CompletableFuture.runAsync(() -> coalescer.add(List.of(item(2, ItemOneOfType.BLOCK_HEADER))));
+        otherProducer.get(5, TimeUnit.SECONDS);
+        // the end of the block has to be published, but only after the blocked batch
+        final CompletableFuture<Void> waitingProducer =
+                CompletableFuture.runAsync(() -> coalescer.add(List.of(item(3, ItemOneOfType.BLOCK_PROOF))));
+        releasePublish.countDown();
+        blockedProducer.get(5, TimeUnit.SECONDS);
+        waitingProducer.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(0, 1, 2, 3), published);
+    }
+
+    /**
+     * Create a block item holding an int value.
+     *
+     * @param value the value
+     * @param type the type of block item
+     * @return the block item
+     */
+    private static BlockItemUnparsed item(final int value, final ItemOneOfType type) {
+        return new BlockItemUnparsed(new OneOf<>(type, intToBytes(value)));
+    }
+}
@@ -0,0 +1,80 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.bytesToInt;
+import static org.hiero.block.server.messaging.MessagingServiceDynamicBlockItemTest.intToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.hedera.hapi.block.BlockItemUnparsed;
+import com.hedera.hapi.block.BlockItemUnparsed.ItemOneOfType;
+import com.hedera.pbj.runtime.OneOf;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.hiero.block.server.messaging.NoBackPressureBlockItemHandler;
+import org.hiero.block.server.messaging.WaitPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the switching of a {@link BlockItemSpill} between direct delivery and spilling.
+ */
+class BlockItemSpillTest {
+    /** The number of batches to send, enough to start and stop spilling many times */
+    private static final int TEST_DATA_COUNT = 20_000;
+    /** The number of batches sent each time before switching between being far behind and caught up */
+    private static final int PHASE_LENGTH = 50;
+
+    /**
+     * Test that batches keep arriving while the drain thread catches up and stops spilling, so some are appended at
+     * the moment the spill stops. None of them may be left behind in the spill segment, every batch must reach the
+     * handler exactly once and in order.
+     *
+     * @param spillDirectory the directory to create the spill segment in
+     */
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testAppendWhileSpillStops(@TempDir final Path spillDirectory) throws InterruptedException {
+        final List<Integer> values = new CopyOnWriteArrayList<>();
+        final AtomicBoolean tooFarBehind = new AtomicBoolean(false);
+        final NoBackPressureBlockItemHandler handler = new NoBackPressureBlockItemHandler() {
+            @Override
+            public void handleBlockItemsReceived(final List<BlockItemUnparsed> items) {
+                items.forEach(item -> values.add(bytesToInt(item.item().as())));
+            }
+
+            @Override
+            public void onTooFarBehindError() {
+                tooFarBehind.set(true);
+            }
+        };
+        final BlockItemSpill spill = new BlockItemSpill(
+                handler,
+                "spill-test-handler",
+                spillDirectory,
+                1024 * 1024,
+                Thread.ofPlatform().factory(),
+                new HandlerStatisticsCollector("spill-test-handler", WaitPolicy.SLEEPING),
+                () -> tooFarBehind.set(true));
+        for (int i = 0; i < TEST_DATA_COUNT; i++) {
+            // alternate between far enough behind to start spilling and close enough to stop
+            final double percentageBehindRingHead =
+                    (i / PHASE_LENGTH) % 2 == 0 ? BlockItemSpill.SPILL_START_PERCENTAGE + 10 : 0;
+            spill.onBlockItems(
+                    List.of(new BlockItemUnparsed(new OneOf<>(ItemOneOfType.BLOCK_HEADER, intToBytes(i)))),
+                    percentageBehindRingHead);
+        }
+        // the drain thread stops on its own once it has emptied the segment
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (values.size() < TEST_DATA_COUNT && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        spill.close();
+        assertFalse(tooFarBehind.get(), "Handler should not have been evicted");
+        assertEquals(IntStream.range(0, TEST_DATA_COUNT).boxed().toList(), values);
+    }
+}
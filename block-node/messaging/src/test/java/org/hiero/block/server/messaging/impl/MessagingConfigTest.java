@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.block.server.messaging.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the validation of {@link MessagingConfig}.
+ */
+public class MessagingConfigTest {
+    private static final Path SPILL_DIRECTORY = Path.of("messaging-spill");
+
+    @Test
+    void testMessagingConfig_happyPath() {
+        final MessagingConfig config = new MessagingConfig(1024, false, SPILL_DIRECTORY, 1024, 0, 2, 10_000);
+        assertEquals(1024, config.spillSegmentSize());
+        assertEquals(0, config.coalesceMaxItems());
+        assertEquals(2, config.coalesceMaxDelayMillis());
+        assertEquals(10_000, config.stallWindowMillis());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testInvalidSpillSegmentSize(final int value) {
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new MessagingConfig(1024, false, SPILL_DIRECTORY, value, 0, 2, 10_000));
+        assertEquals("Messaging Spill Segment Size must be positive", exception.getMessage());
+    }
+
+    @Test
+    void testInvalidCoalesceMaxItems() {
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new MessagingConfig(1024, false, SPILL_DIRECTORY, 1024, -1, 2, 10_000));
+        assertEquals("Messaging Coalesce Max Items must not be negative", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1})
+    void testInvalidCoalesceMaxDelayMillis(final long value) {
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new MessagingConfig(1024, false, SPILL_DIRECTORY, 1024, 0, value, 10_000));
+        assertEquals("Messaging Coalesce Max Delay Millis must be positive", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1})
+    void testInvalidStallWindowMillis(final long value) {
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new MessagingConfig(1024, false, SPILL_DIRECTORY, 1024, 0, 2, value));
+        assertEquals("Messaging Stall Window Millis must be positive", exception.getMessage());
+    }
+}
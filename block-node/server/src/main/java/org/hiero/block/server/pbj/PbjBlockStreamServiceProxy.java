@@ -6,8 +6,8 @@ import static java.lang.System.Logger.Level.ERROR;
 
 import com.hedera.hapi.block.BlockItemUnparsed;
 import com.hedera.hapi.block.BlockUnparsed;
-import com.hedera.hapi.block.PublishStreamRequestUnparsed;
 import com.hedera.hapi.block.PublishStreamResponse;
+import com.hedera.hapi.block.SubscribeStreamItemFilter;
 import com.hedera.hapi.block.SubscribeStreamRequest;
 import com.hedera.hapi.block.SubscribeStreamResponseCode;
 import com.hedera.hapi.block.SubscribeStreamResponseUnparsed;
@@ -21,18 +21,24 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.hiero.block.server.block.BlockInfo;
+import org.hiero.block.server.consumer.BlockItemFilter;
 import org.hiero.block.server.consumer.ClosedRangeHistoricStreamEventHandlerBuilder;
 import org.hiero.block.server.consumer.ConsumerConfig;
 import org.hiero.block.server.consumer.ConsumerStreamBuilder;
+import org.hiero.block.server.consumer.HistoricStreamingScheduler;
+import org.hiero.block.server.consumer.SharedHistoricBlockReader;
+import org.hiero.block.server.consumer.SubscribeResponseCache;
 import org.hiero.block.server.events.BlockNodeEventHandler;
 import org.hiero.block.server.events.ObjectEvent;
 import org.hiero.block.server.mediator.LiveStreamMediator;
 import org.hiero.block.server.metrics.MetricsService;
 import org.hiero.block.server.notifier.Notifier;
 import org.hiero.block.server.persistence.storage.read.BlockReader;
+import org.hiero.block.server.producer.BlockItemSlicer;
 import org.hiero.block.server.producer.NoOpProducerObserver;
 import org.hiero.block.server.producer.ProducerBlockItemObserver;
 import org.hiero.block.server.producer.ProducerConfig;
@@ -59,6 +65,9 @@ public class PbjBlockStreamServiceProxy implements PbjBlockStreamService {
     private final Notifier notifier;
     private final ExecutorService closedRangeHistoricStreamingExecutorService;
     private final ExecutorService openRangeHistoricStreamingExecutorService;
+    private final ExecutorService historicReadAheadExecutorService;
+    private final HistoricStreamingScheduler historicStreamingScheduler;
+    private final SubscribeResponseCache subscribeResponseCache;
 
     /**
      * Creates a new PbjBlockStreamServiceProxy instance.
@@ -98,7 +107,27 @@ public class PbjBlockStreamServiceProxy implements PbjBlockStreamService {
         // Leverage virtual threads given that these are IO-bound tasks
         this.closedRangeHistoricStreamingExecutorService = Executors.newVirtualThreadPerTaskExecutor();
         this.openRangeHistoricStreamingExecutorService = Executors.newVirtualThreadPerTaskExecutor();
-        this.blockReader = Objects.requireNonNull(blockReader);
+        this.historicReadAheadExecutorService = Executors.newVirtualThreadPerTaskExecutor();
+
+        // Limit the historic streams and their block reads, so they cannot
+        // starve the live stream. Shared block reads only count once.
+        this.historicStreamingScheduler = new HistoricStreamingScheduler(metricsService, consumerConfig);
+        final BlockReader<BlockUnparsed> limitedBlockReader =
+                historicStreamingScheduler.limit(Objects.requireNonNull(blockReader));
+
+        // Share the block reads between the historic streams reading the same range
+        final int historicSharedWindowBlocks = consumerConfig.historicSharedWindowBlocks();
+        this.blockReader = (historicSharedWindowBlocks > 0)
+                ? new SharedHistoricBlockReader(
+                        limitedBlockReader,
+                        metricsService,
+                        historicSharedWindowBlocks,
+                        consumerConfig.historicSharedWindowBytes())
+                : limitedBlockReader;
+
+        // Share the live responses between subscribers, so each
+        // live batch is only serialized once
+        this.subscribeResponseCache = new SubscribeResponseCache();
     }
 
     /**
@@ -154,10 +183,11 @@ public class PbjBlockStreamServiceProxy implements PbjBlockStreamService {
                             .build();
                 }
                 case subscribeBlockStream -> Pipelines
-                        .<SubscribeStreamRequest, SubscribeStreamResponseUnparsed>serverStreaming()
+                        .<FilteredSubscribeStreamRequest, SubscribeStreamResponseUnparsed>serverStreaming()
                         .mapRequest(bytes -> parseSubscribeStreamRequest(bytes, options))
-                        .method((subscribeStreamRequest, helidonConsumerObserver) -> subscribeBlockStream(
-                                subscribeStreamRequest,
+                        .method((filteredRequest, helidonConsumerObserver) -> subscribeBlockStream(
+                                filteredRequest.subscribeStreamRequest(),
+                                filteredRequest.blockItemFilter(),
                                 helidonConsumerObserver,
                                 openRangeHistoricStreamingExecutorService,
                                 closedRangeHistoricStreamingExecutorService))
@@ -219,6 +249,27 @@ public class PbjBlockStreamServiceProxy implements PbjBlockStreamService {
             @NonNull final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver,
             @NonNull final ExecutorService openRangeHistoricStreamingExecutorService,
             @NonNull final ExecutorService closedRangeHistoricStreamingExecutorService) {
+        subscribeBlockStream(
+                subscribeStreamRequest,
+                BlockItemFilter.ALL,
+                helidonConsumerObserver,
+                openRangeHistoricStreamingExecutorService,
+                closedRangeHistoricStreamingExecutorService);
+    }
+
+    /**
+     * Subscribes to the block stream, only sending the kinds of block items selected by the filter.
+     *
+     * @param subscribeStreamRequest the subscribe stream request
+     * @param blockItemFilter the kinds of block items to send to the client
+     * @param helidonConsumerObserver the stream response observer provided by Helidon
+     */
+    void subscribeBlockStream(
+            @NonNull final SubscribeStreamRequest subscribeStreamRequest,
+            @NonNull final BlockItemFilter blockItemFilter,
+            @NonNull final Pipeline<? super SubscribeStreamResponseUnparsed> helidonConsumerObserver,
+            @NonNull final ExecutorService openRangeHistoricStreamingExecutorService,
+            @NonNull final ExecutorService closedRangeHistoricStreamingExecutorService) {
 
         LOGGER.log(DEBUG, "Executing Server Streaming subscribeBlockStream gRPC method");
 
@@ -260,11 +311,25 @@ public class PbjBlockStreamServiceProxy implements PbjBlockStreamService {
                         blockReader,
                         serviceStatus,
                         metricsService,
-                        consumerConfig);
+                        consumerConfig,
+                        subscribeResponseCache,
+                        blockItemFilter,
+                        historicReadAheadExecutorService);
 
                 openRangeHistoricStreamingExecutorService.submit(openRangeHistoricStreamingRunnable);
 
             } else {
+                // Turn the request away if too many closed-range streams
+                // are being served, the client can retry later
+                if (!historicStreamingScheduler.tryAdmitClosedRangeStream()) {
+                    LOGGER.log(DEBUG, "Too many closed-range streams, rejecting the request");
+                    helidonConsumerObserver.onNext(SubscribeStreamResponseUnparsed.newBuilder()
+                            .status(SubscribeStreamResponseCode.READ_STREAM_NOT_AVAILABLE)
+                            .build());
+                    helidonConsumerObserver.onComplete();
+                    return;
+                }
+
                 LOGGER.log(
                         DEBUG,
                         "Building Closed-Range Streaming Handler: start block number {0}, end block number {1}",
@@ -277,10 +342,23 @@ public class PbjBlockStreamServiceProxy implements PbjBlockStreamService {
                                 blockReader,
                                 helidonConsumerObserver,
                                 metricsService,
-                                consumerConfig);
+                                consumerConfig,
+                                blockItemFilter,
+                                historicReadAheadExecutorService);
 
                 // Submit the runnable to the executor service
-                closedRangeHistoricStreamingExecutorService.submit(closedRangeHistoricStreamingRunnable);
+                try {
+                    closedRangeHistoricStreamingExecutorService.submit(
+                            historicStreamingScheduler.releasing(closedRangeHistoricStreamingRunnable));
+                } catch (final RejectedExecutionException e) {
+                    // The stream never runs, so release its admission here
+                    historicStreamingScheduler.releaseClosedRangeStream();
+                    LOGGER.log(DEBUG, "Closed-range stream rejected by the executor, rejecting the request", e);
+                    helidonConsumerObserver.onNext(SubscribeStreamResponseUnparsed.newBuilder()
+                            .status(SubscribeStreamResponseCode.READ_STREAM_NOT_AVAILABLE)
+                            .build());
+                    helidonConsumerObserver.onComplete();
+                }
             }
 
         } else {
@@ -366,23 +444,30 @@ public class PbjBlockStreamServiceProxy implements PbjBlockStreamService {
     }
 
     @NonNull
-    private SubscribeStreamRequest parseSubscribeStreamRequest(
+    private FilteredSubscribeStreamRequest parseSubscribeStreamRequest(
             @NonNull final Bytes message, @NonNull final RequestOptions options) throws ParseException {
-        return SubscribeStreamRequest.PROTOBUF.parse(message);
+        // The item filter fields are read from the same bytes, each
+        // parser skips the fields that belong to the other message
+        final SubscribeStreamRequest subscribeStreamRequest = SubscribeStreamRequest.PROTOBUF.parse(message);
+        final SubscribeStreamItemFilter itemFilter = SubscribeStreamItemFilter.PROTOBUF.parse(message);
+        return new FilteredSubscribeStreamRequest(
+                subscribeStreamRequest,
+                BlockItemFilter.of(itemFilter.includeItemKinds(), itemFilter.excludeItemKinds()));
     }
 
     @NonNull
     private Bytes createSubscribeStreamResponse(
             @NonNull final SubscribeStreamResponseUnparsed subscribeStreamResponse,
             @NonNull final RequestOptions options) {
-        return SubscribeStreamResponseUnparsed.PROTOBUF.toBytes(subscribeStreamResponse);
+        return subscribeResponseCache.encode(subscribeStreamResponse);
     }
 
     @NonNull
     private List<BlockItemUnparsed> parsePublishStreamRequest(
             @NonNull final Bytes message, @NonNull final RequestOptions options) throws ParseException {
-        final PublishStreamRequestUnparsed request = PublishStreamRequestUnparsed.PROTOBUF.parse(message);
-        return request.blockItems().blockItems();
+        // Keep the item payloads as slices of the request bytes, they are
+        // persisted from there without being copied or encoded again
+        return BlockItemSlicer.sliceBlockItems(message);
     }
 
     @NonNull
@@ -390,4 +475,10 @@ public class PbjBlockStreamServiceProxy implements PbjBlockStreamService {
             @NonNull final PublishStreamResponse publishStreamResponse, @NonNull final RequestOptions options) {
         return PublishStreamResponse.PROTOBUF.toBytes(publishStreamResponse);
     }
+
+    /**
+     * A subscribe stream request with the kinds of block items the client asked for.
+     */
+    private record FilteredSubscribeStreamRequest(
+            @NonNull SubscribeStreamRequest subscribeStreamRequest, @NonNull BlockItemFilter blockItemFilter) {}
 }
@@ -69,6 +69,7 @@ dependencies.constraints {
     api("org.junit.jupiter:junit-jupiter-api:5.11.4") { because("org.junit.jupiter.api") }
     api("org.mockito:mockito-core:5.15.2") { because("org.mockito") }
     api("org.mockito:mockito-junit-jupiter:5.15.2") { because("org.mockito.junit.jupiter") }
+    api("org.openjdk.jmh:jmh-core:1.37") { because("jmh.core") }
     api("org.testcontainers:junit-jupiter:1.20.6") { because("org.testcontainers.junit.jupiter") }
     api("org.testcontainers:testcontainers:1.20.6") { because("org.testcontainers") }
 